@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.routing;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.Diff;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures computing, serializing, deserializing and applying the diff of a routing table in which a single shard of every
+ * index changed, which is the common case for shard state updates on large clusters.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class RoutingTableDiffBenchmark {
+    @Param({
+        // indices| shards| replicas
+        "      100|    100|        1|",
+        "     1000|     10|        1|",
+        "    10000|      5|        1|", })
+    public String indicesShardsReplicas = "1|1|1";
+
+    private RoutingTable before;
+    private RoutingTable after;
+    private BytesReference serializedDiff;
+
+    @Setup
+    public void setUp() throws IOException {
+        final String[] params = indicesShardsReplicas.split("\\|");
+        final int numIndices = toInt(params[0]);
+        final int numShards = toInt(params[1]);
+        final int numReplicas = toInt(params[2]);
+
+        final Metadata.Builder mb = Metadata.builder();
+        for (int i = 0; i < numIndices; i++) {
+            mb.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(Settings.builder().put("index.version.created", Version.CURRENT))
+                    .numberOfShards(numShards)
+                    .numberOfReplicas(numReplicas)
+            );
+        }
+        final Metadata metadata = mb.build();
+        final RoutingTable.Builder rb = RoutingTable.builder();
+        for (int i = 0; i < numIndices; i++) {
+            rb.addAsNew(metadata.index("test_" + i));
+        }
+        before = rb.build();
+
+        // move the primary of the first shard of every index to a node
+        final RoutingTable.Builder changed = RoutingTable.builder(before);
+        for (IndexRoutingTable indexRoutingTable : before) {
+            final IndexRoutingTable.Builder builder = IndexRoutingTable.builder(indexRoutingTable.getIndex());
+            for (IndexShardRoutingTable shardRoutingTable : indexRoutingTable) {
+                if (shardRoutingTable.shardId().id() == 0) {
+                    final IndexShardRoutingTable.Builder shardBuilder = new IndexShardRoutingTable.Builder(shardRoutingTable.shardId());
+                    for (ShardRouting shardRouting : shardRoutingTable) {
+                        shardBuilder.addShard(shardRouting.primary() ? shardRouting.initialize("node_0", null, -1) : shardRouting);
+                    }
+                    builder.addIndexShard(shardBuilder.build());
+                } else {
+                    builder.addIndexShard(shardRoutingTable);
+                }
+            }
+            changed.add(builder);
+        }
+        after = changed.build();
+        serializedDiff = serialize(after.diff(before));
+    }
+
+    @Benchmark
+    public BytesReference diffAndSerialize() throws IOException {
+        return serialize(after.diff(before));
+    }
+
+    @Benchmark
+    public RoutingTable deserializeAndApply() throws IOException {
+        try (StreamInput in = serializedDiff.streamInput()) {
+            return RoutingTable.readDiffFrom(in).apply(before);
+        }
+    }
+
+    private static BytesReference serialize(Diff<RoutingTable> diff) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            diff.writeTo(out);
+            return out.bytes();
+        }
+    }
+
+    private int toInt(String v) {
+        return Integer.valueOf(v.trim());
+    }
+}
@@ -58,6 +58,13 @@ public enum Recyclers {
         return new ConcurrentDequeRecycler<>(c, limit);
     }
 
+    /**
+     * Return a concurrent recycler that caches up to <code>cacheSize</code> entries per thread in front of a shared pool.
+     */
+    public static <T> Recycler<T> threadLocal(Recycler.C<T> c, int limit, int cacheSize) {
+        return new ThreadLocalRecycler<>(c, limit, cacheSize);
+    }
+
     /**
      * Return a recycler based on a deque.
      */
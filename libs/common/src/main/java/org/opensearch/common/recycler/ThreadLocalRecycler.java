@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.recycler;
+
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Recycler} implementation that caches entries per thread, so that most calls to {@link #obtain()} and
+ * {@link Recycler.V#close()} do not touch the shared pool. The caches exchange entries with a shared pool in batches of half
+ * their size: an empty cache takes a batch from the pool and a full cache hands a batch over to the pool. The limit applies to
+ * all retained entries, whether they are in the shared pool or in the cache of a thread. The entries cached by a thread that
+ * is gone are given back to the limit once its cache is garbage collected.
+ * <p>
+ * Virtual threads are short-lived and may be numerous, so they do not get caches and exchange single entries with the pool
+ * instead. This implementation is thread-safe.
+ *
+ * @opensearch.internal
+ */
+public class ThreadLocalRecycler<T> extends AbstractRecycler<T> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final int maxSize;
+    private final int cacheSize;
+    private final int batchSize;
+    private final Deque<Object[]> pool;
+    // the number of retained entries, in the pool and in caches
+    private final AtomicInteger size;
+    private final ThreadLocal<Cache> caches;
+
+    public ThreadLocalRecycler(C<T> c, int maxSize, int cacheSize) {
+        super(c);
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("cacheSize must be >= 1");
+        }
+        this.maxSize = maxSize;
+        this.cacheSize = cacheSize;
+        this.batchSize = Math.max(1, cacheSize / 2);
+        this.pool = ConcurrentCollections.newDeque();
+        this.size = new AtomicInteger();
+        this.caches = ThreadLocal.withInitial(this::newCache);
+    }
+
+    private Cache newCache() {
+        final Cache cache = new Cache(cacheSize);
+        final CachedCount count = cache.count;
+        final AtomicInteger size = this.size;
+        // must not capture the cache itself, or it would never become unreachable
+        CLEANER.register(cache, () -> size.addAndGet(-count.value));
+        return cache;
+    }
+
+    /** The number of retained entries, for testing. */
+    int size() {
+        return size.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V<T> obtain() {
+        if (Thread.currentThread().isVirtual()) {
+            final Object[] batch = pool.pollFirst();
+            if (batch == null) {
+                return new TV(c.newInstance(), false);
+            }
+            if (batch.length > 1) {
+                // hand the rest of the batch back to the pool, it is still accounted for
+                pool.addFirst(Arrays.copyOf(batch, batch.length - 1));
+            }
+            size.decrementAndGet();
+            return new TV((T) batch[batch.length - 1], true);
+        }
+
+        final Cache cache = caches.get();
+        if (cache.count.value == 0) {
+            // entries moving from the pool to a cache are still accounted for
+            final Object[] batch = pool.pollFirst();
+            if (batch == null) {
+                return new TV(c.newInstance(), false);
+            }
+            assert batch.length <= cacheSize : batch.length + " > " + cacheSize;
+            System.arraycopy(batch, 0, cache.entries, 0, batch.length);
+            cache.count.value = batch.length;
+        }
+        final int index = --cache.count.value;
+        final T value = (T) cache.entries[index];
+        cache.entries[index] = null;
+        size.decrementAndGet();
+        return new TV(value, true);
+    }
+
+    /** Reserves room for one more retained entry, returns false if the limit is reached. */
+    private boolean reserve() {
+        if (size.incrementAndGet() <= maxSize) {
+            return true;
+        }
+        size.decrementAndGet();
+        return false;
+    }
+
+    private void release(T value) {
+        if (reserve() == false) {
+            c.destroy(value);
+            return;
+        }
+        c.recycle(value);
+        if (Thread.currentThread().isVirtual()) {
+            pool.addFirst(new Object[] { value });
+            return;
+        }
+
+        final Cache cache = caches.get();
+        if (cache.count.value == cacheSize) {
+            // entries moving from a cache to the pool are still accounted for
+            final int from = cacheSize - batchSize;
+            pool.addFirst(Arrays.copyOfRange(cache.entries, from, cacheSize));
+            Arrays.fill(cache.entries, from, cacheSize, null);
+            cache.count.value = from;
+        }
+        cache.entries[cache.count.value++] = value;
+    }
+
+    /**
+     * The entries cached by a single thread
+     *
+     * @opensearch.internal
+     */
+    private static final class Cache {
+
+        final Object[] entries;
+        final CachedCount count = new CachedCount();
+
+        Cache(int cacheSize) {
+            this.entries = new Object[cacheSize];
+        }
+    }
+
+    /**
+     * The number of entries in a {@link Cache}, kept apart from the cache so that it can be given back to the limit once the
+     * cache is garbage collected. It is only modified by the thread that owns the cache, and only read by the cleaner once that
+     * thread is gone.
+     *
+     * @opensearch.internal
+     */
+    private static final class CachedCount {
+        int value;
+    }
+
+    private class TV implements Recycler.V<T> {
+
+        T value;
+        final boolean recycled;
+
+        TV(T value, boolean recycled) {
+            this.value = value;
+            this.recycled = recycled;
+        }
+
+        @Override
+        public T v() {
+            return value;
+        }
+
+        @Override
+        public boolean isRecycled() {
+            return recycled;
+        }
+
+        @Override
+        public void close() {
+            if (value == null) {
+                throw new IllegalStateException("recycler entry already released...");
+            }
+            release(value);
+            value = null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.recycler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ThreadLocalRecyclerTests extends AbstractRecyclerTestCase {
+
+    private final int cacheSize = randomIntBetween(1, 4);
+
+    @Override
+    protected Recycler<byte[]> newRecycler(int limit) {
+        return Recyclers.threadLocal(RECYCLER_C, limit, cacheSize);
+    }
+
+    @Override
+    public void testDestroyWhenOverCapacity() {
+        Recycler<byte[]> r = newRecycler(limit);
+
+        Recycler.V<byte[]> o = r.obtain();
+        byte[] data = o.v();
+        assertFresh(data);
+
+        // entries cached by the thread count against the limit
+        List<Recycler.V<byte[]>> vals = new ArrayList<>(limit);
+        for (int i = 0; i < limit; ++i) {
+            vals.add(r.obtain());
+        }
+        for (Recycler.V<byte[]> v : vals) {
+            v.close();
+        }
+
+        o.close();
+        assertDead(data);
+    }
+
+    public void testRetainedEntriesAreBoundedByLimit() throws Exception {
+        final ThreadLocalRecycler<byte[]> r = new ThreadLocalRecycler<>(RECYCLER_C, limit, cacheSize);
+        final List<Recycler.V<byte[]>> vals = new ArrayList<>();
+        for (int i = 0; i < limit + cacheSize + randomIntBetween(0, 5); ++i) {
+            vals.add(r.obtain());
+        }
+        // release part of the entries on another thread, so that they are retained by the cache of that thread
+        final int half = vals.size() / 2;
+        final Thread thread = new Thread(() -> {
+            for (Recycler.V<byte[]> v : vals.subList(0, half)) {
+                v.close();
+                assertThat(r.size(), lessThanOrEqualTo(limit));
+            }
+        });
+        thread.start();
+        thread.join();
+        for (Recycler.V<byte[]> v : vals.subList(half, vals.size())) {
+            v.close();
+            assertThat(r.size(), lessThanOrEqualTo(limit));
+        }
+        assertEquals(limit, r.size());
+
+        final Recycler.V<byte[]> v = r.obtain();
+        assertTrue(v.isRecycled());
+        assertEquals(limit - 1, r.size());
+        v.close();
+        assertEquals(limit, r.size());
+    }
+
+    public void testEntriesMoveBetweenThreads() throws Exception {
+        final Recycler<byte[]> r = newRecycler(limit);
+        final List<Recycler.V<byte[]>> vals = new ArrayList<>();
+        for (int i = 0; i < cacheSize + 1; ++i) {
+            vals.add(r.obtain());
+        }
+        // releasing one more entry than the cache holds hands a batch over to the shared pool
+        for (Recycler.V<byte[]> v : vals) {
+            v.close();
+        }
+
+        final AtomicReference<Recycler.V<byte[]>> obtained = new AtomicReference<>();
+        final Thread thread = new Thread(() -> obtained.set(r.obtain()));
+        thread.start();
+        thread.join();
+        assertTrue(obtained.get().isRecycled());
+        assertRecycled(obtained.get().v());
+        obtained.get().close();
+    }
+
+    public void testVirtualThreadsUseSharedPool() throws Exception {
+        final Recycler<byte[]> r = newRecycler(limit);
+        final AtomicReference<byte[]> released = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> {
+            final Recycler.V<byte[]> v = r.obtain();
+            assertFalse(v.isRecycled());
+            released.set(v.v());
+            v.close();
+        }).join();
+
+        final Recycler.V<byte[]> v = r.obtain();
+        assertTrue(v.isRecycled());
+        assertSame(released.get(), v.v());
+        v.close();
+    }
+}
@@ -32,6 +32,8 @@
 
 package org.opensearch.core.common.io.stream;
 
+import org.opensearch.core.common.bytes.BytesReference;
+
 import java.io.IOException;
 
 /**
@@ -48,6 +50,11 @@ public class NamedWriteableAwareStreamInput extends FilterStreamInput {
         this.namedWriteableRegistry = namedWriteableRegistry;
     }
 
+    @Override
+    public BytesReference readRetainedBytesReference() throws IOException {
+        return delegate.readRetainedBytesReference();
+    }
+
     @Override
     public <C extends NamedWriteable> C readNamedWriteable(Class<C> categoryClass) throws IOException {
         String name = readString();
@@ -167,6 +167,16 @@ public abstract class StreamInput extends InputStream {
         return readBytesReference(length);
     }
 
+    /**
+     * Reads a bytes reference like {@link #readBytesReference()}. Streams over reference counted buffers, such as inbound transport
+     * messages, return a slice of these buffers instead of a copy and keep them alive until the returned reference is released, in
+     * which case the returned reference implements {@link org.opensearch.common.lease.Releasable}. Callers must release such a
+     * reference once they no longer need its bytes.
+     */
+    public BytesReference readRetainedBytesReference() throws IOException {
+        return readBytesReference();
+    }
+
     /**
      * Reads a bytes reference from this stream, might hold an actual reference to the underlying
      * bytes of the stream.
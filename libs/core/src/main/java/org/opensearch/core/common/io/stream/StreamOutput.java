@@ -210,6 +210,15 @@ public abstract class StreamOutput extends OutputStream {
         bytes.writeTo(this);
     }
 
+    /**
+     * Writes the bytes reference, including a length header, in the same format as {@link #writeBytesReference(BytesReference)}.
+     * Streams that are written to the network may keep a reference to the given bytes and send them from where they are instead
+     * of copying them, so the bytes must not be modified until the message has been sent. Other streams copy the bytes.
+     */
+    public void writeSharedBytesReference(@Nullable BytesReference bytes) throws IOException {
+        writeBytesReference(bytes);
+    }
+
     /**
      * Writes an optional bytes reference including a length header. Use this if you need to differentiate between null and empty bytes
      * references. Use {@link #writeBytesReference(BytesReference)} and {@link StreamInput#readBytesReference()} if you do not.
@@ -0,0 +1,308 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Scans the action and metadata lines of bulk requests, e.g. {@code {"index":{"_index":"test","_id":"1"}}}, directly from their
+ * bytes without creating a parser. Only the common shape of these lines is supported: an object with a single known action
+ * field whose value is an object of known fields with ASCII string values without escape sequences, integer values or boolean
+ * values. {@link #scan} returns {@code false} for any other line, which must then be parsed with a regular parser, which also
+ * reports any error.
+ * <p>
+ * A scanner holds the fields of the last scanned line, so it must not be shared between threads.
+ *
+ * @opensearch.internal
+ */
+public final class JsonBulkActionLineScanner {
+
+    /**
+     * The type of a scanned field value
+     *
+     * @opensearch.internal
+     */
+    public enum ValueType {
+        STRING,
+        NUMBER,
+        BOOLEAN
+    }
+
+    // at most 18 digits so that the value cannot overflow a long
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    private final byte[][] actions;
+    private final byte[][] fieldNames;
+
+    private int action;
+    private int fieldCount;
+    private final int[] fields;
+    private final ValueType[] valueTypes;
+    private final String[] stringValues;
+    private final long[] longValues;
+    private long seenFields;
+
+    /**
+     * @param actions    the names of the supported actions, {@link #action()} returns an index into this array
+     * @param fieldNames the names of the supported fields, {@link #field(int)} returns an index into this array
+     */
+    public JsonBulkActionLineScanner(String[] actions, String[] fieldNames) {
+        if (fieldNames.length > Long.SIZE) {
+            throw new IllegalArgumentException("at most [" + Long.SIZE + "] field names are supported but got [" + fieldNames.length + "]");
+        }
+        this.actions = toBytes(actions);
+        this.fieldNames = toBytes(fieldNames);
+        this.fields = new int[fieldNames.length];
+        this.valueTypes = new ValueType[fieldNames.length];
+        this.stringValues = new String[fieldNames.length];
+        this.longValues = new long[fieldNames.length];
+    }
+
+    private static byte[][] toBytes(String[] names) {
+        final byte[][] bytes = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            bytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        return bytes;
+    }
+
+    /**
+     * Scans the given line.
+     *
+     * @return {@code true} if the line was scanned, {@code false} if the line is not of the supported shape or not valid
+     */
+    public boolean scan(byte[] bytes, int offset, int length) {
+        action = -1;
+        fieldCount = 0;
+        seenFields = 0;
+        Arrays.fill(stringValues, null);
+        final int end = offset + length;
+
+        int pos = skipWhitespace(bytes, offset, end);
+        if (pos >= end || bytes[pos] != '{') {
+            return false;
+        }
+        pos = skipWhitespace(bytes, pos + 1, end);
+        final int actionEnd = scanName(bytes, pos, end);
+        if (actionEnd < 0) {
+            return false;
+        }
+        action = match(actions, bytes, pos + 1, actionEnd);
+        if (action < 0) {
+            return false;
+        }
+        pos = skipWhitespace(bytes, actionEnd + 1, end);
+        if (pos >= end || bytes[pos] != ':') {
+            return false;
+        }
+        pos = skipWhitespace(bytes, pos + 1, end);
+        if (pos >= end || bytes[pos] != '{') {
+            return false;
+        }
+        pos = skipWhitespace(bytes, pos + 1, end);
+        if (pos < end && bytes[pos] == '}') {
+            pos++;
+        } else {
+            while (true) {
+                pos = scanField(bytes, pos, end);
+                if (pos < 0) {
+                    return false;
+                }
+                pos = skipWhitespace(bytes, pos, end);
+                if (pos >= end) {
+                    return false;
+                }
+                if (bytes[pos] == '}') {
+                    pos++;
+                    break;
+                }
+                if (bytes[pos] != ',') {
+                    return false;
+                }
+                pos = skipWhitespace(bytes, pos + 1, end);
+            }
+        }
+        pos = skipWhitespace(bytes, pos, end);
+        if (pos >= end || bytes[pos] != '}') {
+            return false;
+        }
+        return skipWhitespace(bytes, pos + 1, end) == end;
+    }
+
+    /**
+     * Scans a single {@code "name" : value} pair and returns the position after the value, or {@code -1} if it is not supported.
+     */
+    private int scanField(byte[] bytes, int pos, int end) {
+        final int nameEnd = scanName(bytes, pos, end);
+        if (nameEnd < 0) {
+            return -1;
+        }
+        final int field = match(fieldNames, bytes, pos + 1, nameEnd);
+        if (field < 0 || (seenFields & (1L << field)) != 0) {
+            // unknown and duplicate fields are left to the parser, which rejects them
+            return -1;
+        }
+        seenFields |= 1L << field;
+        pos = skipWhitespace(bytes, nameEnd + 1, end);
+        if (pos >= end || bytes[pos] != ':') {
+            return -1;
+        }
+        pos = skipWhitespace(bytes, pos + 1, end);
+        if (pos >= end) {
+            return -1;
+        }
+        final byte b = bytes[pos];
+        if (b == '"') {
+            final int valueEnd = scanName(bytes, pos, end);
+            if (valueEnd < 0) {
+                return -1;
+            }
+            addField(field, ValueType.STRING, new String(bytes, pos + 1, valueEnd - pos - 1, StandardCharsets.US_ASCII), 0);
+            return valueEnd + 1;
+        } else if (b == 't' && matchLiteral(bytes, pos, end, "true")) {
+            addField(field, ValueType.BOOLEAN, null, 1);
+            return pos + 4;
+        } else if (b == 'f' && matchLiteral(bytes, pos, end, "false")) {
+            addField(field, ValueType.BOOLEAN, null, 0);
+            return pos + 5;
+        } else if (b == '-' || (b >= '0' && b <= '9')) {
+            return scanNumber(bytes, pos, end, field);
+        }
+        return -1;
+    }
+
+    private int scanNumber(byte[] bytes, int pos, int end, int field) {
+        final boolean negative = bytes[pos] == '-';
+        final int start = negative ? pos + 1 : pos;
+        long value = 0;
+        int i = start;
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            value = value * 10 + (bytes[i] - '0');
+            i++;
+        }
+        final int digits = i - start;
+        if (digits == 0 || digits > MAX_NUMBER_DIGITS || (digits > 1 && bytes[start] == '0')) {
+            return -1;
+        }
+        if (i < end && (bytes[i] == '.' || bytes[i] == 'e' || bytes[i] == 'E')) {
+            // decimal numbers are left to the parser
+            return -1;
+        }
+        addField(field, ValueType.NUMBER, null, negative ? -value : value);
+        return i;
+    }
+
+    private void addField(int field, ValueType valueType, String stringValue, long longValue) {
+        fields[fieldCount] = field;
+        valueTypes[fieldCount] = valueType;
+        stringValues[fieldCount] = stringValue;
+        longValues[fieldCount] = longValue;
+        fieldCount++;
+    }
+
+    /**
+     * Returns the position of the closing quote of the string starting at {@code pos}, or {@code -1} if there is no string at
+     * {@code pos} or it contains escape sequences, control or non-ASCII characters.
+     */
+    private static int scanName(byte[] bytes, int pos, int end) {
+        if (pos >= end || bytes[pos] != '"') {
+            return -1;
+        }
+        for (int i = pos + 1; i < end; i++) {
+            final byte b = bytes[i];
+            if (b == '"') {
+                return i;
+            }
+            // bytes are signed, so non-ASCII bytes are negative
+            if (b == '\\' || b < 0x20) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int match(byte[][] names, byte[] bytes, int from, int to) {
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(names[i], 0, names[i].length, bytes, from, to)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchLiteral(byte[] bytes, int pos, int end, String literal) {
+        final int literalEnd = pos + literal.length();
+        if (literalEnd > end) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (bytes[pos + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        // the literal must not be followed by more letters, as in "trueish"
+        return literalEnd == end || isLetterOrDigit(bytes[literalEnd]) == false;
+    }
+
+    private static boolean isLetterOrDigit(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '_';
+    }
+
+    private static int skipWhitespace(byte[] bytes, int pos, int end) {
+        while (pos < end) {
+            final byte b = bytes[pos];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the index of the action of the last scanned line in the actions this scanner was created with.
+     */
+    public int action() {
+        return action;
+    }
+
+    /**
+     * Returns the number of fields of the last scanned line.
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the index of the i-th field of the last scanned line in the field names this scanner was created with.
+     */
+    public int field(int i) {
+        return fields[i];
+    }
+
+    public ValueType valueType(int i) {
+        return valueTypes[i];
+    }
+
+    public String stringValue(int i) {
+        assert valueTypes[i] == ValueType.STRING;
+        return stringValues[i];
+    }
+
+    public long longValue(int i) {
+        assert valueTypes[i] == ValueType.NUMBER;
+        return longValues[i];
+    }
+
+    public boolean booleanValue(int i) {
+        assert valueTypes[i] == ValueType.BOOLEAN;
+        return longValues[i] != 0;
+    }
+}
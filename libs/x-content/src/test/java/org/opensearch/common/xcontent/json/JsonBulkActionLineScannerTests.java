@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.json;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+
+public class JsonBulkActionLineScannerTests extends OpenSearchTestCase {
+
+    private static final String[] ACTIONS = { "create", "delete", "index", "update" };
+    private static final String[] FIELDS = { "_index", "_id", "version", "require_alias" };
+
+    private static boolean scan(JsonBulkActionLineScanner scanner, String line) {
+        // surround the line with other bytes to check that offsets are respected
+        final byte[] bytes = ("xx" + line + "yy").getBytes(StandardCharsets.UTF_8);
+        return scanner.scan(bytes, 2, bytes.length - 4);
+    }
+
+    public void testScan() {
+        final JsonBulkActionLineScanner scanner = new JsonBulkActionLineScanner(ACTIONS, FIELDS);
+        assertTrue(scan(scanner, " { \"index\" : { \"_index\" : \"test\", \"_id\":\"1\",\"version\": -42, \"require_alias\" : true } }\r"));
+        assertEquals(2, scanner.action());
+        assertEquals(4, scanner.fieldCount());
+        assertEquals(0, scanner.field(0));
+        assertEquals(JsonBulkActionLineScanner.ValueType.STRING, scanner.valueType(0));
+        assertEquals("test", scanner.stringValue(0));
+        assertEquals(1, scanner.field(1));
+        assertEquals("1", scanner.stringValue(1));
+        assertEquals(2, scanner.field(2));
+        assertEquals(JsonBulkActionLineScanner.ValueType.NUMBER, scanner.valueType(2));
+        assertEquals(-42L, scanner.longValue(2));
+        assertEquals(3, scanner.field(3));
+        assertEquals(JsonBulkActionLineScanner.ValueType.BOOLEAN, scanner.valueType(3));
+        assertTrue(scanner.booleanValue(3));
+
+        assertTrue(scan(scanner, "{\"delete\":{\"_id\":\"\",\"_index\":\"test\"}}"));
+        assertEquals(1, scanner.action());
+        assertEquals(2, scanner.fieldCount());
+        assertEquals(1, scanner.field(0));
+        assertEquals("", scanner.stringValue(0));
+        assertEquals(0, scanner.field(1));
+
+        assertTrue(scan(scanner, "{\"create\":{}}"));
+        assertEquals(0, scanner.action());
+        assertEquals(0, scanner.fieldCount());
+    }
+
+    public void testUnsupportedLines() {
+        final JsonBulkActionLineScanner scanner = new JsonBulkActionLineScanner(ACTIONS, FIELDS);
+        final String[] lines = {
+            "",
+            "  ",
+            "[]",
+            "{}",
+            "{\"foo\":{}}",
+            "{\"index\":null}",
+            "{\"index\":{}",
+            "{\"index\":{}}}",
+            "{\"index\":{},\"other\":{}}",
+            "{\"index\":{\"unknown\":\"1\"}}",
+            "{\"index\":{\"_id\":\"1\",\"_id\":\"2\"}}",
+            "{\"index\":{\"_id\":\"with \\\"escape\\\"\"}}",
+            "{\"index\":{\"_id\":\"café\"}}",
+            "{\"index\":{\"_id\":null}}",
+            "{\"index\":{\"_id\":[\"1\"]}}",
+            "{\"index\":{\"_id\":{}}}",
+            "{\"index\":{\"version\":1.5}}",
+            "{\"index\":{\"version\":1e3}}",
+            "{\"index\":{\"version\":01}}",
+            "{\"index\":{\"version\":-}}",
+            "{\"index\":{\"version\":12345678901234567890}}",
+            "{\"index\":{\"require_alias\":truex}}",
+            "{\"index\":{\"_id\":\"1\",}}",
+            "{\"index\":{\"_id\":\"1\"} \"x\"}" };
+        for (String line : lines) {
+            assertFalse(line, scan(scanner, line));
+        }
+    }
+
+    public void testTooManyFields() {
+        final String[] fields = new String[Long.SIZE + 1];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = "field" + i;
+        }
+        expectThrows(IllegalArgumentException.class, () -> new JsonBulkActionLineScanner(ACTIONS, fields));
+    }
+}
@@ -26,6 +26,7 @@ import io.netty.util.ReferenceCounted;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 
 @ClusterScope(scope = Scope.TEST, supportsDedicatedMasters = false, numDataNodes = 1)
@@ -81,6 +82,27 @@ public class Netty4Http2IT extends OpenSearchNetty4IntegTestCase {
         }
     }
 
+    public void testHttp2StreamsAreCounted() throws Exception {
+        String[] requests = new String[] { "/", "/_cluster/health", "/" };
+
+        HttpServerTransport httpServerTransport = internalCluster().getInstance(HttpServerTransport.class);
+        TransportAddress[] boundAddresses = httpServerTransport.boundAddress().boundAddresses();
+        TransportAddress transportAddress = randomFrom(boundAddresses);
+        final long totalStreamsBefore = httpServerTransport.stats().getTotalStreamsOpen();
+
+        try (Netty4HttpClient nettyHttpClient = Netty4HttpClient.http2()) {
+            Collection<FullHttpResponse> responses = nettyHttpClient.get(transportAddress.address(), requests);
+            try {
+                assertThat(responses, hasSize(3));
+            } finally {
+                responses.forEach(ReferenceCounted::release);
+            }
+        }
+
+        assertThat(httpServerTransport.stats().getTotalStreamsOpen(), greaterThan(totalStreamsBefore));
+        assertBusy(() -> assertThat(httpServerTransport.stats().getStreamsOpen(), equalTo(0L)));
+    }
+
     private void assertOpaqueIdsInAnyOrder(int expected, Collection<String> opaqueIds) {
         // check if opaque ids are present in any order, since for HTTP/2 we use streaming (no head of line blocking)
         // and responses may come back at any order
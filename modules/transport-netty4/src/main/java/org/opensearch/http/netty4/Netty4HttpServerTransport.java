@@ -96,10 +96,13 @@ import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler.UpgradeCodec;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler.UpgradeCodecFactory;
 import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
 import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -180,6 +183,28 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         Property.NodeScope
     );
 
+    /**
+     * The maximum number of concurrent streams a client may open on a single HTTP/2 connection.
+     */
+    public static final Setting<Integer> SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS = Setting.intSetting(
+        "http.netty.http2.max_concurrent_streams",
+        128,
+        1,
+        Property.NodeScope
+    );
+
+    /**
+     * The initial HTTP/2 flow control window, which bounds how many bytes of a request body a client may send on a stream before
+     * the request is read. The window of the whole connection is raised to the same size, so that a single stream can use it fully.
+     */
+    public static final Setting<ByteSizeValue> SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE = Setting.byteSizeSetting(
+        "http.netty.http2.initial_window_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(Http2CodecUtil.DEFAULT_WINDOW_SIZE, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Http2CodecUtil.MAX_INITIAL_WINDOW_SIZE, ByteSizeUnit.BYTES),
+        Property.NodeScope
+    );
+
     private final ByteSizeValue maxInitialLineLength;
     private final ByteSizeValue maxHeaderSize;
     private final ByteSizeValue maxChunkSize;
@@ -192,6 +217,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     private final int maxCompositeBufferComponents;
 
+    private final int http2MaxConcurrentStreams;
+    private final int http2InitialWindowSize;
+
     private volatile ServerBootstrap serverBootstrap;
     private volatile SharedGroupFactory.SharedGroup sharedGroup;
 
@@ -228,6 +256,8 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         this.pipeliningMaxEvents = SETTING_PIPELINING_MAX_EVENTS.get(settings);
 
         this.maxCompositeBufferComponents = SETTING_HTTP_NETTY_MAX_COMPOSITE_BUFFER_COMPONENTS.get(settings);
+        this.http2MaxConcurrentStreams = SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS.get(settings);
+        this.http2InitialWindowSize = SETTING_HTTP_NETTY_HTTP2_INITIAL_WINDOW_SIZE.get(settings).bytesAsInt();
 
         this.readTimeoutMillis = Math.toIntExact(SETTING_HTTP_READ_TIMEOUT.get(settings).getMillis());
 
@@ -236,14 +266,17 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
         logger.debug(
             "using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}], "
-                + "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}]",
+                + "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}], "
+                + "http2_max_concurrent_streams[{}], http2_initial_window_size[{}]",
             maxChunkSize,
             maxHeaderSize,
             maxInitialLineLength,
             maxContentLength,
             receivePredictor,
             maxCompositeBufferComponents,
-            pipeliningMaxEvents
+            pipeliningMaxEvents,
+            http2MaxConcurrentStreams,
+            http2InitialWindowSize
         );
     }
 
@@ -406,7 +439,8 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
                 public UpgradeCodec newUpgradeCodec(CharSequence protocol) {
                     if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
                         return new Http2ServerUpgradeCodec(
-                            Http2FrameCodecBuilder.forServer().build(),
+                            createHttp2FrameCodec(),
+                            new Http2ConnectionWindowHandler(transport.http2InitialWindowSize),
                             new Http2MultiplexHandler(createHttp2ChannelInitializer(ch.pipeline()))
                         );
                     } else {
@@ -487,10 +521,19 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         }
 
         protected void configureDefaultHttp2Pipeline(ChannelPipeline pipeline) {
-            pipeline.addLast(Http2FrameCodecBuilder.forServer().build())
+            pipeline.addLast(createHttp2FrameCodec())
+                .addLast(new Http2ConnectionWindowHandler(transport.http2InitialWindowSize))
                 .addLast(new Http2MultiplexHandler(createHttp2ChannelInitializer(pipeline)));
         }
 
+        protected Http2FrameCodec createHttp2FrameCodec() {
+            final Http2Settings http2Settings = Http2Settings.defaultSettings()
+                .maxConcurrentStreams(transport.http2MaxConcurrentStreams)
+                .initialWindowSize(transport.http2InitialWindowSize)
+                .maxHeaderListSize(handlingSettings.getMaxHeaderSize());
+            return Http2FrameCodecBuilder.forServer().initialSettings(http2Settings).build();
+        }
+
         private ChannelInitializer<Channel> createHttp2ChannelInitializerPriorKnowledge() {
             return new ChannelInitializer<Channel>() {
                 @Override
@@ -510,6 +553,7 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
                 protected void initChannel(Channel childChannel) throws Exception {
                     final Netty4HttpChannel nettyHttpChannel = new Netty4HttpChannel(childChannel, inboundPipeline);
                     childChannel.attr(HTTP_CHANNEL_KEY).set(nettyHttpChannel);
+                    transport.serverAcceptedStream(nettyHttpChannel);
 
                     final HttpObjectAggregator aggregator = new HttpObjectAggregator(handlingSettings.getMaxContentLength());
                     aggregator.setMaxCumulationBufferComponents(transport.maxCompositeBufferComponents);
@@ -540,6 +584,28 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         }
     }
 
+    /**
+     * Raises the flow control window of an HTTP/2 connection from the protocol default to the configured initial window size of its
+     * streams, as the connection window can only be changed with a window update and not through the initial settings.
+     */
+    private static class Http2ConnectionWindowHandler extends ChannelInboundHandlerAdapter {
+
+        private final int initialWindowSize;
+
+        private Http2ConnectionWindowHandler(int initialWindowSize) {
+            this.initialWindowSize = initialWindowSize;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            final int increment = initialWindowSize - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+            if (increment > 0) {
+                ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(increment));
+            }
+            ctx.pipeline().remove(this);
+        }
+    }
+
     @ChannelHandler.Sharable
     private static class ServerChannelExceptionHandler extends ChannelInboundHandlerAdapter {
 
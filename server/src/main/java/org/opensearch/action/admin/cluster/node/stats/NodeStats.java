@@ -40,6 +40,7 @@ import org.opensearch.cluster.routing.WeightedRoutingStats;
 import org.opensearch.cluster.service.ClusterManagerThrottlingStats;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.cache.service.NodeCacheStats;
+import org.opensearch.common.util.PageCacheRecyclerStats;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.indices.breaker.AllCircuitBreakerStats;
@@ -166,6 +167,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private RemoteStoreNodeStats remoteStoreNodeStats;
 
+    @Nullable
+    private PageCacheRecyclerStats pageCacheRecyclerStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -252,6 +256,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             remoteStoreNodeStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            pageCacheRecyclerStats = in.readOptionalWriteable(PageCacheRecyclerStats::new);
+        } else {
+            pageCacheRecyclerStats = null;
+        }
     }
 
     public NodeStats(
@@ -284,7 +293,8 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         @Nullable RepositoriesStats repositoriesStats,
         @Nullable AdmissionControlStats admissionControlStats,
         @Nullable NodeCacheStats nodeCacheStats,
-        @Nullable RemoteStoreNodeStats remoteStoreNodeStats
+        @Nullable RemoteStoreNodeStats remoteStoreNodeStats,
+        @Nullable PageCacheRecyclerStats pageCacheRecyclerStats
     ) {
         super(node);
         this.timestamp = timestamp;
@@ -316,6 +326,7 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.admissionControlStats = admissionControlStats;
         this.nodeCacheStats = nodeCacheStats;
         this.remoteStoreNodeStats = remoteStoreNodeStats;
+        this.pageCacheRecyclerStats = pageCacheRecyclerStats;
     }
 
     public long getTimestamp() {
@@ -483,6 +494,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return remoteStoreNodeStats;
     }
 
+    @Nullable
+    public PageCacheRecyclerStats getPageCacheRecyclerStats() {
+        return pageCacheRecyclerStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -544,6 +560,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_18_0)) {
             out.writeOptionalWriteable(remoteStoreNodeStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeOptionalWriteable(pageCacheRecyclerStats);
+        }
     }
 
     @Override
@@ -653,6 +672,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getRemoteStoreNodeStats() != null) {
             getRemoteStoreNodeStats().toXContent(builder, params);
         }
+        if (getPageCacheRecyclerStats() != null) {
+            getPageCacheRecyclerStats().toXContent(builder, params);
+        }
         return builder;
     }
 }
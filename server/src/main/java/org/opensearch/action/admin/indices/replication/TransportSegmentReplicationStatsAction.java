@@ -232,7 +232,8 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
             calculateBytesRemainingToReplicate(ongoingSegmentReplicationState),
             0,
             getCurrentReplicationLag(ongoingSegmentReplicationState),
-            getLastCompletedReplicationLag(completedSegmentReplicationState)
+            getLastCompletedReplicationLag(completedSegmentReplicationState),
+            calculateBytesReused(ongoingSegmentReplicationState)
         );
     }
 
@@ -251,10 +252,19 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
         return ongoingSegmentReplicationState.getIndex()
             .fileDetails()
             .stream()
-            .mapToLong(index -> index.length() - index.recovered())
+            // reused files, e.g. linked from identical local files, are never fetched
+            .filter(file -> file.reused() == false)
+            .mapToLong(file -> file.length() - file.recovered())
             .sum();
     }
 
+    private long calculateBytesReused(SegmentReplicationState ongoingSegmentReplicationState) {
+        if (ongoingSegmentReplicationState == null) {
+            return 0;
+        }
+        return ongoingSegmentReplicationState.getIndex().reusedBytes();
+    }
+
     private long getCurrentReplicationLag(SegmentReplicationState ongoingSegmentReplicationState) {
         return ongoingSegmentReplicationState != null ? ongoingSegmentReplicationState.getTimer().time() : 0;
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -40,6 +41,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonBulkActionLineScanner;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -83,6 +85,44 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
+    // the actions and fields of action and metadata lines that are scanned without a parser, see JsonBulkActionLineScanner
+    private static final String[] SCANNED_ACTIONS = { "create", "delete", "index", "update" };
+    private static final String[] SCANNED_FIELDS = {
+        INDEX.getPreferredName(),
+        ID.getPreferredName(),
+        ROUTING.getPreferredName(),
+        OP_TYPE.getPreferredName(),
+        VERSION.getPreferredName(),
+        VERSION_TYPE.getPreferredName(),
+        IF_SEQ_NO.getPreferredName(),
+        IF_PRIMARY_TERM.getPreferredName(),
+        RETRY_ON_CONFLICT.getPreferredName(),
+        PIPELINE.getPreferredName(),
+        REQUIRE_ALIAS.getPreferredName() };
+    private static final JsonBulkActionLineScanner.ValueType[] SCANNED_FIELD_TYPES = {
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.NUMBER,
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.NUMBER,
+        JsonBulkActionLineScanner.ValueType.NUMBER,
+        JsonBulkActionLineScanner.ValueType.NUMBER,
+        JsonBulkActionLineScanner.ValueType.STRING,
+        JsonBulkActionLineScanner.ValueType.BOOLEAN };
+    private static final int SCANNED_INDEX = 0;
+    private static final int SCANNED_ID = 1;
+    private static final int SCANNED_ROUTING = 2;
+    private static final int SCANNED_OP_TYPE = 3;
+    private static final int SCANNED_VERSION = 4;
+    private static final int SCANNED_VERSION_TYPE = 5;
+    private static final int SCANNED_IF_SEQ_NO = 6;
+    private static final int SCANNED_IF_PRIMARY_TERM = 7;
+    private static final int SCANNED_RETRY_ON_CONFLICT = 8;
+    private static final int SCANNED_PIPELINE = 9;
+    private static final int SCANNED_REQUIRE_ALIAS = 10;
+
     private static int findNextMarker(byte marker, int from, BytesReference data) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
@@ -140,6 +180,11 @@ public final class BulkRequestParser {
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
+        // JSON action and metadata lines of the common shape are scanned from their bytes rather than parsed
+        final JsonBulkActionLineScanner scanner = MediaTypeRegistry.JSON == mediaType
+            ? new JsonBulkActionLineScanner(SCANNED_ACTIONS, SCANNED_FIELDS)
+            : null;
+        final ActionLine actionLine = new ActionLine();
         while (true) {
             int nextMarker = findNextMarker(marker, from, data);
             if (nextMarker == -1) {
@@ -148,238 +193,386 @@ public final class BulkRequestParser {
             line++;
 
             // now parse the action
-            try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
-                // move pointers
-                from = nextMarker + 1;
-
-                // Move to START_OBJECT
-                XContentParser.Token token = parser.nextToken();
-                if (token == null) {
-                    continue;
-                }
-                if (token != XContentParser.Token.START_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
-                }
-                // Move to FIELD_NAME, that's the action
-                token = parser.nextToken();
-                if (token != XContentParser.Token.FIELD_NAME) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.FIELD_NAME
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
-                }
-                String action = parser.currentName();
-                if (action == null || VALID_ACTIONS.contains(action) == false) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected one of [create, delete, index, update] but found ["
-                            + action
-                            + "]"
-                    );
+            actionLine.reset(defaultIndex, defaultRouting, defaultFetchSourceContext, defaultPipeline, defaultRequireAlias);
+            if (scanner == null
+                || scanActionLine(scanner, data, from, nextMarker, line, allowExplicitIndex, actionLine, stringDeduplicator) == false) {
+                try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+                    if (parseActionLine(parser, line, allowExplicitIndex, actionLine, stringDeduplicator) == false) {
+                        // empty line
+                        from = nextMarker + 1;
+                        continue;
+                    }
                 }
+            }
+            // move pointers
+            from = nextMarker + 1;
 
-                String index = defaultIndex;
-                String id = null;
-                String routing = defaultRouting;
-                FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
-                String opType = null;
-                long version = Versions.MATCH_ANY;
-                VersionType versionType = VersionType.INTERNAL;
-                long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
-                long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
-                int retryOnConflict = 0;
-                String pipeline = defaultPipeline;
-                boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
-
-                // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
-                // or START_OBJECT which will have another set of parameters
-                token = parser.nextToken();
+            final String action = actionLine.action;
+            final String index = actionLine.index;
+            final String id = actionLine.id;
+            final String routing = actionLine.routing;
+            final FetchSourceContext fetchSourceContext = actionLine.fetchSourceContext;
+            final String opType = actionLine.opType;
+            final long version = actionLine.version;
+            final VersionType versionType = actionLine.versionType;
+            final long ifSeqNo = actionLine.ifSeqNo;
+            final long ifPrimaryTerm = actionLine.ifPrimaryTerm;
+            final int retryOnConflict = actionLine.retryOnConflict;
+            final String pipeline = actionLine.pipeline;
+            final boolean requireAlias = actionLine.requireAlias;
 
-                if (token == XContentParser.Token.START_OBJECT) {
-                    String currentFieldName = null;
-                    while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
-                        if (token == XContentParser.Token.FIELD_NAME) {
-                            currentFieldName = parser.currentName();
-                        } else if (token.isValue()) {
-                            if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
-                                if (allowExplicitIndex == false) {
-                                    throw new IllegalArgumentException("explicit index in bulk is not allowed");
-                                }
-                                index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
-                                id = parser.text();
-                            } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
-                                routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                opType = parser.text();
-                            } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
-                                version = parser.longValue();
-                            } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                versionType = VersionType.fromString(parser.text());
-                            } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifSeqNo = parser.longValue();
-                            } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifPrimaryTerm = parser.longValue();
-                            } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
-                                retryOnConflict = parser.intValue();
-                            } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
-                                requireAlias = parser.booleanValue();
-                            } else {
-                                throw new IllegalArgumentException(
-                                    "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
-                                );
-                            }
-                        } else if (token == XContentParser.Token.START_ARRAY) {
-                            throw new IllegalArgumentException(
-                                "Malformed action/metadata line ["
-                                    + line
-                                    + "], expected a simple value for field ["
-                                    + currentFieldName
-                                    + "] but found ["
-                                    + token
-                                    + "]"
-                            );
-                        } else if (token == XContentParser.Token.START_OBJECT
-                            && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (token != XContentParser.Token.VALUE_NULL) {
-                                throw new IllegalArgumentException(
-                                    "Malformed action/metadata line ["
-                                        + line
-                                        + "], expected a simple value for field ["
-                                        + currentFieldName
-                                        + "] but found ["
-                                        + token
-                                        + "]"
-                                );
-                            }
-                    }
-                } else if (token != XContentParser.Token.END_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " or "
-                            + XContentParser.Token.END_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
+            if ("delete".equals(action)) {
+                deleteRequestConsumer.accept(
+                    new DeleteRequest(index).id(id)
+                        .routing(routing)
+                        .version(version)
+                        .versionType(versionType)
+                        .setIfSeqNo(ifSeqNo)
+                        .setIfPrimaryTerm(ifPrimaryTerm)
+                );
+            } else {
+                nextMarker = findNextMarker(marker, from, data);
+                if (nextMarker == -1) {
+                    break;
                 }
+                line++;
 
-                if ("delete".equals(action)) {
-                    deleteRequestConsumer.accept(
-                        new DeleteRequest(index).id(id)
-                            .routing(routing)
-                            .version(version)
-                            .versionType(versionType)
-                            .setIfSeqNo(ifSeqNo)
-                            .setIfPrimaryTerm(ifPrimaryTerm)
-                    );
-                } else {
-                    nextMarker = findNextMarker(marker, from, data);
-                    if (nextMarker == -1) {
-                        break;
-                    }
-                    line++;
-
-                    // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
-                    // of index request.
-                    if ("index".equals(action)) {
-                        if (opType == null) {
-                            indexRequestConsumer.accept(
-                                new IndexRequest(index).id(id)
-                                    .routing(routing)
-                                    .version(version)
-                                    .versionType(versionType)
-                                    .setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo)
-                                    .setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
-                                    .setRequireAlias(requireAlias)
-                            );
-                        } else {
-                            indexRequestConsumer.accept(
-                                new IndexRequest(index).id(id)
-                                    .routing(routing)
-                                    .version(version)
-                                    .versionType(versionType)
-                                    .create("create".equals(opType))
-                                    .setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo)
-                                    .setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
-                                    .setRequireAlias(requireAlias)
-                            );
-                        }
-                    } else if ("create".equals(action)) {
+                // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
+                // of index request.
+                if ("index".equals(action)) {
+                    if (opType == null) {
                         indexRequestConsumer.accept(
                             new IndexRequest(index).id(id)
                                 .routing(routing)
                                 .version(version)
                                 .versionType(versionType)
-                                .create(true)
                                 .setPipeline(pipeline)
                                 .setIfSeqNo(ifSeqNo)
                                 .setIfPrimaryTerm(ifPrimaryTerm)
                                 .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                                 .setRequireAlias(requireAlias)
                         );
-                    } else if ("update".equals(action)) {
-                        if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
-                            throw new IllegalArgumentException(
-                                "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
-                            );
-                        }
-                        UpdateRequest updateRequest = new UpdateRequest().index(index)
-                            .id(id)
+                    } else {
+                        indexRequestConsumer.accept(
+                            new IndexRequest(index).id(id)
+                                .routing(routing)
+                                .version(version)
+                                .versionType(versionType)
+                                .create("create".equals(opType))
+                                .setPipeline(pipeline)
+                                .setIfSeqNo(ifSeqNo)
+                                .setIfPrimaryTerm(ifPrimaryTerm)
+                                .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
+                                .setRequireAlias(requireAlias)
+                        );
+                    }
+                } else if ("create".equals(action)) {
+                    indexRequestConsumer.accept(
+                        new IndexRequest(index).id(id)
                             .routing(routing)
-                            .retryOnConflict(retryOnConflict)
+                            .version(version)
+                            .versionType(versionType)
+                            .create(true)
+                            .setPipeline(pipeline)
                             .setIfSeqNo(ifSeqNo)
                             .setIfPrimaryTerm(ifPrimaryTerm)
+                            .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                             .setRequireAlias(requireAlias)
-                            .routing(routing);
-                        try (
-                            XContentParser sliceParser = createParser(
-                                sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
-                                xContent
-                            )
-                        ) {
-                            updateRequest.fromXContent(sliceParser);
-                        }
-                        if (fetchSourceContext != null) {
-                            updateRequest.fetchSource(fetchSourceContext);
-                        }
-                        IndexRequest upsertRequest = updateRequest.upsertRequest();
-                        if (upsertRequest != null) {
-                            upsertRequest.setPipeline(pipeline);
-                        }
+                    );
+                } else if ("update".equals(action)) {
+                    if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
+                        throw new IllegalArgumentException(
+                            "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
+                        );
+                    }
+                    UpdateRequest updateRequest = new UpdateRequest().index(index)
+                        .id(id)
+                        .routing(routing)
+                        .retryOnConflict(retryOnConflict)
+                        .setIfSeqNo(ifSeqNo)
+                        .setIfPrimaryTerm(ifPrimaryTerm)
+                        .setRequireAlias(requireAlias)
+                        .routing(routing);
+                    try (
+                        XContentParser sliceParser = createParser(
+                            sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
+                            xContent
+                        )
+                    ) {
+                        updateRequest.fromXContent(sliceParser);
+                    }
+                    if (fetchSourceContext != null) {
+                        updateRequest.fetchSource(fetchSourceContext);
+                    }
+                    IndexRequest upsertRequest = updateRequest.upsertRequest();
+                    if (upsertRequest != null) {
+                        upsertRequest.setPipeline(pipeline);
+                    }
+
+                    updateRequestConsumer.accept(updateRequest);
+                }
+                // move pointers
+                from = nextMarker + 1;
+            }
+        }
+    }
+
+    /**
+     * Scans an action and metadata line of the common shape without creating a parser.
+     *
+     * @return {@code false} if the line is not of the common shape and must be parsed with {@link #parseActionLine}
+     */
+    private static boolean scanActionLine(
+        JsonBulkActionLineScanner scanner,
+        BytesReference data,
+        int from,
+        int nextMarker,
+        int line,
+        boolean allowExplicitIndex,
+        ActionLine actionLine,
+        Map<String, String> stringDeduplicator
+    ) {
+        final boolean scanned;
+        if (data instanceof BytesArray) {
+            final BytesArray array = (BytesArray) data;
+            scanned = scanner.scan(array.array(), array.offset() + from, nextMarker - from);
+        } else {
+            final BytesRef bytes = data.slice(from, nextMarker - from).toBytesRef();
+            scanned = scanner.scan(bytes.bytes, bytes.offset, bytes.length);
+        }
+        if (scanned == false) {
+            return false;
+        }
+        // values of an unexpected type are left to the parser, which either converts or rejects them
+        for (int i = 0; i < scanner.fieldCount(); i++) {
+            final int field = scanner.field(i);
+            if (scanner.valueType(i) != SCANNED_FIELD_TYPES[field]) {
+                return false;
+            }
+            if (field == SCANNED_RETRY_ON_CONFLICT
+                && (scanner.longValue(i) < Integer.MIN_VALUE || scanner.longValue(i) > Integer.MAX_VALUE)) {
+                return false;
+            }
+        }
+        actionLine.action = SCANNED_ACTIONS[scanner.action()];
+        for (int i = 0; i < scanner.fieldCount(); i++) {
+            switch (scanner.field(i)) {
+                case SCANNED_INDEX:
+                    if (allowExplicitIndex == false) {
+                        throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                    }
+                    actionLine.index = stringDeduplicator.computeIfAbsent(scanner.stringValue(i), Function.identity());
+                    break;
+                case SCANNED_ID:
+                    actionLine.id = scanner.stringValue(i);
+                    break;
+                case SCANNED_ROUTING:
+                    actionLine.routing = stringDeduplicator.computeIfAbsent(scanner.stringValue(i), Function.identity());
+                    break;
+                case SCANNED_OP_TYPE:
+                    actionLine.opType = scanner.stringValue(i);
+                    break;
+                case SCANNED_VERSION:
+                    actionLine.version = scanner.longValue(i);
+                    break;
+                case SCANNED_VERSION_TYPE:
+                    actionLine.versionType = VersionType.fromString(scanner.stringValue(i));
+                    break;
+                case SCANNED_IF_SEQ_NO:
+                    actionLine.ifSeqNo = scanner.longValue(i);
+                    break;
+                case SCANNED_IF_PRIMARY_TERM:
+                    actionLine.ifPrimaryTerm = scanner.longValue(i);
+                    break;
+                case SCANNED_RETRY_ON_CONFLICT:
+                    actionLine.retryOnConflict = Math.toIntExact(scanner.longValue(i));
+                    break;
+                case SCANNED_PIPELINE:
+                    actionLine.pipeline = stringDeduplicator.computeIfAbsent(scanner.stringValue(i), Function.identity());
+                    break;
+                case SCANNED_REQUIRE_ALIAS:
+                    actionLine.requireAlias = scanner.booleanValue(i);
+                    break;
+                default:
+                    throw new AssertionError("unexpected field [" + SCANNED_FIELDS[scanner.field(i)] + "] on line [" + line + "]");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses an action and metadata line with the given parser.
+     *
+     * @return {@code false} if the line is empty
+     */
+    private static boolean parseActionLine(
+        XContentParser parser,
+        int line,
+        boolean allowExplicitIndex,
+        ActionLine actionLine,
+        Map<String, String> stringDeduplicator
+    ) throws IOException {
+        // Move to START_OBJECT
+        XContentParser.Token token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException(
+                "Malformed action/metadata line ["
+                    + line
+                    + "], expected "
+                    + XContentParser.Token.START_OBJECT
+                    + " but found ["
+                    + token
+                    + "]"
+            );
+        }
+        // Move to FIELD_NAME, that's the action
+        token = parser.nextToken();
+        if (token != XContentParser.Token.FIELD_NAME) {
+            throw new IllegalArgumentException(
+                "Malformed action/metadata line ["
+                    + line
+                    + "], expected "
+                    + XContentParser.Token.FIELD_NAME
+                    + " but found ["
+                    + token
+                    + "]"
+            );
+        }
+        String action = parser.currentName();
+        if (action == null || VALID_ACTIONS.contains(action) == false) {
+            throw new IllegalArgumentException(
+                "Malformed action/metadata line ["
+                    + line
+                    + "], expected one of [create, delete, index, update] but found ["
+                    + action
+                    + "]"
+            );
+        }
+        actionLine.action = action;
 
-                        updateRequestConsumer.accept(updateRequest);
+        // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
+        // or START_OBJECT which will have another set of parameters
+        token = parser.nextToken();
+
+        if (token == XContentParser.Token.START_OBJECT) {
+            String currentFieldName = null;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                if (token == XContentParser.Token.FIELD_NAME) {
+                    currentFieldName = parser.currentName();
+                } else if (token.isValue()) {
+                    if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
+                        if (allowExplicitIndex == false) {
+                            throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                        }
+                        actionLine.index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                    } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.id = parser.text();
+                    } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                    } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.opType = parser.text();
+                    } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.version = parser.longValue();
+                    } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.versionType = VersionType.fromString(parser.text());
+                    } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.ifSeqNo = parser.longValue();
+                    } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.ifPrimaryTerm = parser.longValue();
+                    } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.retryOnConflict = parser.intValue();
+                    } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                    } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                    } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
+                        actionLine.requireAlias = parser.booleanValue();
+                    } else {
+                        throw new IllegalArgumentException(
+                            "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
+                        );
                     }
-                    // move pointers
-                    from = nextMarker + 1;
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    throw new IllegalArgumentException(
+                        "Malformed action/metadata line ["
+                            + line
+                            + "], expected a simple value for field ["
+                            + currentFieldName
+                            + "] but found ["
+                            + token
+                            + "]"
+                    );
+                } else if (token == XContentParser.Token.START_OBJECT && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                    actionLine.fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                } else if (token != XContentParser.Token.VALUE_NULL) {
+                    throw new IllegalArgumentException(
+                        "Malformed action/metadata line ["
+                            + line
+                            + "], expected a simple value for field ["
+                            + currentFieldName
+                            + "] but found ["
+                            + token
+                            + "]"
+                    );
                 }
             }
+        } else if (token != XContentParser.Token.END_OBJECT) {
+            throw new IllegalArgumentException(
+                "Malformed action/metadata line ["
+                    + line
+                    + "], expected "
+                    + XContentParser.Token.START_OBJECT
+                    + " or "
+                    + XContentParser.Token.END_OBJECT
+                    + " but found ["
+                    + token
+                    + "]"
+            );
+        }
+        return true;
+    }
+
+    /**
+     * The values of an action and metadata line, reused for all lines of a bulk request.
+     */
+    private static final class ActionLine {
+        String action;
+        String index;
+        String id;
+        String routing;
+        FetchSourceContext fetchSourceContext;
+        String opType;
+        long version;
+        VersionType versionType;
+        long ifSeqNo;
+        long ifPrimaryTerm;
+        int retryOnConflict;
+        String pipeline;
+        boolean requireAlias;
+
+        void reset(
+            @Nullable String defaultIndex,
+            @Nullable String defaultRouting,
+            @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline,
+            @Nullable Boolean defaultRequireAlias
+        ) {
+            action = null;
+            index = defaultIndex;
+            id = null;
+            routing = defaultRouting;
+            fetchSourceContext = defaultFetchSourceContext;
+            opType = null;
+            version = Versions.MATCH_ANY;
+            versionType = VersionType.INTERNAL;
+            ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
+            ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+            retryOnConflict = 0;
+            pipeline = defaultPipeline;
+            requireAlias = defaultRequireAlias != null && defaultRequireAlias;
         }
     }
 
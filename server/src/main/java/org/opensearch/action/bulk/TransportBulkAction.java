@@ -98,6 +98,7 @@ import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.node.NodeClient;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -110,6 +111,7 @@ import java.util.SortedMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -599,10 +601,14 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
             if (handleBlockExceptions(clusterState)) {
                 return;
             }
+            final long coordinatingStartTimeNanos = relativeTime();
             final ConcreteIndices concreteIndices = new ConcreteIndices(clusterState, indexNameExpressionResolver);
             Metadata metadata = clusterState.metadata();
-            // go over all the requests and create a ShardId -> Operations mapping
-            Map<ShardId, List<BulkItemRequest>> requestsByShard = new HashMap<>();
+            // go over all the requests and create a ShardId -> Operations mapping. Clients that route their documents themselves
+            // often send bulks that target a single shard, so the mapping is only created once a second shard shows up.
+            ShardId singleShardId = null;
+            List<BulkItemRequest> singleShardRequests = null;
+            Map<ShardId, List<BulkItemRequest>> requestsByShard = null;
             for (int i = 0; i < bulkRequest.requests.size(); i++) {
                 DocWriteRequest<?> docWriteRequest = bulkRequest.requests.get(i);
                 // the request can only be null because we set it to null in the previous step, so it gets ignored
@@ -667,8 +673,20 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                     ShardId shardId = clusterService.operationRouting()
                         .indexShards(clusterState, concreteIndex.getName(), docWriteRequest.id(), docWriteRequest.routing())
                         .shardId();
-                    List<BulkItemRequest> shardRequests = requestsByShard.computeIfAbsent(shardId, shard -> new ArrayList<>());
-                    shardRequests.add(new BulkItemRequest(i, docWriteRequest));
+                    final BulkItemRequest bulkItemRequest = new BulkItemRequest(i, docWriteRequest);
+                    if (singleShardId == null) {
+                        singleShardId = shardId;
+                        singleShardRequests = new ArrayList<>(bulkRequest.requests.size() - i);
+                        singleShardRequests.add(bulkItemRequest);
+                    } else if (requestsByShard == null && singleShardId.equals(shardId)) {
+                        singleShardRequests.add(bulkItemRequest);
+                    } else {
+                        if (requestsByShard == null) {
+                            requestsByShard = new HashMap<>();
+                            requestsByShard.put(singleShardId, singleShardRequests);
+                        }
+                        requestsByShard.computeIfAbsent(shardId, shard -> new ArrayList<>()).add(bulkItemRequest);
+                    }
                 } catch (OpenSearchParseException | IllegalArgumentException | RoutingMissingException e) {
                     BulkItemResponse.Failure failure = new BulkItemResponse.Failure(concreteIndex.getName(), docWriteRequest.id(), e);
                     BulkItemResponse bulkItemResponse = new BulkItemResponse(i, docWriteRequest.opType(), failure);
@@ -678,7 +696,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                 }
             }
 
-            if (requestsByShard.isEmpty()) {
+            if (singleShardId == null) {
                 BulkItemResponse[] response = responses.toArray(new BulkItemResponse[responses.length()]);
                 long tookMillis = buildTookInMillis(startTimeNanos);
 
@@ -694,93 +712,132 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                 return;
             }
 
+            final String nodeId = clusterService.localNode().getId();
+            final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
+            if (requestsByShard == null && singleShardRequests.size() == bulkRequest.requests.size()) {
+                // all items target the same shard and none failed on the coordinating node, so the shard response can be
+                // returned as is
+                indexingPressureService.recordCoordinatingTime(relativeTime() - coordinatingStartTimeNanos);
+                final DocStatusStats docStatusStats = new DocStatusStats();
+                executeShardBulk(
+                    nodeId,
+                    isOnlySystem,
+                    newBulkShardRequest(clusterState, nodeId, singleShardId, singleShardRequests),
+                    docStatusStats,
+                    // the items of the shard request are the items of the bulk in order, so the shard's item responses are
+                    // returned as is instead of being collected one by one
+                    itemResponses -> finishHim(itemResponses, docStatusStats)
+                );
+                bulkRequest = null;
+                return;
+            }
+            if (requestsByShard == null) {
+                requestsByShard = Collections.singletonMap(singleShardId, singleShardRequests);
+            }
+            indexingPressureService.recordCoordinatingTime(relativeTime() - coordinatingStartTimeNanos);
+
             final AtomicInteger counter = new AtomicInteger(requestsByShard.size());
             final DocStatusStats docStatusStats = new DocStatusStats();
-            String nodeId = clusterService.localNode().getId();
 
             for (Map.Entry<ShardId, List<BulkItemRequest>> entry : requestsByShard.entrySet()) {
                 final ShardId shardId = entry.getKey();
                 final List<BulkItemRequest> requests = entry.getValue();
-                BulkShardRequest bulkShardRequest = new BulkShardRequest(
-                    shardId,
-                    bulkRequest.getRefreshPolicy(),
-                    requests.toArray(new BulkItemRequest[0])
-                );
-                bulkShardRequest.waitForActiveShards(bulkRequest.waitForActiveShards());
-                bulkShardRequest.timeout(bulkRequest.timeout());
-                bulkShardRequest.routedBasedOnClusterVersion(clusterState.version());
-                if (task != null) {
-                    bulkShardRequest.setParentTask(nodeId, task.getId());
-                }
-                // Add the shard level accounting for coordinating and supply the listener
-                final boolean isOnlySystem = isOnlySystem(bulkRequest, clusterService.state().metadata().getIndicesLookup(), systemIndices);
-                final Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(
-                    shardId,
-                    bulkShardRequest::ramBytesUsed,
-                    isOnlySystem
-                );
-
-                final Span span = tracer.startSpan(SpanBuilder.from("bulkShardAction", nodeId, bulkShardRequest));
-                try (SpanScope spanScope = tracer.withSpanInScope(span)) {
-                    shardBulkAction.execute(
-                        bulkShardRequest,
-                        TraceableActionListener.create(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
-                            @Override
-                            public void onResponse(BulkShardResponse bulkShardResponse) {
-                                for (BulkItemResponse bulkItemResponse : bulkShardResponse.getResponses()) {
-                                    // we may have no response if item failed
-                                    if (bulkItemResponse.getResponse() != null) {
-                                        bulkItemResponse.getResponse().setShardInfo(bulkShardResponse.getShardInfo());
-                                    }
-
-                                    docStatusStats.inc(bulkItemResponse.status());
-                                    responses.set(bulkItemResponse.getItemId(), bulkItemResponse);
-                                }
-
-                                if (counter.decrementAndGet() == 0) {
-                                    finishHim();
-                                }
-                            }
+                final BulkShardRequest bulkShardRequest = newBulkShardRequest(clusterState, nodeId, shardId, requests);
+                executeShardBulk(nodeId, isOnlySystem, bulkShardRequest, docStatusStats, itemResponses -> {
+                    for (BulkItemResponse bulkItemResponse : itemResponses) {
+                        responses.set(bulkItemResponse.getItemId(), bulkItemResponse);
+                    }
+                    if (counter.decrementAndGet() == 0) {
+                        finishHim(responses.toArray(new BulkItemResponse[responses.length()]), docStatusStats);
+                    }
+                });
+            }
+            bulkRequest = null; // allow memory for bulk request items to be reclaimed before all items have been completed
+        }
 
-                            @Override
-                            public void onFailure(Exception e) {
-                                // create failures for all relevant requests
-                                for (BulkItemRequest request : requests) {
-                                    final String indexName = concreteIndices.getConcreteIndex(request.index()).getName();
-                                    final DocWriteRequest<?> docWriteRequest = request.request();
-                                    final BulkItemResponse bulkItemResponse = new BulkItemResponse(
-                                        request.id(),
-                                        docWriteRequest.opType(),
-                                        new BulkItemResponse.Failure(indexName, docWriteRequest.id(), e)
-                                    );
-
-                                    docStatusStats.inc(bulkItemResponse.status());
-                                    responses.set(request.id(), bulkItemResponse);
-                                }
+        private BulkShardRequest newBulkShardRequest(
+            ClusterState clusterState,
+            String nodeId,
+            ShardId shardId,
+            List<BulkItemRequest> requests
+        ) {
+            final BulkShardRequest bulkShardRequest = new BulkShardRequest(
+                shardId,
+                bulkRequest.getRefreshPolicy(),
+                requests.toArray(new BulkItemRequest[0])
+            );
+            bulkShardRequest.waitForActiveShards(bulkRequest.waitForActiveShards());
+            bulkShardRequest.timeout(bulkRequest.timeout());
+            bulkShardRequest.routedBasedOnClusterVersion(clusterState.version());
+            if (task != null) {
+                bulkShardRequest.setParentTask(nodeId, task.getId());
+            }
+            return bulkShardRequest;
+        }
 
-                                if (counter.decrementAndGet() == 0) {
-                                    finishHim();
+        /**
+         * Sends a shard level bulk request with coordinating indexing pressure accounted for until it completes, and hands the item
+         * responses of the shard, or failures for all of its items if the shard request failed, to the given consumer.
+         */
+        private void executeShardBulk(
+            String nodeId,
+            boolean isOnlySystem,
+            BulkShardRequest bulkShardRequest,
+            DocStatusStats docStatusStats,
+            Consumer<BulkItemResponse[]> onShardCompleted
+        ) {
+            // Add the shard level accounting for coordinating and supply the listener
+            final Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(
+                bulkShardRequest.shardId(),
+                bulkShardRequest::ramBytesUsed,
+                isOnlySystem
+            );
+            final Span span = tracer.startSpan(SpanBuilder.from("bulkShardAction", nodeId, bulkShardRequest));
+            try (SpanScope spanScope = tracer.withSpanInScope(span)) {
+                sendBulkShardRequest(
+                    bulkShardRequest,
+                    TraceableActionListener.create(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
+                        @Override
+                        public void onResponse(BulkShardResponse bulkShardResponse) {
+                            final BulkItemResponse[] itemResponses = bulkShardResponse.getResponses();
+                            for (BulkItemResponse bulkItemResponse : itemResponses) {
+                                // we may have no response if item failed
+                                if (bulkItemResponse.getResponse() != null) {
+                                    bulkItemResponse.getResponse().setShardInfo(bulkShardResponse.getShardInfo());
                                 }
+                                docStatusStats.inc(bulkItemResponse.status());
                             }
+                            onShardCompleted.accept(itemResponses);
+                        }
 
-                            private void finishHim() {
-                                indicesService.addDocStatusStats(docStatusStats);
-                                listener.onResponse(
-                                    new BulkResponse(
-                                        responses.toArray(new BulkItemResponse[responses.length()]),
-                                        buildTookInMillis(startTimeNanos)
-                                    )
+                        @Override
+                        public void onFailure(Exception e) {
+                            // create failures for all relevant requests
+                            final BulkItemRequest[] items = bulkShardRequest.items();
+                            final BulkItemResponse[] itemResponses = new BulkItemResponse[items.length];
+                            for (int i = 0; i < items.length; i++) {
+                                final DocWriteRequest<?> docWriteRequest = items[i].request();
+                                itemResponses[i] = new BulkItemResponse(
+                                    items[i].id(),
+                                    docWriteRequest.opType(),
+                                    new BulkItemResponse.Failure(bulkShardRequest.index(), docWriteRequest.id(), e)
                                 );
+                                docStatusStats.inc(itemResponses[i].status());
                             }
-                        }, releasable::close), span, tracer)
-                    );
-                } catch (Exception e) {
-                    span.setError(e);
-                    span.endSpan();
-                    throw e;
-                }
+                            onShardCompleted.accept(itemResponses);
+                        }
+                    }, releasable::close), span, tracer)
+                );
+            } catch (Exception e) {
+                span.setError(e);
+                span.endSpan();
+                throw e;
             }
-            bulkRequest = null; // allow memory for bulk request items to be reclaimed before all items have been completed
+        }
+
+        private void finishHim(BulkItemResponse[] itemResponses, DocStatusStats docStatusStats) {
+            indicesService.addDocStatusStats(docStatusStats);
+            listener.onResponse(new BulkResponse(itemResponses, buildTookInMillis(startTimeNanos)));
         }
 
         private boolean handleBlockExceptions(ClusterState state) {
@@ -928,6 +985,11 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         new BulkOperation(task, bulkRequest, listener, responses, startTimeNanos, indicesThatCannotBeCreated).run();
     }
 
+    // package-private for testing
+    void sendBulkShardRequest(BulkShardRequest bulkShardRequest, ActionListener<BulkShardResponse> listener) {
+        shardBulkAction.execute(bulkShardRequest, listener);
+    }
+
     /**
      * Concrete indices
      *
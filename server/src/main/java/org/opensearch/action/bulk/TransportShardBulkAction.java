@@ -822,7 +822,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                     deleteResponse.getSeqNo(),
                     deleteResponse.getPrimaryTerm(),
                     deleteResponse.getVersion(),
-                    translate.updatedSourceAsMap(),
+                    translate::updatedSourceAsMap,
                     translate.updateSourceContentType(),
                     null
                 );
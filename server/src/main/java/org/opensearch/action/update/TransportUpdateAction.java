@@ -305,7 +305,7 @@ public class TransportUpdateAction extends TransportInstanceSingleOperationActio
                             response.getSeqNo(),
                             response.getPrimaryTerm(),
                             response.getVersion(),
-                            result.updatedSourceAsMap(),
+                            result::updatedSourceAsMap,
                             result.updateSourceContentType(),
                             indexSourceBytes
                         )
@@ -333,7 +333,7 @@ public class TransportUpdateAction extends TransportInstanceSingleOperationActio
                             response.getSeqNo(),
                             response.getPrimaryTerm(),
                             response.getVersion(),
-                            result.updatedSourceAsMap(),
+                            result::updatedSourceAsMap,
                             result.updateSourceContentType(),
                             null
                         )
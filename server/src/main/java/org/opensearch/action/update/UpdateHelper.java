@@ -35,6 +35,7 @@ package org.opensearch.action.update;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -46,9 +47,14 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.AbstractXContentParser;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.core.xcontent.XContentParserUtils;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.DocumentMissingException;
 import org.opensearch.index.engine.DocumentSourceMissingException;
@@ -65,8 +71,13 @@ import org.opensearch.transport.client.Requests;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Helper for translating an update request to an index, delete request or update response.
@@ -212,15 +223,33 @@ public class UpdateHelper {
     /**
      * Prepare the request for merging the existing document with a new one, can optionally detect a noop change. Returns a {@code Result}
      * containing a new {@code IndexRequest} to be executed on the primary and replicas.
+     * <p>
+     * The existing source is streamed into the new source rather than parsed into a map and serialized again, so that only the fields
+     * touched by the partial document are parsed, see {@link #mergeSource}. The merged source is only parsed into a map if the result
+     * needs it, e.g. to filter the returned source.
      */
     Result prepareUpdateIndexRequest(ShardId shardId, UpdateRequest request, GetResult getResult, boolean detectNoop) {
         final IndexRequest currentRequest = request.doc();
         final String routing = calculateRouting(getResult, currentRequest);
-        final Tuple<XContentType, Map<String, Object>> sourceAndContent = XContentHelper.convertToMap(getResult.internalSourceRef(), true);
-        final XContentType updateSourceContentType = sourceAndContent.v1();
-        final Map<String, Object> updatedSourceAsMap = sourceAndContent.v2();
-
-        final boolean noop = !XContentHelper.update(updatedSourceAsMap, currentRequest.sourceAsMap(), detectNoop);
+        final MediaType updateSourceContentType;
+        final BytesReference updatedSource;
+        final boolean noop;
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                getResult.internalSourceRef()
+            )
+        ) {
+            updateSourceContentType = parser.contentType();
+            try (XContentBuilder builder = XContentBuilder.builder(updateSourceContentType.xContent())) {
+                XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                noop = !mergeSource(parser, currentRequest.sourceAsMap(), builder, detectNoop);
+                updatedSource = BytesReference.bytes(builder);
+            }
+        } catch (IOException e) {
+            throw new OpenSearchParseException("Failed to merge the partial document into the source", e);
+        }
 
         // We can only actually turn the update into a noop if detectNoop is true to preserve backwards compatibility and to handle cases
         // where users repopulating multi-fields or adding synonyms, etc.
@@ -233,6 +262,7 @@ public class UpdateHelper {
                 getResult.getVersion(),
                 DocWriteResponse.Result.NOOP
             );
+            final Result result = new Result(update, DocWriteResponse.Result.NOOP, null, updatedSource, updateSourceContentType);
             update.setGetResult(
                 extractGetResult(
                     request,
@@ -240,24 +270,72 @@ public class UpdateHelper {
                     getResult.getSeqNo(),
                     getResult.getPrimaryTerm(),
                     getResult.getVersion(),
-                    updatedSourceAsMap,
+                    result::updatedSourceAsMap,
                     updateSourceContentType,
                     getResult.internalSourceRef()
                 )
             );
-            return new Result(update, DocWriteResponse.Result.NOOP, updatedSourceAsMap, updateSourceContentType);
+            return result;
         } else {
             final IndexRequest finalIndexRequest = Requests.indexRequest(request.index())
                 .id(request.id())
                 .routing(routing)
-                .source(updatedSourceAsMap, updateSourceContentType)
+                .source(updatedSource, updateSourceContentType)
                 .setIfSeqNo(getResult.getSeqNo())
                 .setIfPrimaryTerm(getResult.getPrimaryTerm())
                 .waitForActiveShards(request.waitForActiveShards())
                 .timeout(request.timeout())
                 .setRefreshPolicy(request.getRefreshPolicy());
-            return new Result(finalIndexRequest, DocWriteResponse.Result.UPDATED, updatedSourceAsMap, updateSourceContentType);
+            return new Result(finalIndexRequest, DocWriteResponse.Result.UPDATED, null, updatedSource, updateSourceContentType);
+        }
+    }
+
+    /**
+     * Streams the object the parser is positioned on into the builder while merging the changes into it, with the same semantics as
+     * {@link XContentHelper#update(Map, Map, boolean)}. Fields without changes are copied without being parsed into objects, objects
+     * with changes are merged recursively and other fields with changes are replaced. Changes to fields that do not exist in the source
+     * are appended to the object.
+     *
+     * @return {@code true} if the source was modified, which with {@code checkUpdatesAreUnequal} requires a changed value to differ
+     */
+    @SuppressWarnings("unchecked")
+    static boolean mergeSource(XContentParser parser, Map<String, Object> changes, XContentBuilder builder, boolean checkUpdatesAreUnequal)
+        throws IOException {
+        assert parser.currentToken() == XContentParser.Token.START_OBJECT : parser.currentToken();
+        boolean modified = false;
+        final Set<String> changed = new HashSet<>();
+        builder.startObject();
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            final String fieldName = parser.currentName();
+            final XContentParser.Token token = parser.nextToken();
+            builder.field(fieldName);
+            if (changes.containsKey(fieldName) == false) {
+                builder.copyCurrentStructure(parser);
+                continue;
+            }
+            changed.add(fieldName);
+            final Object change = changes.get(fieldName);
+            if (token == XContentParser.Token.START_OBJECT && change instanceof Map) {
+                modified |= mergeSource(parser, (Map<String, Object>) change, builder, checkUpdatesAreUnequal && !modified);
+                continue;
+            }
+            if (checkUpdatesAreUnequal && !modified) {
+                modified = !Objects.equals(AbstractXContentParser.readValue(parser, LinkedHashMap::new), change);
+            } else {
+                parser.skipChildren();
+                modified = true;
+            }
+            builder.value(change);
         }
+        for (Map.Entry<String, Object> changesEntry : changes.entrySet()) {
+            if (changed.contains(changesEntry.getKey()) == false) {
+                // the change does not exist in the source
+                builder.field(changesEntry.getKey(), changesEntry.getValue());
+                modified = true;
+            }
+        }
+        builder.endObject();
+        return modified;
     }
 
     /**
@@ -361,6 +439,23 @@ public class UpdateHelper {
         final Map<String, Object> source,
         MediaType sourceContentType,
         @Nullable final BytesReference sourceAsBytes
+    ) {
+        return extractGetResult(request, concreteIndex, seqNo, primaryTerm, version, () -> source, sourceContentType, sourceAsBytes);
+    }
+
+    /**
+     * Applies {@link UpdateRequest#fetchSource()} to the _source of the updated document to be returned in a update response, where the
+     * source is only parsed into a map if the returned source is filtered.
+     */
+    public static GetResult extractGetResult(
+        final UpdateRequest request,
+        String concreteIndex,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        final Supplier<Map<String, Object>> source,
+        MediaType sourceContentType,
+        @Nullable final BytesReference sourceAsBytes
     ) {
         if (request.fetchSource() == null || request.fetchSource().fetchSource() == false) {
             return null;
@@ -369,7 +464,7 @@ public class UpdateHelper {
         BytesReference sourceFilteredAsBytes = sourceAsBytes;
         if (request.fetchSource().includes().length > 0 || request.fetchSource().excludes().length > 0) {
             SourceLookup sourceLookup = new SourceLookup();
-            sourceLookup.setSource(source);
+            sourceLookup.setSource(source.get());
             Object value = sourceLookup.filter(request.fetchSource());
             try {
                 final int initialCapacity = Math.min(1024, sourceAsBytes.length());
@@ -406,7 +501,9 @@ public class UpdateHelper {
 
         private final Writeable action;
         private final DocWriteResponse.Result result;
-        private final Map<String, Object> updatedSourceAsMap;
+        private Map<String, Object> updatedSourceAsMap;
+        @Nullable
+        private final BytesReference updatedSource;
         private final MediaType updateSourceContentType;
 
         public Result(
@@ -414,10 +511,25 @@ public class UpdateHelper {
             DocWriteResponse.Result result,
             Map<String, Object> updatedSourceAsMap,
             MediaType updateSourceContentType
+        ) {
+            this(action, result, updatedSourceAsMap, null, updateSourceContentType);
+        }
+
+        /**
+         * Creates a result that holds the updated source either as a map or as bytes, which are only parsed into a map on the first
+         * call to {@link #updatedSourceAsMap()}.
+         */
+        private Result(
+            Writeable action,
+            DocWriteResponse.Result result,
+            Map<String, Object> updatedSourceAsMap,
+            @Nullable BytesReference updatedSource,
+            MediaType updateSourceContentType
         ) {
             this.action = action;
             this.result = result;
             this.updatedSourceAsMap = updatedSourceAsMap;
+            this.updatedSource = updatedSource;
             this.updateSourceContentType = updateSourceContentType;
         }
 
@@ -431,6 +543,9 @@ public class UpdateHelper {
         }
 
         public Map<String, Object> updatedSourceAsMap() {
+            if (updatedSourceAsMap == null && updatedSource != null) {
+                updatedSourceAsMap = XContentHelper.convertToMap(updatedSource, true, updateSourceContentType).v2();
+            }
             return updatedSourceAsMap;
         }
 
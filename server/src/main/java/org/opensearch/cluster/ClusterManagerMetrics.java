@@ -33,6 +33,8 @@ public final class ClusterManagerMetrics {
     public final Histogram rerouteHistogram;
     public final Histogram clusterStateComputeHistogram;
     public final Histogram clusterStatePublishHistogram;
+    public final Histogram clusterManagerTaskWaitTimeHistogram;
+    public final Histogram clusterManagerTaskQueueDepthHistogram;
 
     public final Counter leaderCheckFailureCounter;
     public final Counter followerChecksFailureCounter;
@@ -66,6 +68,16 @@ public final class ClusterManagerMetrics {
             "Histogram for recording time taken to publish a new cluster state",
             LATENCY_METRIC_UNIT_MS
         );
+        clusterManagerTaskWaitTimeHistogram = metricsRegistry.createHistogram(
+            "cluster_manager.task.wait.latency",
+            "Histogram for recording time cluster-manager tasks spent queued before being executed",
+            LATENCY_METRIC_UNIT_MS
+        );
+        clusterManagerTaskQueueDepthHistogram = metricsRegistry.createHistogram(
+            "cluster_manager.task.queue.depth",
+            "Histogram for recording number of queued cluster-manager tasks of the same type when a batch is executed",
+            COUNTER_METRICS_UNIT
+        );
         followerChecksFailureCounter = metricsRegistry.createCounter(
             "followers.checker.failure.count",
             "Counter for number of failed follower checks",
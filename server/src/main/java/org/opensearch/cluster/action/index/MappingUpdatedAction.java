@@ -48,10 +48,15 @@ import org.opensearch.common.util.concurrent.UncategorizedExecutionException;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.mapper.MapperService.MergeReason;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.transport.client.Client;
 import org.opensearch.transport.client.IndicesAdminClient;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Semaphore;
 
 /**
@@ -78,18 +83,34 @@ public class MappingUpdatedAction {
         Property.NodeScope
     );
 
+    /**
+     * When enabled, dynamic mapping updates for an index that has an update in flight (or waiting for a permit) are merged
+     * into a single pending update that is sent as soon as the previous one completes, instead of each shard sending its own.
+     */
+    public static final Setting<Boolean> INDICES_COALESCE_DYNAMIC_UPDATES_SETTING = Setting.boolSetting(
+        "indices.mapping.coalesce_dynamic_updates",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private IndicesAdminClient client;
     private volatile TimeValue dynamicMappingUpdateTimeout;
+    private volatile boolean coalesceDynamicUpdates;
     private final AdjustableSemaphore semaphore;
     private final ClusterService clusterService;
+    // guarded by itself
+    private final Map<Index, CoalescedUpdates> coalescedUpdates = new HashMap<>();
 
     @Inject
     public MappingUpdatedAction(Settings settings, ClusterSettings clusterSettings, ClusterService clusterService) {
         this.dynamicMappingUpdateTimeout = INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING.get(settings);
         this.semaphore = new AdjustableSemaphore(INDICES_MAX_IN_FLIGHT_UPDATES_SETTING.get(settings), true);
+        this.coalesceDynamicUpdates = INDICES_COALESCE_DYNAMIC_UPDATES_SETTING.get(settings);
         this.clusterService = clusterService;
         clusterSettings.addSettingsUpdateConsumer(INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING, this::setDynamicMappingUpdateTimeout);
         clusterSettings.addSettingsUpdateConsumer(INDICES_MAX_IN_FLIGHT_UPDATES_SETTING, this::setMaxInFlightUpdates);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_COALESCE_DYNAMIC_UPDATES_SETTING, this::setCoalesceDynamicUpdates);
     }
 
     private void setDynamicMappingUpdateTimeout(TimeValue dynamicMappingUpdateTimeout) {
@@ -100,6 +121,10 @@ public class MappingUpdatedAction {
         semaphore.setMaxPermits(maxInFlightUpdates);
     }
 
+    private void setCoalesceDynamicUpdates(boolean coalesceDynamicUpdates) {
+        this.coalesceDynamicUpdates = coalesceDynamicUpdates;
+    }
+
     public void setClient(Client client) {
         this.client = client.admin().indices();
     }
@@ -111,7 +136,14 @@ public class MappingUpdatedAction {
      * potentially waiting for a cluster-manager node to be available.
      */
     public void updateMappingOnClusterManager(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+        if (coalesceDynamicUpdates && index != null) {
+            coalesceMappingUpdate(index, mappingUpdate, listener);
+        } else {
+            sendUncoalesced(index, mappingUpdate, listener);
+        }
+    }
 
+    private void sendUncoalesced(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
         final RunOnce release = new RunOnce(() -> semaphore.release());
         try {
             semaphore.acquire();
@@ -131,11 +163,96 @@ public class MappingUpdatedAction {
         }
     }
 
+    /**
+     * Sends the update right away if no other update for the index is in flight, otherwise merges it into the pending update
+     * of the index. The pending update is sent once the in-flight one completes, re-using its permit, so that each index holds
+     * at most one permit at a time. Updates that cannot be merged with the pending one are sent on their own.
+     */
+    private void coalesceMappingUpdate(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+        final boolean head;
+        synchronized (coalescedUpdates) {
+            final CoalescedUpdates updates = coalescedUpdates.get(index);
+            if (updates == null) {
+                coalescedUpdates.put(index, new CoalescedUpdates());
+                head = true;
+            } else if (updates.add(mappingUpdate, listener)) {
+                return;
+            } else {
+                head = false;
+            }
+        }
+        if (head == false) {
+            // conflicts with the pending update, so it cannot be part of the chain of this index
+            sendUncoalesced(index, mappingUpdate, listener);
+            return;
+        }
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final CoalescedUpdates abandoned;
+            synchronized (coalescedUpdates) {
+                abandoned = coalescedUpdates.remove(index);
+            }
+            listener.onFailure(e);
+            ActionListener.onFailure(abandoned.pendingListeners, e);
+            return;
+        }
+        sendCoalesced(index, mappingUpdate, listener);
+    }
+
+    private void sendCoalesced(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+        final RunOnce sendNext = new RunOnce(() -> sendNextCoalesced(index));
+        final ActionListener<Void> sendNextListener = ActionListener.runAfter(listener, sendNext::run);
+        try {
+            sendUpdateMapping(index, mappingUpdate, sendNextListener);
+        } catch (Exception e) {
+            // not rethrown: a chained update is sent from the completion of the previous one, whose caller can't handle it, and
+            // failing the listener both notifies the merged listeners and moves the chain on
+            sendNextListener.onFailure(e);
+        }
+    }
+
+    private void sendNextCoalesced(Index index) {
+        final Mapping nextUpdate;
+        final List<ActionListener<Void>> nextListeners;
+        synchronized (coalescedUpdates) {
+            final CoalescedUpdates updates = coalescedUpdates.get(index);
+            assert updates != null : "no coalesced updates for " + index;
+            if (updates.pendingUpdate == null) {
+                coalescedUpdates.remove(index);
+                nextUpdate = null;
+                nextListeners = null;
+            } else {
+                nextUpdate = updates.pendingUpdate;
+                nextListeners = updates.pendingListeners;
+                updates.pendingUpdate = null;
+                updates.pendingListeners = new ArrayList<>();
+            }
+        }
+        if (nextUpdate == null) {
+            semaphore.release();
+            return;
+        }
+        sendCoalesced(
+            index,
+            nextUpdate,
+            ActionListener.wrap(r -> ActionListener.onResponse(nextListeners, r), e -> ActionListener.onFailure(nextListeners, e))
+        );
+    }
+
     // used by tests
     int blockedThreads() {
         return semaphore.getQueueLength();
     }
 
+    // used by tests
+    int coalescedIndices() {
+        synchronized (coalescedUpdates) {
+            return coalescedUpdates.size();
+        }
+    }
+
     // can be overridden by tests
     protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
         PutMappingRequest putMappingRequest = new PutMappingRequest();
@@ -163,6 +280,33 @@ public class MappingUpdatedAction {
         return new UncategorizedExecutionException("Failed execution", root);
     }
 
+    /**
+     * The dynamic mapping updates of an index that are waiting for the in-flight update of the index to complete
+     *
+     * @opensearch.internal
+     */
+    private static final class CoalescedUpdates {
+        private Mapping pendingUpdate;
+        private List<ActionListener<Void>> pendingListeners = new ArrayList<>();
+
+        /**
+         * Merges the given update into the pending one, returning {@code false} if the two cannot be merged.
+         */
+        boolean add(Mapping mappingUpdate, ActionListener<Void> listener) {
+            if (pendingUpdate == null) {
+                pendingUpdate = mappingUpdate;
+            } else {
+                try {
+                    pendingUpdate = pendingUpdate.merge(mappingUpdate, MergeReason.MAPPING_UPDATE);
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }
+            pendingListeners.add(listener);
+            return true;
+        }
+    }
+
     /**
      * An adjustable semaphore
      *
@@ -955,6 +955,9 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         if (remoteClusterStateService != null) {
             stats.add(remoteClusterStateService.getFullDownloadStats());
             stats.add(remoteClusterStateService.getDiffDownloadStats());
+            if (remoteClusterStateService.getIndexMetadataCacheStats() != null) {
+                stats.add(remoteClusterStateService.getIndexMetadataCacheStats());
+            }
         }
         clusterStateStats.setPersistenceStats(stats);
         return new DiscoveryStats(new PendingClusterStateStats(0, 0, 0), publicationHandler.stats(), clusterStateStats);
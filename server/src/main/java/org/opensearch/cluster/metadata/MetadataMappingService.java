@@ -62,10 +62,12 @@ import org.opensearch.indices.IndicesService;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.opensearch.cluster.service.ClusterManagerTask.PUT_MAPPING;
 import static org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason.NO_LONGER_ASSIGNED;
@@ -229,9 +231,21 @@ public class MetadataMappingService {
             List<PutMappingClusterStateUpdateRequest> tasks
         ) throws Exception {
             Map<Index, MapperService> indexMapperServices = new HashMap<>();
+            // Dynamic mapping updates for the same new fields are typically sent by many shards of an index at once. Remember the
+            // state each mapping update produced so that identical updates in the same batch can skip parsing and merging as long
+            // as no other task changed the cluster state in between (applying them again would be a no-op).
+            Map<MappingUpdateKey, ClusterState> appliedUpdates = new HashMap<>();
             ClusterTasksResult.Builder<PutMappingClusterStateUpdateRequest> builder = ClusterTasksResult.builder();
             try {
                 for (PutMappingClusterStateUpdateRequest request : tasks) {
+                    final MappingUpdateKey updateKey = request.indices() == null
+                        ? null
+                        : new MappingUpdateKey(request.indices(), request.source());
+                    if (updateKey != null && appliedUpdates.get(updateKey) == currentState) {
+                        logger.trace("skipping put-mapping task identical to an already applied task in the same batch");
+                        builder.success(request);
+                        continue;
+                    }
                     try {
                         for (Index index : request.indices()) {
                             final IndexMetadata indexMetadata = currentState.metadata().getIndexSafe(index);
@@ -243,6 +257,9 @@ public class MetadataMappingService {
                             }
                         }
                         currentState = applyRequest(currentState, request, indexMapperServices);
+                        if (updateKey != null) {
+                            appliedUpdates.put(updateKey, currentState);
+                        }
                         builder.success(request);
                     } catch (Exception e) {
                         builder.failure(request, e);
@@ -259,7 +276,8 @@ public class MetadataMappingService {
             return putMappingTaskKey;
         }
 
-        private ClusterState applyRequest(
+        // package-private for testing
+        ClusterState applyRequest(
             ClusterState currentState,
             PutMappingClusterStateUpdateRequest request,
             Map<Index, MapperService> indexMapperServices
@@ -362,6 +380,34 @@ public class MetadataMappingService {
         }
     }
 
+    /**
+     * Identity of a put-mapping task, used to deduplicate identical mapping updates within a batch
+     *
+     * @opensearch.internal
+     */
+    static final class MappingUpdateKey {
+        private final List<Index> indices;
+        private final String source;
+
+        MappingUpdateKey(Index[] indices, String source) {
+            this.indices = Arrays.asList(indices);
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MappingUpdateKey that = (MappingUpdateKey) o;
+            return indices.equals(that.indices) && Objects.equals(source, that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indices, source);
+        }
+    }
+
     public void putMapping(final PutMappingClusterStateUpdateRequest request, final ActionListener<ClusterStateUpdateResponse> listener) {
         clusterService.submitStateUpdateTask(
             "put-mapping " + Strings.arrayToCommaDelimitedString(request.indices()),
@@ -33,6 +33,7 @@
 package org.opensearch.cluster.routing;
 
 import org.apache.lucene.util.CollectionUtil;
+import org.opensearch.Version;
 import org.opensearch.cluster.AbstractDiffable;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.metadata.IndexMetadata;
@@ -385,9 +386,48 @@ public class IndexRoutingTable extends AbstractDiffable<IndexRoutingTable>
     }
 
     public static Diff<IndexRoutingTable> readDiffFrom(StreamInput in) throws IOException {
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            return RoutingTableIncrementalDiff.IndexRoutingTableIncrementalDiff.readFrom(in);
+        }
         return readDiffFrom(IndexRoutingTable::readFrom, in);
     }
 
+    @Override
+    public Diff<IndexRoutingTable> diff(IndexRoutingTable previousState) {
+        return new IndexRoutingTableDiff(previousState, this);
+    }
+
+    /**
+     * A {@link RoutingTableIncrementalDiff.IndexRoutingTableIncrementalDiff} that falls back to sending the complete table to
+     * nodes before {@link Version#V_3_4_0}, which only understand {@link AbstractDiffable}'s complete diffs.
+     *
+     * @opensearch.internal
+     */
+    static final class IndexRoutingTableDiff extends RoutingTableIncrementalDiff.IndexRoutingTableIncrementalDiff {
+
+        private final IndexRoutingTable after;
+        private final boolean changed;
+
+        IndexRoutingTableDiff(IndexRoutingTable before, IndexRoutingTable after) {
+            super(after.index, before, after);
+            this.after = after;
+            this.changed = after.equals(before) == false;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            if (out.getVersion().before(Version.V_3_4_0)) {
+                // same wire format as AbstractDiffable's complete diff
+                out.writeBoolean(changed);
+                if (changed) {
+                    after.writeTo(out);
+                }
+                return;
+            }
+            super.writeTo(out);
+        }
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         index.writeTo(out);
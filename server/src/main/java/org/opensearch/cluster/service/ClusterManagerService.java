@@ -109,6 +109,35 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         Setting.Property.NodeScope
     );
 
+    /**
+     * When enabled, the tasks of each task type (see {@link ClusterManagerTask}) are executed in batches bounded by a time slice,
+     * so that a burst of tasks of one type yields to the tasks of other types queued at the same priority between batches.
+     */
+    public static final Setting<Boolean> CLUSTER_MANAGER_FAIR_SCHEDULING_ENABLED_SETTING = Setting.boolSetting(
+        "cluster_manager.fair_scheduling.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> CLUSTER_MANAGER_FAIR_SCHEDULING_TIME_SLICE_SETTING = Setting.positiveTimeSetting(
+        "cluster_manager.fair_scheduling.time_slice",
+        TimeValue.timeValueMillis(500),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Per task type multipliers of the time slice, e.g. {@code cluster_manager.fair_scheduling.weights.put-mapping: 0.5}.
+     * Task types without a weight use {@code 1.0}.
+     */
+    public static final Setting<Settings> CLUSTER_MANAGER_FAIR_SCHEDULING_WEIGHTS_SETTING = Setting.groupSetting(
+        "cluster_manager.fair_scheduling.weights.",
+        ClusterManagerService::validateFairSchedulingWeights,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     static final String CLUSTER_MANAGER_UPDATE_THREAD_NAME = "clusterManagerService#updateTask";
 
     ClusterStatePublisher clusterStatePublisher;
@@ -119,6 +148,10 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
 
     private volatile TimeValue slowTaskLoggingThreshold;
 
+    private volatile boolean fairSchedulingEnabled;
+    private volatile TimeValue fairSchedulingTimeSlice;
+    private volatile Settings fairSchedulingWeights;
+
     protected final ThreadPool threadPool;
 
     private volatile PrioritizedOpenSearchThreadPoolExecutor threadPoolExecutor;
@@ -146,6 +179,13 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
             this::setSlowTaskLoggingThreshold
         );
 
+        this.fairSchedulingEnabled = CLUSTER_MANAGER_FAIR_SCHEDULING_ENABLED_SETTING.get(settings);
+        this.fairSchedulingTimeSlice = CLUSTER_MANAGER_FAIR_SCHEDULING_TIME_SLICE_SETTING.get(settings);
+        this.fairSchedulingWeights = CLUSTER_MANAGER_FAIR_SCHEDULING_WEIGHTS_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_MANAGER_FAIR_SCHEDULING_ENABLED_SETTING, this::setFairSchedulingEnabled);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_MANAGER_FAIR_SCHEDULING_TIME_SLICE_SETTING, this::setFairSchedulingTimeSlice);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_MANAGER_FAIR_SCHEDULING_WEIGHTS_SETTING, this::setFairSchedulingWeights);
+
         this.throttlingStats = new ClusterManagerThrottlingStats();
         this.clusterManagerTaskThrottler = new ClusterManagerTaskThrottler(
             settings,
@@ -162,6 +202,29 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private void setFairSchedulingEnabled(boolean fairSchedulingEnabled) {
+        this.fairSchedulingEnabled = fairSchedulingEnabled;
+    }
+
+    private void setFairSchedulingTimeSlice(TimeValue fairSchedulingTimeSlice) {
+        this.fairSchedulingTimeSlice = fairSchedulingTimeSlice;
+    }
+
+    private void setFairSchedulingWeights(Settings fairSchedulingWeights) {
+        this.fairSchedulingWeights = fairSchedulingWeights;
+    }
+
+    private static void validateFairSchedulingWeights(Settings weights) {
+        for (String taskKey : weights.keySet()) {
+            final double weight = weights.getAsDouble(taskKey, 1.0);
+            if (weight <= 0) {
+                throw new IllegalArgumentException(
+                    "weight for cluster manager task type [" + taskKey + "] must be greater than 0, got [" + weight + "]"
+                );
+            }
+        }
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -207,6 +270,40 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
                 );
         }
 
+        @Override
+        protected String schedulingSource(Object batchingKey) {
+            if (fairSchedulingEnabled == false) {
+                return null;
+            }
+            final ClusterManagerTaskThrottler.ThrottlingKey throttlingKey = ((ClusterStateTaskExecutor<Object>) batchingKey)
+                .getClusterManagerThrottlingKey();
+            // tasks that are not registered with a task type keep being executed in a single batch
+            return throttlingKey == ClusterManagerTaskThrottler.DEFAULT_THROTTLING_KEY ? null : throttlingKey.getTaskThrottlingKey();
+        }
+
+        @Override
+        protected long maxBatchTimeNanos(String schedulingSource) {
+            return (long) (fairSchedulingTimeSlice.nanos() * fairSchedulingWeights.getAsDouble(schedulingSource, 1.0));
+        }
+
+        @Override
+        protected void onBeginBatch(Object batchingKey, List<? extends BatchedTask> tasks, int queueDepth) {
+            final String schedulingSource = schedulingSource(batchingKey);
+            if (schedulingSource == null) {
+                // the queue depth and wait time are tuning inputs for the time slices, so only sources that are sliced are recorded
+                return;
+            }
+            final Optional<Tags> tags = Optional.of(Tags.create().addTag("Operation", schedulingSource));
+            clusterManagerMetrics.recordLatency(clusterManagerMetrics.clusterManagerTaskQueueDepthHistogram, (double) queueDepth, tags);
+            for (BatchedTask task : tasks) {
+                clusterManagerMetrics.recordLatency(
+                    clusterManagerMetrics.clusterManagerTaskWaitTimeHistogram,
+                    (double) task.getAgeInMillis(),
+                    tags
+                );
+            }
+        }
+
         @Override
         protected void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator) {
             ClusterStateTaskExecutor<Object> taskExecutor = (ClusterStateTaskExecutor<Object>) batchingKey;
@@ -300,6 +397,11 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         final long computationStartTime = threadPool.preciseRelativeTimeInNanos();
         final TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState, summary);
         taskOutputs.notifyFailedTasks();
+        taskBatcher.onBatchComputed(
+            taskInputs.executor,
+            taskInputs.updateTasks.size(),
+            threadPool.preciseRelativeTimeInNanos() - computationStartTime
+        );
         final TimeValue computationTime = getTimeSince(computationStartTime);
         logExecutionTime(computationTime, "compute cluster state update", summary);
 
@@ -33,6 +33,7 @@
 package org.opensearch.cluster.service;
 
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
 import org.opensearch.common.unit.TimeValue;
@@ -43,6 +44,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +67,12 @@ public abstract class TaskBatcher {
     final Map<Object, LinkedHashSet<BatchedTask>> tasksPerBatchingKey = new ConcurrentHashMap<>();
     final Map<Object, Map<Object, BatchedTask>> taskIdentityPerBatchingKey = new ConcurrentHashMap<>();
     private final TaskBatcherListener taskBatcherListener;
+    private final Map<String, ExponentiallyWeightedMovingAverage> costPerTaskPerSource = new ConcurrentHashMap<>();
+    // batching keys whose last batch was capped, mapped to the runnable that was queued to take their next batch
+    private final Map<Object, YieldedBatch> yieldedBatchingKeys = new ConcurrentHashMap<>();
+
+    static final int UNBOUNDED_BATCH_SIZE = Integer.MAX_VALUE;
+    private static final double COST_PER_TASK_EWMA_ALPHA = 0.3;
 
     public TaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor, TaskBatcherListener taskBatcherListener) {
         this.logger = logger;
@@ -176,11 +184,25 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
+            if (yieldedBatchingKeys.containsKey(updateTask.batchingKey)) {
+                // the last batch of this key was capped, its next batch is taken by the runnable queued behind the tasks of the
+                // other batching keys that were already waiting
+                logger.trace("deferring {} until the tasks queued before the next batch of its batching key ran", updateTask);
+                return;
+            }
+            runBatch(updateTask.batchingKey, updateTask);
+        }
+    }
+
+    private void runBatch(Object batchingKey, @Nullable BatchedTask updateTask) {
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        final int maxBatchSize = maxBatchSize(batchingKey);
+        final int queueDepth;
+        if (maxBatchSize == UNBOUNDED_BATCH_SIZE) {
             // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
             // Changing this order might lead to duplicate task during submission.
-            LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
-            taskIdentityPerBatchingKey.remove(updateTask.batchingKey);
+            LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(batchingKey);
+            taskIdentityPerBatchingKey.remove(batchingKey);
             if (pending != null) {
                 for (BatchedTask task : pending) {
                     if (task.processed.getAndSet(true) == false) {
@@ -191,23 +213,153 @@ public abstract class TaskBatcher {
                     }
                 }
             }
+            queueDepth = toExecute.size();
+        } else {
+            queueDepth = takeBatch(batchingKey, maxBatchSize, toExecute);
+        }
 
-            if (toExecute.isEmpty() == false) {
-                Function<Boolean, String> taskSummaryGenerator = (longSummaryRequired) -> {
-                    if (longSummaryRequired == null || !longSummaryRequired) {
-                        final List<BatchedTask> sampleTasks = toExecute.stream()
-                            .limit(Math.min(1000, toExecute.size()))
-                            .collect(Collectors.toList());
-                        return buildShortSummary(updateTask.batchingKey, toExecute.size(), getSummary(updateTask, sampleTasks));
+        if (toExecute.isEmpty() == false) {
+            final BatchedTask summaryTask = updateTask == null ? toExecute.get(0) : updateTask;
+            onBeginBatch(batchingKey, toExecute, queueDepth);
+            Function<Boolean, String> taskSummaryGenerator = (longSummaryRequired) -> {
+                if (longSummaryRequired == null || !longSummaryRequired) {
+                    final List<BatchedTask> sampleTasks = toExecute.stream()
+                        .limit(Math.min(1000, toExecute.size()))
+                        .collect(Collectors.toList());
+                    return buildShortSummary(batchingKey, toExecute.size(), getSummary(summaryTask, sampleTasks));
+                }
+                return getSummary(summaryTask, toExecute);
+            };
+            taskBatcherListener.onBeginProcessing(toExecute);
+            run(batchingKey, toExecute, taskSummaryGenerator);
+        }
+    }
+
+    /**
+     * Removes at most {@code maxBatchSize} unprocessed tasks for the given batching key, oldest first, and adds them to
+     * {@code toExecute}. If tasks remain queued, the next batch of the key is taken by a runnable submitted to the executor, so
+     * that it runs behind the tasks of other batching keys that were already waiting with the same priority. Until then, the
+     * runnables of the remaining tasks that are still queued in the executor don't take a batch.
+     *
+     * @return the number of unprocessed tasks that were queued for the batching key before taking the batch
+     */
+    private int takeBatch(Object batchingKey, int maxBatchSize, List<BatchedTask> toExecute) {
+        final List<Object> toRemoveIdentities = new ArrayList<>();
+        final BatchedTask[] firstRemaining = new BatchedTask[1];
+        final Priority[] remainingPriority = new Priority[1];
+        final int[] remaining = new int[1];
+        // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
+        // Changing this order might lead to duplicate task during submission.
+        tasksPerBatchingKey.computeIfPresent(batchingKey, (tasksKey, existingTasks) -> {
+            final Iterator<BatchedTask> iterator = existingTasks.iterator();
+            while (iterator.hasNext()) {
+                final BatchedTask task = iterator.next();
+                if (task.processed.get()) {
+                    logger.trace("skipping {}, already processed", task);
+                    iterator.remove();
+                } else if (toExecute.size() < maxBatchSize) {
+                    if (task.processed.getAndSet(true) == false) {
+                        logger.trace("will process {}", task);
+                        toExecute.add(task);
+                        toRemoveIdentities.add(task.getTask());
+                    }
+                    iterator.remove();
+                } else {
+                    if (firstRemaining[0] == null) {
+                        firstRemaining[0] = task;
                     }
-                    return getSummary(updateTask, toExecute);
-                };
-                taskBatcherListener.onBeginProcessing(toExecute);
-                run(updateTask.batchingKey, toExecute, taskSummaryGenerator);
+                    if (remainingPriority[0] == null || task.priority().sameOrAfter(remainingPriority[0]) == false) {
+                        remainingPriority[0] = task.priority();
+                    }
+                    remaining[0]++;
+                }
+            }
+            return existingTasks.isEmpty() ? null : existingTasks;
+        });
+        taskIdentityPerBatchingKey.computeIfPresent(batchingKey, (tasksKey, existingIdentities) -> {
+            toRemoveIdentities.forEach(existingIdentities::remove);
+            return existingIdentities.isEmpty() ? null : existingIdentities;
+        });
+        if (remaining[0] > 0) {
+            logger.trace("batch for [{}] capped at [{}] tasks, re-queueing [{}] remaining tasks", batchingKey, maxBatchSize, remaining[0]);
+            final YieldedBatch yieldedBatch = new YieldedBatch(remainingPriority[0], firstRemaining[0].source, batchingKey);
+            yieldedBatchingKeys.put(batchingKey, yieldedBatch);
+            try {
+                threadExecutor.execute(yieldedBatch);
+            } catch (Exception e) {
+                yieldedBatchingKeys.remove(batchingKey, yieldedBatch);
+                throw e;
             }
         }
+        return toExecute.size() + remaining[0];
     }
 
+    /**
+     * Records the time it took to compute the result of a batch of tasks of the given batching key. This must only cover the work
+     * that grows with the number of tasks in the batch, and not the fixed cost of the batch such as publishing its result, or else
+     * small batches look expensive per task and the batches of the key keep shrinking.
+     */
+    protected void onBatchComputed(Object batchingKey, int taskCount, long computationTimeNanos) {
+        final String schedulingSource = schedulingSource(batchingKey);
+        if (schedulingSource != null && taskCount > 0) {
+            recordCostPerTask(schedulingSource, (double) computationTimeNanos / taskCount);
+        }
+    }
+
+    private void recordCostPerTask(String schedulingSource, double costPerTaskNanos) {
+        final ExponentiallyWeightedMovingAverage costPerTask = costPerTaskPerSource.get(schedulingSource);
+        if (costPerTask == null) {
+            costPerTaskPerSource.put(schedulingSource, new ExponentiallyWeightedMovingAverage(COST_PER_TASK_EWMA_ALPHA, costPerTaskNanos));
+        } else {
+            costPerTask.addValue(costPerTaskNanos);
+        }
+    }
+
+    /**
+     * Returns the maximum number of tasks of the given batching key to execute in a single batch, derived from the time budget
+     * of its scheduling source and the average computation cost per task of that source reported to
+     * {@link #onBatchComputed(Object, int, long)}.
+     */
+    int maxBatchSize(Object batchingKey) {
+        final String schedulingSource = schedulingSource(batchingKey);
+        if (schedulingSource == null) {
+            return UNBOUNDED_BATCH_SIZE;
+        }
+        final long maxBatchTimeNanos = maxBatchTimeNanos(schedulingSource);
+        final ExponentiallyWeightedMovingAverage costPerTask = costPerTaskPerSource.get(schedulingSource);
+        if (maxBatchTimeNanos < 0 || costPerTask == null || costPerTask.getAverage() <= 0) {
+            // no budget, or no estimate yet in which case we run everything and learn the cost
+            return UNBOUNDED_BATCH_SIZE;
+        }
+        return (int) Math.max(1, Math.min(UNBOUNDED_BATCH_SIZE, maxBatchTimeNanos / costPerTask.getAverage()));
+    }
+
+    /**
+     * The source that tasks with the given batching key are scheduled fairly against, or {@code null} to always execute all
+     * queued tasks of the key in a single batch (the default). Execution costs are tracked per source, so the number of distinct
+     * sources must be bounded.
+     */
+    @Nullable
+    protected String schedulingSource(Object batchingKey) {
+        return null;
+    }
+
+    /**
+     * The time budget for a single batch of tasks of the given scheduling source, or a negative value for no limit.
+     */
+    protected long maxBatchTimeNanos(String schedulingSource) {
+        return -1;
+    }
+
+    /**
+     * Called right before a batch is executed.
+     *
+     * @param batchingKey the batching key of the batch
+     * @param tasks the tasks about to be executed
+     * @param queueDepth the number of tasks queued for the batching key when the batch was taken, including the batch itself
+     */
+    protected void onBeginBatch(Object batchingKey, List<? extends BatchedTask> tasks, int queueDepth) {}
+
     private String getSummary(final BatchedTask updateTask, final List<BatchedTask> toExecute) {
         final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
         for (final BatchedTask task : toExecute) {
@@ -234,6 +386,25 @@ public abstract class TaskBatcher {
      */
     protected abstract void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator);
 
+    /**
+     * Takes the next batch of a batching key whose last batch was capped.
+     */
+    private class YieldedBatch extends SourcePrioritizedRunnable {
+        private final Object batchingKey;
+
+        YieldedBatch(Priority priority, String source, Object batchingKey) {
+            super(priority, source);
+            this.batchingKey = batchingKey;
+        }
+
+        @Override
+        public void run() {
+            if (yieldedBatchingKeys.remove(batchingKey, this)) {
+                runBatch(batchingKey, null);
+            }
+        }
+    }
+
     /**
      * Represents a runnable task that supports batching.
      * Implementors of TaskBatcher can subclass this to add a payload to the task.
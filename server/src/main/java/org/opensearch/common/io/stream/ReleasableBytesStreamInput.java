@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.io.stream;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.FilterStreamInput;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A {@link org.opensearch.core.common.io.stream.StreamInput} over a {@link ReleasableBytesReference} that can hand out retained
+ * slices of the underlying buffers from {@link #readRetainedBytesReference()}, so that large payloads such as file chunks do not
+ * need to be copied out of the network buffers they were received in.
+ *
+ * @opensearch.internal
+ */
+public class ReleasableBytesStreamInput extends FilterStreamInput {
+
+    private final ReleasableBytesReference bytesReference;
+
+    public ReleasableBytesStreamInput(ReleasableBytesReference bytesReference) throws IOException {
+        super(bytesReference.streamInput());
+        this.bytesReference = bytesReference;
+    }
+
+    @Override
+    public BytesReference readRetainedBytesReference() throws IOException {
+        final int length = readArraySize();
+        if (length == 0) {
+            return BytesArray.EMPTY;
+        }
+        final int available = available();
+        if (available < length) {
+            throw new EOFException("tried to read: " + length + " bytes but only " + available + " remaining");
+        }
+        final ReleasableBytesReference slice = bytesReference.retainedSlice(bytesReference.length() - available, length);
+        final long skipped = delegate.skip(length);
+        assert skipped == length : skipped + " vs " + length;
+        return slice;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return delegate.skip(n);
+    }
+}
@@ -73,11 +73,15 @@ public class RemoteWriteableEntityBlobStore<T, U extends RemoteWriteableBlobEnti
     public T read(final U entity) throws IOException {
         // TODO Add timing logs and tracing
         assert entity.getFullBlobName() != null;
-        try (InputStream inputStream = transferService.downloadBlob(getBlobPathForDownload(entity), entity.getBlobFileName())) {
+        try (InputStream inputStream = downloadBlob(entity)) {
             return entity.deserialize(inputStream);
         }
     }
 
+    protected InputStream downloadBlob(final U entity) throws IOException {
+        return transferService.downloadBlob(getBlobPathForDownload(entity), entity.getBlobFileName());
+    }
+
     @Override
     public void readAsync(final U entity, final ActionListener<T> listener) {
         executorService.execute(() -> {
@@ -108,6 +108,7 @@ import org.opensearch.gateway.PersistedClusterStateService;
 import org.opensearch.gateway.ShardsBatchGatewayAllocator;
 import org.opensearch.gateway.remote.RemoteClusterStateCleanupManager;
 import org.opensearch.gateway.remote.RemoteClusterStateService;
+import org.opensearch.gateway.remote.RemoteIndexMetadataBlobCache;
 import org.opensearch.gateway.remote.RemoteIndexMetadataManager;
 import org.opensearch.gateway.remote.model.RemoteRoutingTableBlobStore;
 import org.opensearch.http.HttpTransportSettings;
@@ -319,6 +320,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesService.CLUSTER_REPLICATION_TYPE_SETTING,
                 MappingUpdatedAction.INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING,
                 MappingUpdatedAction.INDICES_MAX_IN_FLIGHT_UPDATES_SETTING,
+                MappingUpdatedAction.INDICES_COALESCE_DYNAMIC_UPDATES_SETTING,
                 Metadata.SETTING_READ_ONLY_SETTING,
                 Metadata.SETTING_READ_ONLY_ALLOW_DELETE_SETTING,
                 Metadata.DEFAULT_REPLICA_COUNT_SETTING,
@@ -341,10 +343,12 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_ACTION_RETRY_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
+                RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILES_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
                 RecoverySettings.INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT,
                 RecoverySettings.INDICES_RECOVERY_CHUNK_SIZE_SETTING,
+                RecoverySettings.INDICES_RECOVERY_ADAPTIVE_CHUNK_SIZE_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_REPLICAS_RECOVERIES_SETTING,
                 ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_INCOMING_RECOVERIES_SETTING,
@@ -436,6 +440,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
                 ClusterService.USER_DEFINED_METADATA,
                 ClusterManagerService.CLUSTER_MANAGER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_FAIR_SCHEDULING_ENABLED_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_FAIR_SCHEDULING_TIME_SLICE_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_FAIR_SCHEDULING_WEIGHTS_SETTING,
                 IngestService.MAX_NUMBER_OF_INGEST_PROCESSORS,
                 IngestService.SYSTEM_INGEST_PIPELINE_ENABLED,
                 SearchService.DEFAULT_SEARCH_TIMEOUT_SETTING,
@@ -513,6 +520,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.CONNECTIONS_PER_NODE_REG,
                 TransportSettings.CONNECTIONS_PER_NODE_STATE,
                 TransportSettings.CONNECTIONS_PER_NODE_PING,
+                TransportSettings.CHANNEL_BUSY_THRESHOLD,
                 TransportSettings.TRACE_LOG_EXCLUDE_SETTING,
                 TransportSettings.TRACE_LOG_INCLUDE_SETTING,
                 TransportSettings.SLOW_OPERATION_THRESHOLD_SETTING,
@@ -589,6 +597,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.SEARCH_MAX_QUERY_STRING_LENGTH,
                 SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
+                SearchService.AGGREGATION_SWISS_HASH_ENABLED,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
                 Node.NODE_NAME_SETTING,
@@ -618,11 +627,16 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 JvmGcMonitorService.GC_OVERHEAD_INFO_SETTING,
                 JvmGcMonitorService.GC_OVERHEAD_DEBUG_SETTING,
                 PageCacheRecycler.LIMIT_HEAP_SETTING,
+                PageCacheRecycler.OFF_HEAP_SETTING,
+                PageCacheRecycler.LIMIT_OFF_HEAP_SETTING,
                 PageCacheRecycler.WEIGHT_BYTES_SETTING,
                 PageCacheRecycler.WEIGHT_INT_SETTING,
                 PageCacheRecycler.WEIGHT_LONG_SETTING,
                 PageCacheRecycler.WEIGHT_OBJECTS_SETTING,
                 PageCacheRecycler.TYPE_SETTING,
+                PageCacheRecycler.THREAD_LOCAL_CACHE_SIZE_SETTING,
+                PageCacheRecycler.LIMIT_SMALL_HEAP_SETTING,
+                PageCacheRecycler.STATS_ENABLED_SETTING,
                 PluginsService.MANDATORY_SETTING,
                 BootstrapSettings.SECURITY_FILTER_BAD_DEFAULTS_SETTING,
                 BootstrapSettings.MEMORY_LOCK_SETTING,
@@ -639,6 +653,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
                 ResourceWatcherService.RELOAD_INTERVAL_LOW,
                 ThreadPool.ESTIMATED_TIME_INTERVAL_SETTING,
+                ThreadPool.VIRTUAL_THREADS_ENABLED_SETTING,
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
@@ -780,6 +795,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RemoteClusterStateService.REMOTE_STATE_READ_TIMEOUT_SETTING,
                 RemoteClusterStateService.CLUSTER_REMOTE_STORE_STATE_PATH_PREFIX,
                 RemoteIndexMetadataManager.REMOTE_INDEX_METADATA_PATH_TYPE_SETTING,
+                RemoteIndexMetadataBlobCache.REMOTE_INDEX_METADATA_CACHE_SIZE_SETTING,
                 RemoteIndexMetadataManager.REMOTE_INDEX_METADATA_PATH_HASH_ALGO_SETTING,
                 RemoteStoreNodeService.REMOTE_STORE_COMPATIBILITY_MODE_SETTING,
                 RemoteStoreNodeService.MIGRATION_DIRECTION_SETTING,
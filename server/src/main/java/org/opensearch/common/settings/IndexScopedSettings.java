@@ -237,6 +237,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME,
                 IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID,
                 IndexSettings.SEARCHABLE_SNAPSHOT_SHARD_PATH_TYPE,
+                IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_STRUCTURAL_FILES,
 
                 // Settings for remote translog
                 IndexSettings.INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
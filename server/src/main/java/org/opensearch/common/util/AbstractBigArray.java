@@ -38,6 +38,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -165,6 +166,19 @@ abstract class AbstractBigArray extends AbstractArray {
         }
     }
 
+    protected final ByteBuffer newOffHeapPage(int page) {
+        if (recycler != null) {
+            final Recycler.V<ByteBuffer> v = recycler.offHeapPage(clearOnResize);
+            cache = grow(cache, page + 1);
+            assert cache[page] == null;
+            cache[page] = v;
+            assert v.v().capacity() == PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+            return v.v();
+        } else {
+            return PageCacheRecycler.allocateOffHeapPage();
+        }
+    }
+
     protected final void releasePage(int page) {
         if (recycler != null) {
             cache[page].close();
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Common implementation for arrays that slice data into fixed-size blocks of off-heap memory, see
+ * {@link PageCacheRecycler#OFF_HEAP_SETTING}. The memory is accounted like the memory of on-heap arrays. The pages must be
+ * {@link PageCacheRecycler#reserveOffHeapPages reserved} before they are allocated, and always go back to the recycler on release.
+ *
+ * @opensearch.internal
+ */
+abstract class AbstractOffHeapBigArray extends AbstractBigArray {
+
+    private final int elementShift;
+    protected ByteBuffer[] pages;
+
+    protected AbstractOffHeapBigArray(int elementBytes, long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(PageCacheRecycler.PAGE_SIZE_IN_BYTES / elementBytes, bigArrays, clearOnResize);
+        assert Integer.bitCount(elementBytes) == 1 : elementBytes;
+        this.elementShift = Integer.numberOfTrailingZeros(elementBytes);
+        this.size = size;
+        pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = newOffHeapPage(i);
+        }
+    }
+
+    /** Returns the offset of the element at the given index in its page. */
+    final int offsetInPage(long index) {
+        return indexInPage(index) << elementShift;
+    }
+
+    @Override
+    protected final int numBytesPerElement() {
+        return 1 << elementShift;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    @Override
+    public void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newOffHeapPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+}
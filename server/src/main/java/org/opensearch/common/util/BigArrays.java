@@ -423,6 +423,7 @@ public class BigArrays {
     private final boolean checkBreaker;
     private final BigArrays circuitBreakingInstance;
     private final String breakerName;
+    private final boolean offHeap;
 
     public BigArrays(PageCacheRecycler recycler, @Nullable final CircuitBreakerService breakerService, String breakerName) {
         // Checking the breaker is disabled if not specified
@@ -439,6 +440,7 @@ public class BigArrays {
         this.recycler = recycler;
         this.breakerService = breakerService;
         this.breakerName = breakerName;
+        this.offHeap = recycler != null && recycler.offHeap();
         if (checkBreaker) {
             this.circuitBreakingInstance = this;
         } else {
@@ -509,6 +511,32 @@ public class BigArrays {
         return array;
     }
 
+    /** Returns the number of off-heap pages of an array of longs or doubles of the given size. */
+    private static long numOffHeapPages(long size) {
+        return (size + PageCacheRecycler.LONG_PAGE_SIZE - 1) / PageCacheRecycler.LONG_PAGE_SIZE;
+    }
+
+    /**
+     * Resizes an off-heap array in place if the pages it needs can be reserved, otherwise the caller copies it to an on-heap array.
+     */
+    private boolean tryResizeInPlace(AbstractOffHeapBigArray array, long newSize) {
+        final long missingPages = Math.max(0, numOffHeapPages(newSize) - numOffHeapPages(array.size()));
+        if (recycler.reserveOffHeapPages(missingPages) == false) {
+            return false;
+        }
+        boolean success = false;
+        try {
+            adjustBreaker(array.ramBytesEstimated(newSize) - array.ramBytesUsed(), false);
+            success = true;
+        } finally {
+            if (success == false) {
+                recycler.releaseOffHeapPages(missingPages);
+            }
+        }
+        array.resize(newSize);
+        return true;
+    }
+
     private <T extends BigArray> T validate(T array) {
         boolean success = false;
         try {
@@ -536,6 +564,12 @@ public class BigArrays {
         } else if (size >= PageCacheRecycler.BYTE_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<byte[]> page = recycler.bytePage(clearOnResize);
             return validate(new ByteArrayWrapper(this, page.v(), size, page, clearOnResize));
+        } else if (size >= PageCacheRecycler.SMALL_BYTE_PAGE_SIZE / 2
+            && size <= PageCacheRecycler.SMALL_BYTE_PAGE_SIZE
+            && recycler != null
+            && recycler.smallPages()) {
+            final Recycler.V<byte[]> page = recycler.smallBytePage(clearOnResize);
+            return validate(new ByteArrayWrapper(this, page.v(), size, page, clearOnResize));
         } else {
             return validate(new ByteArrayWrapper(this, new byte[(int) size], size, null, clearOnResize));
         }
@@ -620,6 +654,12 @@ public class BigArrays {
         } else if (size >= PageCacheRecycler.INT_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<int[]> page = recycler.intPage(clearOnResize);
             return validate(new IntArrayWrapper(this, page.v(), size, page, clearOnResize));
+        } else if (size >= PageCacheRecycler.SMALL_INT_PAGE_SIZE / 2
+            && size <= PageCacheRecycler.SMALL_INT_PAGE_SIZE
+            && recycler != null
+            && recycler.smallPages()) {
+            final Recycler.V<int[]> page = recycler.smallIntPage(clearOnResize);
+            return validate(new IntArrayWrapper(this, page.v(), size, page, clearOnResize));
         } else {
             return validate(new IntArrayWrapper(this, new int[(int) size], size, null, clearOnResize));
         }
@@ -668,10 +708,19 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
+            if (offHeap && recycler.reserveOffHeapPages(numOffHeapPages(size))) {
+                return new OffHeapLongArray(size, this, clearOnResize);
+            }
             return new BigLongArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
             return validate(new LongArrayWrapper(this, page.v(), size, page, clearOnResize));
+        } else if (size >= PageCacheRecycler.SMALL_LONG_PAGE_SIZE / 2
+            && size <= PageCacheRecycler.SMALL_LONG_PAGE_SIZE
+            && recycler != null
+            && recycler.smallPages()) {
+            final Recycler.V<long[]> page = recycler.smallLongPage(clearOnResize);
+            return validate(new LongArrayWrapper(this, page.v(), size, page, clearOnResize));
         } else {
             return validate(new LongArrayWrapper(this, new long[(int) size], size, null, clearOnResize));
         }
@@ -689,6 +738,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof OffHeapLongArray && tryResizeInPlace((OffHeapLongArray) array, size)) {
+            return array;
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
@@ -720,10 +771,19 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigDoubleArray.estimateRamBytes(size), false);
+            if (offHeap && recycler.reserveOffHeapPages(numOffHeapPages(size))) {
+                return new OffHeapDoubleArray(size, this, clearOnResize);
+            }
             return new BigDoubleArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
             return validate(new DoubleArrayWrapper(this, page.v(), size, page, clearOnResize));
+        } else if (size >= PageCacheRecycler.SMALL_LONG_PAGE_SIZE / 2
+            && size <= PageCacheRecycler.SMALL_LONG_PAGE_SIZE
+            && recycler != null
+            && recycler.smallPages()) {
+            final Recycler.V<long[]> page = recycler.smallLongPage(clearOnResize);
+            return validate(new DoubleArrayWrapper(this, page.v(), size, page, clearOnResize));
         } else {
             return validate(new DoubleArrayWrapper(this, new long[(int) size], size, null, clearOnResize));
         }
@@ -738,6 +798,8 @@ public class BigArrays {
     public DoubleArray resize(DoubleArray array, long size) {
         if (array instanceof BigDoubleArray) {
             return resizeInPlace((BigDoubleArray) array, size);
+        } else if (array instanceof OffHeapDoubleArray && tryResizeInPlace((OffHeapDoubleArray) array, size)) {
+            return array;
         } else {
             AbstractArray arr = (AbstractArray) array;
             final DoubleArray newArray = newDoubleArray(size, arr.clearOnResize);
@@ -807,6 +869,12 @@ public class BigArrays {
         } else if (size >= PageCacheRecycler.INT_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<int[]> page = recycler.intPage(clearOnResize);
             return validate(new FloatArrayWrapper(this, page.v(), size, page, clearOnResize));
+        } else if (size >= PageCacheRecycler.SMALL_INT_PAGE_SIZE / 2
+            && size <= PageCacheRecycler.SMALL_INT_PAGE_SIZE
+            && recycler != null
+            && recycler.smallPages()) {
+            final Recycler.V<int[]> page = recycler.smallIntPage(clearOnResize);
+            return validate(new FloatArrayWrapper(this, page.v(), size, page, clearOnResize));
         } else {
             return validate(new FloatArrayWrapper(this, new int[(int) size], size, null, clearOnResize));
         }
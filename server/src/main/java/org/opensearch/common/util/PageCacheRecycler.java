@@ -41,15 +41,24 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.bytes.PagedBytesReference;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import static org.opensearch.common.recycler.Recyclers.concurrent;
 import static org.opensearch.common.recycler.Recyclers.concurrentDeque;
 import static org.opensearch.common.recycler.Recyclers.dequeFactory;
 import static org.opensearch.common.recycler.Recyclers.none;
+import static org.opensearch.common.recycler.Recyclers.threadLocal;
 
 /**
  * A recycler of fixed-size pages.
@@ -70,6 +79,23 @@ public class PageCacheRecycler {
         "10%",
         Property.NodeScope
     );
+    /**
+     * Whether {@link BigArrays} allocates large arrays of longs and doubles from off-heap pages rather than from on-heap pages.
+     */
+    public static final Setting<Boolean> OFF_HEAP_SETTING = Setting.boolSetting(
+        "cache.recycler.page.off_heap.enabled",
+        false,
+        Property.NodeScope
+    );
+    /**
+     * The maximum amount of off-heap memory that is allocated for pages, whether they are in use or kept for reuse. Pages are never
+     * dropped, so this bounds the off-heap memory of the recycler. {@link BigArrays} allocates on-heap arrays once it is reached.
+     */
+    public static final Setting<ByteSizeValue> LIMIT_OFF_HEAP_SETTING = Setting.byteSizeSetting(
+        "cache.recycler.page.limit.off_heap",
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        Property.NodeScope
+    );
     public static final Setting<Double> WEIGHT_BYTES_SETTING = Setting.doubleSetting(
         "cache.recycler.page.weight.bytes",
         1d,
@@ -88,6 +114,29 @@ public class PageCacheRecycler {
         0d,
         Property.NodeScope
     );
+    public static final Setting<Integer> THREAD_LOCAL_CACHE_SIZE_SETTING = Setting.intSetting(
+        "cache.recycler.page.thread_local.size",
+        8,
+        1,
+        Property.NodeScope
+    );
+    /**
+     * The memory kept for reuse as {@link #SMALL_PAGE_SIZE_IN_BYTES small pages}, on top of {@link #LIMIT_HEAP_SETTING}. Small pages
+     * are disabled unless this is set.
+     */
+    public static final Setting<ByteSizeValue> LIMIT_SMALL_HEAP_SETTING = Setting.memorySizeSetting(
+        "cache.recycler.page.limit.small_heap",
+        "0b",
+        Property.NodeScope
+    );
+    /**
+     * Whether the recycler counts obtained and released pages for {@link #stats()}, which costs an allocation per obtained page.
+     */
+    public static final Setting<Boolean> STATS_ENABLED_SETTING = Setting.boolSetting(
+        "cache.recycler.page.stats.enabled",
+        false,
+        Property.NodeScope
+    );
     // object pages are less useful to us so we give them a lower weight by default
     public static final Setting<Double> WEIGHT_OBJECTS_SETTING = Setting.doubleSetting(
         "cache.recycler.page.weight.objects",
@@ -103,10 +152,28 @@ public class PageCacheRecycler {
     public static final int INT_PAGE_SIZE = PAGE_SIZE_IN_BYTES / Integer.BYTES;
     public static final int BYTE_PAGE_SIZE = PAGE_SIZE_IN_BYTES;
 
+    /** Small page size in bytes: 2KB, for arrays that would only use a small part of a page */
+    public static final int SMALL_PAGE_SIZE_IN_BYTES = PAGE_SIZE_IN_BYTES / 8;
+    public static final int SMALL_LONG_PAGE_SIZE = SMALL_PAGE_SIZE_IN_BYTES / Long.BYTES;
+    public static final int SMALL_INT_PAGE_SIZE = SMALL_PAGE_SIZE_IN_BYTES / Integer.BYTES;
+    public static final int SMALL_BYTE_PAGE_SIZE = SMALL_PAGE_SIZE_IN_BYTES;
+    private static final byte[] ZERO_PAGE = new byte[PAGE_SIZE_IN_BYTES];
+
     private final Recycler<byte[]> bytePage;
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final boolean smallPages;
+    private final Recycler<byte[]> smallBytePage;
+    private final Recycler<int[]> smallIntPage;
+    private final Recycler<long[]> smallLongPage;
+    private final boolean offHeap;
+    private final Recycler<ByteBuffer> offHeapPage;
+    private final int maxOffHeapPageCount;
+    // the number of off-heap pages that are in use or reserved for arrays that are being allocated or resized
+    private final AtomicInteger reservedOffHeapPages = new AtomicInteger();
+    // only set if stats are enabled
+    private final List<StatsRecycler<?>> statsRecyclers;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -117,7 +184,9 @@ public class PageCacheRecycler {
     public PageCacheRecycler(Settings settings) {
         final Type type = TYPE_SETTING.get(settings);
         final long limit = LIMIT_HEAP_SETTING.get(settings).getBytes();
-        final int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        final int processors = OpenSearchExecutors.allocatedProcessors(settings);
+        final int cacheSize = THREAD_LOCAL_CACHE_SIZE_SETTING.get(settings);
+        final List<StatsRecycler<?>> statsRecyclers = STATS_ENABLED_SETTING.get(settings) ? new ArrayList<>() : null;
 
         // We have a global amount of memory that we need to divide across data types.
         // Since some types are more useful than other ones we give them different weights.
@@ -141,46 +210,16 @@ public class PageCacheRecycler {
         final int maxPageCount = (int) Math.min(Integer.MAX_VALUE, limit / PAGE_SIZE_IN_BYTES);
 
         final int maxBytePageCount = (int) (bytesWeight * maxPageCount / totalWeight);
-        bytePage = build(type, maxBytePageCount, allocatedProcessors, new AbstractRecyclerC<byte[]>() {
-            @Override
-            public byte[] newInstance() {
-                return new byte[BYTE_PAGE_SIZE];
-            }
-
-            @Override
-            public void recycle(byte[] value) {
-                // nothing to do
-            }
-        });
+        bytePage = build("bytes", type, maxBytePageCount, cacheSize, processors, statsRecyclers, () -> new byte[BYTE_PAGE_SIZE]);
 
         final int maxIntPageCount = (int) (intsWeight * maxPageCount / totalWeight);
-        intPage = build(type, maxIntPageCount, allocatedProcessors, new AbstractRecyclerC<int[]>() {
-            @Override
-            public int[] newInstance() {
-                return new int[INT_PAGE_SIZE];
-            }
-
-            @Override
-            public void recycle(int[] value) {
-                // nothing to do
-            }
-        });
+        intPage = build("ints", type, maxIntPageCount, cacheSize, processors, statsRecyclers, () -> new int[INT_PAGE_SIZE]);
 
         final int maxLongPageCount = (int) (longsWeight * maxPageCount / totalWeight);
-        longPage = build(type, maxLongPageCount, allocatedProcessors, new AbstractRecyclerC<long[]>() {
-            @Override
-            public long[] newInstance() {
-                return new long[LONG_PAGE_SIZE];
-            }
-
-            @Override
-            public void recycle(long[] value) {
-                // nothing to do
-            }
-        });
+        longPage = build("longs", type, maxLongPageCount, cacheSize, processors, statsRecyclers, () -> new long[LONG_PAGE_SIZE]);
 
         final int maxObjectPageCount = (int) (objectsWeight * maxPageCount / totalWeight);
-        objectPage = build(type, maxObjectPageCount, allocatedProcessors, new AbstractRecyclerC<Object[]>() {
+        objectPage = build("objects", type, maxObjectPageCount, cacheSize, processors, statsRecyclers, new AbstractRecyclerC<Object[]>() {
             @Override
             public Object[] newInstance() {
                 return new Object[OBJECT_PAGE_SIZE];
@@ -193,6 +232,66 @@ public class PageCacheRecycler {
         });
 
         assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+
+        // small pages have their own limit, which is divided across bytes, ints and longs with the same weights
+        final double smallWeight = bytesWeight + intsWeight + longsWeight;
+        final long smallLimit = LIMIT_SMALL_HEAP_SETTING.get(settings).getBytes();
+        final int maxSmallPageCount = smallWeight > 0 ? (int) Math.min(Integer.MAX_VALUE, smallLimit / SMALL_PAGE_SIZE_IN_BYTES) : 0;
+        smallPages = maxSmallPageCount > 0;
+        smallBytePage = build(
+            "small_bytes",
+            type,
+            (int) (bytesWeight * maxSmallPageCount / smallWeight),
+            cacheSize,
+            processors,
+            statsRecyclers,
+            () -> new byte[SMALL_BYTE_PAGE_SIZE]
+        );
+        smallIntPage = build(
+            "small_ints",
+            type,
+            (int) (intsWeight * maxSmallPageCount / smallWeight),
+            cacheSize,
+            processors,
+            statsRecyclers,
+            () -> new int[SMALL_INT_PAGE_SIZE]
+        );
+        smallLongPage = build(
+            "small_longs",
+            type,
+            (int) (longsWeight * maxSmallPageCount / smallWeight),
+            cacheSize,
+            processors,
+            statsRecyclers,
+            () -> new long[SMALL_LONG_PAGE_SIZE]
+        );
+
+        // off-heap pages are not part of the heap limit, they only use their own limit if enabled. Direct memory is only freed once
+        // the buffer is garbage collected, so pages are never dropped: they go to a single queue that can hold all of them, and no
+        // more pages than the limit can be reserved.
+        offHeap = OFF_HEAP_SETTING.get(settings);
+        maxOffHeapPageCount = offHeap
+            ? (int) Math.min(Integer.MAX_VALUE, LIMIT_OFF_HEAP_SETTING.get(settings).getBytes() / PAGE_SIZE_IN_BYTES)
+            : 0;
+        final Recycler.C<ByteBuffer> offHeapPageC = new AbstractRecyclerC<ByteBuffer>() {
+            @Override
+            public ByteBuffer newInstance() {
+                return allocateOffHeapPage();
+            }
+
+            @Override
+            public void recycle(ByteBuffer value) {
+                reservedOffHeapPages.decrementAndGet();
+            }
+
+            @Override
+            public void destroy(ByteBuffer value) {
+                assert false : "off-heap pages must not be dropped";
+                reservedOffHeapPages.decrementAndGet();
+            }
+        };
+        offHeapPage = build("off_heap", Type.QUEUE, maxOffHeapPageCount, cacheSize, processors, statsRecyclers, offHeapPageC);
+        this.statsRecyclers = statsRecyclers;
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -224,14 +323,205 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
-    private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
+    /**
+     * Whether {@link BigArrays} allocates arrays that would only use a small part of a page from small pages, which is the case if
+     * {@link #LIMIT_SMALL_HEAP_SETTING} is set.
+     */
+    public boolean smallPages() {
+        return smallPages;
+    }
+
+    /**
+     * Obtain a page of {@link #SMALL_BYTE_PAGE_SIZE} bytes, for arrays that would only use a small part of a {@link #bytePage}.
+     */
+    public Recycler.V<byte[]> smallBytePage(boolean clear) {
+        final Recycler.V<byte[]> v = smallBytePage.obtain();
+        if (v.isRecycled() && clear) {
+            Arrays.fill(v.v(), (byte) 0);
+        }
+        return v;
+    }
+
+    /**
+     * Obtain a page of {@link #SMALL_INT_PAGE_SIZE} ints, for arrays that would only use a small part of an {@link #intPage}.
+     */
+    public Recycler.V<int[]> smallIntPage(boolean clear) {
+        final Recycler.V<int[]> v = smallIntPage.obtain();
+        if (v.isRecycled() && clear) {
+            Arrays.fill(v.v(), 0);
+        }
+        return v;
+    }
+
+    /**
+     * Obtain a page of {@link #SMALL_LONG_PAGE_SIZE} longs, for arrays that would only use a small part of a {@link #longPage}.
+     */
+    public Recycler.V<long[]> smallLongPage(boolean clear) {
+        final Recycler.V<long[]> v = smallLongPage.obtain();
+        if (v.isRecycled() && clear) {
+            Arrays.fill(v.v(), 0L);
+        }
+        return v;
+    }
+
+    /**
+     * Whether {@link BigArrays} allocates large arrays of longs and doubles from {@link #offHeapPage off-heap pages}.
+     */
+    public boolean offHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Reserves the given number of {@link #offHeapPage off-heap pages}, unless this would exceed {@link #LIMIT_OFF_HEAP_SETTING}.
+     * Each reserved page must then be obtained, its reservation is given back when the page is released.
+     *
+     * @return whether the pages could be reserved
+     */
+    public boolean reserveOffHeapPages(long count) {
+        assert count >= 0 : count;
+        while (true) {
+            final int reserved = reservedOffHeapPages.get();
+            if (count > maxOffHeapPageCount - reserved) {
+                return false;
+            }
+            if (reservedOffHeapPages.compareAndSet(reserved, reserved + (int) count)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back the reservation of off-heap pages that were {@link #reserveOffHeapPages reserved} but will not be obtained.
+     */
+    public void releaseOffHeapPages(long count) {
+        final int reserved = reservedOffHeapPages.addAndGet((int) -count);
+        assert reserved >= 0 : reserved;
+    }
+
+    /**
+     * Obtain a {@link #reserveOffHeapPages reserved} page of {@link #PAGE_SIZE_IN_BYTES} bytes of off-heap memory in native byte
+     * order. Only absolute get and put methods must be used on the page, its position and limit may be changed by other users.
+     */
+    public Recycler.V<ByteBuffer> offHeapPage(boolean clear) {
+        final Recycler.V<ByteBuffer> v = offHeapPage.obtain();
+        if (v.isRecycled() && clear) {
+            v.v().put(0, ZERO_PAGE);
+        }
+        return v;
+    }
+
+    static ByteBuffer allocateOffHeapPage() {
+        return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the statistics of each kind of page, or {@code null} unless {@link #STATS_ENABLED_SETTING} is set.
+     */
+    public PageCacheRecyclerStats stats() {
+        if (statsRecyclers == null) {
+            return null;
+        }
+        final List<PageCacheRecyclerStats.PageStats> pages = new ArrayList<>(statsRecyclers.size());
+        for (StatsRecycler<?> recycler : statsRecyclers) {
+            pages.add(recycler.stats());
+        }
+        return new PageCacheRecyclerStats(pages);
+    }
+
+    private static <T> Recycler<T> build(
+        String name,
+        Type type,
+        int limit,
+        int cacheSize,
+        int processors,
+        List<StatsRecycler<?>> statsRecyclers,
+        Supplier<T> newInstance
+    ) {
+        return build(name, type, limit, cacheSize, processors, statsRecyclers, new AbstractRecyclerC<T>() {
+            @Override
+            public T newInstance() {
+                return newInstance.get();
+            }
+
+            @Override
+            public void recycle(T value) {
+                // nothing to do
+            }
+        });
+    }
+
+    private static <T> Recycler<T> build(
+        String name,
+        Type type,
+        int limit,
+        int cacheSize,
+        int processors,
+        List<StatsRecycler<?>> statsRecyclers,
+        Recycler.C<T> c
+    ) {
         final Recycler<T> recycler;
         if (limit == 0) {
             recycler = none(c);
         } else {
-            recycler = type.build(c, limit, availableProcessors);
+            recycler = type.build(c, limit, cacheSize, processors);
+        }
+        if (statsRecyclers == null) {
+            return recycler;
+        }
+        final StatsRecycler<T> statsRecycler = new StatsRecycler<>(name, recycler);
+        statsRecyclers.add(statsRecycler);
+        return statsRecycler;
+    }
+
+    /**
+     * Counts the pages obtained from and released to a recycler.
+     *
+     * @opensearch.internal
+     */
+    private static final class StatsRecycler<T> implements Recycler<T> {
+
+        private final String name;
+        private final Recycler<T> delegate;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder live = new LongAdder();
+
+        StatsRecycler(String name, Recycler<T> delegate) {
+            this.name = name;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public V<T> obtain() {
+            final V<T> v = delegate.obtain();
+            if (v.isRecycled()) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            live.increment();
+            return new V<T>() {
+                @Override
+                public T v() {
+                    return v.v();
+                }
+
+                @Override
+                public boolean isRecycled() {
+                    return v.isRecycled();
+                }
+
+                @Override
+                public void close() {
+                    v.close();
+                    live.decrement();
+                }
+            };
+        }
+
+        PageCacheRecyclerStats.PageStats stats() {
+            return new PageCacheRecyclerStats.PageStats(name, hits.sum(), misses.sum(), live.sum());
         }
-        return recycler;
     }
 
     /**
@@ -242,19 +532,29 @@ public class PageCacheRecycler {
     public enum Type {
         QUEUE {
             @Override
-            <T> Recycler<T> build(Recycler.C<T> c, int limit, int availableProcessors) {
+            <T> Recycler<T> build(Recycler.C<T> c, int limit, int cacheSize, int availableProcessors) {
                 return concurrentDeque(c, limit);
             }
         },
         CONCURRENT {
             @Override
-            <T> Recycler<T> build(Recycler.C<T> c, int limit, int availableProcessors) {
+            <T> Recycler<T> build(Recycler.C<T> c, int limit, int cacheSize, int availableProcessors) {
                 return concurrent(dequeFactory(c, limit / availableProcessors), availableProcessors);
             }
         },
+        /**
+         * Caches up to {@link PageCacheRecycler#THREAD_LOCAL_CACHE_SIZE_SETTING} pages per thread, which are exchanged in batches with
+         * a shared pool.
+         */
+        THREAD_LOCAL {
+            @Override
+            <T> Recycler<T> build(Recycler.C<T> c, int limit, int cacheSize, int availableProcessors) {
+                return threadLocal(c, limit, cacheSize);
+            }
+        },
         NONE {
             @Override
-            <T> Recycler<T> build(Recycler.C<T> c, int limit, int availableProcessors) {
+            <T> Recycler<T> build(Recycler.C<T> c, int limit, int cacheSize, int availableProcessors) {
                 return none(c);
             }
         };
@@ -267,6 +567,6 @@ public class PageCacheRecycler {
             }
         }
 
-        abstract <T> Recycler<T> build(Recycler.C<T> c, int limit, int availableProcessors);
+        abstract <T> Recycler<T> build(Recycler.C<T> c, int limit, int cacheSize, int availableProcessors);
     }
 }
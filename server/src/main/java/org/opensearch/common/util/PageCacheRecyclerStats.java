@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node level stats of the {@link PageCacheRecycler}, reported for each kind of page when
+ * {@link PageCacheRecycler#STATS_ENABLED_SETTING} is set.
+ *
+ * @opensearch.internal
+ */
+public class PageCacheRecyclerStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "page_cache_recycler";
+
+    private final List<PageStats> pages;
+
+    public PageCacheRecyclerStats(List<PageStats> pages) {
+        this.pages = Collections.unmodifiableList(pages);
+    }
+
+    public PageCacheRecyclerStats(StreamInput in) throws IOException {
+        this.pages = in.readList(PageStats::new);
+    }
+
+    public List<PageStats> getPages() {
+        return pages;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeList(pages);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        for (PageStats page : pages) {
+            page.toXContent(builder, params);
+        }
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PageCacheRecyclerStats that = (PageCacheRecyclerStats) o;
+        return pages.equals(that.pages);
+    }
+
+    @Override
+    public int hashCode() {
+        return pages.hashCode();
+    }
+
+    /**
+     * The statistics of a kind of page: how often a page could be reused or had to be allocated, and how many pages are in use.
+     *
+     * @opensearch.internal
+     */
+    public static final class PageStats implements Writeable, ToXContentFragment {
+
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final long live;
+
+        public PageStats(String name, long hits, long misses, long live) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.live = live;
+        }
+
+        public PageStats(StreamInput in) throws IOException {
+            this.name = in.readString();
+            this.hits = in.readVLong();
+            this.misses = in.readVLong();
+            this.live = in.readZLong();
+        }
+
+        /** The kind of page, e.g. {@code bytes} or {@code small_longs}. */
+        public String getName() {
+            return name;
+        }
+
+        /** The number of obtained pages that were recycled. */
+        public long getHits() {
+            return hits;
+        }
+
+        /** The number of obtained pages that had to be allocated. */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** The number of obtained pages that have not been released yet. */
+        public long getLive() {
+            return live;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeZLong(live);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(name);
+            builder.field("hits", hits);
+            builder.field("misses", misses);
+            builder.field("live", live);
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PageStats that = (PageStats) o;
+            return hits == that.hits && misses == that.misses && live == that.live && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, hits, misses, live);
+        }
+    }
+}
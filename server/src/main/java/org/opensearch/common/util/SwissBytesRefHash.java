@@ -0,0 +1,296 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.common.hash.T1ha1;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.core.common.util.ByteArray;
+
+import static org.opensearch.common.util.SwissGroups.GROUP_SIZE;
+
+/**
+ * Specialized hash table implementation that maps a {@link BytesRef} key to a long ordinal, with the same API as
+ * {@link BytesRefHash}.
+ *
+ * <p>
+ * It is organized as a Swiss table (see {@link SwissLongHash}): a slot only takes a 7-bit fingerprint of the hash
+ * in its group's control bytes and a 32-bit ordinal, instead of the 64-bit value of {@link BytesRefHash}. Keys
+ * whose fingerprint matches are first checked against their full pre-computed hash, and only then compared
+ * byte by byte, which is expensive.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class SwissBytesRefHash implements Releasable {
+    private static final long MAX_CAPACITY = 1L << 32;
+    private static final long DEFAULT_INITIAL_CAPACITY = 32;
+    private static final float DEFAULT_LOAD_FACTOR = 0.8f;
+    private static final BytesRefHash.Hasher DEFAULT_HASHER = key -> T1ha1.hash(key.bytes, key.offset, key.length);
+
+    /**
+     * Maximum load factor after which the capacity is doubled.
+     */
+    private final float loadFactor;
+
+    /**
+     * Calculates the hash of a {@link BytesRef} key.
+     */
+    private final BytesRefHash.Hasher hasher;
+
+    /**
+     * Utility class to allocate recyclable arrays.
+     */
+    private final BigArrays bigArrays;
+
+    /**
+     * Reusable BytesRef to read keys.
+     */
+    private final BytesRef scratch = new BytesRef();
+
+    /**
+     * Bitmask to identify the home group from a key's hash. The number of groups is a power of two.
+     */
+    private long mask;
+
+    /**
+     * Size threshold after which the hash table needs to be doubled in capacity.
+     */
+    private long grow;
+
+    /**
+     * Current size of the hash table.
+     */
+    private long size;
+
+    /**
+     * Control bytes of the slots, one long per group.
+     */
+    private LongArray controls;
+
+    /**
+     * Ordinals of the keys stored in the slots. The slot at the given position of a group is at
+     * <code>group * 8 + position</code>. The value is undefined for an empty slot.
+     */
+    private IntArray ordinals;
+
+    /**
+     * Underlying array to store the starting offsets of keys.
+     *
+     * <p>
+     * Terminology:
+     * <pre>
+     *   offsets[ordinal] = starting offset (inclusive)
+     *   offsets[ordinal + 1] = ending offset (exclusive)
+     * </pre>
+     */
+    private LongArray offsets;
+
+    /**
+     * Underlying byte array to store the keys.
+     */
+    private ByteArray keys;
+
+    /**
+     * Pre-computed hashes of the stored keys.
+     * It is used to verify fingerprint matches and to speed up reinserts when doubling the capacity.
+     */
+    private LongArray hashes;
+
+    public SwissBytesRefHash(final BigArrays bigArrays) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_HASHER, bigArrays);
+    }
+
+    public SwissBytesRefHash(final long initialCapacity, final BigArrays bigArrays) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR, DEFAULT_HASHER, bigArrays);
+    }
+
+    public SwissBytesRefHash(final long initialCapacity, final float loadFactor, final BigArrays bigArrays) {
+        this(initialCapacity, loadFactor, DEFAULT_HASHER, bigArrays);
+    }
+
+    public SwissBytesRefHash(
+        final long initialCapacity,
+        final float loadFactor,
+        final BytesRefHash.Hasher hasher,
+        final BigArrays bigArrays
+    ) {
+        assert initialCapacity > 0 : "initial capacity must be greater than 0";
+        assert loadFactor > 0 && loadFactor < 1 : "load factor must be between 0 and 1";
+
+        this.loadFactor = loadFactor;
+        this.hasher = hasher;
+        this.bigArrays = bigArrays;
+
+        final long groups = SwissGroups.groups(initialCapacity, loadFactor);
+        assert groups * GROUP_SIZE <= MAX_CAPACITY : "required capacity too large";
+        mask = groups - 1;
+        size = 0;
+        grow = (long) (groups * GROUP_SIZE * loadFactor);
+
+        try {
+            controls = bigArrays.newLongArray(groups, false);
+            controls.fill(0, groups, SwissGroups.EMPTY_GROUP);
+            ordinals = bigArrays.newIntArray(groups * GROUP_SIZE, false);
+            offsets = bigArrays.newLongArray(initialCapacity + 1, false);
+            offsets.set(0, 0);
+            keys = bigArrays.newByteArray(initialCapacity * 3, false);
+            hashes = bigArrays.newLongArray(initialCapacity, false);
+        } finally {
+            if (controls == null || ordinals == null || offsets == null || keys == null || hashes == null) {
+                // close the arrays initialized above to prevent memory leaks
+                Releasables.closeWhileHandlingException(controls, ordinals, offsets, keys, hashes);
+            }
+        }
+    }
+
+    /**
+     * Adds the given key to the hash table and returns its ordinal.
+     * If the key exists already, it returns (-1 - ordinal).
+     */
+    public long add(final BytesRef key) {
+        final long hash = hasher.hash(key);
+        final long control = SwissGroups.control(hash);
+
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long bytes = controls.get(group);
+            for (long matches = SwissGroups.match(bytes, control); matches != 0; matches &= matches - 1) {
+                final long ordinal = ordinal(group, SwissGroups.position(matches));
+                if (hashes.get(ordinal) == hash && key.bytesEquals(get(ordinal, scratch))) {
+                    return -1 - ordinal;
+                }
+            }
+            final long empty = SwissGroups.matchEmpty(bytes);
+            if (empty != 0) {
+                // Slots are never removed, so the first empty slot of the probe sequence is in this group.
+                if (size >= grow) {
+                    grow();
+                    insert(hash, size);
+                } else {
+                    set(group, SwissGroups.position(empty), control, size);
+                }
+                return append(key, hash);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinal associated with the given key, or -1 if the key doesn't exist.
+     *
+     * <p>
+     * The least significant bits of the hash identify the home group, and its 7 most significant bits are compared
+     * to the control bytes of the group. Matching keys are verified using their full hash, then an equality check.
+     * The probe stops at the first group that has an empty slot.
+     */
+    public long find(final BytesRef key) {
+        final long hash = hasher.hash(key);
+        final long control = SwissGroups.control(hash);
+
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long bytes = controls.get(group);
+            for (long matches = SwissGroups.match(bytes, control); matches != 0; matches &= matches - 1) {
+                final long ordinal = ordinal(group, SwissGroups.position(matches));
+                if (hashes.get(ordinal) == hash && key.bytesEquals(get(ordinal, scratch))) {
+                    return ordinal;
+                }
+            }
+            if (SwissGroups.matchEmpty(bytes) != 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the key associated with the given ordinal.
+     * The result is undefined for an unused ordinal.
+     *
+     * <p>
+     * Beware that the content of the {@link BytesRef} may become invalid as soon as {@link #close()} is called
+     */
+    public BytesRef get(final long ordinal, final BytesRef dest) {
+        final long start = offsets.get(ordinal);
+        final int length = (int) (offsets.get(ordinal + 1) - start);
+        keys.get(start, length, dest);
+        return dest;
+    }
+
+    /**
+     * Returns the number of mappings in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Appends the key in the keys' and offsets' tables.
+     */
+    private long append(final BytesRef key, final long hash) {
+        final long start = offsets.get(size);
+        final long end = start + key.length;
+        offsets = bigArrays.grow(offsets, size + 2);
+        offsets.set(size + 1, end);
+        keys = bigArrays.grow(keys, end);
+        keys.set(start, key.bytes, key.offset, key.length);
+        hashes = bigArrays.grow(hashes, size + 1);
+        hashes.set(size, hash);
+        return size++;
+    }
+
+    /**
+     * Inserts the ordinal of a key with the given hash in the first empty slot of its probe sequence.
+     */
+    private void insert(final long hash, final long ordinal) {
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long empty = SwissGroups.matchEmpty(controls.get(group));
+            if (empty != 0) {
+                set(group, SwissGroups.position(empty), SwissGroups.control(hash), ordinal);
+                return;
+            }
+        }
+    }
+
+    private void set(final long group, final int position, final long control, final long ordinal) {
+        controls.set(group, SwissGroups.set(controls.get(group), position, control));
+        ordinals.set(group * GROUP_SIZE + position, (int) ordinal);
+    }
+
+    private long ordinal(final long group, final int position) {
+        return Integer.toUnsignedLong(ordinals.get(group * GROUP_SIZE + position));
+    }
+
+    /**
+     * Grows the hash table by doubling its capacity and reinserting the previous values at their updated slots.
+     */
+    private void grow() {
+        final long groups = (mask + 1) << 1;
+        // Ensure that the hash table doesn't grow too large.
+        // This implicitly also ensures that the ordinals fit into 32 bits.
+        assert groups * GROUP_SIZE <= MAX_CAPACITY : "hash table already at the max capacity";
+
+        mask = groups - 1;
+        grow = (long) (groups * GROUP_SIZE * loadFactor);
+        controls = bigArrays.resize(controls, groups);
+        controls.fill(0, groups, SwissGroups.EMPTY_GROUP);
+        ordinals = bigArrays.resize(ordinals, groups * GROUP_SIZE);
+
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            insert(hashes.get(ordinal), ordinal);
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(controls, ordinals, offsets, keys, hashes);
+    }
+}
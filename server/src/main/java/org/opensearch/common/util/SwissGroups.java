@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.Numbers;
+
+/**
+ * Utilities to probe groups of control bytes of Swiss-table style hash tables.
+ *
+ * <p>
+ * The slots of these hash tables are organized in groups of eight, and each group keeps one control byte per slot
+ * packed into a single long. A control byte is either {@link #EMPTY} or holds 7 bits of the hash of the key stored
+ * in its slot. All the control bytes of a group are compared at once using SWAR (SIMD within a register) arithmetic,
+ * so a lookup usually inspects a single group and only verifies the keys whose control byte matched.
+ *
+ * @opensearch.internal
+ */
+final class SwissGroups {
+
+    /**
+     * Number of slots per group.
+     */
+    static final int GROUP_SIZE = Long.BYTES;
+
+    /**
+     * Control byte of an empty slot. It is the only control byte with its most significant bit set.
+     */
+    static final long EMPTY = 0x80L;
+
+    /**
+     * A group whose slots are all empty.
+     */
+    static final long EMPTY_GROUP = 0x8080808080808080L;
+
+    private static final long LSB = 0x0101010101010101L;  // least significant bit of each byte
+    private static final long MSB = 0x8080808080808080L;  // most significant bit of each byte
+
+    private SwissGroups() {}
+
+    /**
+     * Returns the number of groups required to hold the given number of keys without exceeding the load factor.
+     */
+    static long groups(final long initialCapacity, final float loadFactor) {
+        return Numbers.nextPowerOfTwo(Math.max(1, (long) Math.ceil(initialCapacity / loadFactor / GROUP_SIZE)));
+    }
+
+    /**
+     * Returns the control byte of the given hash. It uses the 7 most significant bits, which are not used to
+     * identify the home group of a key.
+     */
+    static long control(final long hash) {
+        return hash >>> 57;
+    }
+
+    /**
+     * Returns a mask with the most significant bit set for the bytes of the group which may be equal to the given
+     * control byte. A byte right above a matching byte may be a false positive, so matches must be verified.
+     */
+    static long match(final long group, final long control) {
+        final long x = group ^ (control * LSB);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /**
+     * Returns a mask with the most significant bit set for the empty slots of the group.
+     */
+    static long matchEmpty(final long group) {
+        return group & MSB;
+    }
+
+    /**
+     * Returns the position in its group of the slot identified by the lowest bit set in the given mask.
+     */
+    static int position(final long mask) {
+        return Long.numberOfTrailingZeros(mask) >>> 3;
+    }
+
+    /**
+     * Returns the group with the control byte at the given position replaced.
+     */
+    static long set(final long group, final int position, final long control) {
+        final int shift = position << 3;
+        return (group & ~(0xFFL << shift)) | (control << shift);
+    }
+}
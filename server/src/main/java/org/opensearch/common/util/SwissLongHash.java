@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+
+import static org.opensearch.common.util.SwissGroups.GROUP_SIZE;
+
+/**
+ * Specialized hash table implementation that maps a (primitive) long to long, with the same API as
+ * {@link ReorganizingLongHash}.
+ *
+ * <p>
+ * It is organized as a Swiss table: slots are grouped by eight, and each group has a long made of one control
+ * byte per slot, which holds 7 bits of the hash of the key stored in the slot (see {@link SwissGroups}). Lookups
+ * compare all the control bytes of a group at once and only check the keys of the matching slots, so they rarely
+ * touch more than one group and one key, even at high load factors. Groups are probed quadratically.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public class SwissLongHash implements Releasable {
+    private static final long MAX_CAPACITY = 1L << 32;
+    private static final long DEFAULT_INITIAL_CAPACITY = 32;
+    private static final float DEFAULT_LOAD_FACTOR = 0.8f;
+
+    /**
+     * Maximum load factor after which the capacity is doubled.
+     */
+    private final float loadFactor;
+
+    /**
+     * Utility class to allocate recyclable arrays.
+     */
+    private final BigArrays bigArrays;
+
+    /**
+     * Bitmask to identify the home group from a key's hash. The number of groups is a power of two.
+     */
+    private long mask;
+
+    /**
+     * Size threshold after which the hash table needs to be doubled in capacity.
+     */
+    private long grow;
+
+    /**
+     * Current size of the hash table.
+     */
+    private long size;
+
+    /**
+     * Control bytes of the slots, one long per group.
+     */
+    private LongArray controls;
+
+    /**
+     * Ordinals of the keys stored in the slots. The slot at the given position of a group is at
+     * <code>group * 8 + position</code>. The value is undefined for an empty slot.
+     */
+    private IntArray ordinals;
+
+    /**
+     * Keys by ordinal.
+     */
+    private LongArray keys;
+
+    public SwissLongHash(final BigArrays bigArrays) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, bigArrays);
+    }
+
+    public SwissLongHash(final long initialCapacity, final float loadFactor, final BigArrays bigArrays) {
+        assert initialCapacity > 0 : "initial capacity must be greater than 0";
+        assert loadFactor > 0 && loadFactor < 1 : "load factor must be between 0 and 1";
+
+        this.bigArrays = bigArrays;
+        this.loadFactor = loadFactor;
+
+        final long groups = SwissGroups.groups(initialCapacity, loadFactor);
+        assert groups * GROUP_SIZE <= MAX_CAPACITY : "required capacity too large";
+        mask = groups - 1;
+        grow = (long) (groups * GROUP_SIZE * loadFactor);
+        size = 0;
+        try {
+            controls = bigArrays.newLongArray(groups, false);
+            controls.fill(0, groups, SwissGroups.EMPTY_GROUP);
+            ordinals = bigArrays.newIntArray(groups * GROUP_SIZE, false);
+            keys = bigArrays.newLongArray(initialCapacity, false);
+        } finally {
+            if (controls == null || ordinals == null || keys == null) {
+                // close the arrays initialized above to prevent memory leaks
+                Releasables.closeWhileHandlingException(controls, ordinals, keys);
+            }
+        }
+    }
+
+    /**
+     * Adds the given key to the hash table and returns its ordinal.
+     * If the key exists already, it returns (-1 - ordinal).
+     */
+    public long add(final long key) {
+        final long hash = hash(key);
+        final long control = SwissGroups.control(hash);
+
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long bytes = controls.get(group);
+            for (long matches = SwissGroups.match(bytes, control); matches != 0; matches &= matches - 1) {
+                final long ordinal = ordinal(group, SwissGroups.position(matches));
+                if (keys.get(ordinal) == key) {
+                    return -1 - ordinal;
+                }
+            }
+            final long empty = SwissGroups.matchEmpty(bytes);
+            if (empty != 0) {
+                // Slots are never removed, so the first empty slot of the probe sequence is in this group.
+                if (size >= grow) {
+                    grow();
+                    insert(hash, size);
+                } else {
+                    set(group, SwissGroups.position(empty), control, size);
+                }
+                keys = bigArrays.grow(keys, size + 1);
+                keys.set(size, key);
+                return size++;
+            }
+        }
+    }
+
+    /**
+     * Returns the key associated with the given ordinal.
+     * The result is undefined for an unused ordinal.
+     */
+    public long get(final long ordinal) {
+        return keys.get(ordinal);
+    }
+
+    /**
+     * Returns the ordinal associated with the given key, or -1 if the key doesn't exist.
+     *
+     * <p>
+     * The least significant bits of the hash identify the home group, and its 7 most significant bits are compared
+     * to the control bytes of the group. Only keys whose control byte matches are checked for equality. The probe
+     * stops at the first group that has an empty slot.
+     */
+    public long find(final long key) {
+        final long hash = hash(key);
+        final long control = SwissGroups.control(hash);
+
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long bytes = controls.get(group);
+            for (long matches = SwissGroups.match(bytes, control); matches != 0; matches &= matches - 1) {
+                final long ordinal = ordinal(group, SwissGroups.position(matches));
+                if (keys.get(ordinal) == key) {
+                    return ordinal;
+                }
+            }
+            if (SwissGroups.matchEmpty(bytes) != 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of mappings in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Inserts the ordinal of a key with the given hash in the first empty slot of its probe sequence.
+     */
+    private void insert(final long hash, final long ordinal) {
+        for (long group = hash & mask, step = 1;; group = (group + step++) & mask) {
+            final long empty = SwissGroups.matchEmpty(controls.get(group));
+            if (empty != 0) {
+                set(group, SwissGroups.position(empty), SwissGroups.control(hash), ordinal);
+                return;
+            }
+        }
+    }
+
+    private void set(final long group, final int position, final long control, final long ordinal) {
+        controls.set(group, SwissGroups.set(controls.get(group), position, control));
+        ordinals.set(group * GROUP_SIZE + position, (int) ordinal);
+    }
+
+    private long ordinal(final long group, final int position) {
+        return Integer.toUnsignedLong(ordinals.get(group * GROUP_SIZE + position));
+    }
+
+    /**
+     * Returns the underlying hash value for the given key.
+     */
+    long hash(final long key) {
+        return BitMixer.mix64(key);
+    }
+
+    /**
+     * Grows the hash table by doubling its capacity and reinserting the keys.
+     */
+    private void grow() {
+        final long groups = (mask + 1) << 1;
+        // Ensure that the hash table doesn't grow too large.
+        // This implicitly also ensures that the ordinals fit into 32 bits.
+        assert groups * GROUP_SIZE <= MAX_CAPACITY : "hash table already at the max capacity";
+
+        mask = groups - 1;
+        grow = (long) (groups * GROUP_SIZE * loadFactor);
+        controls = bigArrays.resize(controls, groups);
+        controls.fill(0, groups, SwissGroups.EMPTY_GROUP);
+        ordinals = bigArrays.resize(ordinals, groups * GROUP_SIZE);
+
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            insert(hash(keys.get(ordinal)), ordinal);
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(controls, ordinals, keys);
+    }
+}
@@ -180,6 +180,16 @@ public class OpenSearchExecutors {
         );
     }
 
+    public static OpenSearchVirtualThreadExecutor newVirtual(
+        String name,
+        int maxConcurrency,
+        int queueCapacity,
+        ThreadFactory threadFactory,
+        ThreadContext contextHolder
+    ) {
+        return new OpenSearchVirtualThreadExecutor(name, maxConcurrency, queueCapacity, threadFactory, contextHolder);
+    }
+
     public static OpenSearchThreadPoolExecutor newResizable(
         String name,
         int size,
@@ -382,6 +392,10 @@ public class OpenSearchExecutors {
         return new OpenSearchThreadFactory(namePrefix);
     }
 
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        return new OpenSearchVirtualThreadFactory(namePrefix);
+    }
+
     /**
      * A thread factory
      *
@@ -409,6 +423,30 @@ public class OpenSearchExecutors {
 
     }
 
+    /**
+     * A thread factory for virtual threads
+     *
+     * @opensearch.internal
+     */
+    static class OpenSearchVirtualThreadFactory implements ThreadFactory {
+
+        final ThreadFactory factory = Thread.ofVirtual().factory();
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        final String namePrefix;
+
+        OpenSearchVirtualThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = factory.newThread(r);
+            t.setName(namePrefix + "[V#" + threadNumber.getAndIncrement() + "]");
+            return t;
+        }
+
+    }
+
     /**
      * Cannot instantiate.
      */
@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor that runs every task on its own virtual thread, for pools whose threads spend most of their time blocked on I/O.
+ * Virtual threads are cheap to create, so there are no idle threads to keep around. The number of tasks that run concurrently
+ * is still limited by a semaphore, so that a pool cannot open an unbounded number of connections to a repository, and tasks
+ * beyond the limit wait in a (optionally bounded) queue and are rejected once it is full, like on a fixed pool. A thread that
+ * completes a task picks up the next queued task before giving its permit back.
+ *
+ * @opensearch.internal
+ */
+public final class OpenSearchVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final ThreadFactory threadFactory;
+    private final ThreadContext contextHolder;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> queue;
+    private final Set<Thread> runningThreads = ConcurrentCollections.newConcurrentSet();
+    private final AtomicInteger largestConcurrency = new AtomicInteger();
+    private final CounterMetric completed = new CounterMetric();
+    private final CounterMetric rejected = new CounterMetric();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    OpenSearchVirtualThreadExecutor(
+        String name,
+        int maxConcurrency,
+        int queueCapacity,
+        ThreadFactory threadFactory,
+        ThreadContext contextHolder
+    ) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("max concurrency must be at least 1 but was [" + maxConcurrency + "]");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.threadFactory = threadFactory;
+        this.contextHolder = contextHolder;
+        this.permits = new Semaphore(maxConcurrency);
+        if (queueCapacity < 0) {
+            this.queue = ConcurrentCollections.newBlockingQueue();
+        } else {
+            this.queue = new SizeBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), queueCapacity);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        final Runnable task = contextHolder.preserveContext(command);
+        try {
+            doExecute(task);
+        } catch (OpenSearchRejectedExecutionException ex) {
+            if (command instanceof AbstractRunnable) {
+                // If we are an abstract runnable we can handle the rejection
+                // directly and don't need to rethrow it.
+                try {
+                    ((AbstractRunnable) command).onRejection(ex);
+                } finally {
+                    ((AbstractRunnable) command).onAfter();
+                }
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    private void doExecute(Runnable task) {
+        if (shutdown) {
+            throw newRejectedException(task);
+        }
+        if (permits.tryAcquire()) {
+            if (shutdown) {
+                releasePermit();
+                throw newRejectedException(task);
+            }
+            start(task);
+        } else if (queue.offer(task)) {
+            if (shutdown && queue.remove(task)) {
+                tryTerminate();
+                throw newRejectedException(task);
+            }
+            // all permits may have been released between the failed acquisition and adding the task to the queue
+            startQueuedTaskIfPossible();
+        } else {
+            throw newRejectedException(task);
+        }
+    }
+
+    private OpenSearchRejectedExecutionException newRejectedException(Runnable task) {
+        rejected.inc();
+        return new OpenSearchRejectedExecutionException("rejected execution of " + task + " on " + this, shutdown);
+    }
+
+    private void start(Runnable task) {
+        final int concurrency = maxConcurrency - permits.availablePermits();
+        largestConcurrency.accumulateAndGet(concurrency, Math::max);
+        final Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> runTasks(task));
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            releasePermit();
+            throw e;
+        }
+    }
+
+    private void runTasks(Runnable first) {
+        final Thread currentThread = Thread.currentThread();
+        runningThreads.add(currentThread);
+        try {
+            Runnable task = first;
+            while (task != null) {
+                try {
+                    task.run();
+                } finally {
+                    completed.inc();
+                }
+                task = queue.poll();
+            }
+        } finally {
+            runningThreads.remove(currentThread);
+            releasePermit();
+            // a task may have been queued after the last poll, or left behind by a task that failed
+            startQueuedTaskIfPossible();
+        }
+    }
+
+    private void startQueuedTaskIfPossible() {
+        while (queue.isEmpty() == false && permits.tryAcquire()) {
+            final Runnable task = queue.poll();
+            if (task != null) {
+                start(task);
+                return;
+            }
+            releasePermit();
+        }
+    }
+
+    private void releasePermit() {
+        permits.release();
+        tryTerminate();
+    }
+
+    private void tryTerminate() {
+        if (shutdown && queue.isEmpty() && permits.availablePermits() == maxConcurrency) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        final List<Runnable> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        for (Thread thread : runningThreads) {
+            thread.interrupt();
+        }
+        tryTerminate();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Returns the maximum number of tasks that run concurrently.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of tasks that are currently running.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns the largest number of tasks that ever ran concurrently.
+     */
+    public int getLargestConcurrency() {
+        return largestConcurrency.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getCompletedTaskCount() {
+        return completed.count();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejected.count();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName()
+            + "[name = "
+            + name
+            + ", max concurrency = "
+            + maxConcurrency
+            + ", queue capacity = "
+            + queueCapacity
+            + ", active = "
+            + getActiveCount()
+            + ", queued tasks = "
+            + queue.size()
+            + ", completed tasks = "
+            + completed.count()
+            + "]";
+    }
+}
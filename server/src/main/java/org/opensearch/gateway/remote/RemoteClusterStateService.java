@@ -69,6 +69,7 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -250,6 +251,10 @@ public class RemoteClusterStateService implements Closeable {
     private final String remotePathPrefix;
 
     private final RemoteClusterStateCache remoteClusterStateCache;
+    @Nullable
+    private final Path indexMetadataBlobCachePath;
+    @Nullable
+    private volatile RemoteIndexMetadataBlobCache indexMetadataBlobCache;
     // ToXContent Params with gateway mode.
     // We are using gateway context mode to persist all custom metadata.
     public static final ToXContent.Params FORMAT_PARAMS;
@@ -269,8 +274,37 @@ public class RemoteClusterStateService implements Closeable {
         ThreadPool threadPool,
         List<IndexMetadataUploadListener> indexMetadataUploadListeners,
         NamedWriteableRegistry namedWriteableRegistry
+    ) {
+        this(
+            nodeId,
+            repositoriesService,
+            settings,
+            clusterService,
+            relativeTimeNanosSupplier,
+            threadPool,
+            indexMetadataUploadListeners,
+            namedWriteableRegistry,
+            null
+        );
+    }
+
+    /**
+     * @param indexMetadataBlobCachePath local directory to cache downloaded index metadata blobs in, see
+     *                                   {@link RemoteIndexMetadataBlobCache#REMOTE_INDEX_METADATA_CACHE_SIZE_SETTING}
+     */
+    public RemoteClusterStateService(
+        String nodeId,
+        Supplier<RepositoriesService> repositoriesService,
+        Settings settings,
+        ClusterService clusterService,
+        LongSupplier relativeTimeNanosSupplier,
+        ThreadPool threadPool,
+        List<IndexMetadataUploadListener> indexMetadataUploadListeners,
+        NamedWriteableRegistry namedWriteableRegistry,
+        @Nullable Path indexMetadataBlobCachePath
     ) {
         assert isRemoteClusterStateConfigured(settings) : "Remote cluster state is not configured";
+        this.indexMetadataBlobCachePath = indexMetadataBlobCachePath;
         this.nodeId = nodeId;
         this.repositoriesService = repositoriesService;
         this.settings = settings;
@@ -1076,6 +1110,26 @@ public class RemoteClusterStateService implements Closeable {
         this.remoteRoutingTableService.close();
     }
 
+    @Nullable
+    private RemoteIndexMetadataBlobCache createIndexMetadataBlobCache() {
+        final long cacheSize = RemoteIndexMetadataBlobCache.REMOTE_INDEX_METADATA_CACHE_SIZE_SETTING.get(settings).getBytes();
+        if (indexMetadataBlobCachePath == null || cacheSize <= 0) {
+            return null;
+        }
+        try {
+            return new RemoteIndexMetadataBlobCache(indexMetadataBlobCachePath, cacheSize);
+        } catch (IOException e) {
+            logger.warn(
+                () -> new ParameterizedMessage(
+                    "failed to initialize index metadata blob cache at [{}], reading without cache",
+                    indexMetadataBlobCachePath
+                ),
+                e
+            );
+            return null;
+        }
+    }
+
     public void start() {
         assert isRemoteClusterStateConfigured(settings) == true : "Remote cluster state is not enabled";
         final String remoteStoreRepo = RemoteStoreNodeAttribute.getClusterStateRepoName(settings);
@@ -1095,12 +1149,14 @@ public class RemoteClusterStateService implements Closeable {
             namedWriteableRegistry,
             threadpool
         );
+        indexMetadataBlobCache = createIndexMetadataBlobCache();
         remoteIndexMetadataManager = new RemoteIndexMetadataManager(
             clusterSettings,
             clusterName,
             blobStoreRepository,
             blobStoreTransferService,
-            threadpool
+            threadpool,
+            indexMetadataBlobCache
         );
         remoteManifestManager = new RemoteManifestManager(
             clusterSettings,
@@ -2130,6 +2186,15 @@ public class RemoteClusterStateService implements Closeable {
         return remoteStateStats.getRemoteDiffDownloadStats();
     }
 
+    /**
+     * @return the stats of the local index metadata blob cache, or {@code null} if the cache is disabled
+     */
+    @Nullable
+    public PersistedStateStats getIndexMetadataCacheStats() {
+        final RemoteIndexMetadataBlobCache blobCache = indexMetadataBlobCache;
+        return blobCache == null ? null : blobCache.stats();
+    }
+
     public void fullDownloadFailed() {
         remoteStateStats.stateFullDownloadFailed();
     }
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway.remote;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded, content-addressed cache of downloaded index metadata blobs on local disk. Index metadata blobs are immutable once
+ * uploaded (their names embed the index metadata version and the upload time), so the blob name identifies the content. Entries
+ * are stored under the SHA-256 of the blob name and survive restarts, so a node re-joining the cluster or reading the state after
+ * an election only downloads the index metadata that changed. The blobs carry their own checksum, which is verified on every
+ * read by {@link org.opensearch.repositories.blobstore.ChecksumBlobStoreFormat}, and corrupted entries are invalidated by the caller.
+ *
+ * @opensearch.internal
+ */
+public class RemoteIndexMetadataBlobCache {
+
+    private static final Logger logger = LogManager.getLogger(RemoteIndexMetadataBlobCache.class);
+
+    /**
+     * Maximum size of the local index metadata blob cache, {@code 0} disables the cache.
+     */
+    public static final Setting<ByteSizeValue> REMOTE_INDEX_METADATA_CACHE_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.remote_store.state.index_metadata.cache.size",
+        new ByteSizeValue(0),
+        Setting.Property.NodeScope
+    );
+
+    public static final String CACHE_FOLDER = "remote_index_metadata_cache";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    // cache file name to file size, in access order; guarded by this
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+    private final RemoteIndexMetadataCacheStats stats = new RemoteIndexMetadataCacheStats();
+
+    public RemoteIndexMetadataBlobCache(Path directory, long maxSizeInBytes) throws IOException {
+        assert maxSizeInBytes > 0 : "cache size must be positive but was " + maxSizeInBytes;
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        Files.createDirectories(directory);
+        loadExistingEntries();
+    }
+
+    private void loadExistingEntries() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                if (file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX)) {
+                    // left over from a write that did not complete
+                    Files.deleteIfExists(file);
+                } else {
+                    files.add(file);
+                }
+            }
+        }
+        // least recently written first, so that the eviction order roughly survives restarts
+        final Map<Path, FileTime> lastModified = new LinkedHashMap<>();
+        for (Path file : files) {
+            lastModified.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(lastModified::get));
+        synchronized (this) {
+            for (Path file : files) {
+                final long size = Files.size(file);
+                entries.put(file.getFileName().toString(), size);
+                sizeInBytes += size;
+            }
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * Returns the cached bytes of the given blob, or {@code null} if the blob is not cached.
+     */
+    @Nullable
+    public BytesReference get(String blobName) {
+        final String fileName = cacheFileName(blobName);
+        synchronized (this) {
+            if (entries.get(fileName) == null) {
+                stats.miss();
+                return null;
+            }
+        }
+        try {
+            final BytesReference bytes = new BytesArray(Files.readAllBytes(directory.resolve(fileName)));
+            stats.hit();
+            return bytes;
+        } catch (IOException e) {
+            // evicted concurrently or not readable anymore
+            logger.debug(() -> new ParameterizedMessage("failed to read cached blob [{}]", blobName), e);
+            invalidate(blobName);
+            stats.miss();
+            return null;
+        }
+    }
+
+    /**
+     * Adds the given blob to the cache, evicting the least recently used blobs if the cache is full. Failures to write the
+     * blob are logged and otherwise ignored.
+     */
+    public void put(String blobName, BytesReference bytes) {
+        final long length = bytes.length();
+        if (length > maxSizeInBytes) {
+            return;
+        }
+        final String fileName = cacheFileName(blobName);
+        final Path tempFile = directory.resolve(fileName + "." + UUIDs.randomBase64UUID() + TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempFile, BytesReference.toBytes(bytes));
+            Files.move(tempFile, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to cache blob [{}]", blobName), e);
+            deleteQuietly(tempFile);
+            return;
+        }
+        synchronized (this) {
+            final Long previous = entries.put(fileName, length);
+            sizeInBytes += length - (previous == null ? 0 : previous);
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * Removes the given blob from the cache, e.g. because its content failed verification.
+     */
+    public void invalidate(String blobName) {
+        final String fileName = cacheFileName(blobName);
+        synchronized (this) {
+            final Long size = entries.remove(fileName);
+            if (size != null) {
+                sizeInBytes -= size;
+                stats.invalidated();
+            }
+        }
+        deleteQuietly(directory.resolve(fileName));
+    }
+
+    private void evictIfNeeded() {
+        assert Thread.holdsLock(this);
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            final Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            sizeInBytes -= eldest.getValue();
+            deleteQuietly(directory.resolve(eldest.getKey()));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to delete [{}]", file), e);
+        }
+    }
+
+    static String cacheFileName(String blobName) {
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(blobName.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized int getCount() {
+        return entries.size();
+    }
+
+    public RemoteIndexMetadataCacheStats stats() {
+        return stats;
+    }
+}
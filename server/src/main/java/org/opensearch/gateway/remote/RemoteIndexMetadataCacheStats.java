@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway.remote;
+
+import org.opensearch.cluster.coordination.PersistedStateStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stats of the local {@link RemoteIndexMetadataBlobCache}
+ *
+ * @opensearch.internal
+ */
+public class RemoteIndexMetadataCacheStats extends PersistedStateStats {
+    public static final String INDEX_METADATA_CACHE_STATS = "remote_index_metadata_cache";
+    static final String HIT_COUNT = "hit_count";
+    static final String MISS_COUNT = "miss_count";
+    static final String INVALIDATED_COUNT = "invalidated_count";
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+    private final AtomicLong invalidatedCount = new AtomicLong(0);
+
+    public RemoteIndexMetadataCacheStats() {
+        super(INDEX_METADATA_CACHE_STATS);
+        addToExtendedFields(HIT_COUNT, hitCount);
+        addToExtendedFields(MISS_COUNT, missCount);
+        addToExtendedFields(INVALIDATED_COUNT, invalidatedCount);
+    }
+
+    public void hit() {
+        hitCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public void miss() {
+        missCount.incrementAndGet();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void invalidated() {
+        invalidatedCount.incrementAndGet();
+    }
+
+    public long getInvalidatedCount() {
+        return invalidatedCount.get();
+    }
+}
@@ -8,7 +8,12 @@
 
 package org.opensearch.gateway.remote;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.Streams;
 import org.opensearch.common.remote.AbstractClusterMetadataWriteableBlobEntity;
 import org.opensearch.common.remote.AbstractRemoteWritableEntityManager;
 import org.opensearch.common.remote.RemoteWriteableEntityBlobStore;
@@ -16,6 +21,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.gateway.remote.model.RemoteIndexMetadata;
@@ -26,6 +32,7 @@ import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Locale;
 
 /**
@@ -35,6 +42,8 @@ import java.util.Locale;
  */
 public class RemoteIndexMetadataManager extends AbstractRemoteWritableEntityManager {
 
+    private static final Logger logger = LogManager.getLogger(RemoteIndexMetadataManager.class);
+
     public static final TimeValue INDEX_METADATA_UPLOAD_TIMEOUT_DEFAULT = TimeValue.timeValueMillis(20000);
 
     public static final Setting<TimeValue> INDEX_METADATA_UPLOAD_TIMEOUT_SETTING = Setting.timeSetting(
@@ -83,17 +92,30 @@ public class RemoteIndexMetadataManager extends AbstractRemoteWritableEntityMana
         BlobStoreRepository blobStoreRepository,
         BlobStoreTransferService blobStoreTransferService,
         ThreadPool threadpool
+    ) {
+        this(clusterSettings, clusterName, blobStoreRepository, blobStoreTransferService, threadpool, null);
+    }
+
+    public RemoteIndexMetadataManager(
+        ClusterSettings clusterSettings,
+        String clusterName,
+        BlobStoreRepository blobStoreRepository,
+        BlobStoreTransferService blobStoreTransferService,
+        ThreadPool threadpool,
+        @Nullable RemoteIndexMetadataBlobCache blobCache
     ) {
         this.remoteWritableEntityStores.put(
             RemoteIndexMetadata.INDEX,
-            new RemoteWriteableEntityBlobStore<>(
-                blobStoreTransferService,
-                blobStoreRepository,
-                clusterName,
-                threadpool,
-                ThreadPool.Names.REMOTE_STATE_READ,
-                RemoteClusterStateUtils.CLUSTER_STATE_PATH_TOKEN
-            )
+            blobCache == null
+                ? new RemoteWriteableEntityBlobStore<>(
+                    blobStoreTransferService,
+                    blobStoreRepository,
+                    clusterName,
+                    threadpool,
+                    ThreadPool.Names.REMOTE_STATE_READ,
+                    RemoteClusterStateUtils.CLUSTER_STATE_PATH_TOKEN
+                )
+                : new CachingIndexMetadataBlobStore(blobStoreTransferService, blobStoreRepository, clusterName, threadpool, blobCache)
         );
         this.namedXContentRegistry = blobStoreRepository.getNamedXContentRegistry();
         this.compressor = blobStoreRepository.getCompressor();
@@ -160,6 +182,58 @@ public class RemoteIndexMetadataManager extends AbstractRemoteWritableEntityMana
         );
     }
 
+    /**
+     * Reads index metadata blobs through the local {@link RemoteIndexMetadataBlobCache}, downloading and caching them on a miss.
+     * Reads are still dispatched to the {@link ThreadPool.Names#REMOTE_STATE_READ} pool, which bounds the parallel downloads.
+     *
+     * @opensearch.internal
+     */
+    static final class CachingIndexMetadataBlobStore extends RemoteWriteableEntityBlobStore<IndexMetadata, RemoteIndexMetadata> {
+
+        private final RemoteIndexMetadataBlobCache blobCache;
+
+        CachingIndexMetadataBlobStore(
+            BlobStoreTransferService blobStoreTransferService,
+            BlobStoreRepository blobStoreRepository,
+            String clusterName,
+            ThreadPool threadPool,
+            RemoteIndexMetadataBlobCache blobCache
+        ) {
+            super(
+                blobStoreTransferService,
+                blobStoreRepository,
+                clusterName,
+                threadPool,
+                ThreadPool.Names.REMOTE_STATE_READ,
+                RemoteClusterStateUtils.CLUSTER_STATE_PATH_TOKEN
+            );
+            this.blobCache = blobCache;
+        }
+
+        @Override
+        public IndexMetadata read(final RemoteIndexMetadata entity) throws IOException {
+            assert entity.getFullBlobName() != null;
+            final String blobName = entity.getFullBlobName();
+            final BytesReference cached = blobCache.get(blobName);
+            if (cached != null) {
+                try {
+                    return entity.deserialize(cached.streamInput());
+                } catch (IOException e) {
+                    // the blob format is checksummed, so this is a corrupted cache entry, fall back to the blob store
+                    logger.warn(() -> new ParameterizedMessage("failed to read cached index metadata blob [{}]", blobName), e);
+                    blobCache.invalidate(blobName);
+                }
+            }
+            final BytesReference bytes;
+            try (InputStream inputStream = downloadBlob(entity)) {
+                bytes = Streams.readFully(inputStream);
+            }
+            final IndexMetadata indexMetadata = entity.deserialize(bytes.streamInput());
+            blobCache.put(blobName, bytes);
+            return indexMetadata;
+        }
+    }
+
     private void setPathTypeSetting(RemoteStoreEnums.PathType pathType) {
         this.pathType = pathType;
     }
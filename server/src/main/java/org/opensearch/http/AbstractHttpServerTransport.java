@@ -110,6 +110,8 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
 
     private volatile BoundTransportAddress boundAddress;
     private final AtomicLong totalChannelsAccepted = new AtomicLong();
+    private final AtomicLong totalStreamsAccepted = new AtomicLong();
+    private final AtomicLong openStreams = new AtomicLong();
     private final Set<HttpChannel> httpChannels = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Set<HttpServerChannel> httpServerChannels = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
@@ -168,7 +170,7 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
 
     @Override
     public HttpStats stats() {
-        return new HttpStats(httpChannels.size(), totalChannelsAccepted.get());
+        return new HttpStats(httpChannels.size(), totalChannelsAccepted.get(), openStreams.get(), totalStreamsAccepted.get());
     }
 
     protected void bindServer() {
@@ -334,6 +336,17 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
         logger.trace(() -> new ParameterizedMessage("Http channel accepted: {}", httpChannel));
     }
 
+    /**
+     * Records a stream opened on a multiplexed (HTTP/2) channel. Streams are closed together with their parent channel, so unlike
+     * channels they are only counted and not tracked.
+     */
+    protected void serverAcceptedStream(HttpChannel streamChannel) {
+        totalStreamsAccepted.incrementAndGet();
+        openStreams.incrementAndGet();
+        streamChannel.addCloseListener(ActionListener.wrap(openStreams::decrementAndGet));
+        logger.trace(() -> new ParameterizedMessage("Http stream accepted: {}", streamChannel));
+    }
+
     /**
      * This method handles an incoming http request as a stream.
      *
@@ -32,6 +32,7 @@
 
 package org.opensearch.http;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -51,21 +52,40 @@ public class HttpStats implements Writeable, ToXContentFragment {
 
     private final long serverOpen;
     private final long totalOpen;
+    private final long streamsOpen;
+    private final long totalStreamsOpen;
 
     public HttpStats(long serverOpen, long totalOpened) {
+        this(serverOpen, totalOpened, 0, 0);
+    }
+
+    public HttpStats(long serverOpen, long totalOpened, long streamsOpen, long totalStreamsOpened) {
         this.serverOpen = serverOpen;
         this.totalOpen = totalOpened;
+        this.streamsOpen = streamsOpen;
+        this.totalStreamsOpen = totalStreamsOpened;
     }
 
     public HttpStats(StreamInput in) throws IOException {
         serverOpen = in.readVLong();
         totalOpen = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            streamsOpen = in.readVLong();
+            totalStreamsOpen = in.readVLong();
+        } else {
+            streamsOpen = 0;
+            totalStreamsOpen = 0;
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(serverOpen);
         out.writeVLong(totalOpen);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(streamsOpen);
+            out.writeVLong(totalStreamsOpen);
+        }
     }
 
     public long getServerOpen() {
@@ -76,10 +96,26 @@ public class HttpStats implements Writeable, ToXContentFragment {
         return this.totalOpen;
     }
 
+    /**
+     * Returns the number of HTTP/2 streams that are currently open.
+     */
+    public long getStreamsOpen() {
+        return this.streamsOpen;
+    }
+
+    /**
+     * Returns the total number of HTTP/2 streams that were opened.
+     */
+    public long getTotalStreamsOpen() {
+        return this.totalStreamsOpen;
+    }
+
     static final class Fields {
         static final String HTTP = "http";
         static final String CURRENT_OPEN = "current_open";
         static final String TOTAL_OPENED = "total_opened";
+        static final String CURRENT_OPEN_STREAMS = "current_open_streams";
+        static final String TOTAL_OPENED_STREAMS = "total_opened_streams";
     }
 
     @Override
@@ -87,6 +123,8 @@ public class HttpStats implements Writeable, ToXContentFragment {
         builder.startObject(Fields.HTTP);
         builder.field(Fields.CURRENT_OPEN, serverOpen);
         builder.field(Fields.TOTAL_OPENED, totalOpen);
+        builder.field(Fields.CURRENT_OPEN_STREAMS, streamsOpen);
+        builder.field(Fields.TOTAL_OPENED_STREAMS, totalStreamsOpen);
         builder.endObject();
         return builder;
     }
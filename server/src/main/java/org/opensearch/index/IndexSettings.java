@@ -697,6 +697,16 @@ public final class IndexSettings {
         Property.InternalIndex
     );
 
+    /**
+     * Whether the small files that are read when a searchable snapshot shard is opened, or that index its larger files, are fetched
+     * into the file cache in the background when the shard is opened rather than block by block by the first searches.
+     */
+    public static final Setting<Boolean> SEARCHABLE_SNAPSHOT_PREFETCH_STRUCTURAL_FILES = Setting.boolSetting(
+        "index.searchable_snapshot.prefetch_structural_files",
+        false,
+        Property.IndexScope
+    );
+
     public static final Setting<String> DEFAULT_SEARCH_PIPELINE = new Setting<>(
         "index.search.default_pipeline",
         SearchPipelineService.NOOP_PIPELINE_ID,
@@ -42,6 +42,7 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.index.stats.IndexingPressureStats;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -74,6 +75,9 @@ public class IndexingPressure {
     protected final AtomicLong primaryRejections = new AtomicLong(0);
     protected final AtomicLong replicaRejections = new AtomicLong(0);
 
+    protected final AtomicLong coordinatingRequests = new AtomicLong(0);
+    protected final AtomicLong coordinatingTimeInNanos = new AtomicLong(0);
+
     protected final long primaryAndCoordinatingLimits;
     protected final long replicaLimits;
 
@@ -201,6 +205,14 @@ public class IndexingPressure {
         return wrapReleasable(() -> this.currentReplicaBytes.getAndAdd(-bytes));
     }
 
+    /**
+     * Records the time the coordinating node spent on a bulk request before its shard level requests were sent.
+     */
+    public void recordCoordinatingTime(long timeInNanos) {
+        coordinatingRequests.incrementAndGet();
+        coordinatingTimeInNanos.addAndGet(timeInNanos);
+    }
+
     public long getCurrentCombinedCoordinatingAndPrimaryBytes() {
         return currentCombinedCoordinatingAndPrimaryBytes.get();
     }
@@ -230,7 +242,9 @@ public class IndexingPressure {
             coordinatingRejections.get(),
             primaryRejections.get(),
             replicaRejections.get(),
-            primaryAndCoordinatingLimits
+            primaryAndCoordinatingLimits,
+            coordinatingRequests.get(),
+            TimeUnit.NANOSECONDS.toMillis(coordinatingTimeInNanos.get())
         );
     }
 }
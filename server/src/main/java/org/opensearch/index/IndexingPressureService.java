@@ -115,6 +115,15 @@ public class IndexingPressureService {
         }
     }
 
+    /**
+     * Records the time the coordinating node spent on a bulk request before its shard level requests were sent. The time is
+     * tracked at node level regardless of whether shard indexing pressure is enabled.
+     * @param timeInNanos time spent resolving, routing and grouping the bulk items
+     */
+    public void recordCoordinatingTime(long timeInNanos) {
+        shardIndexingPressure.recordCoordinatingTime(timeInNanos);
+    }
+
     public IndexingPressureStats nodeStats() {
         return shardIndexingPressure.stats();
     }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
@@ -37,6 +38,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
     // doesn't include time taken by primary to upload data to remote store.
     private final long currentReplicationTimeMillis;
     private final long lastCompletedReplicationTimeMillis;
+    // Bytes of the current replication that were already present on the replica, e.g. linked from identical local files.
+    private final long bytesReusedCount;
 
     @Nullable
     private SegmentReplicationState currentReplicationState;
@@ -48,6 +51,26 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         long currentReplicationTimeMillis,
         long currentReplicationLagMillis,
         long lastCompletedReplicationTime
+    ) {
+        this(
+            allocationId,
+            checkpointsBehindCount,
+            bytesBehindCount,
+            currentReplicationTimeMillis,
+            currentReplicationLagMillis,
+            lastCompletedReplicationTime,
+            0
+        );
+    }
+
+    public SegmentReplicationShardStats(
+        String allocationId,
+        long checkpointsBehindCount,
+        long bytesBehindCount,
+        long currentReplicationTimeMillis,
+        long currentReplicationLagMillis,
+        long lastCompletedReplicationTime,
+        long bytesReusedCount
     ) {
         this.allocationId = allocationId;
         this.checkpointsBehindCount = checkpointsBehindCount;
@@ -55,6 +78,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = currentReplicationTimeMillis;
         this.currentReplicationLagMillis = currentReplicationLagMillis;
         this.lastCompletedReplicationTimeMillis = lastCompletedReplicationTime;
+        this.bytesReusedCount = bytesReusedCount;
     }
 
     public SegmentReplicationShardStats(StreamInput in) throws IOException {
@@ -64,6 +88,11 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = in.readVLong();
         this.lastCompletedReplicationTimeMillis = in.readVLong();
         this.currentReplicationLagMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            this.bytesReusedCount = in.readVLong();
+        } else {
+            this.bytesReusedCount = 0;
+        }
     }
 
     public String getAllocationId() {
@@ -78,6 +107,14 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         return bytesBehindCount;
     }
 
+    /**
+     * Bytes of the current replication that the replica did not fetch because it already held identical files.
+     * @return bytesReusedCount
+     */
+    public long getBytesReusedCount() {
+        return bytesReusedCount;
+    }
+
     public long getCurrentReplicationTimeMillis() {
         return currentReplicationTimeMillis;
     }
@@ -114,6 +151,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         builder.field("allocation_id", allocationId);
         builder.field("checkpoints_behind", checkpointsBehindCount);
         builder.field("bytes_behind", new ByteSizeValue(bytesBehindCount).toString());
+        builder.field("bytes_reused", new ByteSizeValue(bytesReusedCount).toString());
         builder.field("current_replication_time", new TimeValue(currentReplicationTimeMillis));
         builder.field("current_replication_lag", new TimeValue(currentReplicationLagMillis));
         builder.field("last_completed_replication_time", new TimeValue(lastCompletedReplicationTimeMillis));
@@ -134,6 +172,9 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         out.writeVLong(currentReplicationTimeMillis);
         out.writeVLong(lastCompletedReplicationTimeMillis);
         out.writeVLong(currentReplicationLagMillis);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(bytesReusedCount);
+        }
     }
 
     @Override
@@ -145,6 +186,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
             + checkpointsBehindCount
             + ", bytesBehindCount="
             + bytesBehindCount
+            + ", bytesReusedCount="
+            + bytesReusedCount
             + ", currentReplicationLagMillis="
             + currentReplicationLagMillis
             + ", currentReplicationTimeMillis="
@@ -171,14 +171,15 @@ public class Composite912DocValuesReader extends DocValuesProducer implements Co
                             // adding metric fields
                             for (Metric metric : starTreeMetadata.getMetrics()) {
                                 for (MetricStat metricStat : metric.getBaseMetrics()) {
-                                    fields.add(
-                                        fullyQualifiedFieldNameForStarTreeMetricsDocValues(
-                                            compositeFieldName,
-                                            metric.getField(),
-                                            metricStat.getTypeName()
-                                        )
+                                    String metricName = fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+                                        compositeFieldName,
+                                        metric.getField(),
+                                        metricStat.getTypeName()
                                     );
-
+                                    fields.add(metricName);
+                                    if (metricStat.isSketch()) {
+                                        dimensionFieldTypeMap.put(metricName, metricStat.getDocValuesType());
+                                    }
                                 }
                             }
 
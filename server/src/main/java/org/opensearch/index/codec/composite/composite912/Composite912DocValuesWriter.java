@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -359,7 +360,9 @@ public class Composite912DocValuesWriter extends DocValuesConsumer {
             }
         }
         try (StarTreesBuilder starTreesBuilder = new StarTreesBuilder(state, mapperService, fieldNumberAcrossCompositeFields)) {
-            starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeSubsPerField, compositeDocValuesConsumer);
+            // star-trees of different fields are constructed concurrently on the intra-merge threads of the merge scheduler
+            Executor executor = mergeState.intraMergeTaskExecutor != null ? mergeState.intraMergeTaskExecutor : Runnable::run;
+            starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeSubsPerField, compositeDocValuesConsumer, executor);
         }
     }
 
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.compositeindex.datacube;
 
+import org.apache.lucene.index.DocValuesType;
 import org.opensearch.common.annotation.ExperimentalApi;
 
 import java.util.Arrays;
@@ -25,7 +26,9 @@ public enum MetricStat {
     MIN("min", 2),
     MAX("max", 3),
     AVG("avg", 4, VALUE_COUNT, SUM),
-    DOC_COUNT("doc_count", true, 5);
+    DOC_COUNT("doc_count", true, 5),
+    CARDINALITY("cardinality", 6),
+    PERCENTILES("percentiles", 7);
 
     private final String typeName;
     private final MetricStat[] baseMetrics;
@@ -73,6 +76,21 @@ public enum MetricStat {
         return baseMetrics != null && baseMetrics.length > 0;
     }
 
+    /**
+     * Return true if this metric is stored as a mergeable sketch rather than a single numeric value
+     * For example, CARDINALITY is stored as HyperLogLog++ registers
+     */
+    public boolean isSketch() {
+        return this == CARDINALITY || this == PERCENTILES;
+    }
+
+    /**
+     * Return the doc values type used to store this metric in the star-tree
+     */
+    public DocValuesType getDocValuesType() {
+        return isSketch() ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC;
+    }
+
     public static MetricStat fromTypeName(String typeName) {
         for (MetricStat metric : MetricStat.values()) {
             // prevent system fields to be entered as user input
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.io.IOException;
+
+/**
+ * Cardinality value aggregator for star tree. It aggregates the values into HyperLogLog++ registers,
+ * which are merged when star-tree documents are aggregated.
+ *
+ * @opensearch.experimental
+ */
+public class CardinalityValueAggregator implements SketchValueAggregator<HyperLogLogPlusPlus> {
+
+    /**
+     * Precision of the sketches. Only cardinality aggregations with the same precision can be computed from them.
+     */
+    public static final int PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    private final FieldValueConverter fieldValueConverter;
+    private final FieldValueConverter sketchType;
+    private final boolean hashDoubleValues;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        this.sketchType = new SketchType();
+        this.hashDoubleValues = hashDoubleValues(fieldValueConverter);
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return sketchType;
+    }
+
+    @Override
+    public HyperLogLogPlusPlus getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        HyperLogLogPlusPlus sketch = newSketch();
+        sketch.collect(0, hash(segmentDocValue));
+        return sketch;
+    }
+
+    @Override
+    public HyperLogLogPlusPlus mergeAggregatedValueAndSegmentValue(HyperLogLogPlusPlus value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        if (segmentDocValue != null) {
+            value.collect(0, hash(segmentDocValue));
+        }
+        return value;
+    }
+
+    @Override
+    public HyperLogLogPlusPlus mergeAggregatedValues(HyperLogLogPlusPlus value, HyperLogLogPlusPlus aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            aggregatedValue.merge(0, value, 0);
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public HyperLogLogPlusPlus getInitialAggregatedValue(HyperLogLogPlusPlus value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        HyperLogLogPlusPlus sketch = newSketch();
+        sketch.merge(0, value, 0);
+        return sketch;
+    }
+
+    @Override
+    public HyperLogLogPlusPlus toAggregatedValueType(Long rawValue) {
+        throw new UnsupportedOperationException("cardinality sketches are not stored as long values");
+    }
+
+    @Override
+    public HyperLogLogPlusPlus getIdentityMetricValue() {
+        // documents without values don't hold a sketch, in line with the cardinality aggregation ignoring them
+        return null;
+    }
+
+    @Override
+    public BytesRef toBytesRef(HyperLogLogPlusPlus value) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            value.writeTo(0, out);
+            return out.bytes().toBytesRef();
+        }
+    }
+
+    @Override
+    public HyperLogLogPlusPlus toAggregatedValueType(BytesRef bytes) throws IOException {
+        // sketches in linear counting mode are read as a sparse structure, which can't collect values
+        try (AbstractHyperLogLogPlusPlus stored = readSketch(bytes, BigArrays.NON_RECYCLING_INSTANCE)) {
+            HyperLogLogPlusPlus sketch = newSketch();
+            sketch.merge(0, stored, 0);
+            return sketch;
+        }
+    }
+
+    /**
+     * Reads a sketch stored in the star-tree. The caller is responsible for releasing it.
+     */
+    public static AbstractHyperLogLogPlusPlus readSketch(BytesRef bytes, BigArrays bigArrays) throws IOException {
+        try (StreamInput in = new BytesArray(bytes).streamInput()) {
+            return AbstractHyperLogLogPlusPlus.readFrom(in, bigArrays);
+        }
+    }
+
+    private static HyperLogLogPlusPlus newSketch() {
+        return new HyperLogLogPlusPlus(PRECISION, BigArrays.NON_RECYCLING_INSTANCE, 1);
+    }
+
+    /**
+     * Hashes a segment doc value the same way as the cardinality aggregation does, so that the sketches can be
+     * merged with the ones it collects.
+     */
+    long hash(long segmentDocValue) {
+        if (hashDoubleValues) {
+            return BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)));
+        }
+        return BitMixer.mix64(segmentDocValue);
+    }
+
+    /**
+     * The cardinality aggregation hashes the double values of floating point and unsigned long fields, and the long
+     * values of other numeric fields.
+     */
+    private static boolean hashDoubleValues(FieldValueConverter fieldValueConverter) {
+        NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType numberFieldType) {
+            numericType = numberFieldType.numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberType numberType) {
+            numericType = numberType.numericType();
+        } else {
+            return true;
+        }
+        return numericType.isFloatingPoint() || numericType == NumericType.UNSIGNED_LONG;
+    }
+}
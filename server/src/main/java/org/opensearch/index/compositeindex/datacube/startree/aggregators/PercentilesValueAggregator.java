@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.PercentilesConfig;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+
+/**
+ * Percentiles value aggregator for star tree. It aggregates the values into t-digests,
+ * which are merged when star-tree documents are aggregated.
+ *
+ * @opensearch.experimental
+ */
+public class PercentilesValueAggregator implements SketchValueAggregator<TDigestState> {
+
+    /**
+     * Compression of the sketches. Only percentiles aggregations with the same compression can be computed from them.
+     */
+    public static final double COMPRESSION = PercentilesConfig.TDigest.DEFAULT_COMPRESSION;
+
+    /**
+     * The serialization of {@link TDigestState} depends on the stream version, so it is pinned for the stored sketches.
+     */
+    private static final Version SKETCH_FORMAT_VERSION = Version.V_3_4_0;
+
+    private final FieldValueConverter fieldValueConverter;
+    private final FieldValueConverter sketchType;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+        this.sketchType = new SketchType();
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return sketchType;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        TDigestState sketch = new TDigestState(COMPRESSION);
+        sketch.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        return sketch;
+    }
+
+    @Override
+    public TDigestState mergeAggregatedValueAndSegmentValue(TDigestState value, Long segmentDocValue) {
+        if (value == null) {
+            return getInitialAggregatedValueForSegmentDocValue(segmentDocValue);
+        }
+        if (segmentDocValue != null) {
+            value.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+        }
+        return value;
+    }
+
+    @Override
+    public TDigestState mergeAggregatedValues(TDigestState value, TDigestState aggregatedValue) {
+        if (aggregatedValue == null) {
+            return getInitialAggregatedValue(value);
+        }
+        if (value != null) {
+            aggregatedValue.add(value);
+        }
+        return aggregatedValue;
+    }
+
+    @Override
+    public TDigestState getInitialAggregatedValue(TDigestState value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        TDigestState sketch = new TDigestState(COMPRESSION);
+        sketch.add(value);
+        return sketch;
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(Long rawValue) {
+        throw new UnsupportedOperationException("percentiles sketches are not stored as long values");
+    }
+
+    @Override
+    public TDigestState getIdentityMetricValue() {
+        // documents without values don't hold a sketch, in line with the percentiles aggregation ignoring them
+        return null;
+    }
+
+    @Override
+    public BytesRef toBytesRef(TDigestState value) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(SKETCH_FORMAT_VERSION);
+            TDigestState.write(value, out);
+            return out.bytes().toBytesRef();
+        }
+    }
+
+    @Override
+    public TDigestState toAggregatedValueType(BytesRef bytes) throws IOException {
+        return readSketch(bytes);
+    }
+
+    /**
+     * Reads a sketch stored in the star-tree.
+     */
+    public static TDigestState readSketch(BytesRef bytes) throws IOException {
+        try (StreamInput in = new BytesArray(bytes).streamInput()) {
+            in.setVersion(SKETCH_FORMAT_VERSION);
+            return TDigestState.read(in);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * A value aggregator whose aggregated values are mergeable sketches, such as HyperLogLog++ registers or t-digests.
+ * Sketches don't fit in a single long, so they are serialized and stored as binary doc values in the star-tree.
+ * <p>
+ * Aggregated values are mutable: merging into a value updates it in place, and {@link #getInitialAggregatedValue}
+ * returns a copy of the given value.
+ *
+ * @opensearch.experimental
+ */
+public interface SketchValueAggregator<A> extends ValueAggregator<A> {
+
+    /**
+     * Serializes an aggregated value.
+     */
+    BytesRef toBytesRef(A value) throws IOException;
+
+    /**
+     * Deserializes an aggregated value from the bytes returned by {@link #toBytesRef}.
+     */
+    A toAggregatedValueType(BytesRef bytes) throws IOException;
+}
@@ -14,6 +14,8 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,7 +23,9 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
@@ -51,6 +55,15 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
 
+    /**
+     * Aggregated documents hold serialized sketches when the star-tree has sketch metrics, which makes their size
+     * variable. In that case, the start offset of each written document is tracked instead of a fixed document size.
+     */
+    protected final boolean hasSketchMetrics;
+    private long[] docStartOffsets;
+    private int numWrittenDocs;
+    private long numWrittenBytes;
+
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
         StarTreeField starTreeField,
@@ -63,6 +76,8 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasSketchMetrics = metricAggregatorInfos.stream().anyMatch(info -> info.getMetricStat().isSketch());
+        this.docStartOffsets = hasSketchMetrics ? new long[16] : null;
     }
 
     private void setDocSizeInBytes(int numBytes) {
@@ -72,21 +87,46 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         assert docSizeInBytes == numBytes;
     }
 
+    /**
+     * Tracks the size of a written document
+     */
+    private void trackDocument(int numBytes) {
+        if (hasSketchMetrics) {
+            docStartOffsets = ArrayUtil.grow(docStartOffsets, numWrittenDocs + 1);
+            docStartOffsets[numWrittenDocs++] = numWrittenBytes;
+            numWrittenBytes += numBytes;
+        } else {
+            setDocSizeInBytes(numBytes);
+        }
+    }
+
+    /**
+     * Returns the offset of the document with the given id, relative to the start of the first written document
+     */
+    protected long getDocumentOffset(int docId) {
+        if (hasSketchMetrics) {
+            assert docId < numWrittenDocs;
+            return docStartOffsets[docId];
+        }
+        return (long) docId * docSizeInBytes;
+    }
+
     /**
      * Write the star tree document to a byte buffer
      */
     protected int writeStarTreeDocument(StarTreeDocument starTreeDocument, IndexOutput output, boolean isAggregatedDoc) throws IOException {
-        int numBytes = calculateDocumentSize(starTreeDocument, isAggregatedDoc);
+        BytesRef[] sketches = isAggregatedDoc && hasSketchMetrics ? serializeSketches(starTreeDocument) : null;
+        int numBytes = calculateDocumentSize(starTreeDocument, sketches);
         byte[] bytes = new byte[numBytes];
         ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
         writeDimensions(starTreeDocument, buffer);
         if (isAggregatedDoc == false) {
             writeFlushMetrics(starTreeDocument, buffer);
         } else {
-            writeMetrics(starTreeDocument, buffer, isAggregatedDoc);
+            writeMetrics(starTreeDocument, buffer, isAggregatedDoc, sketches);
         }
         output.writeBytes(bytes, bytes.length);
-        setDocSizeInBytes(numBytes);
+        trackDocument(numBytes);
         return bytes.length;
     }
 
@@ -110,13 +150,38 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         StarTreeDocumentBitSetUtil.writeBitSet(starTreeDocument.metrics, buffer);
     }
 
+    /**
+     * Serializes the sketch metrics of an aggregated star tree document, the other metrics are left null
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private BytesRef[] serializeSketches(StarTreeDocument starTreeDocument) throws IOException {
+        BytesRef[] sketches = new BytesRef[starTreeDocument.metrics.length];
+        for (int i = 0; i < starTreeDocument.metrics.length; i++) {
+            if (starTreeDocument.metrics[i] != null
+                && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator sketchValueAggregator) {
+                sketches[i] = sketchValueAggregator.toBytesRef(starTreeDocument.metrics[i]);
+            }
+        }
+        return sketches;
+    }
+
     /**
      * Write star tree document metrics to the byte buffer
      */
-    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
+    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc, BytesRef[] sketches)
+        throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
+            if (aggregatedValueType instanceof SketchType) {
+                // sketches are length-prefixed, an empty sketch stands for a null value
+                BytesRef sketch = sketches[i];
+                if (sketch == null) {
+                    buffer.putInt(0);
+                } else {
+                    buffer.putInt(sketch.length);
+                    buffer.put(sketch.bytes, sketch.offset, sketch.length);
+                }
+            } else if (aggregatedValueType.equals(LONG)) {
                 buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
             } else if (aggregatedValueType.equals(DOUBLE)) {
                 if (isAggregatedDoc) {
@@ -146,12 +211,16 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Calculate the size of the serialized StarTreeDocument
      */
-    private int calculateDocumentSize(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) {
+    private int calculateDocumentSize(StarTreeDocument starTreeDocument, BytesRef[] sketches) {
         int size = starTreeDocument.dimensions.length * Long.BYTES;
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            if (sketches != null && metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType() instanceof SketchType) {
+                size += Integer.BYTES + (sketches[i] == null ? 0 : sketches[i].length);
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -182,7 +251,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasSketchMetrics || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -232,7 +301,18 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         throws IOException {
         for (int i = 0; i < numMetrics; i++) {
             FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-            if (aggregatedValueType.equals(LONG)) {
+            if (aggregatedValueType instanceof SketchType) {
+                int length = input.readInt(offset);
+                offset += Integer.BYTES;
+                if (length > 0) {
+                    byte[] sketch = new byte[length];
+                    input.readBytes(offset, sketch, 0, length);
+                    metrics[i] = ((SketchValueAggregator<?>) metricAggregatorInfos.get(i).getValueAggregators()).toAggregatedValueType(
+                        new BytesRef(sketch)
+                    );
+                    offset += length;
+                }
+            } else if (aggregatedValueType.equals(LONG)) {
                 metrics[i] = input.readLong(offset);
                 offset += Long.BYTES;
             } else if (aggregatedValueType.equals(DOUBLE)) {
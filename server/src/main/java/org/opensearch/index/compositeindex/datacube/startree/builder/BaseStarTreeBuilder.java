@@ -11,6 +11,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.DocValuesWriterWrapper;
@@ -26,6 +28,7 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.ByteBlockPool;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Counter;
 import org.apache.lucene.util.LongValues;
 import org.apache.lucene.util.NumericUtils;
@@ -37,6 +40,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -44,6 +48,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -95,6 +100,8 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     protected final int numMetrics;
     protected final int numDimensions;
     protected int numStarTreeDocs;
+    // Number of aggregated segment documents, which precede the documents generated for star nodes
+    protected int numSegmentStarTreeDocs;
     protected int totalSegmentDocs;
     protected int numStarTreeNodes;
     protected final int maxLeafDocuments;
@@ -363,20 +370,27 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException {
-        int numSegmentStarTreeDocument = totalSegmentDocs;
+        construct(starTreeDocumentIterator);
+        serialize(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+    }
 
+    /**
+     * Constructs the star tree using sorted and aggregated star-tree Documents, without writing anything to the segment
+     *
+     * @param starTreeDocumentIterator contains the sorted and aggregated documents
+     * @throws IOException when we are unable to construct star-tree
+     */
+    void construct(Iterator<StarTreeDocument> starTreeDocumentIterator) throws IOException {
         appendDocumentsToStarTree(starTreeDocumentIterator);
-        int numStarTreeDocument = numStarTreeDocs;
-        logger.debug("Generated star tree docs : [{}] from segment docs : [{}]", numStarTreeDocument, numSegmentStarTreeDocument);
+        numSegmentStarTreeDocs = numStarTreeDocs;
+        logger.debug("Generated star tree docs : [{}] from segment docs : [{}]", numSegmentStarTreeDocs, totalSegmentDocs);
 
         if (numStarTreeDocs == 0) {
-            // serialize the star tree data
-            serializeStarTree(numStarTreeDocument, numStarTreeDocs);
             return;
         }
 
         constructStarTree(rootNode, 0, numStarTreeDocs);
-        int numStarTreeDocumentUnderStarNode = numStarTreeDocs - numStarTreeDocument;
+        int numStarTreeDocumentUnderStarNode = numStarTreeDocs - numSegmentStarTreeDocs;
         logger.debug(
             "Finished constructing star-tree, got [ {} ] tree nodes and [ {} ] starTreeDocument under star-node",
             numStarTreeNodes,
@@ -384,14 +398,26 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         );
 
         createAggregatedDocs(rootNode);
-        int numAggregatedStarTreeDocument = numStarTreeDocs - numStarTreeDocument - numStarTreeDocumentUnderStarNode;
+        int numAggregatedStarTreeDocument = numStarTreeDocs - numSegmentStarTreeDocs - numStarTreeDocumentUnderStarNode;
         logger.debug("Finished creating aggregated documents : {}", numAggregatedStarTreeDocument);
+    }
 
-        // Create doc values indices in disk
-        createSortedDocValuesIndices(starTreeDocValuesConsumer, fieldNumberAcrossStarTrees);
+    /**
+     * Writes the constructed star tree, i.e. its doc values and its structure
+     *
+     * @param fieldNumberAcrossStarTrees maintains a counter for the number of star-tree fields
+     * @param starTreeDocValuesConsumer  consumes the generated star-tree docValues
+     * @throws IOException when we are unable to write star-tree
+     */
+    @Override
+    public void serialize(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException {
+        if (numStarTreeDocs != 0) {
+            // Create doc values indices in disk
+            createSortedDocValuesIndices(starTreeDocValuesConsumer, fieldNumberAcrossStarTrees);
+        }
 
         // serialize star-tree
-        serializeStarTree(numStarTreeDocument, numStarTreeDocs);
+        serializeStarTree(numSegmentStarTreeDocs, numStarTreeDocs);
     }
 
     void appendDocumentsToStarTree(Iterator<StarTreeDocument> starTreeDocumentIterator) throws IOException {
@@ -425,6 +451,7 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     /**
      * Creates the star-tree docValues indices in disk
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     private void createSortedDocValuesIndices(DocValuesConsumer docValuesConsumer, AtomicInteger fieldNumberAcrossStarTrees)
         throws IOException {
         List<DocValuesWriterWrapper<?>> dimensionWriters = new ArrayList<>();
@@ -457,11 +484,15 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     metricAggregatorInfos.get(i).getField(),
                     metricAggregatorInfos.get(i).getMetricStat().getTypeName()
                 ),
-                DocValuesType.SORTED_NUMERIC,
+                metricAggregatorInfos.get(i).getMetricStat().getDocValuesType(),
                 fieldNumberAcrossStarTrees.getAndIncrement()
             );
             metricFieldInfoList[i] = fi;
-            metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            if (fi.getDocValuesType().equals(DocValuesType.BINARY)) {
+                metricWriters.add(new BinaryDocValuesWriterWrapper(fi, bytesUsed));
+            } else {
+                metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            }
         }
         for (int docId = 0; docId < numStarTreeDocs; docId++) {
             StarTreeDocument starTreeDocument = getStarTreeDocument(docId);
@@ -477,8 +508,16 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
 
             for (int i = 0; i < starTreeDocument.metrics.length; i++) {
                 try {
-                    FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
-                    if (aggregatedValueType.equals(LONG)) {
+                    ValueAggregator metricValueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+                    FieldValueConverter aggregatedValueType = metricValueAggregator.getAggregatedValueType();
+                    if (aggregatedValueType instanceof SketchType) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            ((BinaryDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
+                                docId,
+                                ((SketchValueAggregator) metricValueAggregator).toBytesRef(starTreeDocument.metrics[i])
+                            );
+                        }
+                    } else if (aggregatedValueType.equals(LONG)) {
                         if (starTreeDocument.metrics[i] != null) {
                             ((SortedNumericDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
                                 docId,
@@ -566,6 +605,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     };
                     docValuesConsumer.addSortedSetField(fieldInfoList[i], docValuesProducer);
                     break;
+                case BINARY:
+                    docValuesProducer = new EmptyDocValuesProducer() {
+                        @Override
+                        public BinaryDocValues getBinary(FieldInfo field) {
+                            DocValuesWriterWrapper<BinaryDocValues> wrapper = (DocValuesWriterWrapper<
+                                BinaryDocValues>) docValuesWriters.get(writerIndex);
+                            return wrapper.getDocValues();
+                        }
+                    };
+                    docValuesConsumer.addBinaryField(fieldInfoList[i], docValuesProducer);
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported doc values type");
             }
@@ -596,7 +646,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> metricValueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (metricValueAggregator instanceof SketchValueAggregator<?> sketchValueAggregator) {
+                BytesRef sketch = metricValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? null : sketchValueAggregator.toAggregatedValueType(sketch);
+            } else {
+                metrics[i] = metricValueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
@@ -91,9 +91,29 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException {
+        construct(starTreeValuesSubs);
+        serialize(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+    }
+
+    @Override
+    public void construct(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        boolean success = false;
+        try {
+            construct(mergeStarTrees(starTreeValuesSubs));
+            success = true;
+        } finally {
+            if (success == false) {
+                starTreeDocumentFileManager.deleteFiles(false);
+                segmentDocumentFileManager.deleteFiles(false);
+            }
+        }
+    }
+
+    @Override
+    public void serialize(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException {
         boolean success = false;
         try {
-            build(mergeStarTrees(starTreeValuesSubs), fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            super.serialize(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
             success = true;
         } finally {
             starTreeDocumentFileManager.deleteFiles(success);
@@ -175,12 +195,18 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
      * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
      *
+     * <p>
+     * The documents of each segment are already sorted, so they are merged using a k-way merge rather than sorted again,
+     * unless a segment turns out to be unsorted.
+     *
      * @param starTreeValuesSubs StarTreeValues from multiple segments
      * @return iterator of star tree documents
      */
     Iterator<StarTreeDocument> mergeStarTrees(List<StarTreeValues> starTreeValuesSubs) throws IOException {
         int numDocs = 0;
         int[] docIds;
+        int[] runStarts = new int[starTreeValuesSubs.size()];
+        boolean sortedRuns = true;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
         try {
@@ -195,17 +221,31 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
                     longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
                 }
+                runStarts[seg] = numDocs;
+                Long[] previousDimensions = null;
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
+                    // global ordinals preserve the order of the segment ordinals, so this only fails for segments sorted differently
+                    if (sortedRuns
+                        && previousDimensions != null
+                        && StarTreeDocumentsSorter.compare(previousDimensions, starTreeDocument.dimensions, dimensionComparators) > 0) {
+                        logger.debug("Star-tree documents of segment [{}] are not sorted, falling back to sorting all documents", seg);
+                        sortedRuns = false;
+                    }
+                    previousDimensions = starTreeDocument.dimensions;
                     segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
                     numDocs++;
                     currentDocId++;
                 }
                 seg++;
             }
-            docIds = new int[numDocs];
-            for (int i = 0; i < numDocs; i++) {
-                docIds[i] = i;
+            if (sortedRuns && numDocs > 0) {
+                docIds = mergeSortedRuns(runStarts, numDocs);
+            } else {
+                docIds = new int[numDocs];
+                for (int i = 0; i < numDocs; i++) {
+                    docIds[i] = i;
+                }
             }
         } catch (IOException ex) {
             segmentDocumentFileManager.close();
@@ -216,32 +256,63 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
             return Collections.emptyIterator();
         }
 
-        return sortAndReduceDocuments(docIds, numDocs, true);
+        return sortAndReduceDocuments(docIds, numDocs, true, sortedRuns);
+    }
+
+    /**
+     * Merges the sorted runs of documents of the segments, and returns the doc ids in the sorted order
+     */
+    private int[] mergeSortedRuns(int[] runStarts, int numDocs) throws IOException {
+        try {
+            return StarTreeDocumentsSorter.merge(runStarts, numDocs, docId -> {
+                try {
+                    return segmentDocumentFileManager.readDimensions(docId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, dimensionComparators);
+        } catch (UncheckedIOException ex) {
+            // Unwrap UncheckedIOException and throw as IOException
+            if (ex.getCause() != null) {
+                throw ex.getCause();
+            }
+            throw ex;
+        }
     }
 
     /**
      * Sorts and reduces the star tree documents based on the dimensions
      */
     private Iterator<StarTreeDocument> sortAndReduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+        return sortAndReduceDocuments(sortedDocIds, numDocs, isMerge, false);
+    }
+
+    /**
+     * Reduces the star tree documents based on the dimensions, and sorts them first unless they are already sorted
+     */
+    private Iterator<StarTreeDocument> sortAndReduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge, boolean isSorted)
+        throws IOException {
         try {
             if (sortedDocIds == null || sortedDocIds.length == 0) {
                 logger.debug("Sorted doc ids array is null");
                 return Collections.emptyIterator();
             }
-            try {
-                StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
-                    try {
-                        return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
+            if (isSorted == false) {
+                try {
+                    StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
+                        try {
+                            return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, dimensionComparators);
+                } catch (UncheckedIOException ex) {
+                    // Unwrap UncheckedIOException and throw as IOException
+                    if (ex.getCause() != null) {
+                        throw ex.getCause();
                     }
-                }, dimensionComparators);
-            } catch (UncheckedIOException ex) {
-                // Unwrap UncheckedIOException and throw as IOException
-                if (ex.getCause() != null) {
-                    throw ex.getCause();
+                    throw ex;
                 }
-                throw ex;
             }
             final StarTreeDocument currentDocument = segmentDocumentFileManager.readStarTreeDocument(sortedDocIds[0], isMerge);
             // Create an iterator for aggregated documents
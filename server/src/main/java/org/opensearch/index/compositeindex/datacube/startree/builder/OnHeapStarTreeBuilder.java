@@ -107,6 +107,11 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
         build(mergeStarTrees(starTreeValuesSubs), fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
     }
 
+    @Override
+    public void construct(List<StarTreeValues> starTreeValuesSubs) throws IOException {
+        construct(mergeStarTrees(starTreeValuesSubs));
+    }
+
     /**
      * Sorts and aggregates the star-tree documents from multiple segments and builds star tree based on the newly
      * aggregated star-tree documents
@@ -55,4 +55,25 @@ public interface StarTreeBuilder extends Closeable {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException;
+
+    /**
+     * Constructs the star tree using Star Tree values from multiple segments, without writing it.
+     * The star trees of different fields can be constructed concurrently, and are then written one at a time
+     * using {@link #serialize(AtomicInteger, DocValuesConsumer)}.
+     *
+     * @param starTreeValuesSubs contains the star tree values from multiple segments
+     *
+     * @throws IOException when we are unable to construct star-tree
+     */
+    void construct(List<StarTreeValues> starTreeValuesSubs) throws IOException;
+
+    /**
+     * Writes the star tree which was constructed by {@link #construct(List)}
+     *
+     * @param fieldNumberAcrossStarTrees   maintains the unique field number across the fields in the star tree
+     * @param starTreeDocValuesConsumer    consumer of star-tree doc values
+     *
+     * @throws IOException when we are unable to write star-tree
+     */
+    void serialize(AtomicInteger fieldNumberAcrossStarTrees, DocValuesConsumer starTreeDocValuesConsumer) throws IOException;
 }
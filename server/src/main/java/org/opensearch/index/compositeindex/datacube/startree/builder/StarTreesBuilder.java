@@ -14,7 +14,9 @@ import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.mapper.CompositeMappedFieldType;
@@ -27,6 +29,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -116,18 +121,77 @@ public class StarTreesBuilder implements Closeable {
         IndexOutput dataOut,
         final Map<String, List<StarTreeValues>> starTreeValuesSubsPerField,
         DocValuesConsumer starTreeDocValuesConsumer
+    ) throws IOException {
+        buildDuringMerge(metaOut, dataOut, starTreeValuesSubsPerField, starTreeDocValuesConsumer, Runnable::run);
+    }
+
+    /**
+     * Merges star tree fields from multiple segments. The star trees of the different fields are constructed concurrently
+     * using the given executor, and are then written one after the other in the order of the fields, so that the
+     * resulting files don't depend on the order in which the constructions complete.
+     *
+     * @param metaOut                    an IndexInput for star-tree metadata
+     * @param dataOut                    an IndexInput for star-tree data
+     * @param starTreeValuesSubsPerField starTreeValuesSubs per field
+     * @param starTreeDocValuesConsumer  a consumer to write star-tree doc values
+     * @param executor                   executes the construction of the star trees, e.g. the intra-merge executor
+     */
+    public void buildDuringMerge(
+        IndexOutput metaOut,
+        IndexOutput dataOut,
+        final Map<String, List<StarTreeValues>> starTreeValuesSubsPerField,
+        DocValuesConsumer starTreeDocValuesConsumer,
+        Executor executor
     ) throws IOException {
         logger.debug("Starting merge of {} star-trees with star-tree fields", starTreeValuesSubsPerField.size());
         long startTime = System.currentTimeMillis();
-        for (Map.Entry<String, List<StarTreeValues>> entry : starTreeValuesSubsPerField.entrySet()) {
-            List<StarTreeValues> starTreeValuesList = entry.getValue();
-            if (starTreeValuesList.isEmpty()) {
-                logger.debug("StarTreeValues is empty for all segments for field : {}", entry.getKey());
-                continue;
+        List<StarTreeBuilder> builders = new ArrayList<>();
+        List<FutureTask<Void>> constructions = new ArrayList<>();
+        List<FutureTask<Void>> startedConstructions = new ArrayList<>();
+        boolean success = false;
+        try {
+            for (Map.Entry<String, List<StarTreeValues>> entry : starTreeValuesSubsPerField.entrySet()) {
+                List<StarTreeValues> starTreeValuesList = entry.getValue();
+                if (starTreeValuesList.isEmpty()) {
+                    logger.debug("StarTreeValues is empty for all segments for field : {}", entry.getKey());
+                    continue;
+                }
+                StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
+                StarTreeBuilder builder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService);
+                builders.add(builder);
+                constructions.add(new FutureTask<>(() -> {
+                    builder.construct(starTreeValuesList);
+                    return null;
+                }));
+            }
+            // The merge thread constructs the first star tree itself, as it would have to wait for it anyway
+            for (int i = 1; i < constructions.size(); i++) {
+                executor.execute(constructions.get(i));
+                startedConstructions.add(constructions.get(i));
             }
-            StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
-            try (StarTreeBuilder builder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService)) {
-                builder.build(starTreeValuesList, fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            if (constructions.isEmpty() == false) {
+                startedConstructions.add(constructions.get(0));
+                constructions.get(0).run();
+            }
+            for (int i = 0; i < builders.size(); i++) {
+                awaitConstruction(constructions.get(i));
+                builders.get(i).serialize(fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                // The builders of the constructions which are still running can't be closed under their feet
+                for (FutureTask<Void> construction : startedConstructions) {
+                    try {
+                        construction.get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    } catch (ExecutionException ignored) {}
+                }
+                IOUtils.closeWhileHandlingException(builders);
+            } else {
+                IOUtils.close(builders);
             }
         }
         logger.debug(
@@ -137,6 +201,27 @@ public class StarTreesBuilder implements Closeable {
         );
     }
 
+    private static void awaitConstruction(FutureTask<Void> construction) throws IOException {
+        try {
+            construction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("star-tree construction failed", cause);
+        }
+    }
+
     /**
      * Get star-tree builder based on build mode.
      */
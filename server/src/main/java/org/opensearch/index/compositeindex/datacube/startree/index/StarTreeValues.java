@@ -9,6 +9,7 @@
 package org.opensearch.index.compositeindex.datacube.startree.index;
 
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
@@ -28,6 +29,7 @@ import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.Di
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeFactory;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
@@ -197,6 +199,23 @@ public class StarTreeValues implements CompositeIndexValues {
                     metric.getField(),
                     metricStat.getTypeName()
                 );
+                if (metricStat.isSketch()) {
+                    metricValuesIteratorMap.put(metricFullName, () -> {
+                        try {
+                            BinaryDocValues metricBinaryDocValues = null;
+                            if (readState != null) {
+                                FieldInfo metricFieldInfo = readState.fieldInfos.fieldInfo(metricFullName);
+                                if (metricFieldInfo != null) {
+                                    metricBinaryDocValues = compositeDocValuesProducer.getBinary(metricFieldInfo);
+                                }
+                            }
+                            return new BinaryStarTreeValuesIterator(getBinaryDocValues(metricBinaryDocValues));
+                        } catch (IOException e) {
+                            throw new RuntimeException("Error loading metric DocIdSetIterator", e);
+                        }
+                    });
+                    continue;
+                }
                 metricValuesIteratorMap.put(metricFullName, () -> {
                     try {
                         SortedNumericDocValues metricSortedNumericDocValues = null;
@@ -305,6 +324,19 @@ public class StarTreeValues implements CompositeIndexValues {
         return sortedNumeric == null ? DocValues.emptySortedNumeric() : sortedNumeric;
     }
 
+    /**
+     * Returns the binary doc values for the given binary field.
+     * If the binary field is null, it returns an empty doc id set iterator.
+     * <p>
+     * Binary field can be null for cases where the segment doesn't hold a particular value.
+     *
+     * @param binary the binary doc values for a field
+     * @return empty binary values if the field is not present, else binary
+     */
+    static BinaryDocValues getBinaryDocValues(BinaryDocValues binary) {
+        return binary == null ? DocValues.emptyBinary() : binary;
+    }
+
     /**
      * Returns the sortedSet doc values for the given sortedSet field.
      * If the sortedSet field is null, it returns an empty doc id set iterator.
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+
+/**
+ * Field value converter for sketch metrics - their aggregated values are serialized sketches stored
+ * as binary doc values, so they can't be converted from a sortable long
+ *
+ * @opensearch.internal
+ */
+public class SketchType implements FieldValueConverter {
+
+    public SketchType() {}
+
+    @Override
+    public double toDoubleValue(long value) {
+        throw new UnsupportedOperationException("sketch values can't be converted from a long");
+    }
+}
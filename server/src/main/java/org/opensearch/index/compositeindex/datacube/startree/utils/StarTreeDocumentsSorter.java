@@ -9,6 +9,7 @@
 package org.opensearch.index.compositeindex.datacube.startree.utils;
 
 import org.apache.lucene.util.IntroSorter;
+import org.apache.lucene.util.PriorityQueue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -56,4 +57,74 @@ public class StarTreeDocumentsSorter {
             }
         }.sort(0, numDocs);
     }
+
+    /**
+     * Merges runs of documents which are already sorted based on the dimension values, using a k-way merge.
+     * The documents of the run {@code i} have the doc ids from {@code runStarts[i]} (inclusive) to {@code runStarts[i + 1]}
+     * (exclusive), or {@code numDocs} for the last run. Unlike {@link #sort}, the dimensions reader is called with doc ids,
+     * and each document is read only once, in the order of its run.
+     *
+     * @return the doc ids in the sorted order
+     */
+    public static int[] merge(
+        final int[] runStarts,
+        final int numDocs,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        final int[] sortedDocIds = new int[numDocs];
+        final PriorityQueue<DocumentsRun> queue = new PriorityQueue<>(Math.max(1, runStarts.length)) {
+            @Override
+            protected boolean lessThan(DocumentsRun run1, DocumentsRun run2) {
+                int comparison = compare(run1.dimensions, run2.dimensions, dimensionComparators);
+                return comparison < 0 || (comparison == 0 && run1.docId < run2.docId);
+            }
+        };
+        for (int i = 0; i < runStarts.length; i++) {
+            int end = i + 1 < runStarts.length ? runStarts[i + 1] : numDocs;
+            if (runStarts[i] < end) {
+                queue.add(new DocumentsRun(runStarts[i], end, dimensionsReader.apply(runStarts[i])));
+            }
+        }
+        int index = 0;
+        while (queue.size() > 0) {
+            DocumentsRun run = queue.top();
+            sortedDocIds[index++] = run.docId;
+            if (++run.docId < run.end) {
+                run.dimensions = dimensionsReader.apply(run.docId);
+                queue.updateTop();
+            } else {
+                queue.pop();
+            }
+        }
+        assert index == numDocs : "merged " + index + " documents out of " + numDocs;
+        return sortedDocIds;
+    }
+
+    /**
+     * Compares the dimension values of two documents, in the dimensions split order.
+     */
+    public static int compare(final Long[] dimensions1, final Long[] dimensions2, final List<Comparator<Long>> dimensionComparators) {
+        for (int i = 0; i < dimensions1.length; i++) {
+            if (!Objects.equals(dimensions1[i], dimensions2[i])) {
+                return dimensionComparators.get(i).compare(dimensions1[i], dimensions2[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The current document of a run of sorted documents.
+     */
+    private static final class DocumentsRun {
+        private int docId;
+        private final int end;
+        private Long[] dimensions;
+
+        private DocumentsRun(int docId, int end, Long[] dimensions) {
+            this.docId = docId;
+            this.end = end;
+            this.dimensions = dimensions;
+        }
+    }
 }
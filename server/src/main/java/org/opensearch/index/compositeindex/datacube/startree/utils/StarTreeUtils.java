@@ -76,7 +76,7 @@ public class StarTreeUtils {
         for (String fieldName : fields) {
             fieldInfoList[fieldNumber] = getFieldInfo(
                 fieldName,
-                // default is sortedNumeric since all metrics right now are sorted numeric
+                // default is sortedNumeric since all metrics except sketches are sorted numeric
                 dimDocValuesTypeMap.getOrDefault(fieldName, DocValuesType.SORTED_NUMERIC),
                 fieldNumber
             );
@@ -10,6 +10,10 @@ package org.opensearch.index.merge;
 
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * A component that tracks stats related to merged segment replication operations.
@@ -28,6 +32,8 @@ public class MergedSegmentTransferTracker {
     private final CounterMetric totalSendTimeMillis = new CounterMetric();
     private final CounterMetric totalReceiveTimeMillis = new CounterMetric();
     private final CounterMetric ongoingWarms = new CounterMetric();
+    // bytes of merged segments that are being pre-copied, per target allocation id
+    private final Map<String, Long> pendingBytesPerReplica = ConcurrentCollections.newConcurrentMap();
 
     public void incrementTotalWarmInvocationsCount() {
         totalWarmInvocationsCount.inc();
@@ -65,6 +71,31 @@ public class MergedSegmentTransferTracker {
         totalBytesReceived.inc(bytes);
     }
 
+    /**
+     * Records that the given number of bytes of merged segments are about to be sent to the replica with the given allocation id.
+     */
+    public void addPendingBytes(String targetAllocationId, long bytes) {
+        if (bytes > 0) {
+            pendingBytesPerReplica.merge(targetAllocationId, bytes, Long::sum);
+        }
+    }
+
+    /**
+     * Records that the given number of bytes of merged segments were sent to, or won't be sent anymore to, the replica with the
+     * given allocation id.
+     */
+    public void removePendingBytes(String targetAllocationId, long bytes) {
+        pendingBytesPerReplica.computeIfPresent(targetAllocationId, (allocationId, pending) -> pending > bytes ? pending - bytes : null);
+    }
+
+    /**
+     * @return the bytes of merged segments that are still to be sent, per target allocation id. Their sum is reported as the
+     * pending bytes of the {@link #stats()}.
+     */
+    public Map<String, Long> pendingBytesPerReplica() {
+        return Collections.unmodifiableMap(pendingBytesPerReplica);
+    }
+
     public MergedSegmentWarmerStats stats() {
         final MergedSegmentWarmerStats stats = new MergedSegmentWarmerStats();
         stats.add(
@@ -77,6 +108,7 @@ public class MergedSegmentTransferTracker {
             totalReceiveTimeMillis.count(),
             ongoingWarms.count()
         );
+        stats.addPendingBytes(pendingBytesPerReplica.values().stream().mapToLong(Long::longValue).sum());
         return stats;
     }
 }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -51,6 +52,9 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
     // [PRIMARY SHARD] Current number of ongoing segment warming operations
     private long ongoingCount;
 
+    // [PRIMARY SHARD] Bytes of merged segments that are still to be sent to the replicas
+    private long pendingBytes;
+
     public MergedSegmentWarmerStats() {}
 
     public MergedSegmentWarmerStats(StreamInput in) throws IOException {
@@ -62,6 +66,9 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         totalSendTimeMillis = in.readVLong();
         totalReceiveTimeMillis = in.readVLong();
         ongoingCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            pendingBytes = in.readVLong();
+        }
     }
 
     public synchronized void add(
@@ -84,8 +91,13 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         this.ongoingCount += ongoingCount;
     }
 
+    public synchronized void addPendingBytes(long pendingBytes) {
+        this.pendingBytes += pendingBytes;
+    }
+
     public void add(MergedSegmentWarmerStats mergedSegmentWarmerStats) {
         this.ongoingCount += mergedSegmentWarmerStats.ongoingCount;
+        this.pendingBytes += mergedSegmentWarmerStats.pendingBytes;
     }
 
     public synchronized void addTotals(MergedSegmentWarmerStats mergedSegmentWarmerStats) {
@@ -113,6 +125,10 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         return ongoingCount;
     }
 
+    public ByteSizeValue getPendingSize() {
+        return new ByteSizeValue(pendingBytes);
+    }
+
     public ByteSizeValue getTotalReceivedSize() {
         return new ByteSizeValue(totalBytesReceived);
     }
@@ -144,6 +160,7 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.TOTAL_SEND_TIME_MILLIS, Fields.TOTAL_SEND_TIME, getTotalSendTime());
         builder.humanReadableField(Fields.TOTAL_RECEIVE_TIME_MILLIS, Fields.TOTAL_RECEIVE_TIME, getTotalReceiveTime());
         builder.field(Fields.ONGOING_COUNT, ongoingCount);
+        builder.humanReadableField(Fields.PENDING_BYTES, Fields.PENDING_SIZE, getPendingSize());
         builder.endObject();
         return builder;
     }
@@ -163,12 +180,14 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         static final String TOTAL_SEND_TIME_MILLIS = "total_send_time_millis";
         static final String TOTAL_RECEIVE_TIME_MILLIS = "total_receive_time_millis";
         static final String ONGOING_COUNT = "ongoing_count";
+        static final String PENDING_BYTES = "pending_bytes";
 
         public static final String TOTAL_TIME = "total_time";
         public static final String TOTAL_SEND_TIME = "total_send_time";
         public static final String TOTAL_RECEIVE_TIME = "total_receive_time";
         public static final String TOTAL_SENT_SIZE = "total_sent_size";
         public static final String TOTAL_RECEIVED_SIZE = "total_received_size";
+        public static final String PENDING_SIZE = "pending_size";
     }
 
     @Override
@@ -181,5 +200,8 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalSendTimeMillis);
         out.writeVLong(totalReceiveTimeMillis);
         out.writeVLong(ongoingCount);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(pendingBytes);
+        }
     }
 }
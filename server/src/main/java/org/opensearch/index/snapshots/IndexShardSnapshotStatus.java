@@ -88,6 +88,8 @@ public class IndexShardSnapshotStatus {
     private long totalSize;
     private long incrementalSize;
     private long processedSize;
+    private int deduplicatedFileCount;
+    private long deduplicatedSize;
     private long indexVersion;
     private String failure;
 
@@ -190,6 +192,14 @@ public class IndexShardSnapshotStatus {
         processedSize += size;
     }
 
+    /**
+     * Increments number of new files whose contents were already in the repository, which are neither incremental nor processed
+     */
+    public synchronized void addDeduplicatedFile(long size) {
+        deduplicatedFileCount++;
+        deduplicatedSize += size;
+    }
+
     /**
      * Returns a copy of the current {@link IndexShardSnapshotStatus}. This method is
      * intended to be used when a coherent state of {@link IndexShardSnapshotStatus} is needed.
@@ -207,6 +217,8 @@ public class IndexShardSnapshotStatus {
             incrementalSize,
             totalSize,
             processedSize,
+            deduplicatedFileCount,
+            deduplicatedSize,
             indexVersion,
             failure
         );
@@ -266,6 +278,8 @@ public class IndexShardSnapshotStatus {
         private final long totalSize;
         private final long processedSize;
         private final long incrementalSize;
+        private final int deduplicatedFileCount;
+        private final long deduplicatedSize;
         private final long indexVersion;
         private final String failure;
 
@@ -281,6 +295,38 @@ public class IndexShardSnapshotStatus {
             final long processedSize,
             final long indexVersion,
             final String failure
+        ) {
+            this(
+                stage,
+                startTime,
+                totalTime,
+                incrementalFileCount,
+                totalFileCount,
+                processedFileCount,
+                incrementalSize,
+                totalSize,
+                processedSize,
+                0,
+                0,
+                indexVersion,
+                failure
+            );
+        }
+
+        public Copy(
+            final Stage stage,
+            final long startTime,
+            final long totalTime,
+            final int incrementalFileCount,
+            final int totalFileCount,
+            final int processedFileCount,
+            final long incrementalSize,
+            final long totalSize,
+            final long processedSize,
+            final int deduplicatedFileCount,
+            final long deduplicatedSize,
+            final long indexVersion,
+            final String failure
         ) {
             this.stage = stage;
             this.startTime = startTime;
@@ -291,6 +337,8 @@ public class IndexShardSnapshotStatus {
             this.totalSize = totalSize;
             this.processedSize = processedSize;
             this.incrementalSize = incrementalSize;
+            this.deduplicatedFileCount = deduplicatedFileCount;
+            this.deduplicatedSize = deduplicatedSize;
             this.indexVersion = indexVersion;
             this.failure = failure;
         }
@@ -331,6 +379,20 @@ public class IndexShardSnapshotStatus {
             return processedSize;
         }
 
+        /**
+         * Number of new files of the shard whose contents another shard snapshot had already uploaded
+         */
+        public int getDeduplicatedFileCount() {
+            return deduplicatedFileCount;
+        }
+
+        /**
+         * Size of the new files of the shard whose contents another shard snapshot had already uploaded
+         */
+        public long getDeduplicatedSize() {
+            return deduplicatedSize;
+        }
+
         public long getIndexVersion() {
             return indexVersion;
         }
@@ -360,6 +422,10 @@ public class IndexShardSnapshotStatus {
                 + totalSize
                 + ", processedSize="
                 + processedSize
+                + ", deduplicatedFileCount="
+                + deduplicatedFileCount
+                + ", deduplicatedSize="
+                + deduplicatedSize
                 + ", indexVersion="
                 + indexVersion
                 + ", failure='"
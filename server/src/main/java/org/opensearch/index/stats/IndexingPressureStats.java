@@ -32,7 +32,9 @@
 
 package org.opensearch.index.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -64,6 +66,9 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
     private final long replicaRejections;
     private final long memoryLimit;
 
+    private final long coordinatingRequests;
+    private final long coordinatingTimeInMillis;
+
     public IndexingPressureStats(StreamInput in) throws IOException {
         totalCombinedCoordinatingAndPrimaryBytes = in.readVLong();
         totalCoordinatingBytes = in.readVLong();
@@ -79,6 +84,14 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         primaryRejections = in.readVLong();
         replicaRejections = in.readVLong();
         memoryLimit = in.readVLong();
+
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            coordinatingRequests = in.readVLong();
+            coordinatingTimeInMillis = in.readVLong();
+        } else {
+            coordinatingRequests = 0;
+            coordinatingTimeInMillis = 0;
+        }
     }
 
     public IndexingPressureStats(
@@ -94,6 +107,40 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         long primaryRejections,
         long replicaRejections,
         long memoryLimit
+    ) {
+        this(
+            totalCombinedCoordinatingAndPrimaryBytes,
+            totalCoordinatingBytes,
+            totalPrimaryBytes,
+            totalReplicaBytes,
+            currentCombinedCoordinatingAndPrimaryBytes,
+            currentCoordinatingBytes,
+            currentPrimaryBytes,
+            currentReplicaBytes,
+            coordinatingRejections,
+            primaryRejections,
+            replicaRejections,
+            memoryLimit,
+            0,
+            0
+        );
+    }
+
+    public IndexingPressureStats(
+        long totalCombinedCoordinatingAndPrimaryBytes,
+        long totalCoordinatingBytes,
+        long totalPrimaryBytes,
+        long totalReplicaBytes,
+        long currentCombinedCoordinatingAndPrimaryBytes,
+        long currentCoordinatingBytes,
+        long currentPrimaryBytes,
+        long currentReplicaBytes,
+        long coordinatingRejections,
+        long primaryRejections,
+        long replicaRejections,
+        long memoryLimit,
+        long coordinatingRequests,
+        long coordinatingTimeInMillis
     ) {
         this.totalCombinedCoordinatingAndPrimaryBytes = totalCombinedCoordinatingAndPrimaryBytes;
         this.totalCoordinatingBytes = totalCoordinatingBytes;
@@ -107,6 +154,8 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         this.primaryRejections = primaryRejections;
         this.replicaRejections = replicaRejections;
         this.memoryLimit = memoryLimit;
+        this.coordinatingRequests = coordinatingRequests;
+        this.coordinatingTimeInMillis = coordinatingTimeInMillis;
     }
 
     @Override
@@ -125,6 +174,11 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         out.writeVLong(primaryRejections);
         out.writeVLong(replicaRejections);
         out.writeVLong(memoryLimit);
+
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(coordinatingRequests);
+            out.writeVLong(coordinatingTimeInMillis);
+        }
     }
 
     public long getTotalCombinedCoordinatingAndPrimaryBytes() {
@@ -171,6 +225,21 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         return replicaRejections;
     }
 
+    /**
+     * Number of bulk requests that were split into shard level requests on the coordinating node.
+     */
+    public long getCoordinatingRequests() {
+        return coordinatingRequests;
+    }
+
+    /**
+     * Total time spent on the coordinating node resolving, routing and grouping bulk items before the shard level requests were
+     * sent.
+     */
+    public long getCoordinatingTimeInMillis() {
+        return coordinatingTimeInMillis;
+    }
+
     private static final String COMBINED = "combined_coordinating_and_primary";
     private static final String COMBINED_IN_BYTES = "combined_coordinating_and_primary_in_bytes";
     private static final String COORDINATING = "coordinating";
@@ -186,6 +255,9 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
     private static final String REPLICA_REJECTIONS = "replica_rejections";
     private static final String LIMIT = "limit";
     private static final String LIMIT_IN_BYTES = "limit_in_bytes";
+    private static final String REQUESTS = "requests";
+    private static final String TIME = "time";
+    private static final String TIME_IN_MILLIS = "time_in_millis";
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
@@ -210,6 +282,10 @@ public class IndexingPressureStats implements Writeable, ToXContentFragment {
         builder.endObject();
         builder.humanReadableField(LIMIT_IN_BYTES, LIMIT, new ByteSizeValue(memoryLimit));
         builder.endObject();
+        builder.startObject(COORDINATING);
+        builder.field(REQUESTS, coordinatingRequests);
+        builder.humanReadableField(TIME_IN_MILLIS, TIME, new TimeValue(coordinatingTimeInMillis));
+        builder.endObject();
         return builder.endObject();
     }
 }
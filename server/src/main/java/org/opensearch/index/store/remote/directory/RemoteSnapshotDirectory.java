@@ -8,6 +8,10 @@
 
 package org.opensearch.index.store.remote.directory;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.IOContext;
@@ -16,16 +20,23 @@ import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.Lock;
 import org.apache.lucene.store.NoLockFactory;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -36,11 +47,29 @@ import java.util.stream.Collectors;
  */
 public final class RemoteSnapshotDirectory extends Directory {
 
+    private static final Logger logger = LogManager.getLogger(RemoteSnapshotDirectory.class);
+
     private static final String VIRTUAL_FILE_PREFIX = BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX;
 
+    /**
+     * Extensions of the small files that are read when a segment is opened or that index the larger files of the segment: segment
+     * and field infos, compound file entries, terms metadata and index, points metadata and index, doc values, norms and vectors
+     * metadata.
+     */
+    static final Set<String> PREFETCH_FILE_EXTENSIONS = Set.of("si", "fnm", "cfe", "tmd", "tip", "kdm", "kdi", "dvm", "nvm", "vem", "vemf");
+
+    /**
+     * Extensions of the terms and points indices, which grow with the number of unique terms and points of a segment, unlike the
+     * other prefetched files. They are only prefetched up to {@link #MAX_INDEX_FILE_PREFETCH_SIZE}.
+     */
+    static final Set<String> SIZE_CAPPED_PREFETCH_FILE_EXTENSIONS = Set.of("tip", "kdi");
+
+    static final ByteSizeValue MAX_INDEX_FILE_PREFETCH_SIZE = new ByteSizeValue(16, ByteSizeUnit.MB);
+
     private final Map<String, BlobStoreIndexShardSnapshot.FileInfo> fileInfoMap;
     private final FSDirectory localStoreDir;
     private final TransferManager transferManager;
+    private final List<Future<?>> prefetches = new CopyOnWriteArrayList<>();
 
     public RemoteSnapshotDirectory(BlobStoreIndexShardSnapshot snapshot, FSDirectory localStoreDir, TransferManager transferManager) {
         this.fileInfoMap = snapshot.indexFiles()
@@ -73,8 +102,49 @@ public final class RemoteSnapshotDirectory extends Directory {
         return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
     }
 
+    /**
+     * Fetches the segments files and the files with one of the {@link #PREFETCH_FILE_EXTENSIONS} into the file cache in the
+     * background, one file per task on the given executor, so that the first searches don't fetch them one block at a time.
+     * Terms and points indices larger than {@link #MAX_INDEX_FILE_PREFETCH_SIZE} are left to be fetched on demand. Failures are
+     * only logged, the files are then fetched on demand. The prefetches that haven't started yet are cancelled when this directory
+     * is closed.
+     */
+    public void prefetchStructuralFiles(ExecutorService executor) {
+        for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : fileInfoMap.values()) {
+            if (fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX) || shouldPrefetch(fileInfo.physicalName(), fileInfo.length()) == false) {
+                continue;
+            }
+            prefetches.add(executor.submit(() -> {
+                try (
+                    OnDemandBlockSnapshotIndexInput input = new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager)
+                ) {
+                    input.prefetchBlocks();
+                } catch (Exception e) {
+                    logger.debug(() -> new ParameterizedMessage("failed to prefetch [{}]", fileInfo.physicalName()), e);
+                }
+            }));
+        }
+    }
+
+    static boolean shouldPrefetch(String name, long length) {
+        if (length == 0 || isStructuralFile(name) == false) {
+            return false;
+        }
+        return SIZE_CAPPED_PREFETCH_FILE_EXTENSIONS.contains(IndexFileNames.getExtension(name)) == false
+            || length <= MAX_INDEX_FILE_PREFETCH_SIZE.getBytes();
+    }
+
+    static boolean isStructuralFile(String name) {
+        return FileTypeUtils.isSegmentsFile(name) || PREFETCH_FILE_EXTENSIONS.contains(IndexFileNames.getExtension(name));
+    }
+
     @Override
     public void close() throws IOException {
+        // Running prefetches are not interrupted, as that would close the file channels they share with the file cache
+        for (Future<?> prefetch : prefetches) {
+            prefetch.cancel(false);
+        }
+        prefetches.clear();
         localStoreDir.close();
     }
 
@@ -101,8 +101,17 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache, threadPool);
-            return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
+            TransferManager transferManager = new TransferManager(
+                (blobName, position, length) -> blobStoreRepository.dataBlobContainer(blobContainer, blobName)
+                    .readBlob(blobName, position, length),
+                remoteStoreFileCache,
+                threadPool
+            );
+            final RemoteSnapshotDirectory directory = new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
+            if (IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_STRUCTURAL_FILES.get(indexSettings.getSettings())) {
+                directory.prefetchStructuralFiles(threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY));
+            }
+            return directory;
         });
     }
 }
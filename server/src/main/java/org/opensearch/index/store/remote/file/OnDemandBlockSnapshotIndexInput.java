@@ -160,6 +160,15 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
         return transferManager.fetchBlob(blobFetchRequest);
     }
 
+    /**
+     * Fetches all the blocks of this input into the file cache without reading them.
+     */
+    public void prefetchBlocks() throws IOException {
+        for (int blockId : getAllBlockIdsForFile(originalFileSize, blockSizeShift)) {
+            fetchBlock(blockId).close();
+        }
+    }
+
     /**
      * Returns list of blob parts/chunks in a file for a given block.
      */
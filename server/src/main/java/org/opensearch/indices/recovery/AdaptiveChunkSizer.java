@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Adapts the size of the file chunks sent during a recovery to the observed round-trip time and throughput, so that the chunks
+ * in flight cover the bandwidth-delay product of the link instead of leaving the transfer bound by its latency.
+ * <p>
+ * The round-trip time of the fastest acknowledged chunk is kept as the latency of the link, and the delivery rate is measured
+ * over windows of acknowledged chunks. At the end of each window, the chunk size is set so that the {@code maxConcurrentChunks}
+ * chunks in flight hold twice the bandwidth-delay product. While the transfer is latency-bound the delivery rate grows with the
+ * chunk size, so the chunk size keeps growing; it settles once the link or the recovery rate limiter caps the rate. The chunk
+ * size changes by a factor of two at most per window, and stays within the given bounds.
+ *
+ * @opensearch.internal
+ */
+public final class AdaptiveChunkSizer {
+
+    /**
+     * Lower bound of the chunk size, unless the configured chunk size is smaller.
+     */
+    public static final ByteSizeValue MIN_CHUNK_SIZE = new ByteSizeValue(64, ByteSizeUnit.KB);
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final int maxConcurrentChunks;
+    private final LongSupplier nanoTime;
+
+    private int chunkSize;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowStartNanos = -1;
+    private long windowBytes;
+    private int windowChunks;
+
+    /**
+     * Creates a chunk sizer that starts with the smaller of the default chunk size and the given maximum chunk size.
+     */
+    public AdaptiveChunkSizer(int maxChunkSize, int maxConcurrentChunks) {
+        this(
+            Math.min(maxChunkSize, Math.toIntExact(MIN_CHUNK_SIZE.getBytes())),
+            Math.min(maxChunkSize, Math.toIntExact(RecoverySettings.DEFAULT_CHUNK_SIZE.getBytes())),
+            maxChunkSize,
+            maxConcurrentChunks,
+            System::nanoTime
+        );
+    }
+
+    AdaptiveChunkSizer(int minChunkSize, int initialChunkSize, int maxChunkSize, int maxConcurrentChunks, LongSupplier nanoTime) {
+        assert minChunkSize > 0 && minChunkSize <= initialChunkSize && initialChunkSize <= maxChunkSize
+            : "invalid chunk sizes [" + minChunkSize + ", " + initialChunkSize + ", " + maxChunkSize + "]";
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxConcurrentChunks = maxConcurrentChunks;
+        this.nanoTime = nanoTime;
+        this.chunkSize = initialChunkSize;
+    }
+
+    /**
+     * @return the size of the next chunk to send
+     */
+    public synchronized int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Records that a chunk is being sent.
+     *
+     * @return the time at which the chunk was sent, to pass to {@link #onChunkAcknowledged(int, long)}
+     */
+    public synchronized long onChunkSent() {
+        final long now = nanoTime.getAsLong();
+        if (windowStartNanos == -1) {
+            windowStartNanos = now;
+        }
+        return now;
+    }
+
+    /**
+     * Records that a chunk of the given length, sent at the given time, was acknowledged by the target.
+     */
+    public synchronized void onChunkAcknowledged(int length, long sentAtNanos) {
+        final long now = nanoTime.getAsLong();
+        minRttNanos = Math.min(minRttNanos, Math.max(1, now - sentAtNanos));
+        windowBytes += length;
+        windowChunks++;
+        // measure the rate over two rounds of concurrent chunks to smooth out the jitter of individual chunks
+        if (windowChunks >= 2 * maxConcurrentChunks) {
+            final double bytesPerNano = (double) windowBytes / Math.max(1, now - windowStartNanos);
+            final long targetChunkSize = Math.round(2 * bytesPerNano * minRttNanos / maxConcurrentChunks);
+            final long bounded = Math.max((long) chunkSize / 2, Math.min((long) chunkSize * 2, targetChunkSize));
+            chunkSize = (int) Math.max(minChunkSize, Math.min(maxChunkSize, bounded));
+            windowStartNanos = now;
+            windowBytes = 0;
+            windowChunks = 0;
+        }
+    }
+}
@@ -33,6 +33,8 @@
 package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -41,13 +43,14 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Request containing a file chunk.
+ * Request containing a file chunk. Closing it releases its content, see {@link #releaseContent()}.
  *
  * @opensearch.internal
  */
-public final class FileChunkRequest extends RecoveryTransportRequest {
+public final class FileChunkRequest extends RecoveryTransportRequest implements Releasable {
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
@@ -55,10 +58,19 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
     private final BytesReference content;
     private final StoreFileMetadata metadata;
     private final long sourceThrottleTimeInNanos;
+    private final AtomicBoolean contentReleased = new AtomicBoolean();
 
     private final int totalTranslogOps;
 
     public FileChunkRequest(StreamInput in) throws IOException {
+        this(in, false);
+    }
+
+    /**
+     * Reads a file chunk request. If {@code retainContent} is set the content may be a retained slice of the buffer the request was
+     * received in rather than a copy, and must be released with {@link #releaseContent()} once it has been written.
+     */
+    public FileChunkRequest(StreamInput in, boolean retainContent) throws IOException {
         super(in);
         recoveryId = in.readLong();
         shardId = new ShardId(in);
@@ -66,13 +78,18 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
-        Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
-        assert writtenBy != null;
-        metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
-        lastChunk = in.readBoolean();
-        totalTranslogOps = in.readVInt();
-        sourceThrottleTimeInNanos = in.readLong();
+        content = retainContent ? in.readRetainedBytesReference() : in.readBytesReference();
+        try {
+            Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
+            assert writtenBy != null;
+            metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
+            lastChunk = in.readBoolean();
+            totalTranslogOps = in.readVInt();
+            sourceThrottleTimeInNanos = in.readLong();
+        } catch (Exception e) {
+            releaseContent();
+            throw e;
+        }
     }
 
     public FileChunkRequest(
@@ -121,6 +138,21 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         return content;
     }
 
+    /**
+     * Releases the content of this request if it is a retained slice of a network buffer. Only the first call has an effect, as
+     * both the handler of the request and the transport, if it fails to hand the request to the handler, release it.
+     */
+    public void releaseContent() {
+        if (content instanceof Releasable && contentReleased.compareAndSet(false, true)) {
+            Releasables.close((Releasable) content);
+        }
+    }
+
+    @Override
+    public void close() {
+        releaseContent();
+    }
+
     public int totalTranslogOps() {
         return totalTranslogOps;
     }
@@ -138,7 +170,7 @@ public final class FileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        out.writeSharedBytesReference(content);
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
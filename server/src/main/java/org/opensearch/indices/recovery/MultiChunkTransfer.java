@@ -44,6 +44,8 @@ import org.opensearch.index.seqno.LocalCheckpointTracker;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
@@ -68,6 +70,10 @@ import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
  * greater than {@code maxConcurrentFileChunks}), the sending/requesting thread will abort its execution. That process will be resumed by
  * one of the networking threads which receive/handle the responses of the current pending file chunk requests. This process will continue
  * until all chunk requests are sent/responded.
+ * <p>
+ * Up to {@code maxConcurrentSources} sources can be transferred at the same time, in which case the chunk requests of the active
+ * sources are sent in turns. The chunks of each source are still sent in order, and the limit of {@code maxConcurrentFileChunks}
+ * un-replied chunk requests applies to all the active sources together, so the recovery target doesn't buffer more chunks.
  *
  * @opensearch.internal
  */
@@ -78,7 +84,8 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     private final LocalCheckpointTracker requestSeqIdTracker = new LocalCheckpointTracker(NO_OPS_PERFORMED, NO_OPS_PERFORMED);
     private final AsyncIOProcessor<FileChunkResponseItem<Source>> processor;
     private final int maxConcurrentChunks;
-    private Source currentSource = null;
+    private final int maxConcurrentSources;
+    private final Deque<Source> activeSources = new ArrayDeque<>();
     private final Iterator<Source> remainingSources;
     private Tuple<Source, Request> readAheadRequest = null;
 
@@ -88,9 +95,21 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
         ActionListener<Void> listener,
         int maxConcurrentChunks,
         List<Source> sources
+    ) {
+        this(logger, threadContext, listener, maxConcurrentChunks, 1, sources);
+    }
+
+    protected MultiChunkTransfer(
+        Logger logger,
+        ThreadContext threadContext,
+        ActionListener<Void> listener,
+        int maxConcurrentChunks,
+        int maxConcurrentSources,
+        List<Source> sources
     ) {
         this.logger = logger;
         this.maxConcurrentChunks = maxConcurrentChunks;
+        this.maxConcurrentSources = maxConcurrentSources;
         this.listener = listener;
         this.processor = new AsyncIOProcessor<FileChunkResponseItem<Source>>(logger, maxConcurrentChunks, threadContext) {
             @Override
@@ -139,7 +158,7 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
                 final Tuple<Source, Request> request = readAheadRequest != null ? readAheadRequest : getNextRequest();
                 readAheadRequest = null;
                 if (request == null) {
-                    assert currentSource == null && remainingSources.hasNext() == false;
+                    assert activeSources.isEmpty() && remainingSources.hasNext() == false;
                     if (requestSeqIdTracker.getMaxSeqNo() == requestSeqIdTracker.getProcessedCheckpoint()) {
                         onCompleted(null);
                     }
@@ -176,23 +195,24 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     }
 
     private Tuple<Source, Request> getNextRequest() throws Exception {
+        Source source = null;
         try {
-            if (currentSource == null) {
-                if (remainingSources.hasNext()) {
-                    currentSource = remainingSources.next();
-                    onNewResource(currentSource);
-                } else {
-                    return null;
-                }
+            while (activeSources.size() < maxConcurrentSources && remainingSources.hasNext()) {
+                source = remainingSources.next();
+                onNewResource(source);
+                activeSources.addLast(source);
+            }
+            source = activeSources.pollFirst();
+            if (source == null) {
+                return null;
             }
-            final Source md = currentSource;
-            final Request request = nextChunkRequest(md);
-            if (request.lastChunk()) {
-                currentSource = null;
+            final Request request = nextChunkRequest(source);
+            if (request.lastChunk() == false) {
+                activeSources.addLast(source);
             }
-            return Tuple.tuple(md, request);
+            return Tuple.tuple(source, request);
         } catch (Exception e) {
-            handleError(currentSource, e);
+            handleError(source, e);
             throw e;
         }
     }
@@ -200,6 +220,7 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     /**
      * This method is called when starting sending/requesting a new source. Subclasses should override
      * this method to reset the file offset or close the previous file and open a new file if needed.
+     * If more than one source can be transferred at the same time, the previous sources may still be active.
      */
     protected void onNewResource(Source resource) throws IOException {
 
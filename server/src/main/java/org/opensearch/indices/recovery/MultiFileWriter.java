@@ -33,11 +33,15 @@ package org.opensearch.indices.recovery;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.misc.store.HardlinkCopyDirectoryWrapper;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.Strings;
@@ -90,7 +94,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         throws IOException {
         assert Transports.assertNotTransportThread("multi_file_writer");
         final FileChunkWriter writer = fileChunkWriters.computeIfAbsent(fileMetadata.name(), name -> new FileChunkWriter());
-        writer.writeChunk(new FileChunk(fileMetadata, content, position, lastChunk));
+        // the content may be a slice of a network buffer that is released once this method returns, retain it while it is pending
+        final BytesReference retained = content instanceof ReleasableBytesReference
+            ? ((ReleasableBytesReference) content).retain()
+            : content;
+        writer.writeChunk(new FileChunk(fileMetadata, retained, position, lastChunk));
     }
 
     /** Get a temporary name for the provided file name. */
@@ -137,6 +145,31 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         return indexOutput;
     }
 
+    /**
+     * Creates the temporary file of the given file from a local file with the same content, instead of receiving it. The local
+     * file is hard-linked when the directory supports it, and copied otherwise.
+     */
+    public void copyFromLocalFile(String localFileName, StoreFileMetadata metadata) throws IOException {
+        ensureOpen.run();
+        final String tempFileName = getTempNameForFile(metadata.name());
+        if (tempFileNames.containsKey(tempFileName)) {
+            throw new IllegalStateException("output for file [" + metadata.name() + "] has already been created");
+        }
+        tempFileNames.put(tempFileName, metadata.name());
+        boolean success = false;
+        try {
+            final Directory directory = store.directory();
+            new HardlinkCopyDirectoryWrapper(directory).copyFrom(directory, localFileName, tempFileName, IOContext.DEFAULT);
+            success = true;
+        } finally {
+            if (success == false) {
+                // let the file be received instead
+                tempFileNames.remove(tempFileName);
+                store.deleteQuiet(tempFileName);
+            }
+        }
+    }
+
     private void innerWriteFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content, boolean lastChunk)
         throws IOException {
         final String name = fileMetadata.name();
@@ -183,6 +216,9 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
 
     @Override
     protected void closeInternal() {
+        for (FileChunkWriter writer : fileChunkWriters.values()) {
+            writer.releasePendingChunks();
+        }
         fileChunkWriters.clear();
         // clean open index outputs
         Iterator<Map.Entry<String, IndexOutput>> iterator = openIndexOutputs.entrySet().iterator();
@@ -228,6 +264,12 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             this.position = position;
             this.lastChunk = lastChunk;
         }
+
+        void release() {
+            if (content instanceof Releasable) {
+                Releasables.close((Releasable) content);
+            }
+        }
     }
 
     private final class FileChunkWriter {
@@ -235,6 +277,13 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         final PriorityQueue<FileChunk> pendingChunks = new PriorityQueue<>(Comparator.comparing(fc -> fc.position));
         long lastPosition = 0;
 
+        synchronized void releasePendingChunks() {
+            FileChunk chunk;
+            while ((chunk = pendingChunks.poll()) != null) {
+                chunk.release();
+            }
+        }
+
         void writeChunk(FileChunk newChunk) throws IOException {
             synchronized (this) {
                 pendingChunks.add(newChunk);
@@ -248,7 +297,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                     }
                     pendingChunks.remove();
                 }
-                innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                try {
+                    innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                } finally {
+                    chunk.release();
+                }
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
                     lastPosition += chunk.content.length();
@@ -144,7 +144,7 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         transportService.registerRequestHandler(
             Actions.FILE_CHUNK,
             ThreadPool.Names.GENERIC,
-            FileChunkRequest::new,
+            in -> new FileChunkRequest(in, true),
             new FileChunkTransportRequestHandler()
         );
         transportService.registerRequestHandler(
@@ -583,6 +583,9 @@ public class PeerRecoveryTargetService implements IndexEventListener {
                     recoverySettings.recoveryRateLimiter(),
                     listener
                 );
+            } finally {
+                // the chunk is written synchronously; chunks that arrive out of order are retained by the writer until written
+                request.releaseContent();
             }
         }
     }
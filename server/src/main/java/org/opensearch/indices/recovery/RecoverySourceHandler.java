@@ -135,6 +135,30 @@ public abstract class RecoverySourceHandler {
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
         int maxConcurrentOperations
+    ) {
+        this(
+            shard,
+            recoveryTarget,
+            threadPool,
+            request,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks,
+            1,
+            false,
+            maxConcurrentOperations
+        );
+    }
+
+    RecoverySourceHandler(
+        IndexShard shard,
+        RecoveryTargetHandler recoveryTarget,
+        ThreadPool threadPool,
+        StartRecoveryRequest request,
+        int fileChunkSizeInBytes,
+        int maxConcurrentFileChunks,
+        int maxConcurrentFiles,
+        boolean adaptiveChunkSize,
+        int maxConcurrentOperations
     ) {
         this.logger = Loggers.getLogger(RecoverySourceHandler.class, request.shardId(), "recover to " + request.targetNode().getName());
         this.transferHandler = new SegmentFileTransferHandler(
@@ -145,7 +169,9 @@ public abstract class RecoverySourceHandler {
             threadPool,
             cancellableThreads,
             fileChunkSizeInBytes,
-            maxConcurrentFileChunks
+            maxConcurrentFileChunks,
+            maxConcurrentFiles,
+            adaptiveChunkSize
         );
         this.shard = shard;
         this.threadPool = threadPool;
@@ -42,6 +42,8 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
+                recoverySettings.getMaxConcurrentFiles(),
+                recoverySettings.isAdaptiveChunkSize(),
                 recoverySettings.getMaxConcurrentOperations()
             );
         }
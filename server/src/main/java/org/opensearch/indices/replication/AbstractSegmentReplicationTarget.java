@@ -29,9 +29,13 @@ import org.opensearch.indices.replication.common.ReplicationTarget;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -215,7 +219,8 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
         if (indexShard.indexSettings().isWarmIndex()) {
             return Collections.emptyList();
         }
-        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(checkpointInfo.getMetadataMap(), indexShard.getSegmentMetadataMap());
+        final Map<String, StoreFileMetadata> localMetadataMap = indexShard.getSegmentMetadataMap();
+        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(checkpointInfo.getMetadataMap(), localMetadataMap);
         // local files
         final Set<String> localFiles = Set.of(indexShard.store().directory().listAll());
         // set of local files that can be reused
@@ -228,6 +233,18 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
         final List<StoreFileMetadata> missingFiles = diff.missing.stream()
             .filter(md -> reuseFiles.contains(md.name()) == false)
             .collect(Collectors.toList());
+        // files that the replica already holds under another name are linked from the local copy instead of being fetched
+        final Map<String, StoreFileMetadata> localFilesByChecksum = new HashMap<>();
+        for (StoreFileMetadata localFile : localMetadataMap.values()) {
+            localFilesByChecksum.putIfAbsent(localFile.checksum(), localFile);
+        }
+        final Set<String> linkedFiles = new HashSet<>();
+        for (StoreFileMetadata file : missingFiles) {
+            final StoreFileMetadata localFile = localFilesByChecksum.get(file.checksum());
+            if (localFile != null && localFile.isSame(file) && linkLocalFile(localFile, file)) {
+                linkedFiles.add(file.name());
+            }
+        }
 
         logger.trace(
             () -> new ParameterizedMessage(
@@ -252,10 +269,27 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
             );
         }
 
-        for (StoreFileMetadata file : missingFiles) {
-            state.getIndex().addFileDetail(file.name(), file.length(), false);
+        final List<StoreFileMetadata> filesToFetch = new ArrayList<>(missingFiles.size());
+        for (StoreFileMetadata file : diff.missing) {
+            // files that are already present, e.g. pre-copied merged segments, are reported as reused
+            final boolean reused = reuseFiles.contains(file.name()) || linkedFiles.contains(file.name());
+            state.getIndex().addFileDetail(file.name(), file.length(), reused);
+            if (reused == false) {
+                filesToFetch.add(file);
+            }
+        }
+        return filesToFetch;
+    }
+
+    private boolean linkLocalFile(StoreFileMetadata localFile, StoreFileMetadata file) {
+        try {
+            multiFileWriter.copyFromLocalFile(localFile.name(), file);
+            logger.trace("linked file [{}] from identical local file [{}]", file.name(), localFile.name());
+            return true;
+        } catch (IOException e) {
+            logger.warn(() -> new ParameterizedMessage("failed to link file [{}] from local file [{}]", file.name(), localFile.name()), e);
+            return false;
         }
-        return missingFiles;
     }
 
     // pkg private for tests
@@ -20,6 +20,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -27,16 +28,19 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.AdaptiveChunkSizer;
 import org.opensearch.indices.recovery.FileChunkWriter;
 import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.Transports;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.IntSupplier;
 
@@ -55,6 +59,8 @@ public final class SegmentFileTransferHandler {
     private final ThreadPool threadPool;
     private final int chunkSizeInBytes;
     private final int maxConcurrentFileChunks;
+    private final int maxConcurrentFiles;
+    private final boolean adaptiveChunkSize;
     private final DiscoveryNode targetNode;
     private final CancellableThreads cancellableThreads;
 
@@ -67,6 +73,37 @@ public final class SegmentFileTransferHandler {
         CancellableThreads cancellableThreads,
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks
+    ) {
+        this(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            threadPool,
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks,
+            1,
+            false
+        );
+    }
+
+    /**
+     * @param maxConcurrentFiles the number of files to send at the same time
+     * @param adaptiveChunkSize whether to adapt the chunk size to the link, see {@link AdaptiveChunkSizer}. The given chunk size
+     *                          is then the maximum chunk size.
+     */
+    public SegmentFileTransferHandler(
+        IndexShard shard,
+        DiscoveryNode targetNode,
+        FileChunkWriter chunkWriter,
+        Logger logger,
+        ThreadPool threadPool,
+        CancellableThreads cancellableThreads,
+        int fileChunkSizeInBytes,
+        int maxConcurrentFileChunks,
+        int maxConcurrentFiles,
+        boolean adaptiveChunkSize
     ) {
         this.shard = shard;
         this.targetNode = targetNode;
@@ -77,6 +114,8 @@ public final class SegmentFileTransferHandler {
         this.chunkSizeInBytes = fileChunkSizeInBytes;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentFileChunks = maxConcurrentFileChunks;
+        this.maxConcurrentFiles = maxConcurrentFiles;
+        this.adaptiveChunkSize = adaptiveChunkSize;
     }
 
     /**
@@ -95,23 +134,32 @@ public final class SegmentFileTransferHandler {
         ActionListener<Void> listener
     ) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
-        return new MultiChunkTransfer<>(logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
+        return new MultiChunkTransfer<>(
+            logger,
+            threadPool.getThreadContext(),
+            listener,
+            maxConcurrentFileChunks,
+            maxConcurrentFiles,
+            Arrays.asList(files)
+        ) {
 
             final Deque<byte[]> buffers = new ConcurrentLinkedDeque<>();
-            volatile InputStreamIndexInput currentInput = null;
-            long offset = 0;
+            final Map<String, FileCursor> cursors = ConcurrentCollections.newConcurrentMap();
+            final AdaptiveChunkSizer chunkSizer = adaptiveChunkSize
+                ? new AdaptiveChunkSizer(chunkSizeInBytes, maxConcurrentFileChunks)
+                : null;
 
             @Override
             protected void onNewResource(StoreFileMetadata md) throws IOException {
-                offset = 0;
-                IOUtils.close(currentInput, () -> currentInput = null);
+                final FileCursor cursor = new FileCursor();
+                cursors.put(md.name(), cursor);
                 // Open all files other than Segments* using IOContext.READ.
                 // With Lucene9_12 a READONCE context will confine the underlying IndexInput (MemorySegmentIndexInput) to a single thread.
                 // Segments* files require IOContext.READONCE
                 // https://github.com/apache/lucene/blob/b2d3a2b37e00f19a74949097736be8fd64745f61/lucene/test-framework/src/java/org/apache/lucene/tests/store/MockDirectoryWrapper.java#L817
                 if (md.name().startsWith(IndexFileNames.SEGMENTS) == false) {
                     final IndexInput indexInput = store.directory().openInput(md.name(), IOContext.DEFAULT);
-                    currentInput = new InputStreamIndexInput(indexInput, md.length()) {
+                    cursor.input = new InputStreamIndexInput(indexInput, md.length()) {
                         @Override
                         public void close() throws IOException {
                             IOUtils.close(indexInput, super::close); // InputStreamIndexInput's close is a noop
@@ -120,59 +168,71 @@ public final class SegmentFileTransferHandler {
                 }
             }
 
-            private byte[] acquireBuffer() {
+            private byte[] acquireBuffer(int size) {
                 final byte[] buffer = buffers.pollFirst();
-                if (buffer != null) {
+                // buffers of a smaller chunk size are dropped when the chunk size grows
+                if (buffer != null && buffer.length >= size) {
                     return buffer;
                 }
-                return new byte[chunkSizeInBytes];
+                return new byte[size];
             }
 
             @Override
             protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
                 assert Transports.assertNotTransportThread("read file chunk");
                 cancellableThreads.checkForCancel();
-                final byte[] buffer = acquireBuffer();
-                final int bytesRead = readBytes(md, buffer);
+                final FileCursor cursor = cursors.get(md.name());
+                final int chunkSize = chunkSizer != null ? chunkSizer.chunkSize() : chunkSizeInBytes;
+                final byte[] buffer = acquireBuffer(chunkSize);
+                final int bytesRead = readBytes(md, cursor, buffer, chunkSize);
                 if (bytesRead == -1) {
-                    throw new CorruptIndexException("file truncated; length=" + md.length() + " offset=" + offset, md.name());
+                    throw new CorruptIndexException("file truncated; length=" + md.length() + " offset=" + cursor.offset, md.name());
                 }
-                final boolean lastChunk = offset + bytesRead == md.length();
+                final boolean lastChunk = cursor.offset + bytesRead == md.length();
                 final FileChunk chunk = new FileChunk(
                     md,
                     new BytesArray(buffer, 0, bytesRead),
-                    offset,
+                    cursor.offset,
                     lastChunk,
                     () -> buffers.addFirst(buffer)
                 );
-                offset += bytesRead;
+                cursor.offset += bytesRead;
+                if (lastChunk) {
+                    IOUtils.close(cursors.remove(md.name()));
+                }
                 return chunk;
             }
 
-            private int readBytes(StoreFileMetadata md, byte[] buffer) throws IOException {
-                // if we don't have a currentInput by now open once to create the chunk.
-                if (currentInput == null) {
+            private int readBytes(StoreFileMetadata md, FileCursor cursor, byte[] buffer, int length) throws IOException {
+                // if we don't have an input by now open once to create the chunk.
+                if (cursor.input == null) {
                     try (IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE)) {
                         try (InputStreamIndexInput in = new InputStreamIndexInput(indexInput, md.length())) {
-                            in.skip(offset);
-                            return in.read(buffer);
+                            in.skip(cursor.offset);
+                            return in.read(buffer, 0, length);
                         }
                     }
                 } else {
-                    return currentInput.read(buffer);
+                    return cursor.input.read(buffer, 0, length);
                 }
             }
 
             @Override
             protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener1) {
                 cancellableThreads.checkForCancel();
+                ActionListener<Void> chunkListener = ActionListener.runBefore(listener1, request::close);
+                if (chunkSizer != null) {
+                    final long sentAtNanos = chunkSizer.onChunkSent();
+                    final int length = request.content.length();
+                    chunkListener = ActionListener.runBefore(chunkListener, () -> chunkSizer.onChunkAcknowledged(length, sentAtNanos));
+                }
                 chunkWriter.writeFileChunk(
                     request.md,
                     request.position,
                     request.content,
                     request.lastChunk,
                     translogOps.getAsInt(),
-                    ActionListener.runBefore(listener1, request::close)
+                    chunkListener
                 );
             }
 
@@ -183,11 +243,25 @@ public final class SegmentFileTransferHandler {
 
             @Override
             public void close() throws IOException {
-                IOUtils.close(currentInput, () -> currentInput = null);
+                IOUtils.close(cursors.values());
+                cursors.clear();
             }
         };
     }
 
+    /**
+     * The input and the read position of a file being sent
+     */
+    private static final class FileCursor implements Closeable {
+        InputStreamIndexInput input = null;
+        long offset = 0;
+
+        @Override
+        public void close() throws IOException {
+            IOUtils.close(input);
+        }
+    }
+
     public void handleErrorOnSendFiles(Store store, Exception e, StoreFileMetadata[] mds) throws Exception {
         final IOException corruptIndexException = ExceptionsHelper.unwrapCorruption(e);
         assert Transports.assertNotTransportThread(this + "[handle error on send/clean files]");
@@ -25,14 +25,17 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.FileChunkWriter;
 import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RetryableTransportClient;
@@ -45,6 +48,7 @@ import org.opensearch.transport.TransportRequestHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
@@ -197,34 +201,74 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
                 recoverySettings::mergedSegmentReplicationRateLimiter
             );
 
+            // only send the files that the replica asked for, it already holds the others, e.g. from a previous attempt
+            final StoreFileMetadata[] filesToSend = request.getFilesToFetch().toArray(new StoreFileMetadata[0]);
+            final MergedSegmentTransferTracker transferTracker = indexShard.mergedSegmentTransferTracker();
+            final String targetAllocationId = request.getTargetAllocationId();
+            final long bytesToSend = Arrays.stream(filesToSend).mapToLong(StoreFileMetadata::length).sum();
+            final AtomicLong bytesSent = new AtomicLong();
+            final long startTimeMillis = System.currentTimeMillis();
+            transferTracker.addPendingBytes(targetAllocationId, bytesToSend);
+            final FileChunkWriter trackingChunkWriter = new FileChunkWriter() {
+                @Override
+                public void writeFileChunk(
+                    StoreFileMetadata fileMetadata,
+                    long position,
+                    BytesReference content,
+                    boolean lastChunk,
+                    int totalTranslogOps,
+                    ActionListener<Void> chunkListener
+                ) {
+                    final int length = content.length();
+                    mergedSegmentFileChunkWriter.writeFileChunk(
+                        fileMetadata,
+                        position,
+                        content,
+                        lastChunk,
+                        totalTranslogOps,
+                        ActionListener.delegateFailure(chunkListener, (delegate, unused) -> {
+                            bytesSent.addAndGet(length);
+                            transferTracker.addTotalBytesSent(length);
+                            transferTracker.removePendingBytes(targetAllocationId, length);
+                            delegate.onResponse(unused);
+                        })
+                    );
+                }
+
+                @Override
+                public void cancel() {
+                    mergedSegmentFileChunkWriter.cancel();
+                }
+            };
+
             SegmentFileTransferHandler mergedSegmentFileTransferHandler = new SegmentFileTransferHandler(
                 indexShard,
                 request.getTargetNode(),
-                mergedSegmentFileChunkWriter,
+                trackingChunkWriter,
                 logger,
                 indexShard.getThreadPool(),
                 new CancellableThreads(),
                 Math.toIntExact(indexShard.getRecoverySettings().getChunkSize().getBytes()),
-                indexShard.getRecoverySettings().getMaxConcurrentFileChunks()
+                indexShard.getRecoverySettings().getMaxConcurrentFileChunks(),
+                indexShard.getRecoverySettings().getMaxConcurrentFiles(),
+                indexShard.getRecoverySettings().isAdaptiveChunkSize()
             );
 
             final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = mergedSegmentFileTransferHandler
-                .createTransfer(
-                    indexShard.store(),
-                    request.getCheckpoint().getMetadataMap().values().toArray(new StoreFileMetadata[0]),
-                    () -> 0,
-                    new ActionListener<>() {
-                        @Override
-                        public void onResponse(Void unused) {
-                            listener.onResponse(new GetSegmentFilesResponse(request.getFilesToFetch()));
-                        }
+                .createTransfer(indexShard.store(), filesToSend, () -> 0, ActionListener.runAfter(new ActionListener<>() {
+                    @Override
+                    public void onResponse(Void unused) {
+                        listener.onResponse(new GetSegmentFilesResponse(request.getFilesToFetch()));
+                    }
 
-                        @Override
-                        public void onFailure(Exception e) {
-                            listener.onFailure(e);
-                        }
+                    @Override
+                    public void onFailure(Exception e) {
+                        listener.onFailure(e);
                     }
-                );
+                }, () -> {
+                    transferTracker.removePendingBytes(targetAllocationId, bytesToSend - bytesSent.get());
+                    transferTracker.addTotalSendTimeMillis(System.currentTimeMillis() - startTimeMillis);
+                }));
             transfer.start();
         }
     }
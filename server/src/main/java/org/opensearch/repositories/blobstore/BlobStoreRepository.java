@@ -32,6 +32,7 @@
 
 package org.opensearch.repositories.blobstore;
 
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
@@ -63,6 +64,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.service.ClusterManagerTaskThrottler;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.Priority;
@@ -79,6 +81,7 @@ import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.common.blobstore.transfer.stream.RateLimitingOffsetRangeInputStream;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.DeflateCompressor;
+import org.opensearch.common.hash.MessageDigests;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
@@ -167,6 +170,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
 import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -253,6 +257,14 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     public static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
 
+    /**
+     * Prefix used for the identifiers of data blobs that are stored once per content in the container shared by all shards of the
+     * repository, see {@link #CONTENT_ADDRESSED_BLOBS_SETTING}.
+     */
+    public static final String CONTENT_ADDRESSED_DATA_BLOB_PREFIX = "c__";
+
+    public static final String CONTENT_ADDRESSED_DIR = "content";
+
     public static final String SNAPSHOT_REPOSITORY_DATA_CACHET_THRESHOLD_SETTING_NAME = "snapshot.repository_data.cache.threshold";
 
     public static final double SNAPSHOT_REPOSITORY_DATA_CACHE_THRESHOLD_DEFAULT_PERCENTAGE = 0.01;
@@ -434,6 +446,28 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     public static final Setting<Boolean> COMPRESS_SETTING = Setting.boolSetting("compress", false, Setting.Property.NodeScope);
 
+    /**
+     * Setting to store the data blobs of new shard snapshot files under the SHA-256 digest of their contents, in a container that is
+     * shared by all shards and indices of the repository, so that identical files (e.g. of shrunk or cloned indices) are only uploaded
+     * once. Content addressed blobs that are no longer referenced by any shard snapshot are removed by the repository cleanup.
+     */
+    public static final Setting<Boolean> CONTENT_ADDRESSED_BLOBS_SETTING = Setting.boolSetting(
+        "content_addressed_blobs",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Setting for the duration above which a snapshot finalization is logged at info level together with the time spent on each of its
+     * steps. Faster finalizations are only logged at debug level.
+     */
+    public static final Setting<TimeValue> SLOW_FINALIZATION_LOGGING_THRESHOLD_SETTING = Setting.timeSetting(
+        "slow_finalization_logging_threshold",
+        TimeValue.timeValueSeconds(10),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Compressor> COMPRESSION_TYPE_SETTING = new Setting<>(
         "compression_type",
         DeflateCompressor.NAME.toLowerCase(Locale.ROOT),
@@ -487,6 +521,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private volatile Compressor compressor;
 
+    private volatile boolean contentAddressedBlobs;
+
+    private volatile TimeValue slowFinalizationLoggingThreshold;
+
     private volatile boolean cacheRepositoryData;
 
     private volatile RateLimiter snapshotRateLimiter;
@@ -665,6 +703,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         compressor = COMPRESS_SETTING.get(metadata.settings())
             ? COMPRESSION_TYPE_SETTING.get(metadata.settings())
             : CompressorRegistry.none();
+        contentAddressedBlobs = CONTENT_ADDRESSED_BLOBS_SETTING.get(metadata.settings());
+        slowFinalizationLoggingThreshold = SLOW_FINALIZATION_LOGGING_THRESHOLD_SETTING.get(metadata.settings());
     }
 
     @Override
@@ -1415,7 +1455,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             // Run unreferenced blobs cleanup in parallel to shard-level snapshot deletion
             final ActionListener<Void> afterCleanupsListener = new GroupedActionListener<>(
                 ActionListener.wrap(() -> listener.onResponse(updatedRepoData)),
-                2
+                3
             );
 
             // We can create map of indexId to ShardInfo based on the old repository data. This is later used in cleanup
@@ -1458,9 +1498,39 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     afterCleanupsListener
                 );
             }
+            asyncCleanupUnreferencedContentAddressedBlobs(updatedRepoData, snapshotIds, afterCleanupsListener);
         }, listener::onFailure);
     }
 
+    /**
+     * Deletes the content addressed blobs that are no longer referenced once the given snapshots are deleted. Failures are only logged,
+     * the remaining blobs are deleted by the next snapshot deletion or repository cleanup.
+     */
+    private void asyncCleanupUnreferencedContentAddressedBlobs(
+        RepositoryData updatedRepoData,
+        Collection<SnapshotId> snapshotIds,
+        ActionListener<Void> listener
+    ) {
+        threadPool.executor(ThreadPool.Names.SNAPSHOT_DELETION).execute(ActionRunnable.wrap(listener, l -> {
+            try {
+                final BlobContainer contentContainer = blobContainer().children().get(CONTENT_ADDRESSED_DIR);
+                if (contentContainer != null) {
+                    cleanupStaleContentAddressedBlobs(updatedRepoData, contentContainer.listBlobs());
+                }
+            } catch (Exception e) {
+                logger.warn(
+                    () -> new ParameterizedMessage(
+                        "[{}] Failed to delete content addressed blobs that are no longer referenced after deleting {}",
+                        metadata.name(),
+                        snapshotIds
+                    ),
+                    e
+                );
+            }
+            l.onResponse(null);
+        }));
+    }
+
     private void cleanUpRemoteStoreFilesForDeletedIndicesV2(
         RepositoryData repositoryData,
         Collection<SnapshotId> snapshotIds,
@@ -2052,7 +2122,9 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 .map(IndexId::getId)
                 .collect(Collectors.toSet());
             final List<String> staleRootBlobs = staleRootBlobs(repositoryData, rootBlobs.keySet());
-            if (survivingIndexIds.equals(foundIndices.keySet()) && staleRootBlobs.isEmpty()) {
+            final BlobContainer contentContainer = blobContainer().children().get(CONTENT_ADDRESSED_DIR);
+            final Map<String, BlobMetadata> contentBlobs = contentContainer == null ? Collections.emptyMap() : contentContainer.listBlobs();
+            if (survivingIndexIds.equals(foundIndices.keySet()) && staleRootBlobs.isEmpty() && contentBlobs.isEmpty()) {
                 // Nothing to clean up we return
                 listener.onResponse(new RepositoryCleanupResult(DeleteResult.ZERO));
             } else {
@@ -2072,7 +2144,16 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                             repositoryData,
                             remoteStoreLockManagerFactory,
                             remoteSegmentStoreDirectoryFactory,
-                            ActionListener.map(listener, RepositoryCleanupResult::new),
+                            ActionListener.wrap(
+                                deleteResult -> threadPool.executor(ThreadPool.Names.SNAPSHOT)
+                                    .execute(
+                                        ActionRunnable.supply(
+                                            ActionListener.map(listener, RepositoryCleanupResult::new),
+                                            () -> deleteResult.add(cleanupStaleContentAddressedBlobs(repositoryData, contentBlobs))
+                                        )
+                                    ),
+                                listener::onFailure
+                            ),
                             Collections.emptyMap()
                         ),
                         listener::onFailure
@@ -2644,6 +2725,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         );
 
         final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
+        final long startTimeNs = System.nanoTime();
 
         final StepListener<RepositoryData> repoDataListener = new StepListener<>();
         getRepositoryData(repoDataListener);
@@ -2651,8 +2733,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
             final Map<IndexId, String> indexMetas = ConcurrentCollections.newConcurrentMap();
             final Map<String, String> indexMetaIdentifiers = ConcurrentCollections.newConcurrentMap();
+            final long metadataStartTimeNs = System.nanoTime();
 
             final ActionListener<Void> allMetaListener = new GroupedActionListener<>(ActionListener.wrap(v -> {
+                final long shardPathsStartTimeNs = System.nanoTime();
                 final RepositoryData updatedRepositoryData = existingRepositoryData.addSnapshot(
                     snapshotId,
                     snapshotInfo.state(),
@@ -2663,19 +2747,44 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 );
                 // The snapshot shards path would be uploaded for new index ids or index ids where the shard gen count (a.k.a
                 // number_of_shards) has increased.
-                Set<String> updatedIndexIds = writeNewIndexShardPaths(existingRepositoryData, updatedRepositoryData, snapshotId);
-                cleanupRedundantSnapshotShardPaths(updatedIndexIds);
-                writeIndexGen(
-                    updatedRepositoryData,
-                    repositoryStateId,
-                    repositoryMetaVersion,
-                    stateTransformer,
-                    repositoryUpdatePriority,
-                    ActionListener.wrap(newRepoData -> {
-                        cleanupOldShardGens(existingRepositoryData, updatedRepositoryData, newRepoData, listener);
-                    }, onUpdateFailure)
-                );
-            }, onUpdateFailure), 2 + indices.size());
+                writeNewIndexShardPaths(existingRepositoryData, updatedRepositoryData, snapshotId, ActionListener.wrap(updatedIndexIds -> {
+                    cleanupRedundantSnapshotShardPaths(updatedIndexIds);
+                    final long repositoryDataStartTimeNs = System.nanoTime();
+                    writeIndexGen(
+                        updatedRepositoryData,
+                        repositoryStateId,
+                        repositoryMetaVersion,
+                        stateTransformer,
+                        repositoryUpdatePriority,
+                        ActionListener.wrap(newRepoData -> {
+                            final long cleanupStartTimeNs = System.nanoTime();
+                            cleanupOldShardGens(
+                                existingRepositoryData,
+                                updatedRepositoryData,
+                                newRepoData,
+                                ActionListener.runBefore(listener, () -> {
+                                    final long endTimeNs = System.nanoTime();
+                                    final TimeValue took = TimeValue.timeValueNanos(endTimeNs - startTimeNs);
+                                    logger.log(
+                                        took.compareTo(slowFinalizationLoggingThreshold) >= 0 ? Level.INFO : Level.DEBUG,
+                                        "[{}] finalized snapshot [{}] with [{}] indices in [{}]: repository data read [{}], "
+                                            + "metadata [{}], shard paths [{}], repository data write [{}], shard generations cleanup [{}]",
+                                        metadata.name(),
+                                        snapshotId,
+                                        indices.size(),
+                                        took,
+                                        TimeValue.timeValueNanos(metadataStartTimeNs - startTimeNs),
+                                        TimeValue.timeValueNanos(shardPathsStartTimeNs - metadataStartTimeNs),
+                                        TimeValue.timeValueNanos(repositoryDataStartTimeNs - shardPathsStartTimeNs),
+                                        TimeValue.timeValueNanos(cleanupStartTimeNs - repositoryDataStartTimeNs),
+                                        TimeValue.timeValueNanos(endTimeNs - cleanupStartTimeNs)
+                                    );
+                                })
+                            );
+                        }, onUpdateFailure)
+                    );
+                }, onUpdateFailure));
+            }, onUpdateFailure), 3);
 
             // We ignore all FileAlreadyExistsException when writing metadata since otherwise a cluster-manager failover
             // while in this method will mean that no snap-${uuid}.dat blob is ever written for this snapshot. This is safe because
@@ -2691,21 +2800,20 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 )
             );
 
-            // write the index metadata for each index in the snapshot
-            for (IndexId index : indices) {
-                executor.execute(ActionRunnable.run(allMetaListener, () -> {
-                    final IndexMetadata indexMetaData = clusterMetadata.index(index.getName());
-                    final String identifiers = IndexMetaDataGenerations.buildUniqueIdentifier(indexMetaData);
-                    String metaUUID = existingRepositoryData.indexMetaDataGenerations().getIndexMetaBlobId(identifiers);
-                    if (metaUUID == null) {
-                        // We don't yet have this version of the metadata so we write it
-                        metaUUID = UUIDs.base64UUID();
-                        INDEX_METADATA_FORMAT.write(indexMetaData, indexContainer(index), metaUUID, compressor);
-                        indexMetaIdentifiers.put(identifiers, metaUUID);
-                    }
-                    indexMetas.put(index, identifiers);
-                }));
-            }
+            // write the index metadata for each index in the snapshot, with at most as many concurrent writes as fit into the
+            // snapshot pool so that the shard snapshots of the next snapshot are not queued up behind thousands of metadata writes
+            executeConcurrently(indices, index -> {
+                final IndexMetadata indexMetaData = clusterMetadata.index(index.getName());
+                final String identifiers = IndexMetaDataGenerations.buildUniqueIdentifier(indexMetaData);
+                String metaUUID = existingRepositoryData.indexMetaDataGenerations().getIndexMetaBlobId(identifiers);
+                if (metaUUID == null) {
+                    // We don't yet have this version of the metadata so we write it
+                    metaUUID = UUIDs.base64UUID();
+                    INDEX_METADATA_FORMAT.write(indexMetaData, indexContainer(index), metaUUID, compressor);
+                    indexMetaIdentifiers.put(identifiers, metaUUID);
+                }
+                indexMetas.put(index, identifiers);
+            }, allMetaListener);
             executor.execute(
                 ActionRunnable.run(
                     allMetaListener,
@@ -2748,27 +2856,72 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
-    private Set<String> writeNewIndexShardPaths(
+    private void writeNewIndexShardPaths(
         RepositoryData existingRepositoryData,
         RepositoryData updatedRepositoryData,
-        SnapshotId snapshotId
+        SnapshotId snapshotId,
+        ActionListener<Set<String>> listener
     ) {
-        Set<String> updatedIndexIds = new HashSet<>();
-        Set<IndexId> indicesToUpdate = new HashSet<>(updatedRepositoryData.getIndices().values());
-        for (IndexId indexId : indicesToUpdate) {
+        final Map<IndexId, Integer> indicesToUpdate = new HashMap<>();
+        for (IndexId indexId : new HashSet<>(updatedRepositoryData.getIndices().values())) {
             if (indexId.getShardPathType() == PathType.FIXED.getCode()) {
                 continue;
             }
             int oldShardCount = existingRepositoryData.shardGenerations().getGens(indexId).size();
             int newShardCount = updatedRepositoryData.shardGenerations().getGens(indexId).size();
             if (newShardCount > oldShardCount) {
-                String shardPathsBlobName = writeIndexShardPaths(indexId, snapshotId, newShardCount);
-                if (Objects.nonNull(shardPathsBlobName)) {
-                    updatedIndexIds.add(shardPathsBlobName);
-                }
+                indicesToUpdate.put(indexId, newShardCount);
             }
         }
-        return updatedIndexIds;
+        final Set<String> updatedIndexIds = ConcurrentCollections.newConcurrentSet();
+        executeConcurrently(indicesToUpdate.keySet(), indexId -> {
+            String shardPathsBlobName = writeIndexShardPaths(indexId, snapshotId, indicesToUpdate.get(indexId));
+            if (Objects.nonNull(shardPathsBlobName)) {
+                updatedIndexIds.add(shardPathsBlobName);
+            }
+        }, ActionListener.map(listener, v -> updatedIndexIds));
+    }
+
+    /**
+     * Runs the given action for each of the given items on the snapshot pool, with at most as many concurrent actions as there are
+     * threads in the pool. The remaining items are skipped once an action fails.
+     */
+    private <T> void executeConcurrently(Collection<T> items, CheckedConsumer<T, Exception> action, ActionListener<Void> listener) {
+        if (items.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        final BlockingQueue<T> queue = new LinkedBlockingQueue<>(items);
+        final Executor executor = threadPool.executor(ThreadPool.Names.SNAPSHOT);
+        // Start as many workers as fit into the snapshot pool at once at the most
+        final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), queue.size());
+        final ActionListener<Void> workersListener = ActionListener.delegateResponse(
+            new GroupedActionListener<>(ActionListener.map(listener, v -> null), workers),
+            (l, e) -> {
+                queue.clear();
+                l.onFailure(e);
+            }
+        );
+        for (int i = 0; i < workers; ++i) {
+            executeOne(queue, action, executor, workersListener);
+        }
+    }
+
+    private static <T> void executeOne(
+        BlockingQueue<T> queue,
+        CheckedConsumer<T, Exception> action,
+        Executor executor,
+        ActionListener<Void> listener
+    ) {
+        final T item = queue.poll();
+        if (item == null) {
+            listener.onResponse(null);
+        } else {
+            executor.execute(ActionRunnable.wrap(listener, l -> {
+                action.accept(item);
+                executeOne(queue, action, executor, l);
+            }));
+        }
     }
 
     String writeIndexShardPaths(IndexId indexId, SnapshotId snapshotId, int shardCount) {
@@ -4052,17 +4205,34 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     indexTotalNumberOfFiles++;
 
                     if (existingFileInfo == null) {
-                        indexIncrementalFileCount++;
-                        indexIncrementalSize += md.length();
+                        final String blobName;
+                        if (needsWrite == false) {
+                            blobName = VIRTUAL_DATA_BLOB_PREFIX + UUIDs.randomBase64UUID();
+                        } else if (contentAddressedBlobs) {
+                            try (Releasable ignored = incrementStoreRef(store, snapshotStatus, shardId)) {
+                                blobName = contentAddressedBlobName(store, md);
+                            }
+                        } else {
+                            blobName = UPLOADED_DATA_BLOB_PREFIX + UUIDs.randomBase64UUID();
+                        }
                         // create a new FileInfo
                         BlobStoreIndexShardSnapshot.FileInfo snapshotFileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
-                            (needsWrite ? UPLOADED_DATA_BLOB_PREFIX : VIRTUAL_DATA_BLOB_PREFIX) + UUIDs.randomBase64UUID(),
+                            blobName,
                             md,
                             chunkSize()
                         );
                         indexCommitPointFiles.add(snapshotFileInfo);
-                        if (needsWrite) {
-                            filesToSnapshot.add(snapshotFileInfo);
+                        if (isContentAddressed(blobName)
+                            && contentAddressedBlobExists(dataBlobContainer(shardContainer, blobName), snapshotFileInfo)) {
+                            // another shard snapshot already uploaded the same contents, nothing is added to the repository
+                            logger.trace("[{}] [{}] Deduplicated [{}] as [{}]", shardId, snapshotId, fileName, blobName);
+                            snapshotStatus.addDeduplicatedFile(md.length());
+                        } else {
+                            indexIncrementalFileCount++;
+                            indexIncrementalSize += md.length();
+                            if (needsWrite) {
+                                filesToSnapshot.add(snapshotFileInfo);
+                            }
                         }
                         assert needsWrite || assertFileContentsMatchHash(snapshotFileInfo, store);
                     } else {
@@ -4293,7 +4463,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                                 @Override
                                 protected InputStream openSlice(int slice) throws IOException {
                                     ensureNotClosing(store);
-                                    return container.readBlob(fileInfo.partName(slice));
+                                    return dataBlobContainer(container, fileInfo.name()).readBlob(fileInfo.partName(slice));
                                 }
                             })) {
                                 final byte[] buffer = new byte[Math.toIntExact(Math.min(bufferSize, fileInfo.length()))];
@@ -4798,7 +4968,16 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         IndexShardSnapshotStatus snapshotStatus,
         Store store
     ) throws IOException {
-        final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        final BlobContainer shardContainer = dataBlobContainer(shardContainer(indexId, shardId), fileInfo.name());
+        final boolean contentAddressed = isContentAddressed(fileInfo.name());
+        if (contentAddressed && contentAddressedBlobExists(shardContainer, fileInfo)) {
+            // another shard snapshot uploaded the same contents since the files to upload were determined
+            logger.trace(
+                () -> new ParameterizedMessage("[{}] Reusing [{}] for [{}]", metadata.name(), fileInfo.name(), fileInfo.physicalName())
+            );
+            snapshotStatus.addProcessedFile(fileInfo.length());
+            return;
+        }
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
@@ -4829,7 +5008,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 };
                 final String partName = fileInfo.partName(i);
                 logger.trace(() -> new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
-                shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                if (contentAddressed) {
+                    // content addressed blobs are considered complete as soon as they exist, so they must never be partially written
+                    shardContainer.writeBlobAtomic(partName, inputStream, partBytes, false);
+                } else {
+                    shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                }
             }
             Store.verify(indexInput);
             snapshotStatus.addProcessedFile(fileInfo.length());
@@ -4840,6 +5024,101 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Computes the name of the content addressed blob of the given file, which is made of the SHA-256 digest of its contents and of the
+     * size of the parts that it is split into.
+     */
+    private String contentAddressedBlobName(Store store, StoreFileMetadata md) throws IOException {
+        final MessageDigest digest = MessageDigests.sha256();
+        try (IndexInput indexInput = store.directory().openInput(md.name(), IOContext.READONCE)) {
+            final byte[] buffer = new byte[Math.toIntExact(Math.min(bufferSize, md.length()))];
+            long remaining = indexInput.length();
+            while (remaining > 0) {
+                final int length = Math.toIntExact(Math.min(buffer.length, remaining));
+                indexInput.readBytes(buffer, 0, length);
+                digest.update(buffer, 0, length);
+                remaining -= length;
+            }
+        }
+        final ByteSizeValue partSize = chunkSize();
+        return CONTENT_ADDRESSED_DATA_BLOB_PREFIX
+            + MessageDigests.toHexString(digest.digest())
+            + (partSize == null ? "" : "-" + partSize.getBytes());
+    }
+
+    private static boolean isContentAddressed(String blobName) {
+        return blobName.startsWith(CONTENT_ADDRESSED_DATA_BLOB_PREFIX);
+    }
+
+    private static boolean contentAddressedBlobExists(BlobContainer container, BlobStoreIndexShardSnapshot.FileInfo fileInfo)
+        throws IOException {
+        for (int i = 0; i < fileInfo.numberOfParts(); i++) {
+            if (container.blobExists(fileInfo.partName(i)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the container that holds the given data blob of a shard snapshot stored in the given shard container.
+     */
+    public BlobContainer dataBlobContainer(BlobContainer shardContainer, String blobName) {
+        if (isContentAddressed(blobName)) {
+            return blobStore().blobContainer(basePath().add(CONTENT_ADDRESSED_DIR));
+        }
+        return shardContainer;
+    }
+
+    /**
+     * Deletes the content addressed blobs that are not referenced by any shard snapshot of the given repository data. This must only
+     * be called while no other operation can add references to content addressed blobs, i.e. as part of a snapshot deletion, which
+     * only starts once no snapshot writes to the repository and holds back the shard snapshots of new snapshots, or of the repository
+     * cleanup.
+     */
+    private DeleteResult cleanupStaleContentAddressedBlobs(RepositoryData repositoryData, Map<String, BlobMetadata> contentBlobs)
+        throws IOException {
+        if (contentBlobs.isEmpty()) {
+            return DeleteResult.ZERO;
+        }
+        final Set<String> referencedBlobs = new HashSet<>();
+        for (IndexId indexId : repositoryData.getIndices().values()) {
+            final List<String> generations = repositoryData.shardGenerations().getGens(indexId);
+            if (generations.isEmpty()) {
+                // the shards of the index are unknown, e.g. with an old repository format, so nothing can be deleted safely
+                logger.warn("[{}] Skipping cleanup of content addressed blobs, the shards of [{}] are unknown", metadata.name(), indexId);
+                return DeleteResult.ZERO;
+            }
+            for (int shardId = 0; shardId < generations.size(); shardId++) {
+                final String generation = generations.get(shardId);
+                if (ShardGenerations.DELETED_SHARD_GEN.equals(generation)) {
+                    continue;
+                }
+                final BlobContainer shardContainer = shardContainer(indexId, shardId);
+                final Set<String> blobs = generation == null
+                    ? shardContainer.listBlobsByPrefix(INDEX_FILE_PREFIX).keySet()
+                    : Collections.emptySet();
+                for (SnapshotFiles snapshotFiles : buildBlobStoreIndexShardSnapshots(blobs, shardContainer, generation).v1()) {
+                    for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : snapshotFiles.indexFiles()) {
+                        if (isContentAddressed(fileInfo.name())) {
+                            referencedBlobs.add(fileInfo.name());
+                        }
+                    }
+                }
+            }
+        }
+        final List<String> staleBlobs = contentBlobs.keySet()
+            .stream()
+            .filter(blob -> FsBlobContainer.isTempBlobName(blob) || referencedBlobs.contains(canonicalName(blob)) == false)
+            .collect(Collectors.toList());
+        if (staleBlobs.isEmpty()) {
+            return DeleteResult.ZERO;
+        }
+        logger.debug("[{}] Deleting {} stale content addressed blobs", metadata.name(), staleBlobs.size());
+        deleteFromContainer(blobStore().blobContainer(basePath().add(CONTENT_ADDRESSED_DIR)), staleBlobs);
+        return new DeleteResult(staleBlobs.size(), staleBlobs.stream().mapToLong(blob -> contentBlobs.get(blob).length()).sum());
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
@@ -231,7 +231,10 @@ public class RestThreadPoolAction extends AbstractCatAction {
                 if (poolInfo.getKeepAlive() != null) {
                     keepAlive = poolInfo.getKeepAlive().toString();
                 }
-                if (poolInfo.getThreadPoolType() == ThreadPool.ThreadPoolType.SCALING) {
+                if (poolInfo.getThreadPoolType() == ThreadPool.ThreadPoolType.VIRTUAL) {
+                    assert poolInfo.getMax() > 0;
+                    max = poolInfo.getMax();
+                } else if (poolInfo.getThreadPoolType() == ThreadPool.ThreadPoolType.SCALING) {
                     assert poolInfo.getMin() >= 0;
                     core = poolInfo.getMin();
                     assert poolInfo.getMax() > 0;
@@ -122,6 +122,7 @@ import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static org.opensearch.search.SearchService.AGGREGATION_REWRITE_FILTER_SEGMENT_THRESHOLD;
+import static org.opensearch.search.SearchService.AGGREGATION_SWISS_HASH_ENABLED;
 import static org.opensearch.search.SearchService.BUCKET_SELECTION_STRATEGY_FACTOR_SETTING;
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
@@ -222,6 +223,7 @@ final class DefaultSearchContext extends SearchContext {
     private final int cardinalityAggregationPruningThreshold;
     private final int bucketSelectionStrategyFactor;
     private final boolean keywordIndexOrDocValuesEnabled;
+    private final boolean aggregationSwissHashEnabled;
 
     private boolean isStreamSearch;
     private StreamSearchChannelListener listener;
@@ -290,6 +292,7 @@ final class DefaultSearchContext extends SearchContext {
         this.bucketSelectionStrategyFactor = evaluateBucketSelectionStrategyFactor();
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
         this.keywordIndexOrDocValuesEnabled = evaluateKeywordIndexOrDocValuesEnabled();
+        this.aggregationSwissHashEnabled = evaluateAggregationSwissHashEnabled();
         this.isStreamSearch = isStreamSearch;
     }
 
@@ -1248,6 +1251,11 @@ final class DefaultSearchContext extends SearchContext {
         return keywordIndexOrDocValuesEnabled;
     }
 
+    @Override
+    public boolean aggregationSwissHashEnabled() {
+        return aggregationSwissHashEnabled;
+    }
+
     private int evaluateCardinalityAggregationPruningThreshold() {
         if (clusterService != null) {
             return clusterService.getClusterSettings().get(CARDINALITY_AGGREGATION_PRUNING_THRESHOLD);
@@ -1269,6 +1277,13 @@ final class DefaultSearchContext extends SearchContext {
         return false;
     }
 
+    private boolean evaluateAggregationSwissHashEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(AGGREGATION_SWISS_HASH_ENABLED);
+        }
+        return false;
+    }
+
     public void setStreamChannelListener(StreamSearchChannelListener listener) {
         assert isStreamSearch() : "Stream search not enabled";
         this.listener = listener;
@@ -249,7 +249,7 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
         out.writeLong(version);
         out.writeZLong(seqNo);
         out.writeVLong(primaryTerm);
-        out.writeBytesReference(source);
+        out.writeSharedBytesReference(source);
         if (explanation == null) {
             out.writeBoolean(false);
         } else {
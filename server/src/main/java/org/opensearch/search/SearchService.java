@@ -402,6 +402,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // backs the bucket ordinals of aggregations that collect from a single bucket with Swiss tables, see SwissLongHash
+    public static final Setting<Boolean> AGGREGATION_SWISS_HASH_ENABLED = Setting.boolSetting(
+        "search.aggregation.swiss_hash_enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final int DEFAULT_BUCKET_SELECTION_STRATEGY_FACTOR = 5;
     public static final Setting<Integer> BUCKET_SELECTION_STRATEGY_FACTOR_SETTING = Setting.intSetting(
         "search.aggregation.bucket_selection_strategy_factor",
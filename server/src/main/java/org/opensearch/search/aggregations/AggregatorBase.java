@@ -50,6 +50,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -73,6 +74,7 @@ public abstract class AggregatorBase extends Aggregator {
     private Map<String, Aggregator> subAggregatorbyName;
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
+    private int starTreePrecomputedSegments;
 
     /**
      * Constructs a new Aggregator.
@@ -236,6 +238,22 @@ public abstract class AggregatorBase extends Aggregator {
         return false;
     }
 
+    /**
+     * Records that the results of this aggregator for a segment were computed from a star-tree index, either
+     * by itself or by a parent aggregator. It is reported in the profile debug info.
+     */
+    protected final void recordStarTreePrecomputation() {
+        starTreePrecomputedSegments++;
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (starTreePrecomputedSegments > 0) {
+            add.accept("star_tree_precomputed_segments", starTreePrecomputedSegments);
+        }
+    }
+
     @Override
     public final void preCollection() throws IOException {
         List<BucketCollector> collectors = Arrays.asList(subAggregators);
@@ -391,6 +391,7 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
 
         // TODO: Evaluate optimizing StarTree traversal filter with specific ranges instead of MATCH_ALL_DEFAULT
@@ -37,6 +37,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.SwissBytesRefHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
 /**
@@ -49,7 +50,20 @@ public abstract class BytesKeyedBucketOrds implements Releasable {
      * Build a {@link LongKeyedBucketOrds}.
      */
     public static BytesKeyedBucketOrds build(BigArrays bigArrays, CardinalityUpperBound cardinality) {
-        return cardinality.map(estimate -> estimate < 2 ? new FromSingle(bigArrays) : new FromMany(bigArrays));
+        return build(bigArrays, cardinality, false);
+    }
+
+    /**
+     * Build a {@link BytesKeyedBucketOrds}, which is backed by a {@link SwissBytesRefHash} when collecting from a single bucket
+     * if {@code swissHash} is set.
+     */
+    public static BytesKeyedBucketOrds build(BigArrays bigArrays, CardinalityUpperBound cardinality, boolean swissHash) {
+        return cardinality.map(estimate -> {
+            if (estimate >= 2) {
+                return new FromMany(bigArrays);
+            }
+            return swissHash ? new FromSingleSwiss(bigArrays) : new FromSingle(bigArrays);
+        });
     }
 
     private BytesKeyedBucketOrds() {}
@@ -179,6 +193,63 @@ public abstract class BytesKeyedBucketOrds implements Releasable {
         }
     }
 
+    /**
+     * Implementation that only works if it is collecting from a single bucket, backed by a {@link SwissBytesRefHash}.
+     *
+     * @opensearch.internal
+     */
+    private static class FromSingleSwiss extends BytesKeyedBucketOrds {
+        private final SwissBytesRefHash ords;
+
+        private FromSingleSwiss(BigArrays bigArrays) {
+            ords = new SwissBytesRefHash(bigArrays);
+        }
+
+        @Override
+        public long add(long owningBucketOrd, BytesRef value) {
+            assert owningBucketOrd == 0;
+            return ords.add(value);
+        }
+
+        @Override
+        public long bucketsInOrd(long owningBucketOrd) {
+            return ords.size();
+        }
+
+        @Override
+        public long size() {
+            return ords.size();
+        }
+
+        @Override
+        public BucketOrdsEnum ordsEnum(long owningBucketOrd) {
+            return new BucketOrdsEnum() {
+                private int ord = -1;
+
+                @Override
+                public boolean next() {
+                    ord++;
+                    return ord < ords.size();
+                }
+
+                @Override
+                public long ord() {
+                    return ord;
+                }
+
+                @Override
+                public void readValue(BytesRef dest) {
+                    ords.get(ord, dest);
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            ords.close();
+        }
+    }
+
     /**
      * Implementation that works properly when collecting from many buckets.
      *
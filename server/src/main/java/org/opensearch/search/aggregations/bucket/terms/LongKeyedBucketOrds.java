@@ -36,6 +36,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongLongHash;
 import org.opensearch.common.util.ReorganizingLongHash;
+import org.opensearch.common.util.SwissLongHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
 /**
@@ -48,7 +49,20 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      * Build a {@link LongKeyedBucketOrds}.
      */
     public static LongKeyedBucketOrds build(BigArrays bigArrays, CardinalityUpperBound cardinality) {
-        return cardinality.map(estimate -> estimate < 2 ? new FromSingle(bigArrays) : new FromMany(bigArrays));
+        return build(bigArrays, cardinality, false);
+    }
+
+    /**
+     * Build a {@link LongKeyedBucketOrds}, which is backed by a {@link SwissLongHash} when collecting from a single bucket
+     * if {@code swissHash} is set.
+     */
+    public static LongKeyedBucketOrds build(BigArrays bigArrays, CardinalityUpperBound cardinality, boolean swissHash) {
+        return cardinality.map(estimate -> {
+            if (estimate >= 2) {
+                return new FromMany(bigArrays);
+            }
+            return swissHash ? new FromSingleSwiss(bigArrays) : new FromSingle(bigArrays);
+        });
     }
 
     private LongKeyedBucketOrds() {}
@@ -223,6 +237,87 @@ public abstract class LongKeyedBucketOrds implements Releasable {
         }
     }
 
+    /**
+     * Implementation that only works if it is collecting from a single bucket, backed by a {@link SwissLongHash}.
+     *
+     * @opensearch.internal
+     */
+    public static class FromSingleSwiss extends LongKeyedBucketOrds {
+        private final SwissLongHash ords;
+
+        public FromSingleSwiss(BigArrays bigArrays) {
+            ords = new SwissLongHash(bigArrays);
+        }
+
+        @Override
+        public long add(long owningBucketOrd, long value) {
+            // This is in the critical path for collecting most aggs. Be careful of performance.
+            assert owningBucketOrd == 0;
+            return ords.add(value);
+        }
+
+        @Override
+        public long find(long owningBucketOrd, long value) {
+            assert owningBucketOrd == 0;
+            return ords.find(value);
+        }
+
+        @Override
+        public long get(long ordinal) {
+            return ords.get(ordinal);
+        }
+
+        @Override
+        public long bucketsInOrd(long owningBucketOrd) {
+            assert owningBucketOrd == 0;
+            return ords.size();
+        }
+
+        @Override
+        public long size() {
+            return ords.size();
+        }
+
+        @Override
+        public long maxOwningBucketOrd() {
+            return 0;
+        }
+
+        @Override
+        public BucketOrdsEnum ordsEnum(long owningBucketOrd) {
+            assert owningBucketOrd == 0;
+            return new BucketOrdsEnum() {
+                private long ord = -1;
+                private long value;
+
+                @Override
+                public boolean next() {
+                    ord++;
+                    if (ord >= ords.size()) {
+                        return false;
+                    }
+                    value = ords.get(ord);
+                    return true;
+                }
+
+                @Override
+                public long value() {
+                    return value;
+                }
+
+                @Override
+                public long ord() {
+                    return ord;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            ords.close();
+        }
+    }
+
     /**
      * Implementation that works properly when collecting from many buckets.
      *
@@ -98,7 +98,7 @@ public class MapStringTermsAggregator extends AbstractStringTermsAggregator {
         this.collectorSource = collectorSource;
         this.resultStrategy = resultStrategy.apply(this); // ResultStrategy needs a reference to the Aggregator to do its job.
         this.includeExclude = includeExclude;
-        bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality, context.aggregationSwissHashEnabled());
     }
 
     @Override
@@ -102,7 +102,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         Map<String, Object> metadata
     ) throws IOException {
         super(name, factories, context, parent, metadata);
-        this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality, context.aggregationSwissHashEnabled());
         this.multiTermsValue = new MultiTermsValuesSource(rawValuesSources, internalValuesSources);
         this.showTermDocCountError = showTermDocCountError;
         this.formats = formats;
@@ -267,6 +267,7 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parent
     ) throws IOException {
+        recordStarTreePrecomputation();
         StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
         assert starTreeValues != null;
         SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
@@ -160,6 +160,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
         StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
         assert starTreeValues != null;
 
@@ -237,6 +238,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         assert parentCollector != null;
         return new StarTreeBucketCollector(parentCollector) {
             String sumMetricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
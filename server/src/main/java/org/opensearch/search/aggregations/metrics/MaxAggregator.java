@@ -176,6 +176,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
         AtomicReference<Double> max = new AtomicReference<>(maxes.get(0));
         StarTreeQueryHelper.precomputeLeafUsingStarTree(context, valuesSource, ctx, starTree, MetricStat.MAX.getTypeName(), value -> {
             max.set(Math.max(max.get(), (NumericUtils.sortableLongToDouble(value))));
@@ -264,6 +265,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         return StarTreeQueryHelper.getStarTreeBucketMetricCollector(
             starTree,
             MetricStat.MAX.getTypeName(),
@@ -33,5 +33,9 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
         super(name, config, queryShardContext, parent, subFactoriesBuilder, metadata);
     }
 
+    /**
+     * Returns the star-tree metric the aggregation can be computed from, or null if the aggregation's settings
+     * don't allow to use the star-tree.
+     */
     public abstract MetricStat getMetricStat();
 }
@@ -175,6 +175,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
         AtomicReference<Double> min = new AtomicReference<>(mins.get(0));
         StarTreeQueryHelper.precomputeLeafUsingStarTree(context, valuesSource, ctx, starTree, MetricStat.MIN.getTypeName(), value -> {
             min.set(Math.min(min.get(), (NumericUtils.sortableLongToDouble(value))));
@@ -260,6 +261,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         return StarTreeQueryHelper.getStarTreeBucketMetricCollector(
             starTree,
             MetricStat.MIN.getTypeName(),
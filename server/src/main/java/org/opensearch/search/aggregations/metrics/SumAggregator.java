@@ -146,6 +146,7 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
         final CompensatedSum kahanSummation = new CompensatedSum(sums.get(0), compensations.get(0));
 
         StarTreeQueryHelper.precomputeLeafUsingStarTree(
@@ -171,6 +172,7 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
         return StarTreeQueryHelper.getStarTreeBucketMetricCollector(
             starTree,
@@ -31,21 +31,31 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.io.IOException;
 import java.util.Map;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Aggregate all docs into a single TDigest Percentile
  *
  * @opensearch.internal
  */
-class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator {
+class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator implements StarTreePreComputeCollector {
 
     TDigestPercentilesAggregator(
         String name,
@@ -61,6 +71,63 @@ class TDigestPercentilesAggregator extends AbstractTDigestPercentilesAggregator
         super(name, valuesSource, context, parent, percents, compression, keyed, formatter, metadata);
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (valuesSource == null) {
+            return false;
+        }
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            if (parent != null && subAggregators.length == 0) {
+                // If this a child aggregator, then the parent will trigger star-tree pre-computation.
+                // Returning NO_OP_COLLECTOR explicitly because the getLeafCollector() are invoked starting from innermost aggregators
+                return true;
+            }
+            precomputeLeafUsingStarTree(ctx, supportedStarTree);
+            return true;
+        }
+        return false;
+    }
+
+    private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
+        StarTreeQueryHelper.precomputeLeafUsingStarTreeSketch(
+            context,
+            (ValuesSource.Numeric) valuesSource,
+            ctx,
+            starTree,
+            MetricStat.PERCENTILES.getTypeName(),
+            sketch -> mergeStarTreeSketch(0, sketch)
+        );
+    }
+
+    /**
+     * The parent aggregator invokes this method to get a StarTreeBucketCollector,
+     * which exposes collectStarTreeEntry() to be evaluated on filtered star tree entries
+     */
+    @Override
+    public StarTreeBucketCollector getStarTreeBucketCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeBucketCollector parentCollector
+    ) throws IOException {
+        recordStarTreePrecomputation();
+        return StarTreeQueryHelper.getStarTreeBucketSketchCollector(
+            starTree,
+            MetricStat.PERCENTILES.getTypeName(),
+            (ValuesSource.Numeric) valuesSource,
+            parentCollector,
+            this::mergeStarTreeSketch
+        );
+    }
+
+    /**
+     * Merges the t-digest of a star-tree entry into the t-digest of the given bucket.
+     */
+    private void mergeStarTreeSketch(long bucket, BytesRef sketch) throws IOException {
+        getExistingOrNewHistogram(context.bigArrays(), bucket).add(PercentilesValueAggregator.readSketch(sketch));
+    }
+
     @Override
     public InternalAggregation buildAggregation(long owningBucketOrdinal) {
         TDigestState state = getState(owningBucketOrdinal);
@@ -152,6 +152,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        recordStarTreePrecomputation();
         StarTreeQueryHelper.precomputeLeafUsingStarTree(
             context,
             (ValuesSource.Numeric) valuesSource,
@@ -200,6 +201,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
         CompositeIndexFieldInfo starTree,
         StarTreeBucketCollector parentCollector
     ) throws IOException {
+        recordStarTreePrecomputation();
         return StarTreeQueryHelper.getStarTreeBucketMetricCollector(
             starTree,
             MetricStat.VALUE_COUNT.getTypeName(),
@@ -563,6 +563,13 @@ public abstract class SearchContext implements Releasable {
         return false;
     }
 
+    /**
+     * Whether aggregations that collect from a single bucket use Swiss tables for their bucket ordinals.
+     */
+    public boolean aggregationSwissHashEnabled() {
+        return false;
+    }
+
     @ExperimentalApi
     public void setStreamChannelListener(StreamSearchChannelListener<SearchPhaseResult, ShardSearchRequest> listener) {
         throw new IllegalStateException("Set search channel listener should be implemented for stream search");
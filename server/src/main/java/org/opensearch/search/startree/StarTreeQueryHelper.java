@@ -11,7 +11,10 @@ package org.opensearch.search.startree;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
@@ -19,6 +22,7 @@ import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
@@ -34,8 +38,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -114,6 +120,39 @@ public class StarTreeQueryHelper {
         finalConsumer.run();
     }
 
+    /**
+     * Get the star-tree leaf collector for a sketch metric
+     * This collector merges the sketches of the matching star-tree entries prematurely and invokes an early termination collector
+     */
+    public static void precomputeLeafUsingStarTreeSketch(
+        SearchContext context,
+        ValuesSource.Numeric valuesSource,
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        CheckedConsumer<BytesRef, IOException> sketchConsumer
+    ) throws IOException {
+        StarTreeValues starTreeValues = getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(starTree.getField(), fieldName, metric);
+
+        BinaryStarTreeValuesIterator valuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+        FixedBitSet filteredValues = getStarTreeFilteredValues(context, ctx, starTreeValues);
+
+        int numBits = filteredValues.length();
+        if (numBits > 0) {
+            for (int bit = filteredValues.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
+                ? filteredValues.nextSetBit(bit + 1)
+                : DocIdSetIterator.NO_MORE_DOCS) {
+                // Entries without values don't hold a sketch
+                if (valuesIterator.advanceExact(bit)) {
+                    sketchConsumer.accept(valuesIterator.binaryValue());
+                }
+            }
+        }
+    }
+
     /**
      * Get the filtered values for the star-tree query
      * Cache the results in case of multiple aggregations (if cache is initialized)
@@ -180,6 +219,33 @@ public class StarTreeQueryHelper {
         };
     }
 
+    public static StarTreeBucketCollector getStarTreeBucketSketchCollector(
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        ValuesSource.Numeric valuesSource,
+        StarTreeBucketCollector parentCollector,
+        CheckedBiConsumer<Long, BytesRef, IOException> updateBucket
+    ) throws IOException {
+        assert parentCollector != null;
+        return new StarTreeBucketCollector(parentCollector) {
+            String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+                starTree.getField(),
+                ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+                metric
+            );
+            BinaryStarTreeValuesIterator metricValuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(
+                metricName
+            );
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntryBit, long bucket) throws IOException {
+                if (metricValuesIterator.advanceExact(starTreeEntryBit)) {
+                    updateBucket.accept(bucket, metricValuesIterator.binaryValue());
+                }
+            }
+        };
+    }
+
     /**
      * Fetches the metric values iterator for document counts from StarTreeValues.
      */
@@ -233,15 +299,17 @@ public class StarTreeQueryHelper {
         List<DimensionFilter> dimensionFiltersToMerge
     ) throws IOException {
         StarTreeFilter starTreeFilter = context.getQueryShardContext().getStarTreeQueryContext().getBaseQueryStarTreeFilter();
+        Set<String> groupByDimensions = new HashSet<>();
         for (DimensionFilter dimensionFilter : dimensionFiltersToMerge) {
             starTreeFilter = StarTreeQueryHelper.mergeDimensionFilterIfNotExists(
                 starTreeFilter,
                 dimensionFilter.getMatchingDimension(),
                 List.of(dimensionFilter)
             );
+            groupByDimensions.add(dimensionFilter.getMatchingDimension());
         }
 
-        return StarTreeTraversalUtil.getStarTreeResult(starTreeValues, starTreeFilter, context);
+        return StarTreeTraversalUtil.getStarTreeResult(starTreeValues, starTreeFilter, groupByDimensions, context);
     }
 
     // TODO: Refactor to have a single method for collecting dimension filters
@@ -256,7 +324,8 @@ public class StarTreeQueryHelper {
         List<DimensionFilter> dimensionFiltersToMerge = new ArrayList<>(initialDimensionFilters);
 
         for (Aggregator subAgg : subAggregators) {
-            if (subAgg instanceof StarTreePreComputeCollector collector) {
+            // sub-aggregators are wrapped when profiling
+            if (subAgg.unwrapAggregator() instanceof StarTreePreComputeCollector collector) {
                 List<DimensionFilter> childFilters = collector.getDimensionFilters();
                 dimensionFiltersToMerge.addAll(childFilters != null ? childFilters : Collections.emptyList());
             }
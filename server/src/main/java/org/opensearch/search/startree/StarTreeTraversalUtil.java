@@ -52,6 +52,19 @@ public class StarTreeTraversalUtil {
      */
     public static FixedBitSet getStarTreeResult(StarTreeValues starTreeValues, StarTreeFilter starTreeFilter, SearchContext searchContext)
         throws IOException {
+        return getStarTreeResult(starTreeValues, starTreeFilter, Collections.emptySet(), searchContext);
+    }
+
+    /**
+     * Same as {@link #getStarTreeResult(StarTreeValues, StarTreeFilter, SearchContext)}, except that star nodes are never
+     * used for the given group-by dimensions, whose values need to be collected separately.
+     */
+    public static FixedBitSet getStarTreeResult(
+        StarTreeValues starTreeValues,
+        StarTreeFilter starTreeFilter,
+        Set<String> groupByDimensions,
+        SearchContext searchContext
+    ) throws IOException {
 
         // Initialising all dimension filters for this segment
         for (String dimension : starTreeFilter.getDimensions()) {
@@ -60,7 +73,7 @@ public class StarTreeTraversalUtil {
             }
         }
 
-        StarTreeResult starTreeResult = traverseStarTree(starTreeValues, starTreeFilter);
+        StarTreeResult starTreeResult = traverseStarTree(starTreeValues, starTreeFilter, groupByDimensions);
 
         // Initialize FixedBitSet with size maxMatchedDoc + 1
         FixedBitSet bitSet = new FixedBitSet(starTreeResult.maxMatchedDoc + 1);
@@ -97,11 +110,13 @@ public class StarTreeTraversalUtil {
             // Skip filtering if a MatchAllFilter is present for this dimension, since it implies all values match and no further filtering
             // is needed
             boolean isMatchAllFilterPresent = false;
+            boolean matchMissingDimValue = false;
             for (DimensionFilter dimensionFilter : dimensionFilters) {
-                if (dimensionFilter instanceof MatchAllFilter) {
+                if (dimensionFilter instanceof MatchAllFilter || dimensionFilter.matchesAllDimValues()) {
                     isMatchAllFilterPresent = true;
                     break;
                 }
+                matchMissingDimValue |= dimensionFilter.matchMissingDimValue();
             }
             if (isMatchAllFilterPresent) continue;
 
@@ -118,6 +133,8 @@ public class StarTreeTraversalUtil {
                                 break;
                             }
                         }
+                    } else if (matchMissingDimValue) {
+                        tempBitSet.set(entryId);
                     }
                 }
             }
@@ -133,7 +150,11 @@ public class StarTreeTraversalUtil {
      * Helper method to traverse the star tree, get matching documents and keep track of all the
      * predicate dimensions that are not matched.
      */
-    private static StarTreeResult traverseStarTree(StarTreeValues starTreeValues, StarTreeFilter starTreeFilter) throws IOException {
+    private static StarTreeResult traverseStarTree(
+        StarTreeValues starTreeValues,
+        StarTreeFilter starTreeFilter,
+        Set<String> groupByDimensions
+    ) throws IOException {
         DocIdSetBuilder docsWithField = new DocIdSetBuilder(starTreeValues.getStarTreeDocumentCount());
         DocIdSetBuilder.BulkAdder adder;
         Set<String> globalRemainingPredicateColumns = null;
@@ -187,6 +208,12 @@ public class StarTreeTraversalUtil {
 
             if (remainingPredicateColumns.contains(childDimension)) {
                 List<DimensionFilter> dimensionFilters = starTreeFilter.getFiltersForDimension(childDimension);
+                // Prune the children when the filters can't exclude any value of this segment, as the star node aggregates them all
+                if (starNode != null && groupByDimensions.contains(childDimension) == false && matchesAllDimValues(dimensionFilters)) {
+                    queue.add(starNode);
+                    foundLeafNode |= starNode.isLeaf();
+                    continue;
+                }
                 final boolean[] tempFoundLeafNodes = new boolean[1];
                 for (DimensionFilter dimensionFilter : dimensionFilters) {
                     dimensionFilter.matchStarTreeNodes(starTreeNode, starTreeValues, node -> {
@@ -224,6 +251,15 @@ public class StarTreeTraversalUtil {
         );
     }
 
+    private static boolean matchesAllDimValues(List<DimensionFilter> dimensionFilters) {
+        for (DimensionFilter dimensionFilter : dimensionFilters) {
+            if (dimensionFilter.matchesAllDimValues()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Helper class to wrap the result from traversing the star tree.
      * */
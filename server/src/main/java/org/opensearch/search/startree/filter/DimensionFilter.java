@@ -46,6 +46,32 @@ public interface DimensionFilter {
      */
     boolean matchDimValue(long ordinal, StarTreeValues starTreeValues);
 
+    /**
+     * Called when a dimension is not found in star tree index and the star-tree document has no value for it.
+     * @return : true if documents missing the dimension match, else false.
+     */
+    default boolean matchMissingDimValue() {
+        return false;
+    }
+
+    /**
+     * Called after {@link #initialiseForSegment} to check whether this filter matches every value of the dimension,
+     * including missing ones, in the segment. The star node can then be used in place of the children it aggregates.
+     * @return : true if all values match, else false.
+     */
+    default boolean matchesAllDimValues() {
+        return false;
+    }
+
+    /**
+     * Called after {@link #initialiseForSegment} to check whether this filter can't match any value of the dimension
+     * in the segment.
+     * @return : true if no value matches, else false.
+     */
+    default boolean matchesNoDimValue() {
+        return false;
+    }
+
     String getDimensionName();
 
     default String getSubDimensionName() {
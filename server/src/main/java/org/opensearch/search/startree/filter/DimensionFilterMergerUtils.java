@@ -13,11 +13,13 @@ import org.opensearch.search.startree.filter.provider.DimensionFilterMapper;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Utility class for merging different types of {@link DimensionFilter}
- * Handles intersection operations between {@link ExactMatchDimFilter} and {@link RangeMatchDimFilter}
+ * Handles intersection operations between {@link ExactMatchDimFilter}, {@link RangeMatchDimFilter} and {@link NotMatchDimFilter},
+ * and union operations between the filters of a dimension
  */
 public class DimensionFilterMergerUtils {
 
@@ -41,6 +43,11 @@ public class DimensionFilterMergerUtils {
             );
         }
 
+        // Handle negations, which are merged into a single filter that excludes the values of both
+        if (filter1 instanceof NotMatchDimFilter || filter2 instanceof NotMatchDimFilter) {
+            return intersectWithNotMatch(filter1, filter2, mapper);
+        }
+
         // Handle Range + Range combination
         if (filter1 instanceof RangeMatchDimFilter rangeFilter1 && filter2 instanceof RangeMatchDimFilter rangeFilter2) {
             return intersectRangeFilters(rangeFilter1, rangeFilter2, mapper);
@@ -67,6 +74,192 @@ public class DimensionFilterMergerUtils {
         );
     }
 
+    /**
+     * Gets union of the filters of a dimension, which are matched as an OR condition.
+     * Overlapping ranges are merged and exact values which are already matched by another filter are removed, so that
+     * star tree nodes are collected at most once.
+     */
+    public static List<DimensionFilter> union(List<DimensionFilter> filters, DimensionFilterMapper mapper) {
+        if (filters == null || filters.size() <= 1) {
+            return filters;
+        }
+
+        List<DimensionFilter> unionFilters = new ArrayList<>(filters.size());
+        for (DimensionFilter filter : filters) {
+            if (filter instanceof MatchAllFilter) {
+                return List.of(filter);
+            }
+            if (filter instanceof RangeMatchDimFilter rangeFilter) {
+                addRangeFilter(unionFilters, rangeFilter, mapper);
+            } else if (filter instanceof MatchNoneFilter == false) {
+                unionFilters.add(filter);
+            }
+        }
+
+        Set<Object> matchedValues = new HashSet<>();
+        for (int i = 0; i < unionFilters.size(); i++) {
+            if (unionFilters.get(i) instanceof ExactMatchDimFilter exactFilter) {
+                List<Object> newValues = new ArrayList<>();
+                for (Object value : exactFilter.getRawValues()) {
+                    if (matchedValues.add(value) && isValueInRanges(value, unionFilters, mapper) == false) {
+                        newValues.add(value);
+                    }
+                }
+                if (newValues.isEmpty()) {
+                    unionFilters.remove(i--);
+                } else if (newValues.size() < exactFilter.getRawValues().size()) {
+                    unionFilters.set(i, new ExactMatchDimFilter(exactFilter.getDimensionName(), newValues));
+                }
+            }
+        }
+
+        if (unionFilters.isEmpty()) {
+            return List.of(new MatchNoneFilter());
+        }
+        return unionFilters;
+    }
+
+    /**
+     * Intersects a negation with another filter, the include filters are intersected and the exclude filters are combined.
+     * Returns null if the include filters don't overlap.
+     */
+    private static DimensionFilter intersectWithNotMatch(DimensionFilter filter1, DimensionFilter filter2, DimensionFilterMapper mapper) {
+        NotMatchDimFilter notFilter = filter1 instanceof NotMatchDimFilter ? (NotMatchDimFilter) filter1 : (NotMatchDimFilter) filter2;
+        DimensionFilter otherFilter = notFilter == filter1 ? filter2 : filter1;
+
+        List<DimensionFilter> excludeFilters = new ArrayList<>(notFilter.getExcludeFilters());
+        DimensionFilter otherIncludeFilter = otherFilter;
+        if (otherFilter instanceof NotMatchDimFilter otherNotFilter) {
+            excludeFilters.addAll(otherNotFilter.getExcludeFilters());
+            otherIncludeFilter = otherNotFilter.getIncludeFilter();
+        }
+
+        DimensionFilter includeFilter;
+        if (notFilter.getIncludeFilter() == null) {
+            includeFilter = otherIncludeFilter;
+        } else if (otherIncludeFilter == null) {
+            includeFilter = notFilter.getIncludeFilter();
+        } else {
+            includeFilter = intersect(notFilter.getIncludeFilter(), otherIncludeFilter, mapper);
+            if (includeFilter == null) {
+                return null; // No overlap between the included values
+            }
+        }
+        return new NotMatchDimFilter(notFilter.getDimensionName(), includeFilter, excludeFilters);
+    }
+
+    /**
+     * Adds a range filter to the given filters, merging it with the ranges it overlaps.
+     * The ranges of the given filters never overlap, so their union with the new range doesn't overlap the others either.
+     */
+    private static void addRangeFilter(List<DimensionFilter> filters, RangeMatchDimFilter range, DimensionFilterMapper mapper) {
+        int position = -1;
+        for (int i = 0; i < filters.size(); i++) {
+            if (filters.get(i) instanceof RangeMatchDimFilter existingRange) {
+                RangeMatchDimFilter merged = mergeOverlappingRanges(existingRange, range, mapper);
+                if (merged != null) {
+                    range = merged;
+                    if (position == -1) {
+                        position = i;
+                    } else {
+                        filters.remove(i--);
+                    }
+                    filters.set(position, range);
+                }
+            }
+        }
+        if (position == -1) {
+            filters.add(range);
+        }
+    }
+
+    /**
+     * Merges two range filters
+     * Returns null if the ranges neither overlap nor touch each other
+     */
+    private static RangeMatchDimFilter mergeOverlappingRanges(
+        RangeMatchDimFilter range1,
+        RangeMatchDimFilter range2,
+        DimensionFilterMapper mapper
+    ) {
+        String subDimension = range1.getSubDimensionName();
+        if (Objects.equals(subDimension, range2.getSubDimensionName()) == false) {
+            return null;
+        }
+        if (isBefore(range1, range2, mapper) || isBefore(range2, range1, mapper)) {
+            return null;
+        }
+
+        // Find the less restrictive bounds
+        Object newLow;
+        boolean includeLow;
+        if (range1.getLow() == null || range2.getLow() == null) {
+            newLow = null;
+            includeLow = true;
+        } else {
+            int comparison = mapper.compareValues(range1.getLow(), range2.getLow());
+            if (comparison < 0) {
+                newLow = range1.getLow();
+                includeLow = range1.isIncludeLow();
+            } else if (comparison > 0) {
+                newLow = range2.getLow();
+                includeLow = range2.isIncludeLow();
+            } else {
+                newLow = range1.getLow();
+                includeLow = range1.isIncludeLow() || range2.isIncludeLow();
+            }
+        }
+
+        Object newHigh;
+        boolean includeHigh;
+        if (range1.getHigh() == null || range2.getHigh() == null) {
+            newHigh = null;
+            includeHigh = true;
+        } else {
+            int comparison = mapper.compareValues(range1.getHigh(), range2.getHigh());
+            if (comparison > 0) {
+                newHigh = range1.getHigh();
+                includeHigh = range1.isIncludeHigh();
+            } else if (comparison < 0) {
+                newHigh = range2.getHigh();
+                includeHigh = range2.isIncludeHigh();
+            } else {
+                newHigh = range1.getHigh();
+                includeHigh = range1.isIncludeHigh() || range2.isIncludeHigh();
+            }
+        }
+
+        if (subDimension == null) {
+            return new RangeMatchDimFilter(range1.getDimensionName(), newLow, newHigh, includeLow, includeHigh);
+        }
+        return new RangeMatchDimFilter(range1.getDimensionName(), newLow, newHigh, includeLow, includeHigh) {
+            @Override
+            public String getSubDimensionName() {
+                return subDimension;
+            }
+        };
+    }
+
+    /**
+     * Checks if all the values of the first range are lower than the values of the second range, with a gap in between.
+     */
+    private static boolean isBefore(RangeMatchDimFilter range1, RangeMatchDimFilter range2, DimensionFilterMapper mapper) {
+        if (range1.getHigh() == null || range2.getLow() == null) {
+            return false;
+        }
+        int comparison = mapper.compareValues(range1.getHigh(), range2.getLow());
+        return comparison < 0 || (comparison == 0 && range1.isIncludeHigh() == false && range2.isIncludeLow() == false);
+    }
+
+    private static boolean isValueInRanges(Object value, List<DimensionFilter> filters, DimensionFilterMapper mapper) {
+        for (DimensionFilter filter : filters) {
+            if (filter instanceof RangeMatchDimFilter range && isValueInRange(value, range, mapper)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Intersects two range filters
      * Returns null if ranges don't overlap
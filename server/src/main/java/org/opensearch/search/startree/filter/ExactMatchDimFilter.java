@@ -86,6 +86,11 @@ public class ExactMatchDimFilter implements DimensionFilter {
         return convertedOrdinals.contains(ordinal);
     }
 
+    @Override
+    public boolean matchesNoDimValue() {
+        return convertedOrdinals.isEmpty();
+    }
+
     public List<Object> getRawValues() {
         return rawValues;
     }
@@ -35,6 +35,11 @@ public class MatchNoneFilter implements DimensionFilter {
         return false;
     }
 
+    @Override
+    public boolean matchesNoDimValue() {
+        return true;
+    }
+
     @Override
     public String getDimensionName() {
         return null;
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.startree.filter;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
+import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeNodeCollector;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Handles negations, i.e. MUST_NOT clauses of a bool query, in StarTree Dimension filtering.
+ * Matches the values of the include filter, or all the values including missing ones when there is no include filter,
+ * which aren't matched by any of the exclude filters.
+ */
+@ExperimentalApi
+public class NotMatchDimFilter implements DimensionFilter {
+
+    private final String dimensionName;
+
+    private final DimensionFilter includeFilter;
+
+    private final List<DimensionFilter> excludeFilters;
+
+    public NotMatchDimFilter(String dimensionName, List<DimensionFilter> excludeFilters) {
+        this(dimensionName, null, excludeFilters);
+    }
+
+    public NotMatchDimFilter(String dimensionName, DimensionFilter includeFilter, List<DimensionFilter> excludeFilters) {
+        this.dimensionName = dimensionName;
+        this.includeFilter = includeFilter;
+        this.excludeFilters = excludeFilters;
+    }
+
+    @Override
+    public void initialiseForSegment(StarTreeValues starTreeValues, SearchContext searchContext) throws IOException {
+        if (includeFilter != null) {
+            includeFilter.initialiseForSegment(starTreeValues, searchContext);
+        }
+        for (DimensionFilter excludeFilter : excludeFilters) {
+            excludeFilter.initialiseForSegment(starTreeValues, searchContext);
+        }
+    }
+
+    @Override
+    public void matchStarTreeNodes(StarTreeNode parentNode, StarTreeValues starTreeValues, StarTreeNodeCollector collector)
+        throws IOException {
+        if (parentNode == null) {
+            return;
+        }
+        if (includeFilter != null) {
+            includeFilter.matchStarTreeNodes(parentNode, starTreeValues, node -> {
+                if (isExcluded(node, starTreeValues) == false) {
+                    collector.collectStarTreeNode(node);
+                }
+            });
+            return;
+        }
+        for (Iterator<? extends StarTreeNode> it = parentNode.getChildrenIterator(); it.hasNext();) {
+            StarTreeNode starTreeNode = it.next();
+            // Star nodes aggregate the excluded values too, and null nodes are never excluded.
+            if (starTreeNode.getStarTreeNodeType() == StarTreeNodeType.NULL.getValue()
+                || (starTreeNode.getStarTreeNodeType() == StarTreeNodeType.DEFAULT.getValue()
+                    && isExcluded(starTreeNode, starTreeValues) == false)) {
+                collector.collectStarTreeNode(starTreeNode);
+            }
+        }
+    }
+
+    @Override
+    public boolean matchDimValue(long ordinal, StarTreeValues starTreeValues) {
+        if (includeFilter != null && includeFilter.matchDimValue(ordinal, starTreeValues) == false) {
+            return false;
+        }
+        for (DimensionFilter excludeFilter : excludeFilters) {
+            if (excludeFilter.matchDimValue(ordinal, starTreeValues)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean matchMissingDimValue() {
+        return includeFilter == null || includeFilter.matchMissingDimValue();
+    }
+
+    @Override
+    public boolean matchesAllDimValues() {
+        if (includeFilter != null && includeFilter.matchesAllDimValues() == false) {
+            return false;
+        }
+        for (DimensionFilter excludeFilter : excludeFilters) {
+            if (excludeFilter.matchesNoDimValue() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean matchesNoDimValue() {
+        return includeFilter != null && includeFilter.matchesNoDimValue();
+    }
+
+    private boolean isExcluded(StarTreeNode starTreeNode, StarTreeValues starTreeValues) throws IOException {
+        if (starTreeNode.getStarTreeNodeType() != StarTreeNodeType.DEFAULT.getValue()) {
+            return false;
+        }
+        long ordinal = starTreeNode.getDimensionValue();
+        for (DimensionFilter excludeFilter : excludeFilters) {
+            if (excludeFilter.matchDimValue(ordinal, starTreeValues)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public DimensionFilter getIncludeFilter() {
+        return includeFilter;
+    }
+
+    public List<DimensionFilter> getExcludeFilters() {
+        return excludeFilters;
+    }
+
+    @Override
+    public String getDimensionName() {
+        return dimensionName;
+    }
+}
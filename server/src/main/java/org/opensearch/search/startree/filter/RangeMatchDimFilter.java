@@ -91,6 +91,11 @@ public class RangeMatchDimFilter implements DimensionFilter {
             && dimensionFilterMapper.comparator().compare(ordinal, highOrdinal) <= 0;
     }
 
+    @Override
+    public boolean matchesNoDimValue() {
+        return skipRangeCollection || dimensionFilterMapper.comparator().compare(lowOrdinal, highOrdinal) > 0;
+    }
+
     @Override
     public String getDimensionName() {
         return dimensionName;
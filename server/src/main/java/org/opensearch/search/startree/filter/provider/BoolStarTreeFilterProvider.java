@@ -17,11 +17,13 @@ import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.DimensionFilterMergerUtils;
+import org.opensearch.search.startree.filter.MatchAllFilter;
+import org.opensearch.search.startree.filter.MatchNoneFilter;
+import org.opensearch.search.startree.filter.NotMatchDimFilter;
 import org.opensearch.search.startree.filter.StarTreeFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,13 +57,39 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
         if (boolQuery.minimumShouldMatch() != null) {
             return null; // We cannot support this yet and would need special handling while processing SHOULD clause
         }
-        if (boolQuery.must().isEmpty() == false || boolQuery.filter().isEmpty() == false) {
-            return processMustClauses(getCombinedMustAndFilterClauses(boolQuery), context, compositeFieldType);
+        List<StarTreeFilter> requiredFilters = new ArrayList<>();
+        List<QueryBuilder> mustClauses = getCombinedMustAndFilterClauses(boolQuery);
+        for (QueryBuilder clause : mustClauses) {
+            StarTreeFilter clauseFilter = processClause(clause, context, compositeFieldType);
+            if (clauseFilter == null) {
+                return null;
+            }
+            requiredFilters.add(clauseFilter);
+        }
+        // SHOULD clauses are only required when there are no MUST or FILTER clauses, regardless of MUST_NOT clauses
+        if (mustClauses.isEmpty() && boolQuery.should().isEmpty() == false) {
+            StarTreeFilter shouldFilter = processShouldClauses(boolQuery.should(), context, compositeFieldType);
+            if (shouldFilter == null) {
+                return null;
+            }
+            requiredFilters.add(shouldFilter);
         }
-        if (boolQuery.should().isEmpty() == false) {
-            return processShouldClauses(boolQuery.should(), context, compositeFieldType);
+        for (QueryBuilder clause : boolQuery.mustNot()) {
+            StarTreeFilter mustNotFilter = processMustNotClause(clause, context, compositeFieldType);
+            if (mustNotFilter == null) {
+                return null;
+            }
+            requiredFilters.add(mustNotFilter);
+        }
+        return intersectFilters(requiredFilters, context);
+    }
+
+    private StarTreeFilter processClause(QueryBuilder clause, SearchContext context, CompositeDataCubeFieldType compositeFieldType)
+        throws IOException {
+        if (clause instanceof BoolQueryBuilder) {
+            return processBoolQuery((BoolQueryBuilder) clause, context, compositeFieldType);
         }
-        return null;
+        return processNonBoolSupportedQueries(clause, context, compositeFieldType);
     }
 
     private StarTreeFilter processNonBoolSupportedQueries(
@@ -81,29 +109,13 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
         return provider.getFilter(context, query, compositeFieldType);
     }
 
-    private StarTreeFilter processMustClauses(
-        List<QueryBuilder> mustClauses,
-        SearchContext context,
-        CompositeDataCubeFieldType compositeFieldType
-    ) throws IOException {
-        if (mustClauses.isEmpty()) {
+    private StarTreeFilter intersectFilters(List<StarTreeFilter> requiredFilters, SearchContext context) {
+        if (requiredFilters.isEmpty()) {
             return null;
         }
         Map<String, List<DimensionFilter>> dimensionToFilters = new HashMap<>();
 
-        for (QueryBuilder clause : mustClauses) {
-            StarTreeFilter clauseFilter;
-
-            if (clause instanceof BoolQueryBuilder) {
-                clauseFilter = processBoolQuery((BoolQueryBuilder) clause, context, compositeFieldType);
-            } else {
-                clauseFilter = processNonBoolSupportedQueries(clause, context, compositeFieldType);
-            }
-
-            if (clauseFilter == null) {
-                return null;
-            }
-
+        for (StarTreeFilter clauseFilter : requiredFilters) {
             // Merge filters for each dimension
             for (String dimension : clauseFilter.getDimensions()) {
                 List<DimensionFilter> existingFilters = dimensionToFilters.get(dimension);
@@ -123,37 +135,23 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
                         return null; // Unsupported field type
                     }
 
-                    // We have existing filters for this dimension
-                    if (newFilters.size() > 1) {
-                        // New filters are from SHOULD clause (multiple filters = OR condition)
-                        // Need to intersect each SHOULD filter with existing filters
-                        List<DimensionFilter> intersectedFilters = new ArrayList<>();
-                        for (DimensionFilter shouldFilter : newFilters) {
-                            for (DimensionFilter existingFilter : existingFilters) {
-                                DimensionFilter intersected = DimensionFilterMergerUtils.intersect(existingFilter, shouldFilter, mapper);
-                                if (intersected != null) {
-                                    intersectedFilters.add(intersected);
-                                }
+                    // Filters of a dimension are an OR condition, coming from SHOULD clauses when there are several of them.
+                    // Here's where we need the DimensionFilter merging logic, intersecting each new filter with each existing one
+                    // For example: merging range with term, or range with range
+                    // Both sides never have overlapping filters, so neither do their intersections
+                    List<DimensionFilter> intersectedFilters = new ArrayList<>();
+                    for (DimensionFilter newFilter : newFilters) {
+                        for (DimensionFilter existingFilter : existingFilters) {
+                            DimensionFilter intersected = DimensionFilterMergerUtils.intersect(existingFilter, newFilter, mapper);
+                            if (intersected != null) {
+                                intersectedFilters.add(intersected);
                             }
                         }
-                        if (intersectedFilters.isEmpty()) {
-                            return null; // No valid intersections
-                        }
-                        dimensionToFilters.put(dimension, intersectedFilters);
-                    } else {
-                        // Here's where we need the DimensionFilter merging logic
-                        // For example: merging range with term, or range with range
-                        // And a single dimension filter coming from should clause is as good as must clause
-                        DimensionFilter mergedFilter = DimensionFilterMergerUtils.intersect(
-                            existingFilters.getFirst(),
-                            newFilters.getFirst(),
-                            mapper
-                        );
-                        if (mergedFilter == null) {
-                            return null; // No possible matches after merging
-                        }
-                        dimensionToFilters.put(dimension, Collections.singletonList(mergedFilter));
                     }
+                    if (intersectedFilters.isEmpty()) {
+                        return null; // No possible matches after merging
+                    }
+                    dimensionToFilters.put(dimension, intersectedFilters);
                 }
             }
         }
@@ -172,13 +170,7 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
         // First, validate all SHOULD clauses are for same dimension
         Map<String, List<DimensionFilter>> dimensionToFilters = new HashMap<>();
         for (QueryBuilder clause : shouldClauses) {
-            StarTreeFilter clauseFilter;
-
-            if (clause instanceof BoolQueryBuilder) {
-                clauseFilter = processBoolQuery((BoolQueryBuilder) clause, context, compositeFieldType);
-            } else {
-                clauseFilter = processNonBoolSupportedQueries(clause, context, compositeFieldType);
-            }
+            StarTreeFilter clauseFilter = processClause(clause, context, compositeFieldType);
 
             if (clauseFilter == null) {
                 return null;
@@ -201,11 +193,50 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
                 .addAll(clauseFilter.getFiltersForDimension(dimension));
         }
 
+        List<DimensionFilter> shouldFilters = dimensionToFilters.get(commonDimension);
+        if (shouldFilters.size() > 1 && shouldFilters.stream().anyMatch(filter -> filter instanceof NotMatchDimFilter)) {
+            return null; // A negation can't be combined with other SHOULD clauses without matching some values twice
+        }
         DimensionFilterMapper mapper = DimensionFilterMapper.Factory.fromMappedFieldType(
             context.mapperService().fieldType(commonDimension),
             context
         );
-        return new StarTreeFilter(Map.of(commonDimension, mapper.getFinalDimensionFilters(dimensionToFilters.get(commonDimension))));
+        // Overlapping filters would collect the same star tree nodes more than once
+        return new StarTreeFilter(
+            Map.of(commonDimension, DimensionFilterMergerUtils.union(mapper.getFinalDimensionFilters(shouldFilters), mapper))
+        );
+    }
+
+    private StarTreeFilter processMustNotClause(QueryBuilder clause, SearchContext context, CompositeDataCubeFieldType compositeFieldType)
+        throws IOException {
+        StarTreeFilter clauseFilter = processClause(clause, context, compositeFieldType);
+        if (clauseFilter == null) {
+            return null;
+        }
+        // The negation of filters on several dimensions is an OR condition across dimensions, which can't be resolved
+        if (clauseFilter.getDimensions().size() != 1) {
+            return null;
+        }
+        String dimension = clauseFilter.getDimensions().iterator().next();
+        DimensionFilterMapper mapper = DimensionFilterMapper.Factory.fromMappedFieldType(
+            context.mapperService().fieldType(dimension),
+            context
+        );
+        // Date dimensions are matched using the sub-dimension of their filters, which the negation doesn't resolve yet
+        if (mapper == null || mapper.resolveUsingSubDimension()) {
+            return null;
+        }
+
+        List<DimensionFilter> excludeFilters = new ArrayList<>();
+        for (DimensionFilter filter : clauseFilter.getFiltersForDimension(dimension)) {
+            if (filter instanceof NotMatchDimFilter || filter instanceof MatchAllFilter) {
+                return null;
+            }
+            if (filter instanceof MatchNoneFilter == false) {
+                excludeFilters.add(filter);
+            }
+        }
+        return new StarTreeFilter(Map.of(dimension, List.of(new NotMatchDimFilter(dimension, excludeFilters))));
     }
 
     private List<QueryBuilder> getCombinedMustAndFilterClauses(BoolQueryBuilder boolQuery) {
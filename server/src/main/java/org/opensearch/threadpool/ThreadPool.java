@@ -45,6 +45,7 @@ import org.opensearch.common.unit.SizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.OpenSearchVirtualThreadExecutor;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.XRejectedExecutionHandler;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -142,7 +143,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         FIXED("fixed"),
         RESIZABLE("resizable"),
         SCALING("scaling"),
-        FORK_JOIN("fork_join");
+        FORK_JOIN("fork_join"),
+        VIRTUAL("virtual");
 
         private final String type;
 
@@ -239,6 +241,18 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Runs the thread pools that mostly block on remote I/O ({@code snapshot}, {@code fetch_shard_store}, {@code remote_recovery},
+     * {@code remote_state_read} and {@code translog_transfer}) on virtual threads. The {@code max} setting of these pools, or the
+     * {@code size} setting of {@code remote_state_read}, then limits the number of concurrently running tasks rather than the
+     * number of threads.
+     */
+    public static final Setting<Boolean> VIRTUAL_THREADS_ENABLED_SETTING = Setting.boolSetting(
+        "thread_pool.virtual_threads.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     public ThreadPool(final Settings settings, final ExecutorBuilder<?>... customBuilders) {
         this(settings, null, customBuilders);
     }
@@ -257,6 +271,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         final int halfProcMaxAt10 = halfAllocatedProcessorsMaxTen(allocatedProcessors);
         final int genericThreadPoolMax = boundedBy(4 * allocatedProcessors, 128, 512);
         final int snapshotDeletionPoolMax = boundedBy(4 * allocatedProcessors, 64, 256);
+        final boolean virtualThreads = VIRTUAL_THREADS_ENABLED_SETTING.get(settings);
         builders.put(Names.GENERIC, new ScalingExecutorBuilder(Names.GENERIC, 4, genericThreadPoolMax, TimeValue.timeValueSeconds(30)));
         builders.put(Names.WRITE, new FixedExecutorBuilder(settings, Names.WRITE, allocatedProcessors, 10000));
         builders.put(Names.GET, new FixedExecutorBuilder(settings, Names.GET, allocatedProcessors, 1000));
@@ -284,7 +299,12 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.FLUSH, new ScalingExecutorBuilder(Names.FLUSH, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
         builders.put(Names.REFRESH, new ScalingExecutorBuilder(Names.REFRESH, 1, halfProcMaxAt10, TimeValue.timeValueMinutes(5)));
         builders.put(Names.WARMER, new ScalingExecutorBuilder(Names.WARMER, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
-        builders.put(Names.SNAPSHOT, new ScalingExecutorBuilder(Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
+        builders.put(
+            Names.SNAPSHOT,
+            virtualThreads
+                ? new VirtualThreadExecutorBuilder(Names.SNAPSHOT, halfProcMaxAt5, -1, ThreadPoolType.SCALING)
+                : new ScalingExecutorBuilder(Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5))
+        );
         builders.put(
             Names.SNAPSHOT_DELETION,
             new ScalingExecutorBuilder(Names.SNAPSHOT_DELETION, 1, snapshotDeletionPoolMax, TimeValue.timeValueMinutes(5))
@@ -299,13 +319,17 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         );
         builders.put(
             Names.FETCH_SHARD_STORE,
-            new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
+            virtualThreads
+                ? new VirtualThreadExecutorBuilder(Names.FETCH_SHARD_STORE, 2 * allocatedProcessors, -1, ThreadPoolType.SCALING)
+                : new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
         );
         builders.put(Names.SYSTEM_READ, new FixedExecutorBuilder(settings, Names.SYSTEM_READ, halfProcMaxAt5, 2000, false));
         builders.put(Names.SYSTEM_WRITE, new FixedExecutorBuilder(settings, Names.SYSTEM_WRITE, halfProcMaxAt5, 1000, false));
         builders.put(
             Names.TRANSLOG_TRANSFER,
-            new ScalingExecutorBuilder(Names.TRANSLOG_TRANSFER, 1, halfProc, TimeValue.timeValueMinutes(5))
+            virtualThreads
+                ? new VirtualThreadExecutorBuilder(Names.TRANSLOG_TRANSFER, halfProc, -1, ThreadPoolType.SCALING)
+                : new ScalingExecutorBuilder(Names.TRANSLOG_TRANSFER, 1, halfProc, TimeValue.timeValueMinutes(5))
         );
         builders.put(Names.TRANSLOG_SYNC, new FixedExecutorBuilder(settings, Names.TRANSLOG_SYNC, allocatedProcessors * 4, 10000));
         builders.put(Names.REMOTE_PURGE, new ScalingExecutorBuilder(Names.REMOTE_PURGE, 1, halfProc, TimeValue.timeValueMinutes(5)));
@@ -315,16 +339,30 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         );
         builders.put(
             Names.REMOTE_RECOVERY,
-            new ScalingExecutorBuilder(
-                Names.REMOTE_RECOVERY,
-                1,
-                twiceAllocatedProcessors(allocatedProcessors),
-                TimeValue.timeValueMinutes(5)
-            )
+            virtualThreads
+                ? new VirtualThreadExecutorBuilder(
+                    Names.REMOTE_RECOVERY,
+                    twiceAllocatedProcessors(allocatedProcessors),
+                    -1,
+                    ThreadPoolType.SCALING
+                )
+                : new ScalingExecutorBuilder(
+                    Names.REMOTE_RECOVERY,
+                    1,
+                    twiceAllocatedProcessors(allocatedProcessors),
+                    TimeValue.timeValueMinutes(5)
+                )
         );
         builders.put(
             Names.REMOTE_STATE_READ,
-            new FixedExecutorBuilder(settings, Names.REMOTE_STATE_READ, boundedBy(4 * allocatedProcessors, 4, 32), 120000)
+            virtualThreads
+                ? new VirtualThreadExecutorBuilder(
+                    Names.REMOTE_STATE_READ,
+                    boundedBy(4 * allocatedProcessors, 4, 32),
+                    120000,
+                    ThreadPoolType.FIXED
+                )
+                : new FixedExecutorBuilder(settings, Names.REMOTE_STATE_READ, boundedBy(4 * allocatedProcessors, 4, 32), 120000)
         );
         builders.put(
             Names.INDEX_SEARCHER,
@@ -456,8 +494,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             }
             Settings tpGroup = entry.getValue();
             ExecutorHolder holder = executors.get(tpName);
-            // Skip validation for ForkJoinPool type since it does not support setting updates
-            if (holder.info.type == ThreadPoolType.FORK_JOIN) {
+            // Skip validation for ForkJoinPool and virtual thread types since they do not support setting updates
+            if (holder.info.type == ThreadPoolType.FORK_JOIN || holder.info.type == ThreadPoolType.VIRTUAL) {
                 continue;
             }
             assert holder.executor instanceof OpenSearchThreadPoolExecutor;
@@ -498,7 +536,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             if (holder == null) {
                 throw new IllegalArgumentException("illegal thread_pool name : " + tpName);
             }
-            if (holder.info.type == ThreadPoolType.FORK_JOIN) {
+            if (holder.info.type == ThreadPoolType.FORK_JOIN || holder.info.type == ThreadPoolType.VIRTUAL) {
                 continue;
             }
             assert holder.executor instanceof OpenSearchThreadPoolExecutor;
@@ -553,7 +591,15 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             long waitTimeNanos = -1;
             int parallelism = -1;
 
-            if (holder.executor() instanceof OpenSearchThreadPoolExecutor) {
+            if (holder.executor() instanceof OpenSearchVirtualThreadExecutor) {
+                OpenSearchVirtualThreadExecutor virtualThreadExecutor = (OpenSearchVirtualThreadExecutor) holder.executor();
+                threads = virtualThreadExecutor.getActiveCount();
+                queue = virtualThreadExecutor.getQueueSize();
+                active = virtualThreadExecutor.getActiveCount();
+                largest = virtualThreadExecutor.getLargestConcurrency();
+                completed = virtualThreadExecutor.getCompletedTaskCount();
+                rejected = virtualThreadExecutor.getRejectedTaskCount();
+            } else if (holder.executor() instanceof OpenSearchThreadPoolExecutor) {
                 OpenSearchThreadPoolExecutor threadPoolExecutor = (OpenSearchThreadPoolExecutor) holder.executor();
                 threads = threadPoolExecutor.getPoolSize();
                 queue = threadPoolExecutor.getQueue().size();
@@ -680,7 +726,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         scheduler.shutdown();
         for (ExecutorHolder executor : executors.values()) {
             ExecutorService es = executor.executor();
-            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool) {
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
                 es.shutdown();
             }
         }
@@ -691,7 +737,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         scheduler.shutdownNow();
         for (ExecutorHolder executor : executors.values()) {
             ExecutorService es = executor.executor();
-            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool) {
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
                 es.shutdownNow();
             }
         }
@@ -700,8 +746,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
         boolean result = scheduler.awaitTermination(timeout, unit);
         for (ExecutorHolder executor : executors.values()) {
-            if (executor.executor() instanceof ThreadPoolExecutor || executor.executor() instanceof ForkJoinPool) {
-                result &= executor.executor().awaitTermination(timeout, unit);
+            ExecutorService es = executor.executor();
+            if (es instanceof ThreadPoolExecutor || es instanceof ForkJoinPool || es instanceof OpenSearchVirtualThreadExecutor) {
+                result &= es.awaitTermination(timeout, unit);
             }
         }
         cachedTimeThread.join(unit.toMillis(timeout));
@@ -901,7 +948,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public final Info info;
 
         ExecutorHolder(ExecutorService executor, Info info) {
-            assert executor instanceof OpenSearchThreadPoolExecutor || executor == DIRECT_EXECUTOR || executor instanceof ForkJoinPool;
+            assert executor instanceof OpenSearchThreadPoolExecutor
+                || executor == DIRECT_EXECUTOR
+                || executor instanceof ForkJoinPool
+                || executor instanceof OpenSearchVirtualThreadExecutor;
             this.executor = executor;
             this.info = info;
         }
@@ -955,7 +1005,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                     resolvedType = ThreadPoolType.fromType(typeStr);
                 } catch (IllegalArgumentException e) {
                     // Only fallback for older versions
-                    if (in.getVersion().onOrBefore(Version.V_3_3_0)) { // ForkJoinPool Introduced in 3.4.0 onwards
+                    // ForkJoinPool and virtual thread pools introduced in 3.4.0 onwards
+                    if (in.getVersion().onOrBefore(Version.V_3_3_0)) {
                         resolvedType = ThreadPoolType.FIXED;
                     } else {
                         throw new IllegalArgumentException(
@@ -986,6 +1037,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             } else if (type == ThreadPoolType.FORK_JOIN && out.getVersion().before(Version.V_3_4_0)) {
                 // Opensearch on older version doesn't know about "fork_join" thread pool. Convert FORK_JOIN to FIXED
                 out.writeString(ThreadPoolType.FIXED.getType());
+            } else if (type == ThreadPoolType.VIRTUAL && out.getVersion().before(Version.V_3_4_0)) {
+                // Opensearch on older version doesn't know about "virtual" thread pool. Convert VIRTUAL to SCALING
+                out.writeString(ThreadPoolType.SCALING.getType());
             } else {
                 out.writeString(type.getType());
             }
@@ -1041,6 +1095,14 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 }
             } else if (type == ThreadPoolType.FORK_JOIN) {
                 builder.field("parallelism", max);
+            } else if (type == ThreadPoolType.VIRTUAL) {
+                assert max != -1;
+                builder.field("max", max);
+                if (queueSize == null) {
+                    builder.field("queue_size", -1);
+                } else {
+                    builder.field("queue_size", queueSize.singles());
+                }
             } else {
                 assert max != -1;
                 builder.field("size", max);
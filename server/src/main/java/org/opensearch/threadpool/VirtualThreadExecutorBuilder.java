@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.SizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.node.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A builder for executors that run their tasks on virtual threads, with a limit on the number of tasks running concurrently.
+ *
+ * @opensearch.internal
+ */
+public final class VirtualThreadExecutorBuilder extends ExecutorBuilder<VirtualThreadExecutorBuilder.VirtualThreadExecutorSettings> {
+
+    private final Setting<Integer> maxSetting;
+    private final Setting<Integer> queueSizeSetting;
+    private final List<Setting<?>> ignoredSettings;
+
+    /**
+     * Construct a virtual thread executor builder; the settings will have the
+     * key prefix "thread_pool." followed by the executor name.
+     *
+     * @param name      the name of the executor
+     * @param max       the maximum number of tasks running concurrently
+     * @param queueSize the size of the queue for tasks waiting to run, {@code -1} for an unbounded queue
+     */
+    public VirtualThreadExecutorBuilder(final String name, final int max, final int queueSize) {
+        this(name, max, queueSize, ThreadPool.ThreadPoolType.VIRTUAL);
+    }
+
+    /**
+     * Construct a virtual thread executor builder for a pool that runs on a platform thread pool of the given type unless
+     * virtual threads are enabled, so that the settings of that pool keep working: the maximum number of tasks running
+     * concurrently is read from {@code size} for fixed pools and from {@code max} otherwise, and the {@code core} and
+     * {@code keep_alive} settings of scaling pools are still accepted, but deprecated since they have no effect.
+     *
+     * @param name         the name of the executor
+     * @param max          the maximum number of tasks running concurrently
+     * @param queueSize    the size of the queue for tasks waiting to run, {@code -1} for an unbounded queue
+     * @param platformType the type of the pool when virtual threads are disabled
+     */
+    public VirtualThreadExecutorBuilder(
+        final String name,
+        final int max,
+        final int queueSize,
+        final ThreadPool.ThreadPoolType platformType
+    ) {
+        this(name, max, queueSize, platformType, "thread_pool." + name);
+    }
+
+    /**
+     * Construct a virtual thread executor builder; the settings will have the
+     * specified key prefix.
+     *
+     * @param name         the name of the executor
+     * @param max          the maximum number of tasks running concurrently
+     * @param queueSize    the size of the queue for tasks waiting to run, {@code -1} for an unbounded queue
+     * @param platformType the type of the pool when virtual threads are disabled
+     * @param prefix       the prefix for the settings keys
+     */
+    public VirtualThreadExecutorBuilder(
+        final String name,
+        final int max,
+        final int queueSize,
+        final ThreadPool.ThreadPoolType platformType,
+        final String prefix
+    ) {
+        super(name);
+        final String maxKey = platformType == ThreadPool.ThreadPoolType.FIXED ? "size" : "max";
+        this.maxSetting = Setting.intSetting(settingsKey(prefix, maxKey), max, 1, Setting.Property.NodeScope);
+        this.queueSizeSetting = Setting.intSetting(settingsKey(prefix, "queue_size"), queueSize, Setting.Property.NodeScope);
+        if (platformType == ThreadPool.ThreadPoolType.SCALING) {
+            this.ignoredSettings = Arrays.asList(
+                Setting.intSetting(settingsKey(prefix, "core"), 1, Setting.Property.NodeScope, Setting.Property.Deprecated),
+                Setting.timeSetting(
+                    settingsKey(prefix, "keep_alive"),
+                    TimeValue.timeValueMinutes(5),
+                    Setting.Property.NodeScope,
+                    Setting.Property.Deprecated
+                )
+            );
+        } else {
+            this.ignoredSettings = Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Setting<?>> getRegisteredSettings() {
+        final List<Setting<?>> settings = new ArrayList<>(ignoredSettings);
+        settings.add(maxSetting);
+        settings.add(queueSizeSetting);
+        return settings;
+    }
+
+    @Override
+    VirtualThreadExecutorSettings getSettings(Settings settings) {
+        final String nodeName = Node.NODE_NAME_SETTING.get(settings);
+        final int max = maxSetting.get(settings);
+        final int queueSize = queueSizeSetting.get(settings);
+        for (Setting<?> ignoredSetting : ignoredSettings) {
+            // only read to emit a deprecation warning if the setting is used
+            ignoredSetting.get(settings);
+        }
+        return new VirtualThreadExecutorSettings(nodeName, max, queueSize);
+    }
+
+    @Override
+    ThreadPool.ExecutorHolder build(final VirtualThreadExecutorSettings settings, final ThreadContext threadContext) {
+        int max = settings.max;
+        int queueSize = settings.queueSize;
+        final ThreadFactory threadFactory = OpenSearchExecutors.virtualThreadFactory(
+            OpenSearchExecutors.threadName(settings.nodeName, name())
+        );
+        final ExecutorService executor = OpenSearchExecutors.newVirtual(
+            settings.nodeName + "/" + name(),
+            max,
+            queueSize,
+            threadFactory,
+            threadContext
+        );
+        final ThreadPool.Info info = new ThreadPool.Info(
+            name(),
+            ThreadPool.ThreadPoolType.VIRTUAL,
+            0,
+            max,
+            null,
+            queueSize < 0 ? null : new SizeValue(queueSize)
+        );
+        return new ThreadPool.ExecutorHolder(executor, info);
+    }
+
+    @Override
+    String formatInfo(ThreadPool.Info info) {
+        return String.format(
+            Locale.ROOT,
+            "name [%s], max [%d], queue size [%s]",
+            info.getName(),
+            info.getMax(),
+            info.getQueueSize() == null ? "unbounded" : info.getQueueSize()
+        );
+    }
+
+    static class VirtualThreadExecutorSettings extends ExecutorBuilder.ExecutorSettings {
+
+        private final int max;
+        private final int queueSize;
+
+        VirtualThreadExecutorSettings(final String nodeName, final int max, final int queueSize) {
+            super(nodeName);
+            this.max = max;
+            this.queueSize = queueSize;
+        }
+    }
+
+}
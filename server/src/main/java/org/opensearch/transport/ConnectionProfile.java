@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 /**
  * A connection profile describes how many connection are established to specific node for each of the available request types.
@@ -373,6 +374,32 @@ public final class ConnectionProfile {
             return channels.get(offset + Math.floorMod(counter.incrementAndGet(), length));
         }
 
+        /**
+         * Returns one of the channels out configured for this handle. The channel is selected in a round-robin fashion, unless
+         * the selected channel has at least {@code busyThreshold} pending bytes, in which case the channel of this handle with
+         * the fewest pending bytes is returned instead so that small messages do not queue up behind large ones.
+         */
+        <T> T getChannel(List<T> channels, ToLongFunction<T> pendingBytes, long busyThreshold) {
+            final T channel = getChannel(channels);
+            if (length == 1 || busyThreshold <= 0) {
+                return channel;
+            }
+            long minPendingBytes = pendingBytes.applyAsLong(channel);
+            if (minPendingBytes < busyThreshold) {
+                return channel;
+            }
+            T leastLoaded = channel;
+            for (int i = 0; i < length; i++) {
+                final T candidate = channels.get(offset + i);
+                final long candidatePendingBytes = pendingBytes.applyAsLong(candidate);
+                if (candidatePendingBytes < minPendingBytes) {
+                    minPendingBytes = candidatePendingBytes;
+                    leastLoaded = candidate;
+                }
+            }
+            return leastLoaded;
+        }
+
         /**
          * Returns all types for this handle
          */
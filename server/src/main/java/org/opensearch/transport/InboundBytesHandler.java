@@ -126,12 +126,14 @@ class InboundBytesHandler {
         for (Object fragment : fragments) {
             if (fragment instanceof Header) {
                 assert aggregator.isAggregating() == false;
+                channel.getChannelStats().markReceiving(((Header) fragment).getNetworkMessageSize());
                 aggregator.headerReceived((Header) fragment);
             } else if (fragment == InboundDecoder.PING) {
                 assert aggregator.isAggregating() == false;
                 messageHandler.accept(channel, InboundMessage.PING);
             } else if (fragment == InboundDecoder.END_CONTENT) {
                 assert aggregator.isAggregating();
+                channel.getChannelStats().markReceiving(0);
                 try (InboundMessage aggregated = aggregator.finishAggregation()) {
                     statsTracker.markMessageReceived();
                     messageHandler.accept(channel, aggregated);
@@ -34,6 +34,7 @@ package org.opensearch.transport;
 
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.ReleasableBytesStreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.io.IOUtils;
@@ -130,7 +131,7 @@ public class InboundMessage implements Releasable, ProtocolInboundMessage {
     public StreamInput openOrGetStreamInput() throws IOException {
         assert isPing == false && content != null;
         if (streamInput == null) {
-            streamInput = content.streamInput();
+            streamInput = new ReleasableBytesStreamInput(content);
             streamInput.setVersion(header.getVersion());
         }
         return streamInput;
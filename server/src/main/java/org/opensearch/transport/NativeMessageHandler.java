@@ -39,6 +39,7 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -288,18 +289,27 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                         assert reg != null;
 
                         final T request = newRequest(requestId, action, stream, reg);
-                        request.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
-                        checkStreamIsFullyConsumed(requestId, action, stream);
-
-                        final String executor = reg.getExecutor();
-                        if (ThreadPool.Names.SAME.equals(executor)) {
-                            try {
-                                reg.processMessageReceived(request, traceableTransportChannel);
-                            } catch (Exception e) {
-                                sendErrorResponse(reg.getAction(), traceableTransportChannel, e);
+                        boolean dispatched = false;
+                        try {
+                            request.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
+                            checkStreamIsFullyConsumed(requestId, action, stream);
+
+                            final String executor = reg.getExecutor();
+                            if (ThreadPool.Names.SAME.equals(executor)) {
+                                dispatched = true;
+                                try {
+                                    reg.processMessageReceived(request, traceableTransportChannel);
+                                } catch (Exception e) {
+                                    sendErrorResponse(reg.getAction(), traceableTransportChannel, e);
+                                }
+                            } else {
+                                threadPool.executor(executor).execute(new RequestHandler<>(reg, request, traceableTransportChannel));
+                                dispatched = true;
+                            }
+                        } finally {
+                            if (dispatched == false) {
+                                releaseUndispatchedRequest(request);
                             }
-                        } else {
-                            threadPool.executor(executor).execute(new RequestHandler<>(reg, request, traceableTransportChannel));
                         }
                     }
                 } catch (Exception e) {
@@ -313,6 +323,16 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
         }
     }
 
+    /**
+     * Releases a request that retains parts of the buffer it was received in, see {@link StreamInput#readRetainedBytesReference()},
+     * when it is never handed to its handler. Handlers release such requests themselves once they received them.
+     */
+    private static void releaseUndispatchedRequest(TransportRequest request) {
+        if (request instanceof Releasable) {
+            Releasables.closeWhileHandlingException((Releasable) request);
+        }
+    }
+
     protected TcpTransportChannel createTcpTransportChannel(
         ProtocolOutboundHandler outboundHandler,
         TcpChannel channel,
@@ -533,6 +553,12 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
             return reg.isForceExecution();
         }
 
+        @Override
+        public void onRejection(Exception e) {
+            releaseUndispatchedRequest(request);
+            super.onRejection(e);
+        }
+
         @Override
         public void onFailure(Exception e) {
             sendErrorResponse(reg.getAction(), transportChannel, e);
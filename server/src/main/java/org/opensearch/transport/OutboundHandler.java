@@ -138,6 +138,7 @@ public final class OutboundHandler {
             try {
                 message = messageSupplier.get();
                 messageSize = message.length();
+                channel.getChannelStats().addPendingWriteBytes(messageSize);
                 TransportLogger.logOutboundMessage(channel, message);
                 return message;
             } catch (Exception e) {
@@ -164,6 +165,9 @@ public final class OutboundHandler {
         }
 
         private void closeAndCallback(Runnable runnable) {
+            if (messageSize != -1) {
+                channel.getChannelStats().removePendingWriteBytes(messageSize);
+            }
             Releasables.close(optionalReleasable, runnable::run);
         }
     }
@@ -40,6 +40,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 
 import java.net.InetSocketAddress;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a tcp channel representing a single channel connection to another node. It is the base channel
@@ -134,6 +135,8 @@ public interface TcpChannel extends CloseableChannel {
     class ChannelStats {
 
         private volatile long lastAccessedTime;
+        private final AtomicLong pendingWriteBytes = new AtomicLong();
+        private volatile long receivingBytes;
 
         public ChannelStats() {
             lastAccessedTime = TimeValue.nsecToMSec(System.nanoTime());
@@ -146,5 +149,25 @@ public interface TcpChannel extends CloseableChannel {
         long lastAccessedTime() {
             return lastAccessedTime;
         }
+
+        void addPendingWriteBytes(long bytes) {
+            pendingWriteBytes.addAndGet(bytes);
+        }
+
+        void removePendingWriteBytes(long bytes) {
+            pendingWriteBytes.addAndGet(-bytes);
+        }
+
+        void markReceiving(long messageBytes) {
+            receivingBytes = messageBytes;
+        }
+
+        /**
+         * Returns the number of bytes that a new message sent on this channel, or its response, may have to wait for: the bytes
+         * that were handed to the channel but not yet written, plus the size of the message that is currently being received.
+         */
+        long pendingBytes() {
+            return pendingWriteBytes.get() + receivingBytes;
+        }
     }
 }
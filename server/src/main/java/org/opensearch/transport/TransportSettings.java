@@ -36,6 +36,7 @@ import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
 import java.util.Arrays;
@@ -299,6 +300,16 @@ public final class TransportSettings {
         1,
         Setting.Property.NodeScope
     );
+    /**
+     * Messages are sent on the connections of their type in a round-robin fashion, unless the next connection has at least this
+     * many bytes pending, in which case the connection of that type with the fewest pending bytes is used. {@code 0} disables
+     * the load-aware selection.
+     */
+    public static final Setting<ByteSizeValue> CHANNEL_BUSY_THRESHOLD = Setting.byteSizeSetting(
+        "transport.channel_busy_threshold",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
 
     // Tracer settings
 
@@ -35,12 +35,15 @@ package org.opensearch.transport.nativeprotocol;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.DeflaterOutputStream;
 
 /**
@@ -53,6 +56,10 @@ import java.util.zip.DeflaterOutputStream;
  * written to this stream. If compression is enabled, the proper EOS bytes will be written at that point.
  * The underlying {@link BytesReference} will be returned.
  * <p>
+ * If compression is disabled, bytes written with {@link #writeSharedBytesReference(BytesReference)} are not copied into the
+ * underlying stream. Instead the returned {@link BytesReference} is a composite of the underlying bytes and the shared bytes,
+ * which the transport then writes to the channel as a composite buffer.
+ * <p>
  * {@link CompressibleBytesOutputStream#close()} will NOT close the underlying stream. The byte stream passed
  * in the constructor must be closed individually.
  *
@@ -60,9 +67,17 @@ import java.util.zip.DeflaterOutputStream;
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    /**
+     * Shared bytes smaller than this are copied, as they are cheaper to copy than to send as a separate buffer.
+     */
+    static final int MIN_SHARED_BYTES_LENGTH = 1024;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    // the shared bytes that were not copied, and the positions in the underlying stream at which they belong
+    private final List<BytesReference> sharedBytes = new ArrayList<>();
+    private final List<Long> sharedBytesPositions = new ArrayList<>();
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
@@ -88,7 +103,35 @@ final class CompressibleBytesOutputStream extends StreamOutput {
             stream.close();
         }
 
-        return bytesStreamOutput.bytes();
+        final BytesReference bytes = bytesStreamOutput.bytes();
+        if (sharedBytes.isEmpty()) {
+            return bytes;
+        }
+        final List<BytesReference> parts = new ArrayList<>(2 * sharedBytes.size() + 1);
+        int from = 0;
+        for (int i = 0; i < sharedBytes.size(); i++) {
+            final int to = Math.toIntExact(sharedBytesPositions.get(i));
+            if (to > from) {
+                parts.add(bytes.slice(from, to - from));
+            }
+            parts.add(sharedBytes.get(i));
+            from = to;
+        }
+        if (bytes.length() > from) {
+            parts.add(bytes.slice(from, bytes.length() - from));
+        }
+        return CompositeBytesReference.of(parts.toArray(new BytesReference[0]));
+    }
+
+    @Override
+    public void writeSharedBytesReference(BytesReference bytes) throws IOException {
+        if (shouldCompress || bytes == null || bytes.length() < MIN_SHARED_BYTES_LENGTH) {
+            writeBytesReference(bytes);
+            return;
+        }
+        writeVInt(bytes.length());
+        sharedBytesPositions.add(bytesStreamOutput.position());
+        sharedBytes.add(bytes);
     }
 
     @Override
@@ -58,6 +58,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.PageCacheRecyclerStats;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -357,6 +358,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(nodeStats.getHttp().getServerOpen(), deserializedNodeStats.getHttp().getServerOpen());
                     assertEquals(nodeStats.getHttp().getTotalOpen(), deserializedNodeStats.getHttp().getTotalOpen());
+                    assertEquals(nodeStats.getHttp().getStreamsOpen(), deserializedNodeStats.getHttp().getStreamsOpen());
+                    assertEquals(nodeStats.getHttp().getTotalStreamsOpen(), deserializedNodeStats.getHttp().getTotalStreamsOpen());
                 }
                 if (nodeStats.getBreaker() == null) {
                     assertNull(deserializedNodeStats.getBreaker());
@@ -620,6 +623,14 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(remoteStoreNodeStats, deserializedRemoteStoreNodeStats);
                 }
+
+                PageCacheRecyclerStats pageCacheRecyclerStats = nodeStats.getPageCacheRecyclerStats();
+                PageCacheRecyclerStats deserializedPageCacheRecyclerStats = deserializedNodeStats.getPageCacheRecyclerStats();
+                if (pageCacheRecyclerStats == null) {
+                    assertNull(deserializedPageCacheRecyclerStats);
+                } else {
+                    assertEquals(pageCacheRecyclerStats, deserializedPageCacheRecyclerStats);
+                }
             }
         }
     }
@@ -808,7 +819,9 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 randomNonNegativeLong()
             )
             : null;
-        HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong()) : null;
+        HttpStats httpStats = frequently()
+            ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            : null;
         AllCircuitBreakerStats allCircuitBreakerStats = null;
         if (frequently()) {
             int numCircuitBreakerStats = randomIntBetween(0, 10);
@@ -1012,6 +1025,15 @@ public class NodeStatsTests extends OpenSearchTestCase {
             };
         }
 
+        PageCacheRecyclerStats pageCacheRecyclerStats = null;
+        if (frequently()) {
+            List<PageCacheRecyclerStats.PageStats> pages = new ArrayList<>();
+            for (String name : randomSubsetOf(List.of("bytes", "small_bytes", "ints", "longs", "objects", "off_heap"))) {
+                pages.add(new PageCacheRecyclerStats.PageStats(name, randomNonNegativeLong(), randomNonNegativeLong(), randomLong()));
+            }
+            pageCacheRecyclerStats = new PageCacheRecyclerStats(pages);
+        }
+
         // TODO: Only remote_store based aspects of NodeIndicesStats are being tested here.
         // It is possible to test other metrics in NodeIndicesStats as well since it extends Writeable now
         return new NodeStats(
@@ -1044,7 +1066,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             null,
             admissionControlStats,
             nodeCacheStats,
-            remoteStoreNodeStats
+            remoteStoreNodeStats,
+            pageCacheRecyclerStats
         );
     }
 
@@ -231,6 +231,58 @@ public class TransportSegmentReplicationStatsActionTests extends OpenSearchTestC
         verify(targetService).getOngoingEventSegmentReplicationState(shardId);
     }
 
+    public void testCalculateBytesRemainingToReplicateExcludesReusedFiles() {
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        SegmentReplicationState onGoingSegmentReplicationState = mock(SegmentReplicationState.class);
+        ShardId shardId = new ShardId(new Index("test-index", "test-uuid"), 0);
+        AllocationId allocationId = AllocationId.newInitializing();
+        ReplicationTimer replicationTimerOngoing = mock(ReplicationTimer.class);
+        ReplicationLuceneIndex replicationLuceneIndex = new ReplicationLuceneIndex();
+        replicationLuceneIndex.addFileDetail("name1", 10, false);
+        replicationLuceneIndex.addFileDetail("name2", 15, false);
+        // linked from identical local files, never fetched from the source
+        replicationLuceneIndex.addFileDetail("name3", 20, true);
+        replicationLuceneIndex.addFileDetail("name4", 30, true);
+        replicationLuceneIndex.addRecoveredBytesToFile("name1", 4);
+
+        when(shardRouting.shardId()).thenReturn(shardId);
+        when(shardRouting.allocationId()).thenReturn(allocationId);
+        when(targetService.getOngoingEventSegmentReplicationState(shardId)).thenReturn(onGoingSegmentReplicationState);
+        when(onGoingSegmentReplicationState.getTimer()).thenReturn(replicationTimerOngoing);
+        when(onGoingSegmentReplicationState.getIndex()).thenReturn(replicationLuceneIndex);
+
+        SegmentReplicationShardStats segmentReplicationShardStats = action.computeSegmentReplicationShardStats(shardRouting);
+
+        assertNotNull(segmentReplicationShardStats);
+        assertEquals(21, segmentReplicationShardStats.getBytesBehindCount());
+        assertEquals(50, segmentReplicationShardStats.getBytesReusedCount());
+    }
+
+    public void testCalculateBytesRemainingToReplicateWithPreCopiedMergedSegment() {
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        SegmentReplicationState onGoingSegmentReplicationState = mock(SegmentReplicationState.class);
+        ShardId shardId = new ShardId(new Index("test-index", "test-uuid"), 0);
+        AllocationId allocationId = AllocationId.newInitializing();
+        ReplicationTimer replicationTimerOngoing = mock(ReplicationTimer.class);
+        ReplicationLuceneIndex replicationLuceneIndex = new ReplicationLuceneIndex();
+        // the merged segment was pre-copied before the checkpoint that references it, only the segments file is fetched
+        replicationLuceneIndex.addFileDetail("_0.cfs", 1000, true);
+        replicationLuceneIndex.addFileDetail("segments_2", 100, false);
+
+        when(shardRouting.shardId()).thenReturn(shardId);
+        when(shardRouting.allocationId()).thenReturn(allocationId);
+        when(targetService.getOngoingEventSegmentReplicationState(shardId)).thenReturn(onGoingSegmentReplicationState);
+        when(onGoingSegmentReplicationState.getTimer()).thenReturn(replicationTimerOngoing);
+        when(onGoingSegmentReplicationState.getIndex()).thenReturn(replicationLuceneIndex);
+
+        assertEquals(100, action.computeSegmentReplicationShardStats(shardRouting).getBytesBehindCount());
+
+        replicationLuceneIndex.addRecoveredBytesToFile("segments_2", 100);
+        SegmentReplicationShardStats segmentReplicationShardStats = action.computeSegmentReplicationShardStats(shardRouting);
+        assertEquals(0, segmentReplicationShardStats.getBytesBehindCount());
+        assertEquals(1000, segmentReplicationShardStats.getBytesReusedCount());
+    }
+
     public void testCalculateBytesRemainingToReplicateWhenNoOnGoingState() {
         ShardRouting shardRouting = mock(ShardRouting.class);
         SegmentReplicationState completedSegmentReplicationState = mock(SegmentReplicationState.class);
@@ -32,9 +32,14 @@
 
 package org.opensearch.action.bulk;
 
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.VersionType;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
@@ -219,4 +224,77 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
             ex.getMessage()
         );
     }
+
+    public void testScannedAndParsedActionLinesAreEquivalent() throws IOException {
+        final String scanned = "{ \"index\" : { \"_index\" : \"idx\", \"_id\" : \"1\", \"routing\" : \"r\", \"pipeline\" : \"p\", "
+            + "\"version\" : 3, \"version_type\" : \"external\", \"require_alias\" : true } }\r\n{}\n"
+            + "{\"create\":{\"_id\":\"2\",\"if_seq_no\":5,\"if_primary_term\":-1}}\n{}\n"
+            + "{\"update\":{\"_id\":\"3\",\"retry_on_conflict\":2}}\n{\"doc\":{}}\n"
+            + "{\"delete\":{\"_id\":\"4\",\"op_type\":\"delete\"}}\n";
+        // the same request with escaped or differently typed values, which are left to the parser
+        final String parsed = "{ \"index\" : { \"_index\" : \"id\\u0078\", \"_id\" : 1, \"routing\" : \"r\", \"pipeline\" : \"p\", "
+            + "\"version\" : \"3\", \"version_type\" : \"external\", \"require_alias\" : \"true\" } }\r\n{}\n"
+            + "{\"create\":{\"_id\":\"\\u0032\",\"if_seq_no\":\"5\",\"if_primary_term\":-1}}\n{}\n"
+            + "{\"update\":{\"_id\":3,\"retry_on_conflict\":\"2\"}}\n{\"doc\":{}}\n"
+            + "{\"delete\":{\"_id\":\"4\",\"op_type\":\"delete\",\"routing\":null}}\n";
+        final List<DocWriteRequest<?>> scannedRequests = parseRequests(new BytesArray(scanned));
+        final List<DocWriteRequest<?>> parsedRequests = parseRequests(new BytesArray(parsed));
+        // the scanner also has to handle requests that are not backed by a single array
+        final BytesArray bytes = new BytesArray(scanned);
+        final int split = randomIntBetween(1, bytes.length() - 1);
+        final List<DocWriteRequest<?>> compositeRequests = parseRequests(
+            CompositeBytesReference.of(bytes.slice(0, split), bytes.slice(split, bytes.length() - split))
+        );
+        assertEquals(4, scannedRequests.size());
+        for (List<DocWriteRequest<?>> requests : List.of(parsedRequests, compositeRequests)) {
+            assertEquals(scannedRequests.size(), requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                final DocWriteRequest<?> expected = scannedRequests.get(i);
+                final DocWriteRequest<?> actual = requests.get(i);
+                assertEquals(expected.getClass(), actual.getClass());
+                assertEquals(expected.opType(), actual.opType());
+                assertEquals(expected.index(), actual.index());
+                assertEquals(expected.id(), actual.id());
+                assertEquals(expected.routing(), actual.routing());
+                assertEquals(expected.version(), actual.version());
+                assertEquals(expected.versionType(), actual.versionType());
+                assertEquals(expected.ifSeqNo(), actual.ifSeqNo());
+                assertEquals(expected.ifPrimaryTerm(), actual.ifPrimaryTerm());
+                assertEquals(expected.isRequireAlias(), actual.isRequireAlias());
+            }
+        }
+        final IndexRequest indexRequest = (IndexRequest) scannedRequests.get(0);
+        assertEquals("idx", indexRequest.index());
+        assertEquals("1", indexRequest.id());
+        assertEquals("r", indexRequest.routing());
+        assertEquals("p", indexRequest.getPipeline());
+        assertEquals(3L, indexRequest.version());
+        assertEquals(VersionType.EXTERNAL, indexRequest.versionType());
+        assertTrue(indexRequest.isRequireAlias());
+        assertEquals(5L, scannedRequests.get(1).ifSeqNo());
+        assertEquals(2, ((UpdateRequest) scannedRequests.get(2)).retryOnConflict());
+        assertEquals(((UpdateRequest) scannedRequests.get(2)).retryOnConflict(), ((UpdateRequest) parsedRequests.get(2)).retryOnConflict());
+        assertEquals(
+            ((IndexRequest) scannedRequests.get(0)).getPipeline(),
+            ((IndexRequest) parsedRequests.get(0)).getPipeline()
+        );
+    }
+
+    private static List<DocWriteRequest<?>> parseRequests(BytesReference request) throws IOException {
+        final List<DocWriteRequest<?>> requests = new ArrayList<>();
+        new BulkRequestParser().parse(
+            request,
+            "default",
+            null,
+            null,
+            null,
+            null,
+            true,
+            MediaTypeRegistry.JSON,
+            requests::add,
+            requests::add,
+            requests::add
+        );
+        return requests;
+    }
 }
@@ -39,10 +39,13 @@ import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.bulk.TransportBulkActionTookTests.Resolver;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.ActionTestUtils;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.replication.ClusterStateCreationUtils;
+import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.DataStream;
@@ -53,10 +56,13 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexingPressureService;
 import org.opensearch.index.VersionType;
@@ -64,6 +70,7 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.indices.SystemIndices;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
+import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.test.transport.CapturingTransport;
@@ -79,7 +86,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
@@ -100,11 +110,13 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
     private TestThreadPool threadPool;
 
     private TestTransportBulkAction bulkAction;
+    private final AtomicInteger pendingShardCoordinatingOperations = new AtomicInteger();
 
     class TestTransportBulkAction extends TransportBulkAction {
 
         volatile boolean failIndexCreation = false;
         boolean indexCreated = false; // set when the "real" index is created
+        final List<Tuple<BulkShardRequest, ActionListener<BulkShardResponse>>> shardRequests = new CopyOnWriteArrayList<>();
 
         TestTransportBulkAction() {
             super(
@@ -117,7 +129,7 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
                 new ActionFilters(Collections.emptySet()),
                 new Resolver(),
                 new AutoCreateIndex(Settings.EMPTY, clusterService.getClusterSettings(), new Resolver(), new SystemIndices(emptyMap())),
-                new IndexingPressureService(Settings.EMPTY, clusterService),
+                TransportBulkActionTests.this.countingIndexingPressureService(),
                 mock(IndicesService.class),
                 new SystemIndices(emptyMap()),
                 NoopTracer.INSTANCE
@@ -138,6 +150,25 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
                 listener.onResponse(null);
             }
         }
+
+        @Override
+        void sendBulkShardRequest(BulkShardRequest bulkShardRequest, ActionListener<BulkShardResponse> listener) {
+            shardRequests.add(new Tuple<>(bulkShardRequest, listener));
+        }
+    }
+
+    private IndexingPressureService countingIndexingPressureService() {
+        return new IndexingPressureService(Settings.EMPTY, clusterService) {
+            @Override
+            public Releasable markCoordinatingOperationStarted(ShardId shardId, LongSupplier bytes, boolean forceExecution) {
+                final Releasable releasable = super.markCoordinatingOperationStarted(shardId, bytes, forceExecution);
+                pendingShardCoordinatingOperations.incrementAndGet();
+                return () -> {
+                    pendingShardCoordinatingOperations.decrementAndGet();
+                    releasable.close();
+                };
+            }
+        };
     }
 
     @Before
@@ -379,6 +410,76 @@ public class TransportBulkActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSingleShardBulkReturnsShardResponse() throws Exception {
+        ClusterServiceUtils.setState(clusterService, ClusterStateCreationUtils.state("index", 1, 1));
+        final int numItems = randomIntBetween(1, 10);
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < numItems; i++) {
+            bulkRequest.add(new IndexRequest("index").id("id" + i).source(emptyMap()));
+        }
+
+        PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+        ActionTestUtils.execute(bulkAction, null, bulkRequest, future);
+
+        assertThat(bulkAction.shardRequests.size(), equalTo(1));
+        final BulkShardRequest shardRequest = bulkAction.shardRequests.get(0).v1();
+        assertThat(shardRequest.items().length, equalTo(numItems));
+        assertThat(pendingShardCoordinatingOperations.get(), equalTo(1));
+        assertFalse(future.isDone());
+
+        final BulkItemResponse[] itemResponses = new BulkItemResponse[numItems];
+        for (int i = 0; i < numItems; i++) {
+            itemResponses[i] = new BulkItemResponse(
+                i,
+                DocWriteRequest.OpType.INDEX,
+                new IndexResponse(shardRequest.shardId(), "id" + i, i, 1, 1, true)
+            );
+        }
+        final BulkShardResponse shardResponse = new BulkShardResponse(shardRequest.shardId(), itemResponses);
+        shardResponse.setShardInfo(new ReplicationResponse.ShardInfo(1, 1));
+        bulkAction.shardRequests.get(0).v2().onResponse(shardResponse);
+
+        BulkResponse response = future.actionGet();
+        assertFalse(response.hasFailures());
+        assertThat(response.getItems().length, equalTo(numItems));
+        for (int i = 0; i < numItems; i++) {
+            assertThat(response.getItems()[i].getItemId(), equalTo(i));
+            assertThat(response.getItems()[i].getId(), equalTo("id" + i));
+            assertSame(shardResponse.getShardInfo(), response.getItems()[i].getResponse().getShardInfo());
+        }
+        assertThat(pendingShardCoordinatingOperations.get(), equalTo(0));
+    }
+
+    public void testSingleShardBulkFailsAllItemsOnShardFailure() throws Exception {
+        ClusterServiceUtils.setState(clusterService, ClusterStateCreationUtils.state("index", 1, 1));
+        final int numItems = randomIntBetween(1, 10);
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < numItems; i++) {
+            bulkRequest.add(new IndexRequest("index").id("id" + i).source(emptyMap()));
+        }
+
+        PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+        ActionTestUtils.execute(bulkAction, null, bulkRequest, future);
+
+        assertThat(bulkAction.shardRequests.size(), equalTo(1));
+        assertThat(pendingShardCoordinatingOperations.get(), equalTo(1));
+        final IllegalStateException shardFailure = new IllegalStateException("shard failure");
+        bulkAction.shardRequests.get(0).v2().onFailure(shardFailure);
+
+        BulkResponse response = future.actionGet();
+        assertTrue(response.hasFailures());
+        assertThat(response.getItems().length, equalTo(numItems));
+        for (int i = 0; i < numItems; i++) {
+            final BulkItemResponse item = response.getItems()[i];
+            assertThat(item.getItemId(), equalTo(i));
+            assertTrue(item.isFailed());
+            assertThat(item.getFailure().getIndex(), equalTo("index"));
+            assertThat(item.getFailure().getId(), equalTo("id" + i));
+            assertSame(shardFailure, item.getFailure().getCause());
+        }
+        assertThat(pendingShardCoordinatingOperations.get(), equalTo(0));
+    }
+
     private BulkRequest buildBulkRequest(List<String> indices) {
         BulkRequest request = new BulkRequest();
         for (String index : indices) {
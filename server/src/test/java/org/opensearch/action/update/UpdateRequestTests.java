@@ -609,6 +609,74 @@ public class UpdateRequestTests extends OpenSearchTestCase {
 
     }
 
+    public void testMergeSourceMatchesMapUpdate() throws Exception {
+        final String source = "{\"counter\":1,\"title\":\"a title\",\"tags\":[\"a\",\"b\"],"
+            + "\"nested\":{\"x\":1,\"y\":{\"z\":\"z\"},\"list\":[{\"a\":1}]},\"empty\":null}";
+        final String[] changes = new String[] {
+            "{\"counter\":1}",
+            "{\"counter\":2}",
+            "{\"nested\":{\"y\":{\"z\":\"z\"}}}",
+            "{\"nested\":{\"y\":{\"z\":\"w\"},\"new\":true}}",
+            "{\"nested\":\"replaced\"}",
+            "{\"tags\":[\"a\",\"b\"]}",
+            "{\"tags\":[\"c\"],\"added\":{\"a\":[1,2]}}",
+            "{\"empty\":null}",
+            "{\"empty\":{\"a\":1}}",
+            "{\"nested\":{}}",
+            "{}" };
+        for (String change : changes) {
+            final Map<String, Object> changeAsMap = XContentHelper.convertToMap(new BytesArray(change), true, MediaTypeRegistry.JSON)
+                .v2();
+            final boolean checkUpdatesAreUnequal = randomBoolean();
+            final Map<String, Object> expected = XContentHelper.convertToMap(new BytesArray(source), true, MediaTypeRegistry.JSON).v2();
+            final boolean expectedModified = XContentHelper.update(expected, changeAsMap, checkUpdatesAreUnequal);
+
+            final boolean modified;
+            final BytesReference merged;
+            try (
+                XContentParser parser = createParser(JsonXContent.jsonXContent, source);
+                XContentBuilder builder = XContentFactory.jsonBuilder()
+            ) {
+                parser.nextToken();
+                modified = UpdateHelper.mergeSource(parser, changeAsMap, builder, checkUpdatesAreUnequal);
+                merged = BytesReference.bytes(builder);
+            }
+            assertEquals(change, expectedModified, modified);
+            assertEquals(change, expected, XContentHelper.convertToMap(merged, true, MediaTypeRegistry.JSON).v2());
+            // the fields keep the order of the source
+            assertEquals(
+                change,
+                List.copyOf(expected.keySet()),
+                List.copyOf(XContentHelper.convertToMap(merged, true, MediaTypeRegistry.JSON).v2().keySet())
+            );
+        }
+    }
+
+    public void testPartialDocUpdateStreamsSource() throws Exception {
+        ShardId shardId = new ShardId("test", "", 0);
+        GetResult getResult = new GetResult(
+            "test",
+            "1",
+            0,
+            1,
+            0,
+            true,
+            new BytesArray("{\"body\":\"foo\",\"meta\":{\"count\":1.50,\"tags\":[\"a\"]}}"),
+            null,
+            null
+        );
+        UpdateRequest request = new UpdateRequest("test", "1").fromXContent(
+            createParser(JsonXContent.jsonXContent, new BytesArray("{\"doc\": {\"meta\": {\"count\": 2}}}"))
+        );
+
+        UpdateHelper.Result result = updateHelper.prepareUpdateIndexRequest(shardId, request, getResult, true);
+        assertThat(result.getResponseResult(), equalTo(DocWriteResponse.Result.UPDATED));
+        IndexRequest indexRequest = result.action();
+        assertEquals("{\"body\":\"foo\",\"meta\":{\"count\":2,\"tags\":[\"a\"]}}", indexRequest.source().utf8ToString());
+        assertEquals(MediaTypeRegistry.JSON, indexRequest.getContentType());
+        assertThat(result.updatedSourceAsMap().get("body"), equalTo("foo"));
+    }
+
     public void testUpdateScript() throws Exception {
         ShardId shardId = new ShardId("test", "", 0);
         GetResult getResult = new GetResult("test", "1", 0, 1, 0, true, new BytesArray("{\"body\": \"bar\"}"), null, null);
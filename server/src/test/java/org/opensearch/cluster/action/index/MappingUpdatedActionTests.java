@@ -57,6 +57,7 @@ import org.opensearch.transport.client.IndicesAdminClient;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_VERSION_CREATED;
 import static org.mockito.Mockito.any;
@@ -153,6 +154,118 @@ public class MappingUpdatedActionTests extends OpenSearchTestCase {
         assertTrue(fut2.isDone());
     }
 
+    public void testMappingUpdatesAreCoalescedPerIndex() {
+        List<ActionListener<Void>> inFlightListeners = new CopyOnWriteArrayList<>();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.builder()
+                .put(MappingUpdatedAction.INDICES_MAX_IN_FLIGHT_UPDATES_SETTING.getKey(), 1)
+                .put(MappingUpdatedAction.INDICES_COALESCE_DYNAMIC_UPDATES_SETTING.getKey(), true)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            null
+        ) {
+
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                inFlightListeners.add(listener);
+            }
+        };
+
+        final Index index = new Index("name", "uuid");
+        final Mapping update = emptyMappingUpdate();
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        mua.updateMappingOnClusterManager(index, update, fut1);
+        assertEquals(1, inFlightListeners.size());
+
+        // neither blocks on the semaphore, both wait for the in-flight update of the index
+        PlainActionFuture<Void> fut2 = new PlainActionFuture<>();
+        PlainActionFuture<Void> fut3 = new PlainActionFuture<>();
+        mua.updateMappingOnClusterManager(index, update, fut2);
+        mua.updateMappingOnClusterManager(index, update, fut3);
+        assertEquals(1, inFlightListeners.size());
+        assertEquals(0, mua.blockedThreads());
+        assertEquals(1, mua.coalescedIndices());
+
+        // completing the in-flight update sends a single merged update for the pending ones
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut1.isDone());
+        assertFalse(fut2.isDone());
+        assertFalse(fut3.isDone());
+        assertEquals(1, inFlightListeners.size());
+
+        inFlightListeners.remove(0).onFailure(new IllegalStateException("boom"));
+        expectThrows(IllegalStateException.class, fut2::actionGet);
+        expectThrows(IllegalStateException.class, fut3::actionGet);
+        assertEquals(0, inFlightListeners.size());
+        assertEquals(0, mua.coalescedIndices());
+
+        // the permit was released once the chain of the index completed
+        PlainActionFuture<Void> fut4 = new PlainActionFuture<>();
+        mua.updateMappingOnClusterManager(new Index("other", "uuid"), update, fut4);
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut4.isDone());
+    }
+
+    public void testCoalescedUpdateFailsPendingListenersWhenSendThrows() {
+        List<ActionListener<Void>> inFlightListeners = new CopyOnWriteArrayList<>();
+        final AtomicInteger sends = new AtomicInteger();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.builder()
+                .put(MappingUpdatedAction.INDICES_MAX_IN_FLIGHT_UPDATES_SETTING.getKey(), 1)
+                .put(MappingUpdatedAction.INDICES_COALESCE_DYNAMIC_UPDATES_SETTING.getKey(), true)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            null
+        ) {
+
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                if (sends.incrementAndGet() == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                inFlightListeners.add(listener);
+            }
+        };
+
+        final Index index = new Index("name", "uuid");
+        final Mapping update = emptyMappingUpdate();
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        PlainActionFuture<Void> fut2 = new PlainActionFuture<>();
+        PlainActionFuture<Void> fut3 = new PlainActionFuture<>();
+        mua.updateMappingOnClusterManager(index, update, fut1);
+        mua.updateMappingOnClusterManager(index, update, fut2);
+        mua.updateMappingOnClusterManager(index, update, fut3);
+        assertEquals(1, inFlightListeners.size());
+
+        // sending the merged update throws, which fails its listeners rather than the completion of the first update
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut1.isDone());
+        fut1.actionGet();
+        assertEquals(2, sends.get());
+        expectThrows(IllegalStateException.class, fut2::actionGet);
+        expectThrows(IllegalStateException.class, fut3::actionGet);
+        assertEquals(0, inFlightListeners.size());
+        assertEquals(0, mua.coalescedIndices());
+
+        // the permit was released
+        PlainActionFuture<Void> fut4 = new PlainActionFuture<>();
+        mua.updateMappingOnClusterManager(new Index("other", "uuid"), update, fut4);
+        assertEquals(0, mua.blockedThreads());
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut4.isDone());
+    }
+
+    private static Mapping emptyMappingUpdate() {
+        Settings indexSettings = Settings.builder().put(SETTING_VERSION_CREATED, Version.CURRENT).build();
+        final Mapper.BuilderContext context = new Mapper.BuilderContext(indexSettings, new ContentPath());
+        RootObjectMapper rootObjectMapper = new RootObjectMapper.Builder("name").build(context);
+        return new Mapping(Version.V_3_0_0, rootObjectMapper, new MetadataFieldMapper[0], Map.of());
+    }
+
     public void testSendUpdateMappingUsingAutoPutMappingAction() {
         DiscoveryNodes nodes = DiscoveryNodes.builder()
             .add(new DiscoveryNode("first", buildNewFakeTransportAddress(), Version.V_3_0_0))
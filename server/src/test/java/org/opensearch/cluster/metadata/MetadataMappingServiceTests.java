@@ -39,12 +39,18 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.mapper.MapperService;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.test.InternalSettingsPlugin;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
@@ -101,6 +107,59 @@ public class MetadataMappingServiceTests extends OpenSearchSingleNodeTestCase {
         assertSame(result, result2);
     }
 
+    public void testIdenticalMappingUpdatesInSameBatchAreDeduplicated() throws Exception {
+        final IndexService indexService = createIndex("test", client().admin().indices().prepareCreate("test"));
+        final long previousVersion = indexService.getMetadata().getMappingVersion();
+        final MetadataMappingService mappingService = getInstanceFromNode(MetadataMappingService.class);
+        final ClusterService clusterService = getInstanceFromNode(ClusterService.class);
+        final String source = "{ \"properties\": { \"field\": { \"type\": \"text\" }}}";
+        final List<PutMappingClusterStateUpdateRequest> requests = new ArrayList<>();
+        final int numRequests = randomIntBetween(2, 5);
+        for (int i = 0; i < numRequests; i++) {
+            final PutMappingClusterStateUpdateRequest request = new PutMappingClusterStateUpdateRequest(source);
+            request.indices(new Index[] { indexService.index() });
+            requests.add(request);
+        }
+        final AtomicInteger appliedRequests = new AtomicInteger();
+        final MetadataMappingService.PutMappingExecutor executor = countingPutMappingExecutor(mappingService, appliedRequests);
+        final ClusterStateTaskExecutor.ClusterTasksResult<PutMappingClusterStateUpdateRequest> result = executor.execute(
+            clusterService.state(),
+            requests
+        );
+        assertThat(result.executionResults.size(), equalTo(requests.size()));
+        for (ClusterStateTaskExecutor.TaskResult taskResult : result.executionResults.values()) {
+            assertTrue(taskResult.isSuccess());
+        }
+        // only the first request was parsed and merged, the identical ones were skipped
+        assertThat(appliedRequests.get(), equalTo(1));
+        assertThat(result.resultingState.metadata().index("test").getMappingVersion(), equalTo(1 + previousVersion));
+    }
+
+    public void testIdenticalMappingUpdatesAreNotDeduplicatedAcrossStateChanges() throws Exception {
+        final IndexService indexService = createIndex("test", client().admin().indices().prepareCreate("test"));
+        final MetadataMappingService mappingService = getInstanceFromNode(MetadataMappingService.class);
+        final ClusterService clusterService = getInstanceFromNode(ClusterService.class);
+        final String source = "{ \"properties\": { \"field\": { \"type\": \"text\" }}}";
+        final String otherSource = "{ \"properties\": { \"other\": { \"type\": \"keyword\" }}}";
+        final List<PutMappingClusterStateUpdateRequest> requests = new ArrayList<>();
+        for (String requestSource : List.of(source, otherSource, source)) {
+            final PutMappingClusterStateUpdateRequest request = new PutMappingClusterStateUpdateRequest(requestSource);
+            request.indices(new Index[] { indexService.index() });
+            requests.add(request);
+        }
+        final AtomicInteger appliedRequests = new AtomicInteger();
+        final MetadataMappingService.PutMappingExecutor executor = countingPutMappingExecutor(mappingService, appliedRequests);
+        final ClusterStateTaskExecutor.ClusterTasksResult<PutMappingClusterStateUpdateRequest> result = executor.execute(
+            clusterService.state(),
+            requests
+        );
+        for (ClusterStateTaskExecutor.TaskResult taskResult : result.executionResults.values()) {
+            assertTrue(taskResult.isSuccess());
+        }
+        // the other update changed the state in between, so the last request had to be applied again
+        assertThat(appliedRequests.get(), equalTo(3));
+    }
+
     public void testMappingVersion() throws Exception {
         final IndexService indexService = createIndex("test", client().admin().indices().prepareCreate("test"));
         final long previousVersion = indexService.getMetadata().getMappingVersion();
@@ -130,4 +189,21 @@ public class MetadataMappingServiceTests extends OpenSearchSingleNodeTestCase {
         assertTrue(result.executionResults.values().iterator().next().isSuccess());
         assertThat(result.resultingState.metadata().index("test").getMappingVersion(), equalTo(previousVersion));
     }
+
+    private static MetadataMappingService.PutMappingExecutor countingPutMappingExecutor(
+        MetadataMappingService mappingService,
+        AtomicInteger appliedRequests
+    ) {
+        return mappingService.new PutMappingExecutor() {
+            @Override
+            ClusterState applyRequest(
+                ClusterState currentState,
+                PutMappingClusterStateUpdateRequest request,
+                Map<Index, MapperService> indexMapperServices
+            ) throws IOException {
+                appliedRequests.incrementAndGet();
+                return super.applyRequest(currentState, request, indexMapperServices);
+            }
+        };
+    }
 }
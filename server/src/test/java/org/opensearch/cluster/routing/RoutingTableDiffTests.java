@@ -17,9 +17,13 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.junit.Before;
 
+import java.io.IOException;
+
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -322,4 +326,37 @@ public class RoutingTableDiffTests extends OpenSearchAllocationTestCase {
         }
     }
 
+    public void testSerializedIndexRoutingTableDiffOnlyCarriesChangedShards() throws IOException {
+        initPrimaries();
+        startInitializingShards(TEST_INDEX_1);
+        startInitializingShards(TEST_INDEX_2);
+        ClusterState oldClusterState = clusterState;
+        // start a random replica to change a single shard routing
+        clusterState = startRandomInitializingShard(clusterState, ALLOCATION_SERVICE);
+
+        for (IndexRoutingTable after : clusterState.routingTable()) {
+            final IndexRoutingTable before = oldClusterState.routingTable().index(after.getIndex());
+            final Diff<IndexRoutingTable> diff = after.diff(before);
+
+            final Version version = randomBoolean() ? Version.CURRENT : Version.V_3_3_0;
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.setVersion(version);
+                diff.writeTo(out);
+                try (StreamInput in = out.bytes().streamInput()) {
+                    in.setVersion(version);
+                    final IndexRoutingTable applied = IndexRoutingTable.readDiffFrom(in).apply(before);
+                    assertEquals(after, applied);
+                    if (version.onOrAfter(Version.V_3_4_0)) {
+                        // shard routing tables that did not change are shared with the previous table
+                        for (IndexShardRoutingTable shard : applied) {
+                            if (shard.equals(before.shard(shard.shardId().id()))) {
+                                assertSame(before.shard(shard.shardId().id()), shard);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
 }
@@ -65,6 +65,7 @@ import org.opensearch.node.Node;
 import org.opensearch.telemetry.metrics.Histogram;
 import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 import org.opensearch.test.MockLogAppender;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.junit.annotations.TestLogging;
@@ -93,6 +94,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.mockito.ArgumentMatcher;
+
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.opensearch.cluster.service.ClusterManagerTask.CREATE_INDEX;
@@ -106,6 +109,8 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -911,6 +916,108 @@ public class ClusterManagerServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFairSchedulingRecordsQueueDepthAndWaitTimePerTaskType() throws Exception {
+        final MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        final Histogram queueDepthHistogram = mock(Histogram.class);
+        final Histogram waitTimeHistogram = mock(Histogram.class);
+        when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenAnswer(invocationOnMock -> {
+            String histogramName = (String) invocationOnMock.getArguments()[0];
+            if (histogramName.equals("cluster_manager.task.queue.depth")) {
+                return queueDepthHistogram;
+            }
+            if (histogramName.equals("cluster_manager.task.wait.latency")) {
+                return waitTimeHistogram;
+            }
+            return mock(Histogram.class);
+        });
+        final boolean fairSchedulingEnabled = randomBoolean();
+        final ClusterManagerService clusterManagerService = new ClusterManagerService(
+            Settings.builder()
+                .put(ClusterName.CLUSTER_NAME_SETTING.getKey(), ClusterManagerServiceTests.class.getSimpleName())
+                .put(Node.NODE_NAME_SETTING.getKey(), "test_node")
+                .put(ClusterManagerService.CLUSTER_MANAGER_FAIR_SCHEDULING_ENABLED_SETTING.getKey(), fairSchedulingEnabled)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool,
+            new ClusterManagerMetrics(metricsRegistry)
+        );
+        final DiscoveryNode localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
+        final AtomicReference<ClusterState> clusterStateRef = new AtomicReference<>(
+            ClusterState.builder(new ClusterName(ClusterManagerServiceTests.class.getSimpleName()))
+                .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).clusterManagerNodeId(localNode.getId()))
+                .blocks(ClusterBlocks.EMPTY_CLUSTER_BLOCK)
+                .build()
+        );
+        clusterManagerService.setClusterStatePublisher((event, publishListener, ackListener) -> {
+            clusterStateRef.set(event.state());
+            publishListener.onResponse(null);
+        });
+        clusterManagerService.setClusterStateSupplier(clusterStateRef::get);
+        clusterManagerService.start();
+
+        final ClusterManagerTaskThrottler.ThrottlingKey throttlingKey = clusterManagerService.registerClusterManagerTask(
+            CREATE_INDEX,
+            true
+        );
+        final ClusterStateTaskExecutor<Object> executor = new ClusterStateTaskExecutor<>() {
+            @Override
+            public ClusterTasksResult<Object> execute(ClusterState currentState, List<Object> tasks) {
+                return ClusterTasksResult.builder().successes(tasks).build(currentState);
+            }
+
+            @Override
+            public ClusterManagerTaskThrottler.ThrottlingKey getClusterManagerThrottlingKey() {
+                return throttlingKey;
+            }
+        };
+        final CountDownLatch latch = new CountDownLatch(2);
+        final ClusterStateTaskListener listener = new ClusterStateTaskListener() {
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+
+            @Override
+            public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                latch.countDown();
+            }
+        };
+        clusterManagerService.submitStateUpdateTask(
+            CREATE_INDEX.getKey(),
+            new Object(),
+            ClusterStateTaskConfig.build(Priority.NORMAL),
+            executor,
+            listener
+        );
+        // tasks without a registered task type are not scheduled fairly
+        clusterManagerService.submitStateUpdateTask("unregistered", new ClusterStateUpdateTask() {
+            @Override
+            public ClusterState execute(ClusterState currentState) {
+                return currentState;
+            }
+
+            @Override
+            public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        clusterManagerService.close();
+
+        if (fairSchedulingEnabled) {
+            final ArgumentMatcher<Tags> taskTypeTags = tags -> tags.getTagsMap().equals(Map.of("Operation", CREATE_INDEX.getKey()));
+            verify(queueDepthHistogram, times(1)).record(eq(1.0), argThat(taskTypeTags));
+            verify(waitTimeHistogram, times(1)).record(anyDouble(), argThat(taskTypeTags));
+        }
+        verify(queueDepthHistogram, times(fairSchedulingEnabled ? 1 : 0)).record(anyDouble(), any());
+        verify(waitTimeHistogram, times(fairSchedulingEnabled ? 1 : 0)).record(anyDouble(), any());
+    }
+
     public void testThrottlingForTaskSubmission() throws InterruptedException {
         ClusterManagerService clusterManagerService = createClusterManagerService(true);
         int throttlingLimit = randomIntBetween(1, 10);
@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,13 +56,16 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class TaskBatcherTests extends TaskExecutorTests {
 
@@ -393,6 +397,147 @@ public class TaskBatcherTests extends TaskExecutorTests {
         latch.await();
     }
 
+    public void testCappedBatchesRequeueRemainingTasks() throws InterruptedException {
+        taskBatcher = new TestTaskBatcher(logger, threadExecutor) {
+            @Override
+            int maxBatchSize(Object batchingKey) {
+                return 2;
+            }
+        };
+        final int numOfTasks = randomIntBetween(3, 10);
+        final CountDownLatch latch = new CountDownLatch(numOfTasks);
+        final Map<Integer, TestListener> tasks = new LinkedHashMap<>();
+        for (int i = 0; i < numOfTasks; i++) {
+            tasks.put(i, new TestListener() {
+                @Override
+                public void processed(String source) {
+                    latch.countDown();
+                }
+
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+        }
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final List<Integer> executed = new CopyOnWriteArrayList<>();
+        TestExecutor<Integer> executor = taskList -> {
+            batchSizes.add(taskList.size());
+            executed.addAll(taskList);
+        };
+        submitTasks("test", tasks, ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+
+        latch.await();
+        assertThat(batchSizes.size(), equalTo((numOfTasks + 1) / 2));
+        for (int batchSize : batchSizes) {
+            assertThat(batchSize, lessThanOrEqualTo(2));
+        }
+        assertThat(executed, equalTo(new ArrayList<>(tasks.keySet())));
+        assertTrue(taskBatcher.tasksPerBatchingKey.isEmpty());
+        assertTrue(taskBatcher.taskIdentityPerBatchingKey.isEmpty());
+    }
+
+    public void testCappedBatchYieldsToOtherBatchingKeys() throws InterruptedException {
+        taskBatcher = new TestTaskBatcher(logger, threadExecutor) {
+            @Override
+            int maxBatchSize(Object batchingKey) {
+                return 2;
+            }
+        };
+        final int numOfTasks = randomIntBetween(3, 10);
+        final CountDownLatch latch = new CountDownLatch(numOfTasks + 1);
+        final TestListener listener = new TestListener() {
+            @Override
+            public void processed(String source) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        final List<String> executed = new CopyOnWriteArrayList<>();
+        final TestExecutor<String> executor = executed::addAll;
+        final TestExecutor<String> otherExecutor = executed::addAll;
+        try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+            submitTask("blocking", blockingTask);
+            // every task has its own runnable queued in the executor, ahead of the task of the other batching key
+            for (int i = 0; i < numOfTasks; i++) {
+                submitTask("test", "task-" + i, ClusterStateTaskConfig.build(Priority.NORMAL), executor, listener);
+            }
+            submitTask("other", "other", ClusterStateTaskConfig.build(Priority.NORMAL), otherExecutor, listener);
+        }
+
+        latch.await();
+        assertThat(executed.size(), equalTo(numOfTasks + 1));
+        // the other task ran right after the first capped batch rather than after all the tasks that were queued before it
+        assertThat(executed.indexOf("other"), equalTo(2));
+        assertTrue(taskBatcher.tasksPerBatchingKey.isEmpty());
+        assertTrue(taskBatcher.taskIdentityPerBatchingKey.isEmpty());
+    }
+
+    public void testBatchSizeDoesNotCollapseWhenPublicationCostDominates() throws InterruptedException {
+        final long publicationTimeMillis = 50;
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final TestExecutor<Integer> executor = taskList -> batchSizes.add(taskList.size());
+        taskBatcher = new TestTaskBatcher(logger, threadExecutor) {
+            @Override
+            protected String schedulingSource(Object batchingKey) {
+                return batchingKey == executor ? "test" : null;
+            }
+
+            @Override
+            protected long maxBatchTimeNanos(String schedulingSource) {
+                return TimeUnit.MILLISECONDS.toNanos(10);
+            }
+
+            @Override
+            protected void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator) {
+                final long startTimeNanos = System.nanoTime();
+                List<UpdateTask> updateTasks = (List) tasks;
+                ((TestExecutor) batchingKey).execute(updateTasks.stream().map(t -> t.task).collect(Collectors.toList()));
+                onBatchComputed(batchingKey, tasks.size(), System.nanoTime() - startTimeNanos);
+                // the fixed cost of publishing the result of the batch, which takes longer than the time budget of the batch
+                try {
+                    Thread.sleep(publicationTimeMillis);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                updateTasks.forEach(updateTask -> updateTask.listener.processed(updateTask.source));
+            }
+        };
+
+        final int numOfTasks = randomIntBetween(20, 50);
+        for (int round = 0; round < 3; round++) {
+            final CountDownLatch latch = new CountDownLatch(numOfTasks);
+            final Map<Integer, TestListener> tasks = new LinkedHashMap<>();
+            for (int i = 0; i < numOfTasks; i++) {
+                tasks.put(round * numOfTasks + i, new TestListener() {
+                    @Override
+                    public void processed(String source) {
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onFailure(String source, Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+            }
+            try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+                submitTask("blocking", blockingTask);
+                submitTasks("test", tasks, ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+            }
+            latch.await();
+        }
+        // counting the publication time would have capped the batches at (10ms / (50ms / numOfTasks)) tasks after the first round
+        assertThat(batchSizes, equalTo(List.of(numOfTasks, numOfTasks, numOfTasks)));
+        assertThat(taskBatcher.maxBatchSize(executor), greaterThanOrEqualTo(numOfTasks));
+    }
+
     public void testDuplicateSubmission() throws InterruptedException {
         final CountDownLatch latch = new CountDownLatch(2);
         try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.io.stream;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ReleasableBytesStreamInputTests extends OpenSearchTestCase {
+
+    public void testReadRetainedBytesReference() throws IOException {
+        final byte[] payload = randomByteArrayOfLength(randomIntBetween(1, 1024));
+        final BytesReference serialized;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString("before");
+            out.writeBytesReference(new BytesArray(payload));
+            out.writeBytesReference(BytesArray.EMPTY);
+            out.writeVInt(42);
+            serialized = out.bytes();
+        }
+        // split the serialized bytes in two to mimic a message aggregated from several network buffers
+        final int split = randomIntBetween(0, serialized.length());
+        final BytesReference composite = CompositeBytesReference.of(
+            new BytesArray(BytesReference.toBytes(serialized.slice(0, split))),
+            new BytesArray(BytesReference.toBytes(serialized.slice(split, serialized.length() - split)))
+        );
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference reference = new ReleasableBytesReference(composite, () -> released.set(true));
+
+        final BytesReference retained;
+        try (ReleasableBytesStreamInput in = new ReleasableBytesStreamInput(reference)) {
+            assertEquals("before", in.readString());
+            retained = in.readRetainedBytesReference();
+            assertSame(BytesArray.EMPTY, in.readRetainedBytesReference());
+            assertEquals(42, in.readVInt());
+            assertEquals(0, in.available());
+            expectThrows(EOFException.class, in::readRetainedBytesReference);
+        }
+        assertTrue(retained instanceof ReleasableBytesReference);
+        assertEquals(new BytesArray(payload), retained);
+        assertEquals(2, reference.refCount());
+
+        reference.close();
+        assertFalse(released.get());
+        assertEquals(new BytesArray(payload), retained);
+        ((ReleasableBytesReference) retained).close();
+        assertTrue(released.get());
+    }
+
+    public void testPlainStreamsCopy() throws IOException {
+        final byte[] payload = randomByteArrayOfLength(randomIntBetween(1, 1024));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeBytesReference(new BytesArray(payload));
+            final BytesReference read = out.bytes().streamInput().readRetainedBytesReference();
+            assertFalse(read instanceof ReleasableBytesReference);
+            assertEquals(new BytesArray(payload), read);
+        }
+    }
+}
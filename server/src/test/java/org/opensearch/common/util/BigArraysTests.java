@@ -33,6 +33,7 @@
 package org.opensearch.common.util;
 
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
@@ -418,6 +419,152 @@ public class BigArraysTests extends OpenSearchTestCase {
         assertThat(size - minSize, lessThan((long) pageSize));
     }
 
+    public void testSmallArraysUseSmallPages() {
+        final Settings settings = Settings.builder()
+            .put(PageCacheRecycler.TYPE_SETTING.getKey(), randomFrom(PageCacheRecycler.Type.values()).name())
+            .put(PageCacheRecycler.LIMIT_SMALL_HEAP_SETTING.getKey(), "1mb")
+            .put(PageCacheRecycler.STATS_ENABLED_SETTING.getKey(), true)
+            .build();
+        final PageCacheRecycler recycler = new PageCacheRecycler(settings);
+        final BigArrays bigArrays = new BigArrays(recycler, null, "test");
+        final long size = randomIntBetween(PageCacheRecycler.SMALL_BYTE_PAGE_SIZE / 2, PageCacheRecycler.SMALL_BYTE_PAGE_SIZE);
+
+        ByteArray array = bigArrays.newByteArray(size);
+        assertEquals(size, array.size());
+        assertEquals(PageCacheRecycler.SMALL_BYTE_PAGE_SIZE, array.array().length);
+        assertPageStats(recycler, "small_bytes", 0, 1, 1);
+        array.close();
+        assertPageStats(recycler, "small_bytes", 0, 1, 0);
+
+        array = bigArrays.newByteArray(size);
+        for (long i = 0; i < size; i++) {
+            assertEquals(0, array.get(i));
+        }
+        if (PageCacheRecycler.TYPE_SETTING.get(settings) == PageCacheRecycler.Type.NONE) {
+            assertPageStats(recycler, "small_bytes", 0, 2, 1);
+        } else {
+            assertPageStats(recycler, "small_bytes", 1, 1, 1);
+        }
+        array.close();
+        assertPageStats(recycler, "bytes", 0, 0, 0);
+    }
+
+    public void testSmallPagesAreDisabledByDefault() {
+        final PageCacheRecycler recycler = new PageCacheRecycler(
+            Settings.builder().put(PageCacheRecycler.STATS_ENABLED_SETTING.getKey(), true).build()
+        );
+        assertFalse(recycler.smallPages());
+        final BigArrays bigArrays = new BigArrays(recycler, null, "test");
+        final long size = randomIntBetween(PageCacheRecycler.SMALL_BYTE_PAGE_SIZE / 2, PageCacheRecycler.SMALL_BYTE_PAGE_SIZE);
+        try (ByteArray array = bigArrays.newByteArray(size)) {
+            assertEquals(size, array.array().length);
+        }
+        assertPageStats(recycler, "small_bytes", 0, 0, 0);
+    }
+
+    public void testStatsAreDisabledByDefault() {
+        assertNull(new PageCacheRecycler(Settings.EMPTY).stats());
+    }
+
+    public void testOffHeapArrays() {
+        final HierarchyCircuitBreakerService hcbs = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final Settings settings = Settings.builder()
+            .put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true)
+            .put(PageCacheRecycler.STATS_ENABLED_SETTING.getKey(), true)
+            .build();
+        final PageCacheRecycler recycler = new MockPageCacheRecycler(settings);
+        final BigArrays bigArrays = new MockBigArrays(recycler, hcbs).withCircuitBreaking();
+        final CircuitBreaker breaker = hcbs.getBreaker(CircuitBreaker.REQUEST);
+
+        final int size = randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 10 * PageCacheRecycler.LONG_PAGE_SIZE);
+        final long[] longs = new long[size * 2];
+        final double[] doubles = new double[size * 2];
+        LongArray longArray = bigArrays.newLongArray(size);
+        DoubleArray doubleArray = bigArrays.newDoubleArray(size);
+        for (int i = 0; i < size; ++i) {
+            longs[i] = randomLong();
+            assertEquals(0L, longArray.set(i, longs[i]));
+            doubles[i] = randomDouble();
+            assertEquals(0d, doubleArray.set(i, doubles[i]), 0d);
+        }
+        assertEquals(longArray.ramBytesUsed() + doubleArray.ramBytesUsed(), breaker.getUsed());
+        final long offHeapPages = (longArray.ramBytesUsed() + doubleArray.ramBytesUsed()) / PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        assertPageStats(recycler, "off_heap", 0, offHeapPages, offHeapPages);
+
+        longArray = bigArrays.resize(longArray, size * 2);
+        doubleArray = bigArrays.resize(doubleArray, size * 2);
+        assertEquals(longArray.ramBytesUsed() + doubleArray.ramBytesUsed(), breaker.getUsed());
+        final int from = randomIntBetween(0, size);
+        final int to = randomIntBetween(from, size * 2);
+        longArray.fill(from, to, 42L);
+        Arrays.fill(longs, from, to, 42L);
+        doubleArray.fill(from, to, 4.2d);
+        Arrays.fill(doubles, from, to, 4.2d);
+        final int index = randomIntBetween(0, size * 2 - 1);
+        longs[index] += 7;
+        assertEquals(longs[index], longArray.increment(index, 7));
+        doubles[index] += 0.7;
+        assertEquals(doubles[index], doubleArray.increment(index, 0.7), 0d);
+
+        for (int i = 0; i < size * 2; ++i) {
+            assertEquals(longs[i], longArray.get(i));
+            assertEquals(doubles[i], doubleArray.get(i), 0d);
+        }
+        Releasables.close(longArray, doubleArray);
+        assertEquals(0, breaker.getUsed());
+    }
+
+    public void testOffHeapPagesAreBoundedByLimit() {
+        final Settings settings = Settings.builder()
+            .put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true)
+            .put(PageCacheRecycler.LIMIT_OFF_HEAP_SETTING.getKey(), 4 * PageCacheRecycler.PAGE_SIZE_IN_BYTES + "b")
+            .put(PageCacheRecycler.STATS_ENABLED_SETTING.getKey(), true)
+            .build();
+        final PageCacheRecycler recycler = new MockPageCacheRecycler(settings);
+        final BigArrays bigArrays = new MockBigArrays(recycler, new NoneCircuitBreakerService());
+
+        LongArray offHeapArray = bigArrays.newLongArray(3 * PageCacheRecycler.LONG_PAGE_SIZE);
+        offHeapArray.set(0, 42L);
+        assertPageStats(recycler, "off_heap", 0, 3, 3);
+
+        // only one page is left, so this array is allocated on the heap
+        final DoubleArray onHeapArray = bigArrays.newDoubleArray(2 * PageCacheRecycler.LONG_PAGE_SIZE);
+        assertPageStats(recycler, "off_heap", 0, 3, 3);
+        onHeapArray.close();
+
+        // growing the array would exceed the limit, so its values are moved to the heap
+        offHeapArray = bigArrays.resize(offHeapArray, 5 * PageCacheRecycler.LONG_PAGE_SIZE);
+        assertEquals(42L, offHeapArray.get(0));
+        assertPageStats(recycler, "off_heap", 0, 3, 0);
+        offHeapArray.close();
+
+        // released pages are kept for reuse, so no more than the limit is ever allocated
+        offHeapArray = bigArrays.newLongArray(4 * PageCacheRecycler.LONG_PAGE_SIZE);
+        assertPageStats(recycler, "off_heap", 3, 4, 4);
+        offHeapArray = bigArrays.resize(offHeapArray, 2 * PageCacheRecycler.LONG_PAGE_SIZE);
+        assertPageStats(recycler, "off_heap", 3, 4, 2);
+        offHeapArray = bigArrays.resize(offHeapArray, 4 * PageCacheRecycler.LONG_PAGE_SIZE);
+        assertPageStats(recycler, "off_heap", 5, 4, 4);
+        offHeapArray.close();
+        assertPageStats(recycler, "off_heap", 5, 4, 0);
+    }
+
+    private static void assertPageStats(PageCacheRecycler recycler, String name, long hits, long misses, long live) {
+        final PageCacheRecyclerStats.PageStats stats = recycler.stats()
+            .getPages()
+            .stream()
+            .filter(s -> s.getName().equals(name))
+            .findFirst()
+            .get();
+        assertEquals(hits, stats.getHits());
+        assertEquals(misses, stats.getMisses());
+        assertEquals(live, stats.getLive());
+    }
+
     private List<BigArraysHelper> bigArrayCreators(final long maxSize, final boolean withBreaking) {
         final BigArrays byteBigArrays = newBigArraysInstance(maxSize, withBreaking);
         BigArraysHelper byteHelper = new BigArraysHelper(
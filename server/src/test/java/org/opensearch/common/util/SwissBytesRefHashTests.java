@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.hash.T1ha1;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
+
+public class SwissBytesRefHashTests extends OpenSearchTestCase {
+
+    private BigArrays randomBigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    public void testFuzzy() {
+        long seed = randomLong();
+        Map<BytesRef, Long> reference = new HashMap<>();
+        BytesRef[] keys = Stream.generate(() -> new BytesRef(randomAlphaOfLength(20)))
+            .limit(randomIntBetween(1000, 2000))
+            .toArray(BytesRef[]::new);
+
+        try (
+            SwissBytesRefHash hash = new SwissBytesRefHash(
+                randomIntBetween(1, 100),      // random capacity
+                0.6f + randomFloat() * 0.39f,  // random load factor to verify collision resolution
+                key -> T1ha1.hash(key.bytes, key.offset, key.length, seed),
+                randomBigArrays()
+            )
+        ) {
+            // Verify the behaviour of "add" and "find".
+            for (int i = 0; i < keys.length * 10; i++) {
+                BytesRef key = keys[i % keys.length];
+                if (reference.containsKey(key)) {
+                    long expectedOrdinal = reference.get(key);
+                    assertEquals(-1 - expectedOrdinal, hash.add(key));
+                    assertEquals(expectedOrdinal, hash.find(key));
+                } else {
+                    assertEquals(-1, hash.find(key));
+                    reference.put(key, (long) reference.size());
+                    assertEquals((long) reference.get(key), hash.add(key));
+                }
+            }
+
+            // Verify the behaviour of "get".
+            BytesRef scratch = new BytesRef();
+            for (Map.Entry<BytesRef, Long> entry : reference.entrySet()) {
+                assertEquals(entry.getKey(), hash.get(entry.getValue(), scratch));
+            }
+
+            // Verify the behaviour of "size".
+            assertEquals(reference.size(), hash.size());
+        }
+    }
+
+    public void testCollisions() {
+        // All keys share the same hash, so the fingerprint and the hash match and keys must be compared.
+        try (SwissBytesRefHash hash = new SwissBytesRefHash(1, 0.8f, key -> 42L, randomBigArrays())) {
+            final int numKeys = randomIntBetween(20, 200);
+            for (int i = 0; i < numKeys; i++) {
+                BytesRef key = new BytesRef(Integer.toString(i));
+                assertEquals(-1, hash.find(key));
+                assertEquals(i, hash.add(key));
+            }
+            BytesRef scratch = new BytesRef();
+            for (int i = 0; i < numKeys; i++) {
+                BytesRef key = new BytesRef(Integer.toString(i));
+                assertEquals(-1 - i, hash.add(key));
+                assertEquals(i, hash.find(key));
+                assertEquals(key, hash.get(i, scratch));
+            }
+            assertEquals(numKeys, hash.size());
+        }
+    }
+
+    public void testReleasesArraysWhenAllocationFails() {
+        final HierarchyCircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
+            Settings.builder()
+                .put(REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), "14mb")
+                .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+                .build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        final BigArrays bigArrays = new BigArrays(null, breakerService, CircuitBreaker.REQUEST).withCircuitBreaking();
+        // the control bytes and the slots fit in the limit, but not the offsets of the keys
+        expectThrows(CircuitBreakingException.class, () -> new SwissBytesRefHash(1 << 20, bigArrays));
+        assertEquals(0, breakerService.getBreaker(CircuitBreaker.REQUEST).getUsed());
+    }
+}
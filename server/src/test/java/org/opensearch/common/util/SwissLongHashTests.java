@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SwissLongHashTests extends OpenSearchTestCase {
+
+    private BigArrays randomBigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    public void testFuzzy() {
+        Map<Long, Long> reference = new HashMap<>();
+
+        try (
+            SwissLongHash h = new SwissLongHash(
+                randomIntBetween(1, 100),      // random capacity
+                0.6f + randomFloat() * 0.39f,  // random load factor to verify collision resolution
+                randomBigArrays()
+            )
+        ) {
+            // Verify the behaviour of "add" and "find".
+            for (int i = 0; i < (1 << 20); i++) {
+                long key = randomLong() % (1 << 12);  // roughly ~4% unique keys
+                if (reference.containsKey(key)) {
+                    long expectedOrdinal = reference.get(key);
+                    assertEquals(-1 - expectedOrdinal, h.add(key));
+                    assertEquals(expectedOrdinal, h.find(key));
+                } else {
+                    assertEquals(-1, h.find(key));
+                    reference.put(key, (long) reference.size());
+                    assertEquals((long) reference.get(key), h.add(key));
+                }
+            }
+
+            // Verify the behaviour of "get".
+            for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+                assertEquals((long) entry.getKey(), h.get(entry.getValue()));
+            }
+
+            // Verify the behaviour of "size".
+            assertEquals(reference.size(), h.size());
+        }
+    }
+
+    public void testCollisions() {
+        // All keys share the same home group and control byte, so they spill over many groups
+        // and every probe has to verify the keys of all the matching slots.
+        try (SwissLongHash h = new SwissLongHash(1, 0.8f, randomBigArrays()) {
+            @Override
+            long hash(long key) {
+                return 0;
+            }
+        }) {
+            final int numKeys = randomIntBetween(20, 200);
+            for (int i = 0; i < numKeys; i++) {
+                assertEquals(-1, h.find(i));
+                assertEquals(i, h.add(i));
+            }
+            for (int i = 0; i < numKeys; i++) {
+                assertEquals(-1 - i, h.add(i));
+                assertEquals(i, h.find(i));
+                assertEquals(i, h.get(i));
+            }
+            assertEquals(-1, h.find(numKeys));
+            assertEquals(numKeys, h.size());
+        }
+    }
+
+    public void testGroupMatching() {
+        long group = SwissGroups.EMPTY_GROUP;
+        assertEquals(8, Long.bitCount(SwissGroups.matchEmpty(group)));
+        assertEquals(0, SwissGroups.match(group, 0x12));
+
+        group = SwissGroups.set(group, 3, 0x12);
+        group = SwissGroups.set(group, 6, 0x7F);
+        assertEquals(3, SwissGroups.position(SwissGroups.match(group, 0x12)));
+        assertEquals(6, SwissGroups.position(SwissGroups.match(group, 0x7F)));
+        assertEquals(0, SwissGroups.match(group, 0x13));
+        assertEquals(0, SwissGroups.position(SwissGroups.matchEmpty(group)));
+        assertEquals(6, Long.bitCount(SwissGroups.matchEmpty(group)));
+    }
+}
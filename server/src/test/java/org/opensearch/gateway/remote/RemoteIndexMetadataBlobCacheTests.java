@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway.remote;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RemoteIndexMetadataBlobCacheTests extends OpenSearchTestCase {
+
+    public void testPutAndGet() throws Exception {
+        final RemoteIndexMetadataBlobCache cache = new RemoteIndexMetadataBlobCache(createTempDir(), 1024);
+        final BytesReference bytes = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 100)));
+
+        assertNull(cache.get("cluster/index/uuid/metadata__1"));
+        assertEquals(1, cache.stats().getMissCount());
+
+        cache.put("cluster/index/uuid/metadata__1", bytes);
+        assertEquals(bytes, cache.get("cluster/index/uuid/metadata__1"));
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.getCount());
+        assertEquals(bytes.length(), cache.getSizeInBytes());
+
+        cache.invalidate("cluster/index/uuid/metadata__1");
+        assertEquals(1, cache.stats().getInvalidatedCount());
+        assertNull(cache.get("cluster/index/uuid/metadata__1"));
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        final RemoteIndexMetadataBlobCache cache = new RemoteIndexMetadataBlobCache(createTempDir(), 30);
+        cache.put("blob-1", new BytesArray(new byte[10]));
+        cache.put("blob-2", new BytesArray(new byte[10]));
+        cache.put("blob-3", new BytesArray(new byte[10]));
+        // touch the first blob so that the second one is the least recently used
+        assertNotNull(cache.get("blob-1"));
+
+        cache.put("blob-4", new BytesArray(new byte[10]));
+        assertEquals(3, cache.getCount());
+        assertEquals(30, cache.getSizeInBytes());
+        assertNull(cache.get("blob-2"));
+        assertNotNull(cache.get("blob-1"));
+        assertNotNull(cache.get("blob-3"));
+        assertNotNull(cache.get("blob-4"));
+
+        // blobs larger than the cache are never cached
+        cache.put("blob-5", new BytesArray(new byte[31]));
+        assertNull(cache.get("blob-5"));
+        assertEquals(3, cache.getCount());
+    }
+
+    public void testEntriesSurviveRestart() throws Exception {
+        final Path directory = createTempDir();
+        final BytesReference bytes = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 100)));
+        final RemoteIndexMetadataBlobCache cache = new RemoteIndexMetadataBlobCache(directory, 1024);
+        cache.put("blob", bytes);
+        // a write that did not complete before the node stopped
+        Files.write(directory.resolve("partial.tmp"), new byte[] { 1, 2, 3 });
+
+        final RemoteIndexMetadataBlobCache reopened = new RemoteIndexMetadataBlobCache(directory, 1024);
+        assertEquals(1, reopened.getCount());
+        assertEquals(bytes.length(), reopened.getSizeInBytes());
+        assertEquals(bytes, reopened.get("blob"));
+        assertFalse(Files.exists(directory.resolve("partial.tmp")));
+    }
+}
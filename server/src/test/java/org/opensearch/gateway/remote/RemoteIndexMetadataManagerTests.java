@@ -37,6 +37,9 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.CountDownLatch;
 
 import static org.opensearch.gateway.remote.RemoteClusterStateService.FORMAT_PARAMS;
@@ -53,6 +56,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RemoteIndexMetadataManagerTests extends OpenSearchTestCase {
@@ -186,6 +191,91 @@ public class RemoteIndexMetadataManagerTests extends OpenSearchTestCase {
         assertTrue(listener.getFailure() instanceof RemoteStateTransferException);
     }
 
+    public void testCachedReadHitAndMiss() throws Exception {
+        final RemoteIndexMetadataBlobCache blobCache = new RemoteIndexMetadataBlobCache(createTempDir(), 1 << 20);
+        final RemoteIndexMetadataManager cachingManager = new RemoteIndexMetadataManager(
+            clusterSettings,
+            "test-cluster",
+            blobStoreRepository,
+            blobStoreTransferService,
+            threadPool,
+            blobCache
+        );
+        final IndexMetadata indexMetadata = getIndexMetadata(randomAlphaOfLength(10), randomBoolean(), randomAlphaOfLength(10));
+        final String fileName = randomAlphaOfLength(10) + DELIMITER + '2';
+        when(blobStoreTransferService.downloadBlob(anyIterable(), anyString())).thenAnswer(
+            invocation -> INDEX_METADATA_FORMAT.serialize(indexMetadata, fileName, compressor, FORMAT_PARAMS).streamInput()
+        );
+
+        // the first read downloads the blob and caches it
+        assertEquals(indexMetadata, readIndexMetadata(cachingManager, fileName));
+        verify(blobStoreTransferService, times(1)).downloadBlob(anyIterable(), anyString());
+        assertEquals(1, blobCache.stats().getMissCount());
+        assertEquals(0, blobCache.stats().getHitCount());
+        assertEquals(1, blobCache.getCount());
+
+        // the second read is served from the cache
+        assertEquals(indexMetadata, readIndexMetadata(cachingManager, fileName));
+        verify(blobStoreTransferService, times(1)).downloadBlob(anyIterable(), anyString());
+        assertEquals(1, blobCache.stats().getMissCount());
+        assertEquals(1, blobCache.stats().getHitCount());
+    }
+
+    public void testCorruptedCachedBlobFallsBackToBlobStore() throws Exception {
+        final Path cacheDirectory = createTempDir();
+        final RemoteIndexMetadataBlobCache blobCache = new RemoteIndexMetadataBlobCache(cacheDirectory, 1 << 20);
+        final RemoteIndexMetadataManager cachingManager = new RemoteIndexMetadataManager(
+            clusterSettings,
+            "test-cluster",
+            blobStoreRepository,
+            blobStoreTransferService,
+            threadPool,
+            blobCache
+        );
+        final IndexMetadata indexMetadata = getIndexMetadata(randomAlphaOfLength(10), randomBoolean(), randomAlphaOfLength(10));
+        final String fileName = randomAlphaOfLength(10) + DELIMITER + '2';
+        when(blobStoreTransferService.downloadBlob(anyIterable(), anyString())).thenAnswer(
+            invocation -> INDEX_METADATA_FORMAT.serialize(indexMetadata, fileName, compressor, FORMAT_PARAMS).streamInput()
+        );
+        assertEquals(indexMetadata, readIndexMetadata(cachingManager, fileName));
+        assertEquals(1, blobCache.getCount());
+
+        // corrupt the cached blob on disk
+        try (DirectoryStream<Path> cachedFiles = Files.newDirectoryStream(cacheDirectory)) {
+            for (Path cachedFile : cachedFiles) {
+                final byte[] bytes = Files.readAllBytes(cachedFile);
+                final int position = randomIntBetween(0, bytes.length - 1);
+                bytes[position] = (byte) (bytes[position] ^ 0xFF);
+                Files.write(cachedFile, bytes);
+            }
+        }
+
+        // the checksum verification fails, so the blob is invalidated and downloaded again
+        assertEquals(indexMetadata, readIndexMetadata(cachingManager, fileName));
+        verify(blobStoreTransferService, times(2)).downloadBlob(anyIterable(), anyString());
+        assertEquals(1, blobCache.stats().getHitCount());
+        assertEquals(1, blobCache.stats().getInvalidatedCount());
+        assertEquals(1, blobCache.getCount());
+
+        // the cache holds the downloaded blob again
+        assertEquals(indexMetadata, readIndexMetadata(cachingManager, fileName));
+        verify(blobStoreTransferService, times(2)).downloadBlob(anyIterable(), anyString());
+        assertEquals(2, blobCache.stats().getHitCount());
+    }
+
+    private IndexMetadata readIndexMetadata(RemoteIndexMetadataManager manager, String fileName) throws InterruptedException {
+        TestCapturingListener<RemoteReadResult> listener = new TestCapturingListener<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        manager.readAsync(
+            INDEX,
+            new RemoteIndexMetadata(fileName, "cluster-uuid", compressor, null),
+            new LatchedActionListener<>(listener, latch)
+        );
+        latch.await();
+        assertNull(listener.getFailure());
+        return (IndexMetadata) listener.getResult().getObj();
+    }
+
     public void testRemoteIndexMetadataPathTypeSetting() {
         // Assert the default is HASHED_PREFIX
         assertEquals(HASHED_PREFIX.toString(), remoteIndexMetadataManager.getPathTypeSetting().toString());
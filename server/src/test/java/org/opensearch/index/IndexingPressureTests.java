@@ -32,12 +32,18 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.index.stats.IndexingPressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
 public class IndexingPressureTests extends OpenSearchTestCase {
 
     private final Settings settings = Settings.builder()
@@ -170,4 +176,34 @@ public class IndexingPressureTests extends OpenSearchTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testCoordinatingTimeRecorded() throws IOException {
+        IndexingPressure indexingPressure = new IndexingPressure(settings);
+        indexingPressure.recordCoordinatingTime(TimeUnit.MILLISECONDS.toNanos(3));
+        indexingPressure.recordCoordinatingTime(TimeUnit.MILLISECONDS.toNanos(4));
+        IndexingPressureStats stats = indexingPressure.stats();
+        assertEquals(2, stats.getCoordinatingRequests());
+        assertEquals(7, stats.getCoordinatingTimeInMillis());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                IndexingPressureStats deserialized = new IndexingPressureStats(in);
+                assertEquals(2, deserialized.getCoordinatingRequests());
+                assertEquals(7, deserialized.getCoordinatingTimeInMillis());
+            }
+        }
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_3_0);
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_3_0);
+                IndexingPressureStats deserialized = new IndexingPressureStats(in);
+                assertEquals(0, deserialized.getCoordinatingRequests());
+                assertEquals(0, deserialized.getCoordinatingTimeInMillis());
+                assertEquals(stats.getTotalCoordinatingBytes(), deserialized.getTotalCoordinatingBytes());
+            }
+        }
+    }
 }
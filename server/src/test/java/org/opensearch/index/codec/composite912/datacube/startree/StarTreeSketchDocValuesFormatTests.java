@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.composite912.datacube.startree;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.apache.lucene.tests.util.TestUtil;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues;
+
+/**
+ * Star tree doc values Lucene tests for the sketch metrics, which are stored as binary doc values
+ */
+@LuceneTestCase.SuppressSysoutChecks(bugUrl = "we log a lot on purpose")
+public class StarTreeSketchDocValuesFormatTests extends AbstractStarTreeDVFormatTests {
+
+    public StarTreeSketchDocValuesFormatTests(StarTreeFieldConfiguration.StarTreeBuildMode buildMode) {
+        super(buildMode);
+    }
+
+    public void testSketchDocValuesAcrossFlushAndMerge() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        // segment documents as [sndv, dv, field], field being null when the document has no value
+        List<Long[]> segmentDocuments = new ArrayList<>();
+        int numDocs = randomIntBetween(50, 200);
+        for (int i = 0; i < numDocs; i++) {
+            Long[] segmentDocument = new Long[] {
+                (long) random().nextInt(3),
+                (long) random().nextInt(3),
+                random().nextInt(5) == 0 ? null : (long) random().nextInt(50) };
+            Document doc = new Document();
+            doc.add(new SortedNumericDocValuesField("sndv", segmentDocument[0]));
+            doc.add(new SortedNumericDocValuesField("dv", segmentDocument[1]));
+            if (segmentDocument[2] != null) {
+                doc.add(new SortedNumericDocValuesField("field", segmentDocument[2]));
+            }
+            iw.addDocument(doc);
+            segmentDocuments.add(segmentDocument);
+            if (rarely()) {
+                // each flush builds the star-tree of a new segment, the force merge merges their star-trees
+                iw.flush();
+            }
+        }
+        iw.forceMerge(1);
+        iw.close();
+
+        DirectoryReader ir = maybeWrapWithMergingReader(DirectoryReader.open(directory));
+        TestUtil.checkReader(ir);
+        assertEquals(1, ir.leaves().size());
+
+        CardinalityValueAggregator cardinalityValueAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.INTEGER);
+        PercentilesValueAggregator percentilesValueAggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.INTEGER);
+        for (LeafReaderContext context : ir.leaves()) {
+            SegmentReader reader = Lucene.segmentReader(context.reader());
+            CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+            List<CompositeIndexFieldInfo> compositeIndexFields = starTreeDocValuesReader.getCompositeIndexFields();
+
+            for (CompositeIndexFieldInfo compositeIndexFieldInfo : compositeIndexFields) {
+                StarTreeValues starTreeValues = (StarTreeValues) starTreeDocValuesReader.getCompositeIndexValues(compositeIndexFieldInfo);
+                SortedNumericStarTreeValuesIterator sndvIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator("sndv");
+                SortedNumericStarTreeValuesIterator dvIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
+                    .getDimensionValuesIterator("dv");
+                BinaryStarTreeValuesIterator cardinalityIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(
+                    fullyQualifiedFieldNameForStarTreeMetricsDocValues("startree", "field", MetricStat.CARDINALITY.getTypeName())
+                );
+                BinaryStarTreeValuesIterator percentilesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(
+                    fullyQualifiedFieldNameForStarTreeMetricsDocValues("startree", "field", MetricStat.PERCENTILES.getTypeName())
+                );
+
+                int numStarTreeDocs = starTreeValues.getStarTreeDocumentCount();
+                assertTrue(numStarTreeDocs > 0);
+                for (int entryId = 0; entryId < numStarTreeDocs; entryId++) {
+                    // star nodes have no dimension value and aggregate all the values of the dimension
+                    Long sndv = sndvIterator.advanceExact(entryId) ? sndvIterator.nextValue() : null;
+                    Long dv = dvIterator.advanceExact(entryId) ? dvIterator.nextValue() : null;
+
+                    HyperLogLogPlusPlus expectedCardinality = null;
+                    TDigestState expectedPercentiles = null;
+                    for (Long[] segmentDocument : segmentDocuments) {
+                        if ((sndv == null || sndv.equals(segmentDocument[0])) && (dv == null || dv.equals(segmentDocument[1]))) {
+                            expectedCardinality = cardinalityValueAggregator.mergeAggregatedValueAndSegmentValue(
+                                expectedCardinality,
+                                segmentDocument[2]
+                            );
+                            expectedPercentiles = percentilesValueAggregator.mergeAggregatedValueAndSegmentValue(
+                                expectedPercentiles,
+                                segmentDocument[2]
+                            );
+                        }
+                    }
+
+                    if (expectedCardinality == null) {
+                        assertFalse(cardinalityIterator.advanceExact(entryId));
+                        assertFalse(percentilesIterator.advanceExact(entryId));
+                        continue;
+                    }
+                    assertTrue(cardinalityIterator.advanceExact(entryId));
+                    try (
+                        AbstractHyperLogLogPlusPlus cardinality = CardinalityValueAggregator.readSketch(
+                            cardinalityIterator.binaryValue(),
+                            BigArrays.NON_RECYCLING_INSTANCE
+                        )
+                    ) {
+                        assertEquals(expectedCardinality.cardinality(0), cardinality.cardinality(0));
+                    }
+                    assertTrue(percentilesIterator.advanceExact(entryId));
+                    TDigestState percentiles = PercentilesValueAggregator.readSketch(percentilesIterator.binaryValue());
+                    assertEquals(expectedPercentiles.size(), percentiles.size());
+                    assertEquals(expectedPercentiles.getMin(), percentiles.getMin(), 0d);
+                    assertEquals(expectedPercentiles.getMax(), percentiles.getMax(), 0d);
+                }
+            }
+        }
+        ir.close();
+        directory.close();
+    }
+
+    @Override
+    protected XContentBuilder getMapping() throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", "sndv");
+            b.endObject();
+            b.startObject();
+            b.field("name", "dv");
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", "field");
+            b.startArray("stats");
+            b.value("cardinality");
+            b.value("percentiles");
+            b.value("value_count");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject("sndv");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject("dv");
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject("field");
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+}
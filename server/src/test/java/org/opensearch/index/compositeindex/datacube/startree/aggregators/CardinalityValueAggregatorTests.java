@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class CardinalityValueAggregatorTests extends OpenSearchTestCase {
+
+    private final CardinalityValueAggregator aggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.LONG);
+
+    public void testNullValues() {
+        assertNull(aggregator.getIdentityMetricValue());
+        assertNull(aggregator.getInitialAggregatedValueForSegmentDocValue(null));
+        assertNull(aggregator.mergeAggregatedValueAndSegmentValue(null, null));
+        assertNull(aggregator.mergeAggregatedValues(null, null));
+        assertNull(aggregator.getInitialAggregatedValue(null));
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        HyperLogLogPlusPlus sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        assertEquals(1, sketch.cardinality(0));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, 2L));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, 2L));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, null));
+        assertEquals(2, sketch.cardinality(0));
+    }
+
+    public void testMergeAggregatedValues() {
+        HyperLogLogPlusPlus first = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        HyperLogLogPlusPlus second = aggregator.getInitialAggregatedValueForSegmentDocValue(2L);
+        HyperLogLogPlusPlus merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertEquals(2, merged.cardinality(0));
+        assertEquals(1, first.cardinality(0));
+
+        HyperLogLogPlusPlus copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        assertEquals(1, copy.cardinality(0));
+        assertSame(first, aggregator.mergeAggregatedValues(null, first));
+    }
+
+    public void testSerialization() throws IOException {
+        // both the linear counting and the HyperLogLog modes of the sketch are serialized
+        int numValues = randomBoolean() ? randomIntBetween(1, 100) : randomIntBetween(10_000, 50_000);
+        HyperLogLogPlusPlus sketch = null;
+        for (long value = 0; value < numValues; value++) {
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, value);
+        }
+        BytesRef bytes = aggregator.toBytesRef(sketch);
+
+        HyperLogLogPlusPlus read = aggregator.toAggregatedValueType(bytes);
+        assertEquals(sketch.cardinality(0), read.cardinality(0));
+        // the deserialized sketch keeps collecting values
+        aggregator.mergeAggregatedValueAndSegmentValue(read, (long) numValues);
+        aggregator.mergeAggregatedValueAndSegmentValue(sketch, (long) numValues);
+        assertEquals(sketch.cardinality(0), read.cardinality(0));
+
+        try (AbstractHyperLogLogPlusPlus stored = CardinalityValueAggregator.readSketch(bytes, BigArrays.NON_RECYCLING_INSTANCE)) {
+            assertEquals(sketch.precision(), stored.precision());
+        }
+    }
+
+    public void testHashMatchesCardinalityAggregation() {
+        long value = randomLong();
+        assertEquals(BitMixer.mix64(value), new CardinalityValueAggregator(NumberFieldMapper.NumberType.INTEGER).hash(value));
+
+        CardinalityValueAggregator doubleAggregator = new CardinalityValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+        double doubleValue = NumberFieldMapper.NumberType.DOUBLE.toDoubleValue(value);
+        assertEquals(BitMixer.mix64(Double.doubleToLongBits(doubleValue)), doubleAggregator.hash(value));
+    }
+
+    public void testToAggregatedValueTypeFromLong() {
+        expectThrows(UnsupportedOperationException.class, () -> aggregator.toAggregatedValueType(randomLong()));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class PercentilesValueAggregatorTests extends OpenSearchTestCase {
+
+    private final PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.DOUBLE);
+
+    public void testNullValues() {
+        assertNull(aggregator.getIdentityMetricValue());
+        assertNull(aggregator.getInitialAggregatedValueForSegmentDocValue(null));
+        assertNull(aggregator.mergeAggregatedValueAndSegmentValue(null, null));
+        assertNull(aggregator.mergeAggregatedValues(null, null));
+        assertNull(aggregator.getInitialAggregatedValue(null));
+    }
+
+    public void testMergeAggregatedValueAndSegmentValue() {
+        TDigestState sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(1.0));
+        assertEquals(PercentilesValueAggregator.COMPRESSION, sketch.compression(), 0.0);
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, NumericUtils.doubleToSortableLong(3.0)));
+        assertSame(sketch, aggregator.mergeAggregatedValueAndSegmentValue(sketch, null));
+        assertEquals(2, sketch.size());
+        assertEquals(1.0, sketch.getMin(), 0.0);
+        assertEquals(3.0, sketch.getMax(), 0.0);
+    }
+
+    public void testMergeAggregatedValues() {
+        TDigestState first = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(1.0));
+        TDigestState second = aggregator.getInitialAggregatedValueForSegmentDocValue(NumericUtils.doubleToSortableLong(2.0));
+        TDigestState merged = aggregator.mergeAggregatedValues(first, second);
+        assertSame(second, merged);
+        assertEquals(2, merged.size());
+        assertEquals(1, first.size());
+
+        TDigestState copy = aggregator.mergeAggregatedValues(first, null);
+        assertNotSame(first, copy);
+        assertEquals(1, copy.size());
+        assertSame(first, aggregator.mergeAggregatedValues(null, first));
+    }
+
+    public void testSerialization() throws IOException {
+        TDigestState sketch = null;
+        int numValues = randomIntBetween(1, 10_000);
+        for (int i = 0; i < numValues; i++) {
+            sketch = aggregator.mergeAggregatedValueAndSegmentValue(sketch, NumericUtils.doubleToSortableLong(randomDouble()));
+        }
+        BytesRef bytes = aggregator.toBytesRef(sketch);
+
+        TDigestState read = aggregator.toAggregatedValueType(bytes);
+        assertEquals(sketch, read);
+        assertEquals(sketch.quantile(0.5), read.quantile(0.5), 0.0);
+        assertEquals(sketch, PercentilesValueAggregator.readSketch(bytes));
+    }
+
+    public void testToAggregatedValueTypeFromLong() {
+        expectThrows(UnsupportedOperationException.class, () -> aggregator.toAggregatedValueType(randomLong()));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.builder;
+
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.store.Directory;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tests the temporary star-tree document files with sketch metrics, whose documents have a variable size
+ */
+public class DocumentsFileManagerTests extends OpenSearchTestCase {
+
+    private Directory directory;
+    private SegmentWriteState writeState;
+    private StarTreeField starTreeField;
+    private List<MetricAggregatorInfo> metricAggregatorInfos;
+
+    @Before
+    public void setup() throws IOException {
+        directory = newFSDirectory(createTempDir());
+        writeState = BuilderTestsUtils.getWriteState(
+            10,
+            UUID.randomUUID().toString().substring(0, 16).getBytes(StandardCharsets.UTF_8),
+            new FieldInfo[0],
+            directory
+        );
+        starTreeField = new StarTreeField(
+            "test",
+            List.of(new NumericDimension("field1"), new NumericDimension("field3")),
+            List.of(new Metric("field2", List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES, MetricStat.VALUE_COUNT))),
+            new StarTreeFieldConfiguration(1, Set.of(), StarTreeFieldConfiguration.StarTreeBuildMode.OFF_HEAP)
+        );
+        metricAggregatorInfos = List.of(
+            new MetricAggregatorInfo(MetricStat.CARDINALITY, "field2", starTreeField.getName(), NumberFieldMapper.NumberType.LONG),
+            new MetricAggregatorInfo(MetricStat.PERCENTILES, "field2", starTreeField.getName(), NumberFieldMapper.NumberType.LONG),
+            new MetricAggregatorInfo(MetricStat.VALUE_COUNT, "field2", starTreeField.getName(), NumberFieldMapper.NumberType.LONG)
+        );
+    }
+
+    @After
+    public void teardown() throws IOException {
+        directory.close();
+    }
+
+    public void testStarTreeDocsFileManagerReadsVariableSizeDocumentsAcrossFiles() throws IOException {
+        // a threshold of 2 files makes the manager merge its files every time a read closes the current file
+        try (StarTreeDocsFileManager fileManager = new StarTreeDocsFileManager(writeState, starTreeField, metricAggregatorInfos, 2, 2)) {
+            List<StarTreeDocument> writtenDocuments = new ArrayList<>();
+            int numDocs = randomIntBetween(20, 50);
+            for (int docId = 0; docId < numDocs; docId++) {
+                StarTreeDocument starTreeDocument = randomAggregatedDocument();
+                fileManager.writeStarTreeDocument(starTreeDocument, true);
+                writtenDocuments.add(starTreeDocument);
+                if (randomBoolean()) {
+                    int readDocId = randomIntBetween(0, docId);
+                    assertStarTreeDocument(writtenDocuments.get(readDocId), fileManager.readStarTreeDocument(readDocId, true));
+                }
+            }
+            for (int docId = 0; docId < numDocs; docId++) {
+                assertStarTreeDocument(writtenDocuments.get(docId), fileManager.readStarTreeDocument(docId, true));
+                assertArrayEquals(writtenDocuments.get(docId).dimensions, fileManager.readDimensions(docId));
+            }
+        }
+    }
+
+    public void testSegmentDocsFileManagerReadsVariableSizeDocuments() throws IOException {
+        try (SegmentDocsFileManager fileManager = new SegmentDocsFileManager(writeState, starTreeField, metricAggregatorInfos, 2)) {
+            List<StarTreeDocument> writtenDocuments = new ArrayList<>();
+            int numDocs = randomIntBetween(20, 50);
+            for (int docId = 0; docId < numDocs; docId++) {
+                StarTreeDocument starTreeDocument = randomAggregatedDocument();
+                fileManager.writeStarTreeDocument(starTreeDocument, true);
+                writtenDocuments.add(starTreeDocument);
+            }
+            List<Integer> docIds = new ArrayList<>();
+            for (int docId = 0; docId < numDocs; docId++) {
+                docIds.add(docId);
+            }
+            Collections.shuffle(docIds, random());
+            for (int docId : docIds) {
+                assertStarTreeDocument(writtenDocuments.get(docId), fileManager.readStarTreeDocument(docId, true));
+                assertArrayEquals(writtenDocuments.get(docId).dimensions, fileManager.readDimensions(docId));
+            }
+        }
+    }
+
+    private StarTreeDocument randomAggregatedDocument() {
+        CardinalityValueAggregator cardinalityValueAggregator = (CardinalityValueAggregator) metricAggregatorInfos.get(0)
+            .getValueAggregators();
+        PercentilesValueAggregator percentilesValueAggregator = (PercentilesValueAggregator) metricAggregatorInfos.get(1)
+            .getValueAggregators();
+        // documents without values hold no sketch, large ones switch the HyperLogLog++ sketch out of linear counting
+        int numValues = randomBoolean() ? 0 : rarely() ? randomIntBetween(5_000, 10_000) : randomIntBetween(1, 100);
+        HyperLogLogPlusPlus cardinality = null;
+        TDigestState percentiles = null;
+        for (int i = 0; i < numValues; i++) {
+            long value = randomLong();
+            cardinality = cardinalityValueAggregator.mergeAggregatedValueAndSegmentValue(cardinality, value);
+            percentiles = percentilesValueAggregator.mergeAggregatedValueAndSegmentValue(percentiles, value);
+        }
+        Long[] dimensions = new Long[] { randomBoolean() ? null : randomLong(), randomLong() };
+        return new StarTreeDocument(dimensions, new Object[] { cardinality, percentiles, (long) numValues });
+    }
+
+    private static void assertStarTreeDocument(StarTreeDocument expected, StarTreeDocument actual) {
+        assertArrayEquals(expected.dimensions, actual.dimensions);
+        if (expected.metrics[0] == null) {
+            assertNull(actual.metrics[0]);
+        } else {
+            HyperLogLogPlusPlus expectedCardinality = (HyperLogLogPlusPlus) expected.metrics[0];
+            assertEquals(expectedCardinality.cardinality(0), ((HyperLogLogPlusPlus) actual.metrics[0]).cardinality(0));
+        }
+        assertEquals(expected.metrics[1], actual.metrics[1]);
+        assertEquals(expected.metrics[2], actual.metrics[2]);
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.builder;
+
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.util.Counter;
+import org.opensearch.index.codec.composite.LuceneDocValuesConsumerFactory;
+import org.opensearch.index.codec.composite.composite912.Composite912DocValuesFormat;
+import org.opensearch.index.compositeindex.CompositeIndexConstants;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.PercentilesValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getSortedNumericMock;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues;
+
+public class StarTreeBuilderSketchMetricTests extends StarTreeBuilderTestCase {
+
+    private final CardinalityValueAggregator cardinalityValueAggregator = new CardinalityValueAggregator(
+        NumberFieldMapper.NumberType.DOUBLE
+    );
+    private final PercentilesValueAggregator percentilesValueAggregator = new PercentilesValueAggregator(
+        NumberFieldMapper.NumberType.DOUBLE
+    );
+
+    public StarTreeBuilderSketchMetricTests(StarTreeFieldConfiguration.StarTreeBuildMode buildMode) {
+        super(buildMode);
+    }
+
+    public void testFlushFlowWithSketchMetrics() throws IOException {
+        List<SegmentDocument> segmentDocuments = randomSegmentDocuments();
+        List<Long> dimList = new ArrayList<>();
+        List<Long> dimList2 = new ArrayList<>();
+        List<Integer> docsWithField = new ArrayList<>();
+        List<Long> metricsList = new ArrayList<>();
+        List<Integer> metricsWithField = new ArrayList<>();
+        for (int docId = 0; docId < segmentDocuments.size(); docId++) {
+            SegmentDocument segmentDocument = segmentDocuments.get(docId);
+            dimList.add(segmentDocument.field1);
+            dimList2.add(segmentDocument.field3);
+            docsWithField.add(docId);
+            if (segmentDocument.field2 != null) {
+                metricsList.add(getLongFromDouble(segmentDocument.field2));
+                metricsWithField.add(docId);
+            }
+        }
+
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        SequentialDocValuesIterator[] dimDvs = {
+            new SequentialDocValuesIterator(new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField))),
+            new SequentialDocValuesIterator(new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList2, docsWithField))) };
+        // each metric of the star-tree reads the values of the field with its own iterator
+        List<SequentialDocValuesIterator> metricDvs = List.of(
+            new SequentialDocValuesIterator(new SortedNumericStarTreeValuesIterator(getSortedNumericMock(metricsList, metricsWithField))),
+            new SequentialDocValuesIterator(new SortedNumericStarTreeValuesIterator(getSortedNumericMock(metricsList, metricsWithField)))
+        );
+
+        writeState = getWriteState(segmentDocuments.size(), writeState.segmentInfo.getId());
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        Iterator<StarTreeDocument> starTreeDocumentIterator = builder.sortAndAggregateSegmentDocuments(dimDvs, metricDvs);
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder.build(starTreeDocumentIterator, new AtomicInteger(), docValuesConsumer);
+
+        assertSketches(builder.getStarTreeDocuments(), segmentDocuments);
+    }
+
+    public void testMergeFlowWithSketchMetrics() throws IOException {
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        List<SegmentDocument> segmentDocuments = randomSegmentDocuments();
+        List<SegmentDocument> segmentDocuments2 = randomSegmentDocuments();
+        StarTreeValues starTreeValues = getStarTreeValues(segmentDocuments);
+        StarTreeValues starTreeValues2 = getStarTreeValues(segmentDocuments2);
+
+        writeState = getWriteState(segmentDocuments.size() + segmentDocuments2.size(), writeState.segmentInfo.getId());
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        Iterator<StarTreeDocument> starTreeDocumentIterator = builder.mergeStarTrees(List.of(starTreeValues, starTreeValues2));
+        builder.build(starTreeDocumentIterator, new AtomicInteger(), docValuesConsumer);
+
+        List<SegmentDocument> allSegmentDocuments = new ArrayList<>(segmentDocuments);
+        allSegmentDocuments.addAll(segmentDocuments2);
+        assertSketches(builder.getStarTreeDocuments(), allSegmentDocuments);
+    }
+
+    /**
+     * Returns the star-tree values of a segment holding the given documents, whose sketches are stored as binary doc values
+     */
+    private StarTreeValues getStarTreeValues(List<SegmentDocument> segmentDocuments) throws IOException {
+        // aggregate the documents of each dimension values the way the star-tree of the segment would
+        Map<List<Long>, Object[]> aggregatedMetrics = new TreeMap<>((a, b) -> {
+            int compare = Long.compare(a.get(0), b.get(0));
+            return compare != 0 ? compare : Long.compare(a.get(1), b.get(1));
+        });
+        for (SegmentDocument segmentDocument : segmentDocuments) {
+            Object[] metrics = aggregatedMetrics.computeIfAbsent(
+                List.of(segmentDocument.field1, segmentDocument.field3),
+                key -> new Object[2]
+            );
+            Long value = segmentDocument.field2 == null ? null : getLongFromDouble(segmentDocument.field2);
+            metrics[0] = cardinalityValueAggregator.mergeAggregatedValueAndSegmentValue((HyperLogLogPlusPlus) metrics[0], value);
+            metrics[1] = percentilesValueAggregator.mergeAggregatedValueAndSegmentValue((TDigestState) metrics[1], value);
+        }
+
+        List<Long> dimList = new ArrayList<>();
+        List<Long> dimList2 = new ArrayList<>();
+        List<Integer> docsWithField = new ArrayList<>();
+        BinaryDocValuesWriterWrapper cardinalityWriter = new BinaryDocValuesWriterWrapper(
+            StarTreeUtils.getFieldInfo("cardinality", DocValuesType.BINARY, 0),
+            Counter.newCounter()
+        );
+        BinaryDocValuesWriterWrapper percentilesWriter = new BinaryDocValuesWriterWrapper(
+            StarTreeUtils.getFieldInfo("percentiles", DocValuesType.BINARY, 1),
+            Counter.newCounter()
+        );
+        int docId = 0;
+        for (Map.Entry<List<Long>, Object[]> entry : aggregatedMetrics.entrySet()) {
+            dimList.add(entry.getKey().get(0));
+            dimList2.add(entry.getKey().get(1));
+            docsWithField.add(docId);
+            if (entry.getValue()[0] != null) {
+                cardinalityWriter.addValue(docId, cardinalityValueAggregator.toBytesRef((HyperLogLogPlusPlus) entry.getValue()[0]));
+                percentilesWriter.addValue(docId, percentilesValueAggregator.toBytesRef((TDigestState) entry.getValue()[1]));
+            }
+            docId++;
+        }
+
+        Map<String, Supplier<StarTreeValuesIterator>> dimDocIdSetIterators = Map.of(
+            "field1",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField)),
+            "field3",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList2, docsWithField))
+        );
+        Map<String, Supplier<StarTreeValuesIterator>> metricDocIdSetIterators = new LinkedHashMap<>();
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(compositeField.getName(), "field2", MetricStat.CARDINALITY.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(cardinalityWriter.getDocValues())
+        );
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(compositeField.getName(), "field2", MetricStat.PERCENTILES.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(percentilesWriter.getDocValues())
+        );
+        return new StarTreeValues(
+            compositeField,
+            null,
+            dimDocIdSetIterators,
+            metricDocIdSetIterators,
+            Map.of(CompositeIndexConstants.SEGMENT_DOCS_COUNT, String.valueOf(aggregatedMetrics.size())),
+            null
+        );
+    }
+
+    /**
+     * Asserts that the sketches of each star-tree document, including the ones of star nodes, hold the values of the
+     * segment documents matching its dimension values
+     */
+    private void assertSketches(List<StarTreeDocument> starTreeDocuments, List<SegmentDocument> segmentDocuments) {
+        assertFalse(starTreeDocuments.isEmpty());
+        for (StarTreeDocument starTreeDocument : starTreeDocuments) {
+            HyperLogLogPlusPlus expectedCardinality = null;
+            TDigestState expectedPercentiles = null;
+            for (SegmentDocument segmentDocument : segmentDocuments) {
+                if ((starTreeDocument.dimensions[0] == null || starTreeDocument.dimensions[0] == segmentDocument.field1)
+                    && (starTreeDocument.dimensions[1] == null || starTreeDocument.dimensions[1] == segmentDocument.field3)) {
+                    Long value = segmentDocument.field2 == null ? null : getLongFromDouble(segmentDocument.field2);
+                    expectedCardinality = cardinalityValueAggregator.mergeAggregatedValueAndSegmentValue(expectedCardinality, value);
+                    expectedPercentiles = percentilesValueAggregator.mergeAggregatedValueAndSegmentValue(expectedPercentiles, value);
+                }
+            }
+            if (expectedCardinality == null) {
+                assertNull(starTreeDocument.metrics[0]);
+                assertNull(starTreeDocument.metrics[1]);
+                continue;
+            }
+            assertEquals(expectedCardinality.cardinality(0), ((HyperLogLogPlusPlus) starTreeDocument.metrics[0]).cardinality(0));
+            TDigestState percentiles = (TDigestState) starTreeDocument.metrics[1];
+            assertEquals(expectedPercentiles.size(), percentiles.size());
+            assertEquals(expectedPercentiles.getMin(), percentiles.getMin(), 0);
+            assertEquals(expectedPercentiles.getMax(), percentiles.getMax(), 0);
+        }
+    }
+
+    private static List<SegmentDocument> randomSegmentDocuments() {
+        List<SegmentDocument> segmentDocuments = new ArrayList<>();
+        int numDocs = randomIntBetween(5, 50);
+        for (int i = 0; i < numDocs; i++) {
+            Double value = randomBoolean() ? null : (double) randomIntBetween(0, 20);
+            segmentDocuments.add(new SegmentDocument(randomLongBetween(0, 3), randomLongBetween(0, 3), value));
+        }
+        return segmentDocuments;
+    }
+
+    private StarTreeField getStarTreeFieldWithSketchMetrics() {
+        // a single max leaf doc makes the builder generate star-tree documents for star nodes from the written ones
+        return new StarTreeField(
+            "sf",
+            List.of(new NumericDimension("field1"), new NumericDimension("field3")),
+            List.of(new Metric("field2", List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES))),
+            new StarTreeFieldConfiguration(1, new HashSet<>(), getBuildMode())
+        );
+    }
+
+    private static class SegmentDocument {
+        private final long field1;
+        private final long field3;
+        private final Double field2;
+
+        SegmentDocument(long field1, long field3, Double field2) {
+            this.field1 = field1;
+            this.field3 = field3;
+            this.field2 = field2;
+        }
+    }
+}
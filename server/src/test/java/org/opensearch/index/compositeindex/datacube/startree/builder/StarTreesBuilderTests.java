@@ -21,6 +21,7 @@ import org.apache.lucene.util.InfoStream;
 import org.apache.lucene.util.Version;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.StarTreeMapper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -30,12 +31,25 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -133,6 +147,97 @@ public class StarTreesBuilderTests extends OpenSearchTestCase {
         verifyNoInteractions(docValuesProducer);
     }
 
+    public void test_buildDuringMergeConstructsConcurrently() throws Exception {
+        Map<String, List<StarTreeValues>> starTreeValuesSubsPerField = new LinkedHashMap<>();
+        List<StarTreeBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            StarTreeValues starTreeValues = mock(StarTreeValues.class);
+            when(starTreeValues.getStarTreeField()).thenReturn(starTreeField);
+            starTreeValuesSubsPerField.put("star_tree_" + i, List.of(starTreeValues));
+            builders.add(mock(StarTreeBuilder.class));
+        }
+        StarTreesBuilder starTreesBuilder = newStarTreesBuilder(builders);
+        DocValuesConsumer docValuesConsumer = mock(DocValuesConsumer.class);
+
+        AtomicInteger executedConstructions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            starTreesBuilder.buildDuringMerge(metaOut, dataOut, starTreeValuesSubsPerField, docValuesConsumer, construction -> {
+                executedConstructions.incrementAndGet();
+                executor.execute(construction);
+            });
+        } finally {
+            terminate(executor);
+        }
+
+        // the first star tree is constructed by the calling thread
+        assertEquals(2, executedConstructions.get());
+        InOrder inOrder = inOrder(builders.toArray());
+        for (StarTreeBuilder builder : builders) {
+            inOrder.verify(builder).serialize(any(AtomicInteger.class), eq(docValuesConsumer));
+        }
+        int i = 0;
+        for (StarTreeBuilder builder : builders) {
+            verify(builder).construct(starTreeValuesSubsPerField.get("star_tree_" + i++));
+            verify(builder).close();
+        }
+    }
+
+    public void test_buildDuringMergeWithFailedConstruction() throws Exception {
+        Map<String, List<StarTreeValues>> starTreeValuesSubsPerField = new LinkedHashMap<>();
+        List<StarTreeBuilder> builders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            StarTreeValues starTreeValues = mock(StarTreeValues.class);
+            when(starTreeValues.getStarTreeField()).thenReturn(starTreeField);
+            starTreeValuesSubsPerField.put("star_tree_" + i, List.of(starTreeValues));
+            builders.add(mock(StarTreeBuilder.class));
+        }
+        doThrow(new IOException("construction failed")).when(builders.get(1)).construct(any());
+        StarTreesBuilder starTreesBuilder = newStarTreesBuilder(builders);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            IOException e = expectThrows(
+                IOException.class,
+                () -> starTreesBuilder.buildDuringMerge(
+                    metaOut,
+                    dataOut,
+                    starTreeValuesSubsPerField,
+                    mock(DocValuesConsumer.class),
+                    executor
+                )
+            );
+            assertEquals("construction failed", e.getMessage());
+        } finally {
+            terminate(executor);
+        }
+
+        verify(builders.get(0)).serialize(any(AtomicInteger.class), any(DocValuesConsumer.class));
+        verify(builders.get(1), never()).serialize(any(AtomicInteger.class), any(DocValuesConsumer.class));
+        verify(builders.get(2), never()).serialize(any(AtomicInteger.class), any(DocValuesConsumer.class));
+        for (StarTreeBuilder builder : builders) {
+            verify(builder).construct(any());
+            verify(builder).close();
+        }
+    }
+
+    private StarTreesBuilder newStarTreesBuilder(List<StarTreeBuilder> builders) {
+        when(mapperService.getCompositeFieldTypes()).thenReturn(new HashSet<>());
+        Iterator<StarTreeBuilder> iterator = builders.iterator();
+        return new StarTreesBuilder(segmentWriteState, mapperService, new AtomicInteger()) {
+            @Override
+            StarTreeBuilder getStarTreeBuilder(
+                IndexOutput metaOut,
+                IndexOutput dataOut,
+                StarTreeField starTreeField,
+                SegmentWriteState state,
+                MapperService mapperService
+            ) {
+                return iterator.next();
+            }
+        };
+    }
+
     @Override
     public void tearDown() throws Exception {
         super.tearDown();
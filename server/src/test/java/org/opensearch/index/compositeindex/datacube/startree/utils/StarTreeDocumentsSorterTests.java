@@ -195,6 +195,73 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         assertArrayEquals(new int[] { 3, 4, 2, 1, 0 }, sortedDocIds);
     }
 
+    public void testMergeSortedRuns() {
+        // each run is sorted, as the star-tree documents of a segment
+        int[] runStarts = { 0, 3, 6 };
+        Map<Integer, Long[]> runs = new HashMap<>();
+        runs.put(0, testData.get(7));
+        runs.put(1, testData.get(5));
+        runs.put(2, testData.get(6));
+        runs.put(3, testData.get(4));
+        runs.put(4, testData.get(2));
+        runs.put(5, testData.get(0));
+        runs.put(6, testData.get(1));
+        runs.put(7, testData.get(3));
+        runs.put(8, testData.get(9));
+        runs.put(9, testData.get(8));
+
+        int[] sortedDocIds = StarTreeDocumentsSorter.merge(runStarts, 10, runs::get, comparatorList);
+        assertArrayEquals(new int[] { 0, 3, 6, 1, 4, 7, 8, 2, 5, 9 }, sortedDocIds);
+    }
+
+    public void testMergeSortedRuns_EmptyRuns() {
+        int[] runStarts = { 0, 0, 1, 1 };
+        assertArrayEquals(new int[] { 1, 0 }, StarTreeDocumentsSorter.merge(runStarts, 2, testData::get, comparatorList));
+        assertArrayEquals(new int[] {}, StarTreeDocumentsSorter.merge(new int[] { 0, 0 }, 0, testData::get, comparatorList));
+        assertArrayEquals(new int[] {}, StarTreeDocumentsSorter.merge(new int[] {}, 0, testData::get, comparatorList));
+    }
+
+    public void testRandomMergeSortedRuns() {
+        int numRuns = randomIntBetween(1, 10);
+        int numDimensions = randomIntBetween(1, 10);
+        List<Comparator<Long>> comparatorList = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparatorList.add(
+                randomBoolean() ? new NumericDimension("field").comparator() : new UnsignedLongDimension("field").comparator()
+            );
+        }
+
+        List<Long[]> testData = new ArrayList<>();
+        int[] runStarts = new int[numRuns];
+        for (int run = 0; run < numRuns; run++) {
+            runStarts[run] = testData.size();
+            List<Long[]> runData = new ArrayList<>();
+            int numDocs = randomIntBetween(0, 100);
+            for (int i = 0; i < numDocs; i++) {
+                Long[] dimensions = new Long[numDimensions];
+                for (int j = 0; j < numDimensions; j++) {
+                    dimensions[j] = randomBoolean() ? null : randomLongBetween(-5, 5);
+                }
+                runData.add(dimensions);
+            }
+            runData.sort((dimensions1, dimensions2) -> StarTreeDocumentsSorter.compare(dimensions1, dimensions2, comparatorList));
+            testData.addAll(runData);
+        }
+
+        int[] sortedDocIds = StarTreeDocumentsSorter.merge(runStarts, testData.size(), testData::get, comparatorList);
+
+        assertEquals(testData.size(), sortedDocIds.length);
+        assertEquals(testData.size(), Arrays.stream(sortedDocIds).distinct().count());
+        for (int i = 1; i < sortedDocIds.length; i++) {
+            Long[] prev = testData.get(sortedDocIds[i - 1]);
+            Long[] curr = testData.get(sortedDocIds[i]);
+            assertTrue(
+                "Merge error, Prev : " + Arrays.toString(prev) + " :: Curr : " + Arrays.toString(curr),
+                StarTreeDocumentsSorter.compare(prev, curr, comparatorList) <= 0
+            );
+        }
+    }
+
     public void testTheRandomSort() {
         int i = 0;
         while (i < 10) {
@@ -12,6 +12,8 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Map;
+
 public class MergedSegmentTransferTrackerTests extends OpenSearchTestCase {
 
     private MergedSegmentTransferTracker tracker;
@@ -78,4 +80,24 @@ public class MergedSegmentTransferTrackerTests extends OpenSearchTestCase {
         tracker.addTotalBytesSent(500);
         assertEquals(1500, tracker.stats().getTotalSentSize().getBytes());
     }
+
+    public void testPendingBytesPerReplica() {
+        assertTrue(tracker.pendingBytesPerReplica().isEmpty());
+        tracker.addPendingBytes("replica-1", 100);
+        tracker.addPendingBytes("replica-1", 50);
+        tracker.addPendingBytes("replica-2", 10);
+        tracker.addPendingBytes("replica-3", 0);
+        assertEquals(Map.of("replica-1", 150L, "replica-2", 10L), tracker.pendingBytesPerReplica());
+        assertEquals(160, tracker.stats().getPendingSize().getBytes());
+
+        tracker.removePendingBytes("replica-1", 120);
+        tracker.removePendingBytes("replica-2", 10);
+        tracker.removePendingBytes("replica-3", 10);
+        assertEquals(Map.of("replica-1", 30L), tracker.pendingBytesPerReplica());
+        assertEquals(30, tracker.stats().getPendingSize().getBytes());
+
+        tracker.removePendingBytes("replica-1", 40);
+        assertTrue(tracker.pendingBytesPerReplica().isEmpty());
+        assertEquals(0, tracker.stats().getPendingSize().getBytes());
+    }
 }
@@ -31,6 +31,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         assertEquals(0, stats.getTotalSendTime().millis());
         assertEquals(0, stats.getTotalReceiveTime().millis());
         assertEquals(0, stats.getOngoingCount());
+        assertEquals(0, stats.getPendingSize().getBytes());
     }
 
     public void testAdd() {
@@ -69,8 +70,11 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         MergedSegmentWarmerStats stats2 = new MergedSegmentWarmerStats();
         stats2.add(3, 50, 1, 512, 1024, 25, 30, 1);
 
+        stats2.addPendingBytes(256);
+
         stats1.add(stats2);
         assertEquals(4, stats1.getOngoingCount());
+        assertEquals(256, stats1.getPendingSize().getBytes());
     }
 
     public void testAddTotals() {
@@ -101,6 +105,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
     public void testSerialization() throws IOException {
         MergedSegmentWarmerStats original = new MergedSegmentWarmerStats();
         original.add(5, 100, 2, 1024, 2048, 50, 75, 3);
+        original.addPendingBytes(128);
 
         BytesStreamOutput out = new BytesStreamOutput();
         original.writeTo(out);
@@ -117,6 +122,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         assertEquals(original.getTotalSendTime().millis(), deserialized.getTotalSendTime().millis());
         assertEquals(original.getTotalReceiveTime().millis(), deserialized.getTotalReceiveTime().millis());
         assertEquals(original.getOngoingCount(), deserialized.getOngoingCount());
+        assertEquals(original.getPendingSize(), deserialized.getPendingSize());
     }
 
     public void testToXContent() throws IOException {
@@ -138,6 +144,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("total_send_time_millis"));
         assertTrue(json.contains("total_receive_time_millis"));
         assertTrue(json.contains("ongoing_count"));
+        assertTrue(json.contains("pending_bytes"));
     }
 
     public void testGetters() {
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.directory;
+
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakFilters;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Constants;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.utils.TransferManager;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
+public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
+
+    private static final long BLOCK_SIZE = new ByteSizeValue(8, ByteSizeUnit.MB).getBytes();
+    private static final long LARGE_INDEX_FILE_SIZE = RemoteSnapshotDirectory.MAX_INDEX_FILE_PREFETCH_SIZE.getBytes() + 1;
+
+    private TransferManager transferManager;
+    private Path path;
+
+    @Before
+    public void init() {
+        assumeFalse("Awaiting Windows fix https://github.com/opensearch-project/OpenSearch/issues/5396", Constants.WINDOWS);
+        transferManager = mock(TransferManager.class);
+        path = createTempDir("RemoteSnapshotDirectoryTests");
+    }
+
+    public void testIsStructuralFile() {
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("segments_2"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0.si"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0.fnm"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0.cfe"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0_Lucene90_0.tmd"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0_Lucene90_0.tip"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0.kdm"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0.kdi"));
+        assertTrue(RemoteSnapshotDirectory.isStructuralFile("_0_Lucene90_0.dvm"));
+
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("_0.cfs"));
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("_0_Lucene90_0.tim"));
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("_0_Lucene90_0.doc"));
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("_0.kdd"));
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("_0.fdt"));
+        assertFalse(RemoteSnapshotDirectory.isStructuralFile("write.lock"));
+    }
+
+    public void testShouldPrefetchCapsTermsAndPointsIndices() {
+        final long maxSize = RemoteSnapshotDirectory.MAX_INDEX_FILE_PREFETCH_SIZE.getBytes();
+        assertTrue(RemoteSnapshotDirectory.shouldPrefetch("_0_Lucene90_0.tip", maxSize));
+        assertTrue(RemoteSnapshotDirectory.shouldPrefetch("_0.kdi", maxSize));
+        assertFalse(RemoteSnapshotDirectory.shouldPrefetch("_0_Lucene90_0.tip", maxSize + 1));
+        assertFalse(RemoteSnapshotDirectory.shouldPrefetch("_0.kdi", maxSize + 1));
+        // The other structural files don't grow with the data and are not capped
+        assertTrue(RemoteSnapshotDirectory.shouldPrefetch("_0.fnm", maxSize + 1));
+        assertFalse(RemoteSnapshotDirectory.shouldPrefetch("_0.fnm", 0));
+        assertFalse(RemoteSnapshotDirectory.shouldPrefetch("_0_Lucene90_0.tim", 1));
+    }
+
+    public void testPrefetchStructuralFiles() throws IOException {
+        when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[1]));
+        try (RemoteSnapshotDirectory directory = newDirectory()) {
+            directory.prefetchStructuralFiles(OpenSearchExecutors.newDirectExecutorService());
+        }
+
+        verify(transferManager).fetchBlob(argThat(request -> request.getFileName().startsWith("segments_2")));
+        verify(transferManager).fetchBlob(argThat(request -> request.getFileName().startsWith("_0.si")));
+        verify(transferManager).fetchBlob(argThat(request -> request.getFileName().startsWith("_0.kdi")));
+        verify(transferManager, never()).fetchBlob(argThat(request -> request.getFileName().startsWith("_0.fnm")));
+        verify(transferManager, never()).fetchBlob(argThat(request -> request.getFileName().startsWith("_0_Lucene90_0.tim")));
+        verify(transferManager, never()).fetchBlob(argThat(request -> request.getFileName().startsWith("_0_Lucene90_0.tip")));
+    }
+
+    public void testCloseCancelsPrefetches() throws IOException {
+        final ExecutorService executor = mock(ExecutorService.class);
+        final Future<?> future = mock(Future.class);
+        doReturn(future).when(executor).submit(any(Runnable.class));
+
+        final RemoteSnapshotDirectory directory = newDirectory();
+        directory.prefetchStructuralFiles(executor);
+        verify(executor, times(3)).submit(any(Runnable.class));
+        verify(future, never()).cancel(false);
+
+        directory.close();
+        verify(future, times(3)).cancel(false);
+    }
+
+    public void testFactoryPrefetchesWhenEnabled() throws IOException {
+        final ExecutorService remoteRecoveryExecutor = newDirectoryFromFactory(true);
+        verify(remoteRecoveryExecutor, times(3)).submit(any(Runnable.class));
+    }
+
+    public void testFactoryDoesNotPrefetchByDefault() throws IOException {
+        final ExecutorService remoteRecoveryExecutor = newDirectoryFromFactory(false);
+        verify(remoteRecoveryExecutor, never()).submit(any(Runnable.class));
+    }
+
+    private ExecutorService newDirectoryFromFactory(boolean prefetch) throws IOException {
+        final BlobStoreRepository repository = mock(BlobStoreRepository.class);
+        final BlobContainer shardContainer = mock(BlobContainer.class);
+        when(repository.shardContainer(any(), eq(0))).thenReturn(shardContainer);
+        when(repository.loadShardSnapshot(eq(shardContainer), any(SnapshotId.class))).thenReturn(newSnapshot());
+        final RepositoriesService repositoriesService = mock(RepositoriesService.class);
+        when(repositoriesService.repository("repo")).thenReturn(repository);
+
+        final ExecutorService remoteRecoveryExecutor = mock(ExecutorService.class);
+        doReturn(mock(Future.class)).when(remoteRecoveryExecutor).submit(any(Runnable.class));
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(ThreadPool.Names.SNAPSHOT)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY)).thenReturn(remoteRecoveryExecutor);
+
+        final Settings.Builder settings = Settings.builder()
+            .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), "repo")
+            .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), "index-id")
+            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), "snapshot")
+            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), "snapshot-uuid");
+        if (prefetch) {
+            settings.put(IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_STRUCTURAL_FILES.getKey(), true);
+        }
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("index", settings.build());
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final Path shardDataPath = path.resolve(shardId.getIndex().getUUID()).resolve("0");
+        final ShardPath shardPath = new ShardPath(false, shardDataPath, shardDataPath, shardId);
+
+        final RemoteSnapshotDirectoryFactory factory = new RemoteSnapshotDirectoryFactory(
+            () -> repositoriesService,
+            threadPool,
+            mock(FileCache.class)
+        );
+        try (Directory directory = factory.newDirectory(indexSettings, shardPath)) {
+            assertTrue(directory instanceof RemoteSnapshotDirectory);
+        }
+        return remoteRecoveryExecutor;
+    }
+
+    private RemoteSnapshotDirectory newDirectory() throws IOException {
+        return new RemoteSnapshotDirectory(newSnapshot(), FSDirectory.open(path), transferManager);
+    }
+
+    /**
+     * Returns a snapshot of three structural files to prefetch, a virtual file, a terms dictionary and a terms index over the cap.
+     */
+    private static BlobStoreIndexShardSnapshot newSnapshot() {
+        final List<BlobStoreIndexShardSnapshot.FileInfo> files = List.of(
+            fileInfo("__segments", "segments_2", 1024),
+            fileInfo("__si", "_0.si", 512),
+            fileInfo("__kdi", "_0.kdi", 2048),
+            fileInfo(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX + "fnm", "_0.fnm", 256),
+            fileInfo("__tim", "_0_Lucene90_0.tim", 4096),
+            fileInfo("__tip", "_0_Lucene90_0.tip", LARGE_INDEX_FILE_SIZE)
+        );
+        return new BlobStoreIndexShardSnapshot("snapshot", 0, files, 0, 0, 0, 0);
+    }
+
+    private static BlobStoreIndexShardSnapshot.FileInfo fileInfo(String name, String physicalName, long length) {
+        return new BlobStoreIndexShardSnapshot.FileInfo(
+            name,
+            new StoreFileMetadata(physicalName, length, "", Version.LATEST),
+            new ByteSizeValue(BLOCK_SIZE)
+        );
+    }
+}
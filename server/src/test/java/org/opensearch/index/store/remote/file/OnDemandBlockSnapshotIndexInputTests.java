@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +103,32 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testPrefetchBlocks() throws IOException {
+        final long blockSize = new ByteSizeValue(4, ByteSizeUnit.KB).getBytes();
+        final long fileSize = new ByteSizeValue(15, ByteSizeUnit.KB).getBytes();
+        when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
+        try (
+            FSDirectory directory = new MMapDirectory(path, lockFactory);
+            OnDemandBlockSnapshotIndexInput indexInput = new OnDemandBlockSnapshotIndexInput(
+                AbstractBlockIndexInput.builder()
+                    .resourceDescription(RESOURCE_DESCRIPTION)
+                    .offset(BLOCK_SNAPSHOT_FILE_OFFSET)
+                    .length(fileSize)
+                    .blockSizeShift((int) (Math.log(blockSize) / Math.log(2)))
+                    .isClone(IS_CLONE),
+                new BlobStoreIndexShardSnapshot.FileInfo(FILE_NAME, new StoreFileMetadata(FILE_NAME, fileSize, "", Version.LATEST), null),
+                directory,
+                transferManager
+            )
+        ) {
+            indexInput.prefetchBlocks();
+        }
+
+        // Verify every block of the file was fetched, the last one being shorter
+        verify(transferManager, times(3)).fetchBlob(argThat(request -> request.getBlobLength() == blockSize));
+        verify(transferManager).fetchBlob(argThat(request -> request.getBlobLength() == fileSize - 3 * blockSize));
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
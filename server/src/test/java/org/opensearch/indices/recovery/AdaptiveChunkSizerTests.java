@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AdaptiveChunkSizerTests extends OpenSearchTestCase {
+
+    private static final long RTT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public void testGrowsWhileLatencyBound() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final int maxConcurrentChunks = between(1, 5);
+        final AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(1024, 4096, 1 << 20, maxConcurrentChunks, nanoTime::get);
+        int previousChunkSize = chunkSizer.chunkSize();
+        // the round-trip time doesn't depend on the chunk size, so the delivery rate grows with it
+        for (int round = 0; round < 8; round++) {
+            sendRound(chunkSizer, nanoTime, maxConcurrentChunks, RTT_NANOS);
+            sendRound(chunkSizer, nanoTime, maxConcurrentChunks, RTT_NANOS);
+            final int chunkSize = chunkSizer.chunkSize();
+            assertEquals(Math.min(1 << 20, previousChunkSize * 2), chunkSize);
+            previousChunkSize = chunkSize;
+        }
+        assertEquals(1 << 20, chunkSizer.chunkSize());
+    }
+
+    public void testSettlesWhenBandwidthBound() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final int maxConcurrentChunks = between(1, 5);
+        final AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(1024, 4096, 1 << 30, maxConcurrentChunks, nanoTime::get);
+        // a link with a latency of 1ms and a bandwidth of 100 bytes per microsecond, shared by the chunks in flight
+        final long bytesPerMicros = 100;
+        for (int round = 0; round < 50; round++) {
+            final int chunkSize = chunkSizer.chunkSize();
+            final long rttNanos = RTT_NANOS + TimeUnit.MICROSECONDS.toNanos((long) chunkSize * maxConcurrentChunks / bytesPerMicros);
+            sendRound(chunkSizer, nanoTime, maxConcurrentChunks, rttNanos);
+        }
+        final int chunkSize = chunkSizer.chunkSize();
+        // the chunks in flight hold about twice the bandwidth-delay product
+        final long bandwidthDelayProduct = bytesPerMicros * TimeUnit.NANOSECONDS.toMicros(RTT_NANOS);
+        assertTrue(chunkSize + " " + bandwidthDelayProduct, (long) chunkSize * maxConcurrentChunks >= bandwidthDelayProduct);
+        assertTrue(chunkSize + " " + bandwidthDelayProduct, (long) chunkSize * maxConcurrentChunks <= 4 * bandwidthDelayProduct);
+        assertTrue(chunkSize < 1 << 30);
+    }
+
+    public void testShrinksWhenRateDrops() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(1024, 1 << 20, 1 << 20, 1, nanoTime::get);
+        // acknowledgements that take much longer than the fastest round-trip mean that the rate is capped, e.g. by a rate limiter
+        sendRound(chunkSizer, nanoTime, 1, RTT_NANOS);
+        for (int round = 0; round < 40; round++) {
+            sendRound(chunkSizer, nanoTime, 1, 1000 * RTT_NANOS);
+        }
+        assertEquals(1024, chunkSizer.chunkSize());
+    }
+
+    public void testDefaultBounds() {
+        final int maxChunkSize = between(1, Math.toIntExact(RecoverySettings.DEFAULT_CHUNK_SIZE.getBytes()) * 4);
+        final AdaptiveChunkSizer chunkSizer = new AdaptiveChunkSizer(maxChunkSize, between(1, 5));
+        assertEquals(Math.min(maxChunkSize, RecoverySettings.DEFAULT_CHUNK_SIZE.getBytes()), chunkSizer.chunkSize());
+    }
+
+    /**
+     * Sends {@code maxConcurrentChunks} chunks at once, which are acknowledged after the given round-trip time.
+     */
+    private static void sendRound(AdaptiveChunkSizer chunkSizer, AtomicLong nanoTime, int maxConcurrentChunks, long rttNanos) {
+        final int chunkSize = chunkSizer.chunkSize();
+        final long[] sentAtNanos = new long[maxConcurrentChunks];
+        for (int i = 0; i < maxConcurrentChunks; i++) {
+            sentAtNanos[i] = chunkSizer.onChunkSent();
+        }
+        nanoTime.addAndGet(rttNanos);
+        for (int i = 0; i < maxConcurrentChunks; i++) {
+            chunkSizer.onChunkAcknowledged(chunkSize, sentAtNanos[i]);
+        }
+    }
+}
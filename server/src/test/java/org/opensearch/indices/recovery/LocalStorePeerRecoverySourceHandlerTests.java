@@ -138,6 +138,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyString;
@@ -244,6 +245,93 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
         IOUtils.close(reader, store, multiFileWriter, targetStore);
     }
 
+    public void testSendFilesConcurrently() throws Throwable {
+        final StartRecoveryRequest request = getStartRecoveryRequest();
+        Store store = newStore(createTempDir());
+        Directory dir = store.directory();
+        RandomIndexWriter writer = new RandomIndexWriter(random(), dir, newIndexWriterConfig());
+        int numDocs = randomIntBetween(10, 100);
+        for (int i = 0; i < numDocs; i++) {
+            Document document = new Document();
+            document.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+            document.add(newField("field", randomUnicodeOfCodepointLengthBetween(1, 10), TextField.TYPE_STORED));
+            writer.addDocument(document);
+        }
+        writer.commit();
+        writer.close();
+
+        Store.MetadataSnapshot metadata = store.getMetadata();
+        ReplicationLuceneIndex luceneIndex = new ReplicationLuceneIndex();
+        List<StoreFileMetadata> metas = new ArrayList<>();
+        for (StoreFileMetadata md : metadata) {
+            metas.add(md);
+            luceneIndex.addFileDetail(md.name(), md.length(), false);
+        }
+        Store targetStore = newStore(createTempDir());
+        MultiFileWriter multiFileWriter = new MultiFileWriter(targetStore, luceneIndex, "", logger, () -> {});
+        RecoveryTargetHandler target = new AsyncRecoveryTarget(new TestRecoveryTargetHandler() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata md,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                ActionListener.completeWith(listener, () -> {
+                    multiFileWriter.writeFileChunk(md, position, content, lastChunk);
+                    return null;
+                });
+            }
+        }, recoveryExecutor);
+        // the chunks are sent by one thread at a time, track the files whose chunks are being sent
+        final int maxConcurrentFiles = between(2, 10);
+        final Set<String> sendingFiles = ConcurrentCollections.newConcurrentSet();
+        final AtomicInteger maxSendingFiles = new AtomicInteger();
+        RecoveryTargetHandler trackingTarget = new TestRecoveryTargetHandler() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata md,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                sendingFiles.add(md.name());
+                maxSendingFiles.accumulateAndGet(sendingFiles.size(), Math::max);
+                if (lastChunk) {
+                    sendingFiles.remove(md.name());
+                }
+                target.writeFileChunk(md, position, content, lastChunk, totalTranslogOps, listener);
+            }
+        };
+        RecoverySourceHandler handler = new LocalStorePeerRecoverySourceHandler(
+            null,
+            trackingTarget,
+            threadPool,
+            request,
+            between(1, 1024),
+            between(1, 5),
+            maxConcurrentFiles,
+            randomBoolean(),
+            between(1, 5)
+        );
+        PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
+        handler.sendFiles(store, metas.toArray(new StoreFileMetadata[0]), () -> 0, sendFilesFuture);
+        sendFilesFuture.actionGet();
+        assertThat(maxSendingFiles.get(), lessThanOrEqualTo(maxConcurrentFiles));
+        Store.MetadataSnapshot targetStoreMetadata = targetStore.getMetadata();
+        Store.RecoveryDiff recoveryDiff = targetStoreMetadata.recoveryDiff(metadata);
+        assertEquals(metas.size(), recoveryDiff.identical.size());
+        assertEquals(0, recoveryDiff.different.size());
+        assertEquals(0, recoveryDiff.missing.size());
+        IndexReader reader = DirectoryReader.open(targetStore.directory());
+        assertEquals(numDocs, reader.maxDoc());
+        IOUtils.close(reader, store, multiFileWriter, targetStore);
+    }
+
     public StartRecoveryRequest getStartRecoveryRequest() throws IOException {
         Store.MetadataSnapshot metadataSnapshot = randomBoolean()
             ? Store.MetadataSnapshot.EMPTY
@@ -176,6 +176,23 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         assertEquals(chunkSize, recoverySettings.getChunkSize());
     }
 
+    public void testAdaptiveChunkSize() {
+        assertFalse(recoverySettings.isAdaptiveChunkSize());
+        clusterSettings.applySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_ADAPTIVE_CHUNK_SIZE_SETTING.getKey(), true).build()
+        );
+        assertTrue(recoverySettings.isAdaptiveChunkSize());
+    }
+
+    public void testMaxConcurrentFiles() {
+        assertEquals(1, recoverySettings.getMaxConcurrentFiles());
+        int maxConcurrentFiles = between(1, 10);
+        clusterSettings.applySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILES_SETTING.getKey(), maxConcurrentFiles).build()
+        );
+        assertEquals(maxConcurrentFiles, recoverySettings.getMaxConcurrentFiles());
+    }
+
     public void testInternalActionRetryTimeout() {
         long duration = between(1, 1000);
         TimeUnit timeUnit = randomFrom(TimeUnit.MILLISECONDS, TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
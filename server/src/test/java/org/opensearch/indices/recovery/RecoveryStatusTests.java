@@ -34,14 +34,18 @@ package org.opensearch.indices.recovery;
 import org.apache.lucene.backward_codecs.store.EndiannessReverserUtil;
 import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.util.set.Sets;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
 import java.io.IOException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 public class RecoveryStatusTests extends OpenSearchSingleNodeTestCase {
@@ -101,4 +105,39 @@ public class RecoveryStatusTests extends OpenSearchSingleNodeTestCase {
         assertFalse(strings.toString(), strings.contains(expectedFile));
         multiFileWriter.close();
     }
+
+    public void testReleasesRetainedChunks() throws IOException {
+        IndexService service = createIndex("foo");
+
+        IndexShard indexShard = service.getShardOrNull(0);
+        final StoreFileMetadata metadata = new StoreFileMetadata(
+            "foo.bar",
+            12 + CodecUtil.footerLength(),
+            "9z51nw",
+            MIN_SUPPORTED_LUCENE_VERSION
+        );
+        final ReplicationLuceneIndex indexState = new ReplicationLuceneIndex();
+        indexState.addFileDetail(metadata.name(), metadata.length(), false);
+        MultiFileWriter multiFileWriter = new MultiFileWriter(indexShard.store(), indexState, "recovery.test.", logger, () -> {});
+
+        // a chunk that arrives in order is written right away and is released by its sender only
+        final AtomicBoolean firstReleased = new AtomicBoolean();
+        final ReleasableBytesReference first = new ReleasableBytesReference(new BytesArray(new byte[4]), () -> firstReleased.set(true));
+        multiFileWriter.writeFileChunk(metadata, 0, first, false);
+        assertEquals(1, first.refCount());
+        first.close();
+        assertTrue(firstReleased.get());
+
+        // a chunk that arrives out of order is retained until it is written or the writer is closed
+        final AtomicBoolean pendingReleased = new AtomicBoolean();
+        final ReleasableBytesReference pending = new ReleasableBytesReference(new BytesArray(new byte[4]), () -> pendingReleased.set(true));
+        multiFileWriter.writeFileChunk(metadata, 8, pending, false);
+        pending.close();
+        assertFalse(pendingReleased.get());
+        assertEquals(1, pending.refCount());
+
+        multiFileWriter.close();
+        assertTrue(pendingReleased.get());
+        assertEquals(0, pending.refCount());
+    }
 }
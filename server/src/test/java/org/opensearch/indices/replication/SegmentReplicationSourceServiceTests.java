@@ -22,6 +22,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.ReplicationGroup;
@@ -118,6 +119,7 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
         final RecoverySettings recoverySettings = new RecoverySettings(settings, clusterSettings);
         when(mockIndexShard.getRecoverySettings()).thenReturn(recoverySettings);
         when(mockIndexShard.getThreadPool()).thenReturn(testThreadPool);
+        when(mockIndexShard.mergedSegmentTransferTracker()).thenReturn(new MergedSegmentTransferTracker());
 
         ongoingSegmentReplications = spy(new OngoingSegmentReplications(mockIndicesService, recoverySettings));
         segmentReplicationSourceService = new SegmentReplicationSourceService(
@@ -168,6 +170,7 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
             @Override
             public void onResponse(GetSegmentFilesResponse response) {
                 assertEquals(0, response.files.size());
+                assertTrue(mockIndexShard.mergedSegmentTransferTracker().pendingBytesPerReplica().isEmpty());
             }
 
             @Override
@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication;
 
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
@@ -21,6 +22,9 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.ByteBuffersIndexOutput;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.Version;
@@ -489,6 +493,92 @@ public class SegmentReplicationTargetTests extends IndexShardTestCase {
         }, mock(BiConsumer.class));
     }
 
+    public void testIdenticalLocalFilesAreLinkedInsteadOfFetched() throws IOException {
+        final Store store = spyIndexShard.store();
+        final StoreFileMetadata localFile = writeLocalFile(store, "_local.cfs");
+        final String localName = localFile.name();
+        final String checksum = localFile.checksum();
+        final long length = localFile.length();
+        // the source holds the same content under another name, e.g. after a primary relocation
+        final StoreFileMetadata sourceFile = new StoreFileMetadata("_remote.cfs", length, checksum, Version.LATEST);
+        final StoreFileMetadata otherFile = new StoreFileMetadata("_other.cfs", length, "other", Version.LATEST);
+        when(spyIndexShard.getSegmentMetadataMap()).thenReturn(Map.of(localName, localFile));
+
+        segrepTarget = newTargetForFileDiff();
+        final List<StoreFileMetadata> filesToFetch = segrepTarget.getFiles(
+            new CheckpointInfoResponse(
+                repCheckpoint,
+                Map.of(localName, localFile, sourceFile.name(), sourceFile, otherFile.name(), otherFile),
+                buffer.toArrayCopy()
+            )
+        );
+        assertEquals(List.of(otherFile), filesToFetch);
+        final ReplicationLuceneIndex index = segrepTarget.state().getIndex();
+        assertEquals(1, index.reusedFileCount());
+        assertEquals(length, index.reusedBytes());
+
+        segrepTarget.multiFileWriter.renameAllTempFiles();
+        try (IndexInput input = store.directory().openInput(sourceFile.name(), IOContext.READONCE)) {
+            assertEquals(checksum, Store.digestToString(CodecUtil.retrieveChecksum(input)));
+        }
+        segrepTarget.fail(new ReplicationFailedException("test"), false);
+    }
+
+    public void testPresentFilesAreReportedAsReused() throws IOException {
+        // e.g. a merged segment that was pre-copied before the primary published the checkpoint that references it
+        final StoreFileMetadata preCopiedFile = writeLocalFile(spyIndexShard.store(), "_merged.cfs");
+        final StoreFileMetadata otherFile = new StoreFileMetadata("_other.cfs", 10, "other", Version.LATEST);
+        when(spyIndexShard.getSegmentMetadataMap()).thenReturn(Map.of());
+
+        segrepTarget = newTargetForFileDiff();
+        final List<StoreFileMetadata> filesToFetch = segrepTarget.getFiles(
+            new CheckpointInfoResponse(
+                repCheckpoint,
+                Map.of(preCopiedFile.name(), preCopiedFile, otherFile.name(), otherFile),
+                buffer.toArrayCopy()
+            )
+        );
+        assertEquals(List.of(otherFile), filesToFetch);
+        final ReplicationLuceneIndex index = segrepTarget.state().getIndex();
+        assertEquals(2, index.totalFileCount());
+        assertEquals(1, index.reusedFileCount());
+        assertEquals(preCopiedFile.length(), index.reusedBytes());
+        segrepTarget.fail(new ReplicationFailedException("test"), false);
+    }
+
+    private SegmentReplicationTarget newTargetForFileDiff() {
+        return new SegmentReplicationTarget(spyIndexShard, repCheckpoint, new TestReplicationSource() {
+            @Override
+            public void getCheckpointMetadata(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                ActionListener<CheckpointInfoResponse> listener
+            ) {}
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                IndexShard indexShard,
+                BiConsumer<String, Long> fileProgressTracker,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {}
+        }, mock(SegmentReplicationTargetService.SegmentReplicationListener.class));
+    }
+
+    private StoreFileMetadata writeLocalFile(Store store, String name) throws IOException {
+        try (IndexOutput output = store.directory().createOutput(name, IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "test", 0);
+            final byte[] bytes = randomByteArrayOfLength(between(1, 1024));
+            output.writeBytes(bytes, bytes.length);
+            CodecUtil.writeFooter(output);
+        }
+        try (IndexInput input = store.directory().openInput(name, IOContext.READONCE)) {
+            return new StoreFileMetadata(name, input.length(), Store.digestToString(CodecUtil.retrieveChecksum(input)), Version.LATEST);
+        }
+    }
+
     /**
      * Generates a list of Store.MetadataSnapshot with two elements where second snapshot has extra files due to delete
      * operation. A list of snapshots is returned so that identical files have same checksum.
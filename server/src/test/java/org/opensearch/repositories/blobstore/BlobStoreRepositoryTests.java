@@ -32,20 +32,29 @@
 
 package org.opensearch.repositories.blobstore;
 
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
 import org.opensearch.Version;
 import org.opensearch.action.admin.cluster.snapshots.create.CreateSnapshotResponse;
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.action.admin.cluster.snapshots.status.SnapshotStats;
+import org.opensearch.action.admin.indices.shrink.ResizeType;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.RepositoryMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
+import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.support.FilterBlobContainer;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.compress.Compressor;
@@ -72,9 +81,14 @@ import org.opensearch.snapshots.SnapshotId;
 import org.opensearch.snapshots.SnapshotShardPaths;
 import org.opensearch.snapshots.SnapshotShardPaths.ShardInfo;
 import org.opensearch.snapshots.SnapshotState;
+import org.opensearch.test.MockLogAppender;
 import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -88,15 +102,25 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.mockito.Mockito;
 
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_BLOCKS_WRITE;
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
+import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_SHARDS;
 import static org.opensearch.repositories.RepositoryDataTests.generateRandomRepoData;
 import static org.opensearch.repositories.blobstore.BlobStoreRepository.calculateMaxWithinIntLimit;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -114,6 +138,13 @@ import static org.mockito.Mockito.when;
 public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
 
     static final String REPO_TYPE = "fsLike";
+    static final String INDEX_METADATA_TRACKING_REPO_TYPE = "fsLikeIndexMetadataTracking";
+
+    // index metadata writes of the INDEX_METADATA_TRACKING_REPO_TYPE repositories
+    private static final AtomicBoolean failIndexMetadataWrites = new AtomicBoolean();
+    private static final AtomicInteger indexMetadataWrites = new AtomicInteger();
+    private static final AtomicInteger ongoingIndexMetadataWrites = new AtomicInteger();
+    private static final AtomicInteger maxOngoingIndexMetadataWrites = new AtomicInteger();
 
     protected Collection<Class<? extends Plugin>> getPlugins() {
         return Arrays.asList(FsLikeRepoPlugin.class);
@@ -129,18 +160,78 @@ public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
             ClusterService clusterService,
             RecoverySettings recoverySettings
         ) {
-            return Collections.singletonMap(
+            return Map.of(
                 REPO_TYPE,
                 (metadata) -> new FsRepository(metadata, env, namedXContentRegistry, clusterService, recoverySettings) {
                     @Override
                     protected void assertSnapshotOrGenericThread() {
                         // eliminate thread name check as we access blobStore on test/main threads
                     }
+                },
+                INDEX_METADATA_TRACKING_REPO_TYPE,
+                (metadata) -> new FsRepository(metadata, env, namedXContentRegistry, clusterService, recoverySettings) {
+                    @Override
+                    protected void assertSnapshotOrGenericThread() {
+                        // eliminate thread name check as we access blobStore on test/main threads
+                    }
+
+                    @Override
+                    protected BlobStore createBlobStore() throws Exception {
+                        final BlobStore delegate = super.createBlobStore();
+                        return new BlobStore() {
+                            @Override
+                            public BlobContainer blobContainer(BlobPath path) {
+                                return new IndexMetadataTrackingBlobContainer(delegate.blobContainer(path));
+                            }
+
+                            @Override
+                            public void close() throws IOException {
+                                delegate.close();
+                            }
+                        };
+                    }
                 }
             );
         }
     }
 
+    private static class IndexMetadataTrackingBlobContainer extends FilterBlobContainer {
+
+        IndexMetadataTrackingBlobContainer(BlobContainer delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected BlobContainer wrapChild(BlobContainer child) {
+            return new IndexMetadataTrackingBlobContainer(child);
+        }
+
+        @Override
+        public void writeBlob(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException {
+            final String[] parts = path().toArray();
+            // index metadata blobs are the metadata blobs written to indices/${index_uuid}
+            if (blobName.startsWith(BlobStoreRepository.METADATA_PREFIX)
+                && parts.length >= 2
+                && parts[parts.length - 2].equals("indices")) {
+                indexMetadataWrites.incrementAndGet();
+                maxOngoingIndexMetadataWrites.accumulateAndGet(ongoingIndexMetadataWrites.incrementAndGet(), Math::max);
+                try {
+                    // leave time for the other writes to overlap
+                    Thread.sleep(10);
+                    if (failIndexMetadataWrites.get()) {
+                        throw new IOException("simulated failure writing [" + blobName + "]");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } finally {
+                    ongoingIndexMetadataWrites.decrementAndGet();
+                }
+            }
+            super.writeBlob(blobName, inputStream, blobSize, failIfAlreadyExists);
+        }
+    }
+
     public void testRetrieveSnapshots() throws Exception {
         final Client client = client();
         final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
@@ -192,6 +283,217 @@ public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
         assertThat(snapshotIds, equalTo(originalSnapshots));
     }
 
+    public void testFinalizeSnapshotWithMoreIndicesThanSnapshotThreads() throws Exception {
+        final Client client = client();
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final String repositoryName = "test-repo";
+        Settings.Builder settings = Settings.builder().put(node().settings()).put("location", location);
+        OpenSearchIntegTestCase.putRepository(client.admin().cluster(), repositoryName, INDEX_METADATA_TRACKING_REPO_TYPE, settings);
+
+        final int snapshotThreads = getInstanceFromNode(ThreadPool.class).info(ThreadPool.Names.SNAPSHOT).getMax();
+        final List<String> indexNames = createIndicesWithOneDoc(randomIntBetween(snapshotThreads + 5, snapshotThreads + 25));
+        final int numIndices = indexNames.size();
+        resetIndexMetadataWrites(false);
+        final SnapshotId snapshotId = createSnapshot(repositoryName, "test-snap", indexNames).snapshotId();
+
+        logger.info("--> make sure the metadata of every index was written by at most as many writers as snapshot threads");
+        assertEquals(numIndices, indexMetadataWrites.get());
+        assertThat(maxOngoingIndexMetadataWrites.get(), greaterThan(0));
+        assertThat(maxOngoingIndexMetadataWrites.get(), lessThanOrEqualTo(snapshotThreads));
+
+        final RepositoriesService repositoriesService = getInstanceFromNode(RepositoriesService.class);
+        final BlobStoreRepository repository = (BlobStoreRepository) repositoriesService.repository(repositoryName);
+        final RepositoryData repositoryData = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertEquals(numIndices, repositoryData.getIndices().size());
+        for (IndexId indexId : repositoryData.getIndices().values()) {
+            final IndexMetadata indexMetadata = repository.getSnapshotIndexMetaData(repositoryData, snapshotId, indexId);
+            assertEquals(indexId.getName(), indexMetadata.getIndex().getName());
+            assertEquals(1, repositoryData.shardGenerations().getGens(indexId).size());
+        }
+    }
+
+    public void testFinalizeSnapshotFailsOnIndexMetadataWriteFailure() throws Exception {
+        final Client client = client();
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final String repositoryName = "test-repo";
+        Settings.Builder settings = Settings.builder().put(node().settings()).put("location", location);
+        OpenSearchIntegTestCase.putRepository(client.admin().cluster(), repositoryName, INDEX_METADATA_TRACKING_REPO_TYPE, settings);
+
+        final int snapshotThreads = getInstanceFromNode(ThreadPool.class).info(ThreadPool.Names.SNAPSHOT).getMax();
+        final List<String> indexNames = createIndicesWithOneDoc(randomIntBetween(snapshotThreads + 5, snapshotThreads + 25));
+        resetIndexMetadataWrites(true);
+        try {
+            expectThrows(
+                Exception.class,
+                () -> client.admin()
+                    .cluster()
+                    .prepareCreateSnapshot(repositoryName, "test-snap")
+                    .setWaitForCompletion(true)
+                    .setIndices(indexNames.toArray(new String[0]))
+                    .get()
+            );
+        } finally {
+            failIndexMetadataWrites.set(false);
+        }
+
+        logger.info("--> each writer stops at its first failure, the metadata of the remaining indices is not written");
+        assertThat(indexMetadataWrites.get(), lessThanOrEqualTo(snapshotThreads));
+
+        final RepositoriesService repositoriesService = getInstanceFromNode(RepositoriesService.class);
+        final BlobStoreRepository repository = (BlobStoreRepository) repositoriesService.repository(repositoryName);
+        final RepositoryData repositoryData = OpenSearchBlobStoreRepositoryIntegTestCase.getRepositoryData(repository);
+        assertTrue(repositoryData.getSnapshotIds().isEmpty());
+    }
+
+    public void testSlowFinalizationIsLoggedAtInfo() throws Exception {
+        final Client client = client();
+        final List<String> indexNames = createIndicesWithOneDoc(1);
+        final String slowRepositoryName = "slow-repo";
+        OpenSearchIntegTestCase.putRepository(
+            client.admin().cluster(),
+            slowRepositoryName,
+            FsRepository.TYPE,
+            Settings.builder()
+                .put(node().settings())
+                .put("location", OpenSearchIntegTestCase.randomRepoPath(node().settings()))
+                .put(BlobStoreRepository.SLOW_FINALIZATION_LOGGING_THRESHOLD_SETTING.getKey(), TimeValue.ZERO)
+        );
+        final String fastRepositoryName = "fast-repo";
+        OpenSearchIntegTestCase.putRepository(
+            client.admin().cluster(),
+            fastRepositoryName,
+            FsRepository.TYPE,
+            Settings.builder()
+                .put(node().settings())
+                .put("location", OpenSearchIntegTestCase.randomRepoPath(node().settings()))
+                .put(BlobStoreRepository.SLOW_FINALIZATION_LOGGING_THRESHOLD_SETTING.getKey(), TimeValue.timeValueHours(1))
+        );
+
+        try (MockLogAppender mockLogAppender = MockLogAppender.createForLoggers(LogManager.getLogger(BlobStoreRepository.class))) {
+            mockLogAppender.addExpectation(
+                new MockLogAppender.SeenEventExpectation(
+                    "slow finalization",
+                    BlobStoreRepository.class.getCanonicalName(),
+                    Level.INFO,
+                    "[" + slowRepositoryName + "] finalized snapshot [test-snap*] with [1] indices in *"
+                )
+            );
+            mockLogAppender.addExpectation(
+                new MockLogAppender.UnseenEventExpectation(
+                    "fast finalization",
+                    BlobStoreRepository.class.getCanonicalName(),
+                    Level.INFO,
+                    "[" + fastRepositoryName + "] finalized snapshot*"
+                )
+            );
+            createSnapshot(slowRepositoryName, "test-snap", indexNames);
+            createSnapshot(fastRepositoryName, "test-snap", indexNames);
+            mockLogAppender.assertAllExpectationsMatched();
+        }
+    }
+
+    private List<String> createIndicesWithOneDoc(int numIndices) {
+        final List<String> indexNames = new ArrayList<>();
+        for (int i = 0; i < numIndices; i++) {
+            final String indexName = "test-idx-" + i;
+            createIndex(indexName, Settings.builder().put(SETTING_NUMBER_OF_SHARDS, 1).put(SETTING_NUMBER_OF_REPLICAS, 0).build());
+            client().prepareIndex(indexName).setId("1").setSource("text", "sometext").get();
+            indexNames.add(indexName);
+        }
+        ensureGreen();
+        return indexNames;
+    }
+
+    private static void resetIndexMetadataWrites(boolean fail) {
+        failIndexMetadataWrites.set(fail);
+        indexMetadataWrites.set(0);
+        ongoingIndexMetadataWrites.set(0);
+        maxOngoingIndexMetadataWrites.set(0);
+    }
+
+    public void testContentAddressedBlobsAreSharedAcrossIndices() throws Exception {
+        final Client client = client();
+        final Path location = OpenSearchIntegTestCase.randomRepoPath(node().settings());
+        final String repositoryName = "test-repo";
+        Settings.Builder settings = Settings.builder()
+            .put(node().settings())
+            .put("location", location)
+            .put(BlobStoreRepository.CONTENT_ADDRESSED_BLOBS_SETTING.getKey(), true);
+        OpenSearchIntegTestCase.putRepository(client.admin().cluster(), repositoryName, REPO_TYPE, settings);
+
+        final String indexName = "test-idx";
+        createIndex(indexName, Settings.builder().put(SETTING_NUMBER_OF_SHARDS, 1).put(SETTING_NUMBER_OF_REPLICAS, 0).build());
+        ensureGreen();
+        final int numDocs = randomIntBetween(10, 20);
+        for (int i = 0; i < numDocs; i++) {
+            client.prepareIndex(indexName).setId(Integer.toString(i)).setSource("text", "sometext").get();
+        }
+        client.admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).get();
+        client.admin().indices().prepareFlush(indexName).get();
+        assertAcked(
+            client.admin().indices().prepareUpdateSettings(indexName).setSettings(Settings.builder().put(SETTING_BLOCKS_WRITE, true))
+        );
+
+        logger.info("--> clone the index, which shares its segment files");
+        final String cloneName = "test-idx-clone";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareResizeIndex(indexName, cloneName)
+                .setResizeType(ResizeType.CLONE)
+                .setSettings(Settings.builder().put(SETTING_NUMBER_OF_REPLICAS, 0).putNull(SETTING_BLOCKS_WRITE).build())
+        );
+        ensureGreen();
+
+        final Path contentPath = location.resolve(BlobStoreRepository.CONTENT_ADDRESSED_DIR);
+        createSnapshot(repositoryName, "test-snap-1", List.of(indexName));
+        final Set<String> contentBlobs = listBlobs(contentPath);
+        assertFalse(contentBlobs.isEmpty());
+
+        logger.info("--> the snapshot of the clone doesn't upload its files again");
+        createSnapshot(repositoryName, "test-snap-2", List.of(cloneName));
+        assertEquals(contentBlobs, listBlobs(contentPath));
+        final SnapshotStats cloneStats = client.admin()
+            .cluster()
+            .prepareSnapshotStatus(repositoryName)
+            .setSnapshots("test-snap-2")
+            .get()
+            .getSnapshots()
+            .get(0)
+            .getStats();
+        // the deduplicated files are not incremental, only the files that were actually uploaded are
+        assertThat(cloneStats.getIncrementalSize(), lessThan(cloneStats.getTotalSize()));
+
+        logger.info("--> restore the clone from the shared blobs");
+        assertAcked(client.admin().indices().prepareDelete(cloneName));
+        final RestoreSnapshotResponse restoreResponse = client.admin()
+            .cluster()
+            .prepareRestoreSnapshot(repositoryName, "test-snap-2")
+            .setWaitForCompletion(true)
+            .get();
+        assertEquals(0, restoreResponse.getRestoreInfo().failedShards());
+        ensureGreen();
+        assertHitCount(client.prepareSearch(cloneName).setSize(0).get(), numDocs);
+
+        logger.info("--> the shared blobs are only removed by snapshot deletions once no snapshot references them");
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repositoryName, "test-snap-1"));
+        assertEquals(contentBlobs, listBlobs(contentPath));
+        client.admin().cluster().prepareCleanupRepository(repositoryName).get();
+        assertEquals(contentBlobs, listBlobs(contentPath));
+
+        assertAcked(client.admin().cluster().prepareDeleteSnapshot(repositoryName, "test-snap-2"));
+        assertEquals(Collections.emptySet(), listBlobs(contentPath));
+    }
+
+    private static Set<String> listBlobs(Path path) throws IOException {
+        if (Files.exists(path) == false) {
+            return Collections.emptySet();
+        }
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(Files::isRegularFile).map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
     public void testReadAndWriteSnapshotsThroughIndexFile() throws Exception {
         final BlobStoreRepository repository = setupRepo();
         final long pendingGeneration = repository.metadata.pendingGeneration();
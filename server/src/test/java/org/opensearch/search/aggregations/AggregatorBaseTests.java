@@ -55,6 +55,8 @@ import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -207,4 +209,16 @@ public class AggregatorBaseTests extends OpenSearchSingleNodeTestCase {
             );
         }
     }
+
+    public void testStarTreePrecomputationDebugInfo() throws IOException {
+        BogusAggregator aggregator = new BogusAggregator(mockSearchContext(new MatchAllDocsQuery()), null);
+        Map<String, Object> debug = new HashMap<>();
+        aggregator.collectDebugInfo(debug::put);
+        assertFalse(debug.containsKey("star_tree_precomputed_segments"));
+
+        aggregator.recordStarTreePrecomputation();
+        aggregator.recordStarTreePrecomputation();
+        aggregator.collectDebugInfo(debug::put);
+        assertThat(debug.get("star_tree_precomputed_segments"), equalTo(2));
+    }
 }
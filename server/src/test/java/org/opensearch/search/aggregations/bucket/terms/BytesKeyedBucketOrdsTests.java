@@ -60,6 +60,10 @@ public class BytesKeyedBucketOrdsTests extends OpenSearchTestCase {
         collectsFromSingleBucketCase(BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY));
     }
 
+    public void testSwissHashCollectsFromSingleBucket() {
+        collectsFromSingleBucketCase(BytesKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE, true));
+    }
+
     private void collectsFromSingleBucketCase(BytesKeyedBucketOrds ords) {
         try {
             // Test a few explicit values
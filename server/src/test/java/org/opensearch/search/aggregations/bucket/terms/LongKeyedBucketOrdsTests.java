@@ -57,6 +57,10 @@ public class LongKeyedBucketOrdsTests extends OpenSearchTestCase {
         collectsFromSingleBucketCase(LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.MANY));
     }
 
+    public void testSwissHashCollectsFromSingleBucket() {
+        collectsFromSingleBucketCase(LongKeyedBucketOrds.build(bigArrays, CardinalityUpperBound.ONE, true));
+    }
+
     private void collectsFromSingleBucketCase(LongKeyedBucketOrds ords) {
         try {
             // Test a few explicit values
@@ -41,6 +41,7 @@ import org.opensearch.index.query.WildcardQueryBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.ExactMatchDimFilter;
+import org.opensearch.search.startree.filter.NotMatchDimFilter;
 import org.opensearch.search.startree.filter.RangeMatchDimFilter;
 import org.opensearch.search.startree.filter.StarTreeFilter;
 import org.opensearch.search.startree.filter.provider.StarTreeFilterProvider;
@@ -1325,14 +1326,116 @@ public class BoolStarTreeFilterProviderTests extends OpenSearchTestCase {
         assertNull("Filter should be null when minimum_should_match is set in nested query", filter);
     }
 
-    public void testMustNotClauseReturnsNull() throws IOException {
+    public void testMustNotClause() throws IOException {
         BoolQueryBuilder boolQuery = new BoolQueryBuilder().mustNot(new TermQueryBuilder(STATUS, 200));
 
         StarTreeFilterProvider provider = StarTreeFilterProvider.SingletonFactory.getProvider(boolQuery);
         StarTreeFilter filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
 
-        // this should return null as must not clause is not supported
-        assertNull("Filter should be null for same dimension in MUST", filter);
+        assertNotNull("Filter should not be null", filter);
+        assertEquals(Set.of(STATUS), filter.getDimensions());
+        List<DimensionFilter> statusFilters = filter.getFiltersForDimension(STATUS);
+        assertEquals(1, statusFilters.size());
+        NotMatchDimFilter notFilter = (NotMatchDimFilter) statusFilters.getFirst();
+        assertNull(notFilter.getIncludeFilter());
+        assertEquals(1, notFilter.getExcludeFilters().size());
+        assertExactMatchValue((ExactMatchDimFilter) notFilter.getExcludeFilters().getFirst(), 200L);
+
+        // Several values of the same dimension are excluded together
+        boolQuery = new BoolQueryBuilder().mustNot(new TermsQueryBuilder(METHOD, Arrays.asList("GET", "POST")))
+            .mustNot(new RangeQueryBuilder(STATUS).gte(500));
+        filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
+
+        assertNotNull("Filter should not be null", filter);
+        assertEquals(Set.of(METHOD, STATUS), filter.getDimensions());
+        notFilter = (NotMatchDimFilter) filter.getFiltersForDimension(STATUS).getFirst();
+        assertTrue(notFilter.getExcludeFilters().getFirst() instanceof RangeMatchDimFilter);
+        notFilter = (NotMatchDimFilter) filter.getFiltersForDimension(METHOD).getFirst();
+        assertEquals(
+            List.of(new BytesRef("GET"), new BytesRef("POST")),
+            ((ExactMatchDimFilter) notFilter.getExcludeFilters().getFirst()).getRawValues()
+        );
+    }
+
+    public void testMustWithMustNotClauses() throws IOException {
+        BoolQueryBuilder boolQuery = new BoolQueryBuilder().must(new RangeQueryBuilder(STATUS).gte(200).lt(300))
+            .must(new TermQueryBuilder(METHOD, "GET"))
+            .mustNot(new TermQueryBuilder(STATUS, 204));
+
+        StarTreeFilterProvider provider = StarTreeFilterProvider.SingletonFactory.getProvider(boolQuery);
+        StarTreeFilter filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
+
+        assertNotNull("Filter should not be null", filter);
+        assertEquals(Set.of(METHOD, STATUS), filter.getDimensions());
+        List<DimensionFilter> statusFilters = filter.getFiltersForDimension(STATUS);
+        assertEquals(1, statusFilters.size());
+        NotMatchDimFilter notFilter = (NotMatchDimFilter) statusFilters.getFirst();
+        RangeMatchDimFilter includeFilter = (RangeMatchDimFilter) notFilter.getIncludeFilter();
+        assertEquals(200L, includeFilter.getLow());
+        assertEquals(300L, includeFilter.getHigh());
+        assertTrue(includeFilter.isIncludeLow());
+        assertFalse(includeFilter.isIncludeHigh());
+        assertExactMatchValue((ExactMatchDimFilter) notFilter.getExcludeFilters().getFirst(), 204L);
+
+        // SHOULD clauses are required when there are only MUST_NOT clauses besides them
+        boolQuery = new BoolQueryBuilder().should(new TermQueryBuilder(STATUS, 200))
+            .should(new TermQueryBuilder(STATUS, 404))
+            .mustNot(new TermQueryBuilder(STATUS, 404));
+        filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
+
+        assertNotNull("Filter should not be null", filter);
+        statusFilters = filter.getFiltersForDimension(STATUS);
+        assertEquals(2, statusFilters.size());
+        assertTrue(statusFilters.stream().allMatch(f -> f instanceof NotMatchDimFilter));
+    }
+
+    public void testUnsupportedMustNotClauses() throws IOException {
+        StarTreeFilterProvider provider = StarTreeFilterProvider.SingletonFactory.getProvider(new BoolQueryBuilder());
+
+        // The negation of a conjunction across dimensions is a disjunction across dimensions
+        BoolQueryBuilder boolQuery = new BoolQueryBuilder().mustNot(
+            new BoolQueryBuilder().must(new TermQueryBuilder(STATUS, 200)).must(new TermQueryBuilder(METHOD, "GET"))
+        );
+        assertNull(provider.getFilter(searchContext, boolQuery, compositeFieldType));
+
+        // Double negations
+        boolQuery = new BoolQueryBuilder().mustNot(new BoolQueryBuilder().mustNot(new TermQueryBuilder(STATUS, 200)));
+        assertNull(provider.getFilter(searchContext, boolQuery, compositeFieldType));
+
+        // Negations combined with other SHOULD clauses
+        boolQuery = new BoolQueryBuilder().should(new BoolQueryBuilder().mustNot(new TermQueryBuilder(STATUS, 200)))
+            .should(new TermQueryBuilder(STATUS, 404));
+        assertNull(provider.getFilter(searchContext, boolQuery, compositeFieldType));
+
+        // Date dimensions
+        boolQuery = new BoolQueryBuilder().mustNot(
+            new RangeQueryBuilder(EVENT_DATE).gte("2023-01-10T10:00:00.000Z").lt("2023-01-10T12:00:00.000Z").format(DATE_FORMAT)
+        );
+        assertNull(provider.getFilter(searchContext, boolQuery, compositeFieldType));
+
+        // Unsupported queries
+        boolQuery = new BoolQueryBuilder().mustNot(new WildcardQueryBuilder(METHOD, "G*"));
+        assertNull(provider.getFilter(searchContext, boolQuery, compositeFieldType));
+    }
+
+    public void testShouldWithOverlappingClauses() throws IOException {
+        BoolQueryBuilder boolQuery = new BoolQueryBuilder().should(new RangeQueryBuilder(STATUS).gte(200).lte(300))
+            .should(new RangeQueryBuilder(STATUS).gte(250).lt(400))
+            .should(new TermsQueryBuilder(STATUS, Arrays.asList(201, 404)));
+
+        StarTreeFilterProvider provider = StarTreeFilterProvider.SingletonFactory.getProvider(boolQuery);
+        StarTreeFilter filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
+
+        assertNotNull("Filter should not be null", filter);
+        List<DimensionFilter> statusFilters = filter.getFiltersForDimension(STATUS);
+        assertEquals(2, statusFilters.size());
+        RangeMatchDimFilter rangeFilter = (RangeMatchDimFilter) statusFilters.getFirst();
+        assertEquals(200L, rangeFilter.getLow());
+        assertEquals(400L, rangeFilter.getHigh());
+        assertTrue(rangeFilter.isIncludeLow());
+        assertFalse(rangeFilter.isIncludeHigh());
+        assertExactMatchValue((ExactMatchDimFilter) statusFilters.get(1), 404L);
+        assertEquals(1, ((ExactMatchDimFilter) statusFilters.get(1)).getRawValues().size());
     }
 
     // Helper methods for assertions
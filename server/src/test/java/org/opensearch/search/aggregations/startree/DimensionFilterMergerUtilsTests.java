@@ -8,6 +8,7 @@
 
 package org.opensearch.search.aggregations.startree;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNode;
 import org.opensearch.index.mapper.KeywordFieldMapper;
@@ -17,6 +18,9 @@ import org.opensearch.search.startree.StarTreeNodeCollector;
 import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.DimensionFilterMergerUtils;
 import org.opensearch.search.startree.filter.ExactMatchDimFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
+import org.opensearch.search.startree.filter.MatchNoneFilter;
+import org.opensearch.search.startree.filter.NotMatchDimFilter;
 import org.opensearch.search.startree.filter.RangeMatchDimFilter;
 import org.opensearch.search.startree.filter.provider.DimensionFilterMapper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -352,6 +356,110 @@ public class DimensionFilterMergerUtilsTests extends OpenSearchTestCase {
         assertEquals("Unsupported filter combination: RangeMatchDimFilter and CustomDimensionFilter", e2.getMessage());
     }
 
+    public void testUnion() {
+        // Overlapping and touching ranges are merged, disjoint ones are kept in order
+        List<DimensionFilter> union = DimensionFilterMergerUtils.union(
+            List.of(
+                range("status", 200L, 300L, true, false),
+                range("status", 500L, 600L, true, true),
+                range("status", 300L, 400L, true, true),
+                range("status", 250L, 350L, true, true)
+            ),
+            numericMapper
+        );
+        assertEquals(2, union.size());
+        assertRange(union.get(0), 200L, 400L, true, true);
+        assertRange(union.get(1), 500L, 600L, true, true);
+
+        // Ranges separated by an excluded bound are not merged
+        union = DimensionFilterMergerUtils.union(
+            List.of(range("status", 200L, 300L, true, false), range("status", 300L, 400L, false, true)),
+            numericMapper
+        );
+        assertEquals(2, union.size());
+
+        // Unbounded ranges
+        union = DimensionFilterMergerUtils.union(
+            List.of(range("status", null, 300L, true, true), range("status", 200L, null, false, true)),
+            numericMapper
+        );
+        assertEquals(1, union.size());
+        assertRange(union.getFirst(), null, null, true, true);
+
+        // Exact values already matched by another filter are removed
+        union = DimensionFilterMergerUtils.union(
+            List.of(
+                exactMatch("status", List.of(200L, 404L)),
+                range("status", 400L, 499L, true, true),
+                exactMatch("status", List.of(200L, 201L)),
+                exactMatch("status", List.of(201L))
+            ),
+            numericMapper
+        );
+        assertEquals(3, union.size());
+        assertEquals(List.of(200L), ((ExactMatchDimFilter) union.get(0)).getRawValues());
+        assertRange(union.get(1), 400L, 499L, true, true);
+        assertEquals(List.of(201L), ((ExactMatchDimFilter) union.get(2)).getRawValues());
+
+        // Keyword ranges
+        union = DimensionFilterMergerUtils.union(
+            List.of(
+                range("method", new BytesRef("DELETE"), new BytesRef("GET"), true, true),
+                exactMatch("method", List.of(new BytesRef("GET")))
+            ),
+            keywordMapper
+        );
+        assertEquals(1, union.size());
+        assertRange(union.getFirst(), new BytesRef("DELETE"), new BytesRef("GET"), true, true);
+
+        // Match all and match none filters
+        assertTrue(
+            DimensionFilterMergerUtils.union(List.of(exactMatch("status", List.of(200L)), new MatchAllFilter("status")), numericMapper)
+                .getFirst() instanceof MatchAllFilter
+        );
+        union = DimensionFilterMergerUtils.union(List.of(new MatchNoneFilter(), exactMatch("status", List.of(200L))), numericMapper);
+        assertEquals(1, union.size());
+        assertTrue(union.getFirst() instanceof ExactMatchDimFilter);
+    }
+
+    public void testNotMatchIntersection() {
+        NotMatchDimFilter notFilter = new NotMatchDimFilter("status", List.of(exactMatch("status", List.of(404L))));
+
+        // Include filter is the other filter
+        DimensionFilter result = DimensionFilterMergerUtils.intersect(range("status", 200L, 500L, true, true), notFilter, numericMapper);
+        assertTrue(result instanceof NotMatchDimFilter);
+        NotMatchDimFilter notResult = (NotMatchDimFilter) result;
+        assertRange(notResult.getIncludeFilter(), 200L, 500L, true, true);
+        assertEquals(1, notResult.getExcludeFilters().size());
+
+        // Include filters are intersected and exclude filters are combined
+        result = DimensionFilterMergerUtils.intersect(
+            notResult,
+            new NotMatchDimFilter("status", range("status", 300L, 600L, true, true), List.of(exactMatch("status", List.of(301L)))),
+            numericMapper
+        );
+        notResult = (NotMatchDimFilter) result;
+        assertRange(notResult.getIncludeFilter(), 300L, 500L, true, true);
+        assertEquals(2, notResult.getExcludeFilters().size());
+
+        // Negations without include filters
+        result = DimensionFilterMergerUtils.intersect(
+            notFilter,
+            new NotMatchDimFilter("status", List.of(exactMatch("status", List.of(500L)))),
+            numericMapper
+        );
+        notResult = (NotMatchDimFilter) result;
+        assertNull(notResult.getIncludeFilter());
+        assertEquals(2, notResult.getExcludeFilters().size());
+
+        // Include filters which don't overlap
+        assertNoIntersection(
+            new NotMatchDimFilter("status", range("status", 200L, 300L, true, true), List.of(exactMatch("status", List.of(250L)))),
+            range("status", 400L, 500L, true, true),
+            numericMapper
+        );
+    }
+
     // Helper methods
     private RangeMatchDimFilter range(String dimension, Object low, Object high, boolean includeLow, boolean includeHigh) {
         return new RangeMatchDimFilter(dimension, low, high, includeLow, includeHigh);
@@ -400,6 +508,15 @@ public class DimensionFilterMergerUtilsTests extends OpenSearchTestCase {
         assertEquals(new HashSet<>(expected.getRawValues()), new HashSet<>(exactResult.getRawValues()));
     }
 
+    private void assertRange(DimensionFilter filter, Object low, Object high, boolean includeLow, boolean includeHigh) {
+        assertTrue(filter instanceof RangeMatchDimFilter);
+        RangeMatchDimFilter rangeFilter = (RangeMatchDimFilter) filter;
+        assertEquals(low, rangeFilter.getLow());
+        assertEquals(high, rangeFilter.getHigh());
+        assertEquals(includeLow, rangeFilter.isIncludeLow());
+        assertEquals(includeHigh, rangeFilter.isIncludeHigh());
+    }
+
     private void assertNoIntersection(DimensionFilter filter1, DimensionFilter filter2, DimensionFilterMapper mapper) {
         assertNull(DimensionFilterMergerUtils.intersect(filter1, filter2, mapper));
     }
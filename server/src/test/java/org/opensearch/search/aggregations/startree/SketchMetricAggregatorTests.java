@@ -0,0 +1,415 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene103.Lucene103Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.codec.composite.composite103.Composite103Codec;
+import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesMethod;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.index.codec.composite912.datacube.startree.AbstractStarTreeDVFormatTests.topMapping;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the cardinality and percentiles aggregations computed from the star-tree sketches with the ones computed
+ * from the documents.
+ */
+public class SketchMetricAggregatorTests extends AggregatorTestCase {
+    private static final String FIELD_NAME = "field";
+    private static final String SNDV = "sndv";
+    private static final String DV = "dv";
+    private static final MappedFieldType FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        FIELD_NAME,
+        NumberFieldMapper.NumberType.INTEGER
+    );
+    private static final MappedFieldType SNDV_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(
+        SNDV,
+        NumberFieldMapper.NumberType.INTEGER
+    );
+    private static final MappedFieldType DV_FIELD_TYPE = new NumberFieldMapper.NumberFieldType(DV, NumberFieldMapper.NumberType.INTEGER);
+    private static final double[] PERCENTS = new double[] { 0, 1, 25, 50, 75, 99, 100 };
+
+    protected Codec getCodec() {
+        final Logger testLogger = LogManager.getLogger(SketchMetricAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getMapping());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite103Codec(Lucene103Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
+    public void testStarTreeSketchMetrics() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        int totalDocs = randomIntBetween(100, 300);
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (randomBoolean()) {
+                doc.add(new SortedNumericDocValuesField(SNDV, random().nextInt(5)));
+            }
+            if (randomBoolean()) {
+                doc.add(new SortedNumericDocValuesField(DV, random().nextInt(5)));
+            }
+            if (random().nextInt(5) != 0) {
+                doc.add(new SortedNumericDocValuesField(FIELD_NAME, random().nextInt(1000) - 500));
+            }
+            iw.addDocument(doc);
+        }
+        // star-trees of the flushed segments are merged into a single one
+        iw.forceMerge(1);
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(new NumericDimension(SNDV), SNDV_FIELD_TYPE);
+        supportedDimensions.put(new NumericDimension(DV), DV_FIELD_TYPE);
+
+        MapperService mapperService = mapperServiceMock();
+        CircuitBreakerService circuitBreakerService = new NoneCircuitBreakerService();
+        QueryShardContext queryShardContext = queryShardContextMock(
+            indexSearcher,
+            mapperService,
+            createIndexSettings(),
+            circuitBreakerService,
+            new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), circuitBreakerService).withCircuitBreaking()
+        );
+        for (MappedFieldType fieldType : List.of(FIELD_TYPE, SNDV_FIELD_TYPE, DV_FIELD_TYPE)) {
+            when(mapperService.fieldType(fieldType.name())).thenReturn(fieldType);
+            when(queryShardContext.fieldMapper(fieldType.name())).thenReturn(fieldType);
+        }
+
+        CardinalityAggregationBuilder cardinalityAggregationBuilder = cardinality("_name").field(FIELD_NAME);
+        PercentilesAggregationBuilder percentilesAggregationBuilder = percentiles("_name").field(FIELD_NAME).percentiles(PERCENTS);
+
+        List<QueryBuilder> queryBuilders = List.of(
+            new TermQueryBuilder(SNDV, random().nextInt(5)),
+            new TermQueryBuilder(DV, random().nextInt(5)),
+            new RangeQueryBuilder(SNDV).gte(1).lte(3),
+            new RangeQueryBuilder(DV).gt(random().nextInt(5))
+        );
+
+        // Top level aggregations, with no query and with filters on the dimensions
+        Query matchAllQuery = new MatchAllDocsQuery();
+        testCase(indexSearcher, matchAllQuery, null, cardinalityAggregationBuilder, starTree, supportedDimensions, verifyCardinality());
+        testCase(indexSearcher, matchAllQuery, null, percentilesAggregationBuilder, starTree, supportedDimensions, verifyPercentiles());
+        for (QueryBuilder queryBuilder : queryBuilders) {
+            Query query = queryBuilder.toQuery(queryShardContext);
+            testCase(indexSearcher, query, queryBuilder, cardinalityAggregationBuilder, starTree, supportedDimensions, verifyCardinality());
+            testCase(indexSearcher, query, queryBuilder, percentilesAggregationBuilder, starTree, supportedDimensions, verifyPercentiles());
+        }
+
+        // Sub-aggregations of a terms aggregation on a dimension, which collect the sketches of each bucket
+        for (AggregationBuilder subAggregationBuilder : List.of(cardinalityAggregationBuilder, percentilesAggregationBuilder)) {
+            testCase(
+                indexSearcher,
+                new MatchAllDocsQuery(),
+                null,
+                terms("terms_agg").field(SNDV).subAggregation(subAggregationBuilder),
+                starTree,
+                supportedDimensions,
+                verifyTermsBuckets()
+            );
+            for (QueryBuilder queryBuilder : queryBuilders) {
+                testCase(
+                    indexSearcher,
+                    queryBuilder.toQuery(queryShardContext),
+                    queryBuilder,
+                    terms("terms_agg").field(DV).subAggregation(subAggregationBuilder),
+                    starTree,
+                    supportedDimensions,
+                    verifyTermsBuckets()
+                );
+            }
+        }
+
+        List<Metric> supportedMetrics = List.of(new Metric(FIELD_NAME, List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES)));
+
+        // Case when the sketches of the star-tree match the requested precision and compression
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            cardinalityAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyCardinality(),
+            cardinalityAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            percentilesAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyPercentiles(),
+            percentilesAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+
+        // Cases when the requested precision or compression differ from the sketches of the star-tree, which fall back to the documents
+        CardinalityAggregationBuilder otherPrecisionBuilder = cardinality("_name").field(FIELD_NAME).precisionThreshold(100);
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            otherPrecisionBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyCardinality(),
+            otherPrecisionBuilder.build(queryShardContext, null),
+            false
+        );
+        PercentilesAggregationBuilder otherCompressionBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentiles(PERCENTS)
+            .compression(50);
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            otherCompressionBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            verifyPercentiles(),
+            otherCompressionBuilder.build(queryShardContext, null),
+            false
+        );
+        PercentilesAggregationBuilder hdrBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentiles(PERCENTS)
+            .method(PercentilesMethod.HDR);
+        testCase(
+            indexSearcher,
+            new MatchAllDocsQuery(),
+            null,
+            hdrBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            (InternalAggregation expected, InternalAggregation actual) -> assertEquals(expected, actual),
+            hdrBuilder.build(queryShardContext, null),
+            false
+        );
+
+        ir.close();
+        directory.close();
+    }
+
+    private static BiConsumer<InternalCardinality, InternalCardinality> verifyCardinality() {
+        // the star-tree sketches are built from the same hashes as the ones of the documents
+        return (expected, actual) -> assertEquals(expected.getValue(), actual.getValue());
+    }
+
+    private static BiConsumer<InternalTDigestPercentiles, InternalTDigestPercentiles> verifyPercentiles() {
+        return SketchMetricAggregatorTests::assertPercentiles;
+    }
+
+    private static BiConsumer<InternalTerms<?, ?>, InternalTerms<?, ?>> verifyTermsBuckets() {
+        return (expected, actual) -> {
+            assertEquals(expected.getBuckets().size(), actual.getBuckets().size());
+            for (int i = 0; i < expected.getBuckets().size(); i++) {
+                InternalTerms.Bucket<?> expectedBucket = expected.getBuckets().get(i);
+                InternalTerms.Bucket<?> actualBucket = actual.getBuckets().get(i);
+                assertEquals(expectedBucket.getKey(), actualBucket.getKey());
+                assertEquals(expectedBucket.getDocCount(), actualBucket.getDocCount());
+                InternalAggregation expectedSubAggregation = expectedBucket.getAggregations().get("_name");
+                InternalAggregation actualSubAggregation = actualBucket.getAggregations().get("_name");
+                if (expectedSubAggregation instanceof InternalCardinality expectedCardinality) {
+                    assertEquals(expectedCardinality.getValue(), ((InternalCardinality) actualSubAggregation).getValue());
+                } else {
+                    assertPercentiles(
+                        (InternalTDigestPercentiles) expectedSubAggregation,
+                        (InternalTDigestPercentiles) actualSubAggregation
+                    );
+                }
+            }
+        };
+    }
+
+    private static void assertPercentiles(InternalTDigestPercentiles expected, InternalTDigestPercentiles actual) {
+        // the extremes are exact, the other percentiles depend on the order in which the t-digests were merged
+        assertEquals(expected.percentile(0), actual.percentile(0), 0d);
+        assertEquals(expected.percentile(100), actual.percentile(100), 0d);
+        for (double percent : PERCENTS) {
+            assertEquals(expected.percentile(percent), actual.percentile(percent), 50d);
+        }
+    }
+
+    private <T extends AggregationBuilder, V extends InternalAggregation> void testCase(
+        IndexSearcher searcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        T aggBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions,
+        BiConsumer<V, V> verify
+    ) throws IOException {
+        testCase(searcher, query, queryBuilder, aggBuilder, starTree, supportedDimensions, null, verify, null, true);
+    }
+
+    private <T extends AggregationBuilder, V extends InternalAggregation> void testCase(
+        IndexSearcher searcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        T aggBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions,
+        List<Metric> supportedMetrics,
+        BiConsumer<V, V> verify,
+        AggregatorFactory aggregatorFactory,
+        boolean assertCollectorEarlyTermination
+    ) throws IOException {
+        V starTreeAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            starTree,
+            supportedDimensions,
+            supportedMetrics,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            aggregatorFactory,
+            assertCollectorEarlyTermination,
+            FIELD_TYPE,
+            SNDV_FIELD_TYPE,
+            DV_FIELD_TYPE
+        );
+        V expectedAggregation = searchAndReduceStarTree(
+            createIndexSettings(),
+            searcher,
+            query,
+            queryBuilder,
+            aggBuilder,
+            null,
+            null,
+            null,
+            DEFAULT_MAX_BUCKETS,
+            false,
+            aggregatorFactory,
+            assertCollectorEarlyTermination,
+            FIELD_TYPE,
+            SNDV_FIELD_TYPE,
+            DV_FIELD_TYPE
+        );
+        verify.accept(expectedAggregation, starTreeAggregation);
+    }
+
+    private static XContentBuilder getMapping() throws IOException {
+        return topMapping(b -> {
+            b.startObject("composite");
+            b.startObject("startree");
+            b.field("type", "star_tree");
+            b.startObject("config");
+            b.field("max_leaf_docs", 1);
+            b.startArray("ordered_dimensions");
+            b.startObject();
+            b.field("name", SNDV);
+            b.endObject();
+            b.startObject();
+            b.field("name", DV);
+            b.endObject();
+            b.endArray();
+            b.startArray("metrics");
+            b.startObject();
+            b.field("name", FIELD_NAME);
+            b.startArray("stats");
+            b.value("cardinality");
+            b.value("percentiles");
+            b.endArray();
+            b.endObject();
+            b.endArray();
+            b.endObject();
+            b.endObject();
+            b.endObject();
+            b.startObject("properties");
+            b.startObject(SNDV);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(DV);
+            b.field("type", "integer");
+            b.endObject();
+            b.startObject(FIELD_NAME);
+            b.field("type", "integer");
+            b.endObject();
+            b.endObject();
+        });
+    }
+}
@@ -41,9 +41,12 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.StarTreeQueryHelper;
 import org.opensearch.search.startree.StarTreeTraversalUtil;
 import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.DimensionFilterMergerUtils;
 import org.opensearch.search.startree.filter.ExactMatchDimFilter;
+import org.opensearch.search.startree.filter.NotMatchDimFilter;
 import org.opensearch.search.startree.filter.RangeMatchDimFilter;
 import org.opensearch.search.startree.filter.StarTreeFilter;
+import org.opensearch.search.startree.filter.provider.DimensionFilterMapper;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -503,6 +506,48 @@ public class StarTreeFilterTests extends AggregatorTestCase {
         docCount = getDocCount(docs, Map.of(SNDV, 0L)) + getDocCount(docs, Map.of(SNDV, 1L));
         assertEquals(docCount, starTreeDocCount);
 
+        // Test 'SHOULD' clause with overlapping ranges, which are merged to collect the documents once
+        DimensionFilterMapper mapper = DimensionFilterMapper.Factory.fromMappedFieldType(mapperService.fieldType(SNDV), searchContext);
+        List<DimensionFilter> unionFilters = DimensionFilterMergerUtils.union(
+            List.of(new RangeMatchDimFilter(SNDV, 0L, 10L, true, true), new RangeMatchDimFilter(SNDV, 5L, 20L, true, true)),
+            mapper
+        );
+        assertEquals(1, unionFilters.size());
+        StarTreeFilter unionFilter = new StarTreeFilter(Map.of(SNDV, unionFilters));
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, unionFilter, context, searchContext);
+        assertEquals(21, starTreeDocCount);
+
+        // Test 'MUST_NOT' clause
+        StarTreeFilter mustNotFilter = new StarTreeFilter(
+            Map.of(SNDV, List.of(new NotMatchDimFilter(SNDV, List.of(new ExactMatchDimFilter(SNDV, List.of(0L, 1L))))))
+        );
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, mustNotFilter, context, searchContext);
+        docCount = getDocCount(docs, Map.of()) - getDocCount(docs, Map.of(SNDV, 0L)) - getDocCount(docs, Map.of(SNDV, 1L));
+        assertEquals(docCount, starTreeDocCount);
+
+        // Test 'MUST_NOT' clause excluding a value missing from the segment
+        mustNotFilter = new StarTreeFilter(
+            Map.of(SNDV, List.of(new NotMatchDimFilter(SNDV, List.of(new ExactMatchDimFilter(SNDV, List.of(1000L))))))
+        );
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, mustNotFilter, context, searchContext);
+        assertEquals(getDocCount(docs, Map.of()), starTreeDocCount);
+
+        // Test 'MUST' and 'MUST_NOT' clauses on the same dimension
+        StarTreeFilter mustAndMustNotFilter = new StarTreeFilter(
+            Map.of(
+                DV,
+                List.of(
+                    DimensionFilterMergerUtils.intersect(
+                        new RangeMatchDimFilter(DV, 0L, 20L, true, true),
+                        new NotMatchDimFilter(DV, List.of(new ExactMatchDimFilter(DV, List.of(4L)))),
+                        mapper
+                    )
+                )
+            )
+        );
+        starTreeDocCount = getDocCountFromStarTree(starTreeDocValuesReader, mustAndMustNotFilter, context, searchContext);
+        assertEquals(10, starTreeDocCount);
+
         ir.close();
         directory.close();
     }
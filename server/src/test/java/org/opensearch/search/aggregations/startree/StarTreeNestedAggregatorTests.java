@@ -48,6 +48,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorTestCase;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
@@ -57,6 +58,11 @@ import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
+import org.opensearch.search.profile.aggregation.AggregationProfiler;
+import org.opensearch.search.profile.aggregation.ProfilingAggregator;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -74,6 +80,9 @@ import static org.opensearch.search.aggregations.AggregationBuilders.range;
 import static org.opensearch.search.aggregations.AggregationBuilders.sum;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class StarTreeNestedAggregatorTests extends DateHistogramAggregatorTestCase {
     private static final String TIMESTAMP_FIELD = "@timestamp";
@@ -298,6 +307,20 @@ public class StarTreeNestedAggregatorTests extends DateHistogramAggregatorTestCa
 
     }
 
+    public void testCollectDimensionFiltersOfProfiledSubAggregators() {
+        Aggregator subAggregator = mock(Aggregator.class, withSettings().extraInterfaces(StarTreePreComputeCollector.class));
+        when(((StarTreePreComputeCollector) subAggregator).getDimensionFilters()).thenReturn(List.of(new MatchAllFilter(STATUS)));
+        Aggregator profiledSubAggregator = new ProfilingAggregator(subAggregator, new AggregationProfiler());
+
+        List<DimensionFilter> dimensionFilters = StarTreeQueryHelper.collectDimensionFilters(
+            new MatchAllFilter(TIMESTAMP_FIELD),
+            new Aggregator[] { profiledSubAggregator }
+        );
+        assertEquals(2, dimensionFilters.size());
+        assertEquals(TIMESTAMP_FIELD, dimensionFilters.get(0).getDimensionName());
+        assertEquals(STATUS, dimensionFilters.get(1).getDimensionName());
+    }
+
     private void testCase(
         IndexSearcher indexSearcher,
         Query query,
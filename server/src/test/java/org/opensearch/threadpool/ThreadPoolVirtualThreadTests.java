@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchVirtualThreadExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+
+public class ThreadPoolVirtualThreadTests extends OpenSearchTestCase {
+
+    public void testConcurrencyIsLimited() throws Exception {
+        final int maxConcurrency = randomIntBetween(1, 4);
+        final int queueSize = randomIntBetween(1, 10);
+        final Settings settings = Settings.builder().put("node.name", "testnode").build();
+        final ThreadPool threadPool = new ThreadPool(settings, new VirtualThreadExecutorBuilder("virtual", maxConcurrency, queueSize));
+        try {
+            final OpenSearchVirtualThreadExecutor executor = (OpenSearchVirtualThreadExecutor) threadPool.executor("virtual");
+            assertEquals(ThreadPool.ThreadPoolType.VIRTUAL, threadPool.info("virtual").getThreadPoolType());
+            assertEquals(maxConcurrency, threadPool.info("virtual").getMax());
+
+            final CyclicBarrier barrier = new CyclicBarrier(maxConcurrency + 1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final CountDownLatch done = new CountDownLatch(maxConcurrency + queueSize);
+            for (int i = 0; i < maxConcurrency + queueSize; i++) {
+                final boolean blocking = i < maxConcurrency;
+                executor.execute(() -> {
+                    try {
+                        assertTrue(Thread.currentThread().isVirtual());
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        if (blocking) {
+                            barrier.await(10, TimeUnit.SECONDS);
+                            release.await(10, TimeUnit.SECONDS);
+                        }
+                        running.decrementAndGet();
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            barrier.await(10, TimeUnit.SECONDS);
+            assertEquals(maxConcurrency, executor.getActiveCount());
+            assertEquals(queueSize, executor.getQueueSize());
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> executor.execute(() -> {}));
+
+            release.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(maxConcurrency, maxRunning.get());
+            assertBusy(() -> assertEquals(0, executor.getActiveCount()));
+
+            ThreadPoolStats.Stats stats = null;
+            for (ThreadPoolStats.Stats s : threadPool.stats()) {
+                if (s.getName().equals("virtual")) {
+                    stats = s;
+                }
+            }
+            assertNotNull(stats);
+            assertEquals(maxConcurrency + queueSize, stats.getCompleted());
+            assertEquals(1, stats.getRejected());
+            assertEquals(maxConcurrency, stats.getLargest());
+            assertEquals(0, stats.getQueue());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testThreadContextIsPreserved() throws Exception {
+        final Settings settings = Settings.builder().put("node.name", "testnode").build();
+        final ThreadPool threadPool = new ThreadPool(settings, new VirtualThreadExecutorBuilder("virtual", 1, -1));
+        try {
+            final ThreadContext threadContext = threadPool.getThreadContext();
+            final AtomicReference<String> header = new AtomicReference<>();
+            final CountDownLatch latch = new CountDownLatch(1);
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("test", "value");
+                threadPool.executor("virtual").execute(() -> {
+                    header.set(threadContext.getHeader("test"));
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals("value", header.get());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testBlockingPoolsUseVirtualThreadsWhenEnabled() {
+        final Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.VIRTUAL_THREADS_ENABLED_SETTING.getKey(), true)
+            .put("thread_pool.snapshot.max", 64)
+            .build();
+        final ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            for (String name : new String[] {
+                ThreadPool.Names.SNAPSHOT,
+                ThreadPool.Names.FETCH_SHARD_STORE,
+                ThreadPool.Names.REMOTE_RECOVERY,
+                ThreadPool.Names.REMOTE_STATE_READ,
+                ThreadPool.Names.TRANSLOG_TRANSFER }) {
+                assertEquals(ThreadPool.ThreadPoolType.VIRTUAL, threadPool.info(name).getThreadPoolType());
+                assertTrue(threadPool.executor(name) instanceof OpenSearchVirtualThreadExecutor);
+            }
+            assertEquals(64, threadPool.info(ThreadPool.Names.SNAPSHOT).getMax());
+            assertEquals(ThreadPool.ThreadPoolType.SCALING, threadPool.info(ThreadPool.Names.GENERIC).getThreadPoolType());
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testPlatformPoolSettingsKeepWorkingWhenEnabled() {
+        final Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put(ThreadPool.VIRTUAL_THREADS_ENABLED_SETTING.getKey(), true)
+            .put("thread_pool.remote_state_read.size", 7)
+            .put("thread_pool.snapshot.core", 2)
+            .put("thread_pool.snapshot.keep_alive", "1m")
+            .build();
+        final ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            // the fixed pool's size setting limits the concurrency of the virtual pool
+            assertEquals(ThreadPool.ThreadPoolType.VIRTUAL, threadPool.info(ThreadPool.Names.REMOTE_STATE_READ).getThreadPoolType());
+            assertEquals(7, threadPool.info(ThreadPool.Names.REMOTE_STATE_READ).getMax());
+
+            final Set<String> registeredKeys = new HashSet<>();
+            for (ExecutorBuilder<?> builder : threadPool.builders()) {
+                for (Setting<?> setting : builder.getRegisteredSettings()) {
+                    registeredKeys.add(setting.getKey());
+                }
+            }
+            assertThat(
+                registeredKeys,
+                hasItems(
+                    "thread_pool.remote_state_read.size",
+                    "thread_pool.remote_state_read.queue_size",
+                    "thread_pool.snapshot.core",
+                    "thread_pool.snapshot.max",
+                    "thread_pool.snapshot.keep_alive"
+                )
+            );
+            assertThat(registeredKeys, not(hasItem("thread_pool.remote_state_read.max")));
+        } finally {
+            terminate(threadPool);
+        }
+        assertSettingDeprecationsAndWarnings(new String[] { "thread_pool.snapshot.core", "thread_pool.snapshot.keep_alive" });
+    }
+}
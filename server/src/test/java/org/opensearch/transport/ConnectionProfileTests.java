@@ -43,6 +43,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.opensearch.test.NodeRoles.nonClusterManagerNode;
 import static org.opensearch.test.NodeRoles.nonDataNode;
@@ -193,6 +194,59 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         expectThrows(IllegalStateException.class, () -> build.getHandles().get(1).getChannel(array));
     }
 
+    public void testLoadAwareChannelSelection() {
+        ConnectionProfile.Builder builder = new ConnectionProfile.Builder();
+        builder.addConnections(
+            1,
+            TransportRequestOptions.Type.BULK,
+            TransportRequestOptions.Type.STATE,
+            TransportRequestOptions.Type.RECOVERY,
+            TransportRequestOptions.Type.PING,
+            TransportRequestOptions.Type.STREAM
+        );
+        builder.addConnections(4, TransportRequestOptions.Type.REG);
+        ConnectionProfile build = builder.build();
+        ConnectionProfile.ConnectionTypeHandle regHandle = build.getHandles().get(1);
+        assertEquals(EnumSet.of(TransportRequestOptions.Type.REG), regHandle.getTypes());
+
+        List<Integer> list = Arrays.asList(0, 1, 2, 3, 4);
+        long[] pendingBytes = new long[list.size()];
+        final long busyThreshold = 1024;
+        final int numIters = randomIntBetween(10, 20);
+
+        // idle channels are picked round-robin
+        Set<Integer> selected = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            selected.add(regHandle.getChannel(list, c -> pendingBytes[c], busyThreshold));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), selected);
+
+        // busy channels are avoided
+        pendingBytes[1] = busyThreshold;
+        pendingBytes[2] = randomLongBetween(busyThreshold, busyThreshold * 10);
+        pendingBytes[3] = randomLongBetween(0, busyThreshold - 1);
+        pendingBytes[4] = randomLongBetween(busyThreshold, busyThreshold * 10);
+        for (int i = 0; i < numIters; i++) {
+            assertEquals(Integer.valueOf(3), regHandle.getChannel(list, c -> pendingBytes[c], busyThreshold));
+        }
+
+        // if all channels are busy the least loaded one is picked
+        pendingBytes[1] = busyThreshold * 20;
+        pendingBytes[2] = busyThreshold * 15;
+        pendingBytes[3] = busyThreshold * 20;
+        pendingBytes[4] = busyThreshold * 10;
+        for (int i = 0; i < numIters; i++) {
+            assertEquals(Integer.valueOf(4), regHandle.getChannel(list, c -> pendingBytes[c], busyThreshold));
+        }
+
+        // a threshold of 0 disables load-aware selection
+        selected.clear();
+        for (int i = 0; i < 4; i++) {
+            selected.add(regHandle.getChannel(list, c -> pendingBytes[c], 0));
+        }
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), selected);
+    }
+
     public void testConnectionProfileResolve() {
         final ConnectionProfile defaultProfile = ConnectionProfile.buildDefaultConnectionProfile(Settings.EMPTY);
         assertEquals(defaultProfile, ConnectionProfile.resolveConnectionProfile(null, defaultProfile));
@@ -39,6 +39,8 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
@@ -49,7 +51,9 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.tasks.TaskManager;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.MockLogAppender;
@@ -507,6 +511,124 @@ public abstract class InboundHandlerTests extends OpenSearchTestCase {
         assertThat(exceptionCaptor.get().getMessage(), startsWith("Message fully read (request) but more data is expected for requestId"));
     }
 
+    public void testReleasesRetainedRequestNotFullyRead() throws Exception {
+        final AtomicReference<RetainingRequest> received = new AtomicReference<>();
+        final AtomicReference<Exception> exceptionCaptor = new AtomicReference<>();
+        final ReleasableBytesReference content = handleRetainingRequest(ThreadPool.Names.SAME, true, received, exceptionCaptor);
+
+        assertThat(exceptionCaptor.get(), instanceOf(IllegalStateException.class));
+        assertThat(exceptionCaptor.get().getMessage(), startsWith("Message not fully read (request) for requestId"));
+        assertTrue(received.get().released.get());
+        assertEquals(1, content.refCount());
+    }
+
+    public void testReleasesRetainedRequestRejectedByExecutor() throws Exception {
+        final AtomicReference<RetainingRequest> received = new AtomicReference<>();
+        final AtomicReference<Exception> exceptionCaptor = new AtomicReference<>();
+        threadPool.shutdown();
+        final ReleasableBytesReference content = handleRetainingRequest(ThreadPool.Names.WRITE, false, received, exceptionCaptor);
+
+        assertThat(exceptionCaptor.get(), instanceOf(OpenSearchRejectedExecutionException.class));
+        assertTrue(received.get().released.get());
+        assertEquals(1, content.refCount());
+    }
+
+    /**
+     * Handles a {@link RetainingRequest} whose handler must never be called, optionally followed by a byte that is not read, and
+     * returns the content of the inbound message.
+     */
+    private ReleasableBytesReference handleRetainingRequest(
+        String executor,
+        boolean overflow,
+        AtomicReference<RetainingRequest> received,
+        AtomicReference<Exception> exceptionCaptor
+    ) throws IOException {
+        final String action = "test-retaining-request";
+        final int headerSize = TcpHeader.headerSize(version);
+        final long requestId = randomNonNegativeLong();
+        final RequestHandlerRegistry<RetainingRequest> registry = new RequestHandlerRegistry<>(
+            action,
+            in -> {
+                final RetainingRequest request = new RetainingRequest(in);
+                received.set(request);
+                return request;
+            },
+            taskManager,
+            (request, channel, task) -> fail("request should not be handled"),
+            executor,
+            false,
+            true
+        );
+        requestHandlers.registerHandler(registry);
+        handler.setMessageListener(new TransportMessageListener() {
+            @Override
+            public void onResponseSent(long requestId, String action, Exception error) {
+                exceptionCaptor.set(error);
+            }
+        });
+
+        final BytesRef bytes = serializeOutboundRequest(
+            threadPool.getThreadContext(),
+            new RetainingRequest(new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 1024)))),
+            version,
+            action,
+            requestId,
+            false,
+            false
+        ).toBytesRef();
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + (overflow ? 1 : 0));
+        buffer.put(bytes.bytes, bytes.offset, bytes.length);
+        if (overflow) {
+            buffer.put((byte) 1);
+        }
+        final BytesReference fullRequestBytes = BytesReference.fromByteBuffer((ByteBuffer) buffer.flip());
+        final ReleasableBytesReference content = ReleasableBytesReference.wrap(
+            fullRequestBytes.slice(headerSize, fullRequestBytes.length() - headerSize)
+        );
+        final Header requestHeader = new Header(
+            TransportProtocol.NATIVE,
+            fullRequestBytes.length() - 6,
+            requestId,
+            TransportStatus.setRequest((byte) 0),
+            version
+        );
+        final InboundMessage requestMessage = new InboundMessage(requestHeader, content, () -> {});
+        requestHeader.finishParsingHeader(requestMessage.openOrGetStreamInput());
+        handler.inboundMessage(channel, requestMessage);
+        assertNotNull(received.get());
+        return content;
+    }
+
+    /**
+     * A request that retains its payload from the buffer it is received in, like recovery file chunks.
+     */
+    private static class RetainingRequest extends TransportRequest implements Releasable {
+        private final BytesReference payload;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        RetainingRequest(BytesReference payload) {
+            this.payload = payload;
+        }
+
+        RetainingRequest(StreamInput in) throws IOException {
+            super(in);
+            payload = in.readRetainedBytesReference();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            out.writeBytesReference(payload);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true) && payload instanceof Releasable) {
+                Releasables.close((Releasable) payload);
+            }
+        }
+    }
+
     public void testResponseNotFullyRead() throws Exception {
         String action = "test-request";
         int headerSize = TcpHeader.headerSize(version);
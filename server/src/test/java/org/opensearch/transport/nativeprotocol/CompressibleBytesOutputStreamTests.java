@@ -33,6 +33,7 @@
 package org.opensearch.transport.nativeprotocol;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
@@ -102,6 +103,49 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSharedBytesWithoutCompression() throws IOException {
+        BytesStreamOutput bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, false);
+
+        BytesReference small = new BytesArray(randomBytes(between(0, CompressibleBytesOutputStream.MIN_SHARED_BYTES_LENGTH - 1)));
+        BytesReference large = new BytesArray(randomBytes(between(CompressibleBytesOutputStream.MIN_SHARED_BYTES_LENGTH, 1 << 16)));
+        stream.writeString("header");
+        stream.writeSharedBytesReference(small);
+        stream.writeSharedBytesReference(large);
+        stream.writeVInt(42);
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+
+        // the large bytes are not copied into the underlying stream
+        assertEquals(bStream.size() + large.length(), bytesRef.length());
+
+        StreamInput streamInput = bytesRef.streamInput();
+        assertEquals("header", streamInput.readString());
+        assertEquals(small, streamInput.readBytesReference());
+        assertEquals(large, streamInput.readBytesReference());
+        assertEquals(42, streamInput.readVInt());
+        assertEquals(-1, streamInput.read());
+    }
+
+    public void testSharedBytesWithCompression() throws IOException {
+        BytesStreamOutput bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
+
+        BytesReference large = new BytesArray(randomBytes(between(CompressibleBytesOutputStream.MIN_SHARED_BYTES_LENGTH, 1 << 16)));
+        stream.writeSharedBytesReference(large);
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+
+        assertTrue(CompressorRegistry.defaultCompressor().isCompressed(bytesRef));
+        StreamInput streamInput = new InputStreamStreamInput(
+            CompressorRegistry.defaultCompressor().threadLocalInputStream(bytesRef.streamInput())
+        );
+        assertEquals(large, streamInput.readBytesReference());
+        assertEquals(-1, streamInput.read());
+    }
+
     public void testCompressionWithCallingMaterializeFails() throws IOException {
         BytesStream bStream = new ZeroOutOnCloseStream();
         CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
@@ -150,7 +150,8 @@ public class MockInternalClusterInfoService extends InternalClusterInfoService {
                 nodeStats.getRepositoriesStats(),
                 nodeStats.getAdmissionControlStats(),
                 nodeStats.getNodeCacheStats(),
-                nodeStats.getRemoteStoreNodeStats()
+                nodeStats.getRemoteStoreNodeStats(),
+                nodeStats.getPageCacheRecyclerStats()
             );
         }).collect(Collectors.toList());
     }
@@ -38,6 +38,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.set.Sets;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -112,6 +113,11 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
                     Arrays.fill((double[]) ref, 0, Array.getLength(ref), random.nextDouble() - 0.5);
                 } else if (ref instanceof float[]) {
                     Arrays.fill((float[]) ref, 0, Array.getLength(ref), random.nextFloat() - 0.5f);
+                } else if (ref instanceof ByteBuffer) {
+                    final ByteBuffer buffer = (ByteBuffer) ref;
+                    for (int i = 0; i < buffer.capacity(); ++i) {
+                        buffer.put(i, (byte) random.nextInt(256));
+                    }
                 } else {
                     for (int i = 0; i < Array.getLength(ref); ++i) {
                         Array.set(ref, i, (byte) random.nextInt(256));
@@ -160,6 +166,44 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
         return wrap(page);
     }
 
+    @Override
+    public V<byte[]> smallBytePage(boolean clear) {
+        final V<byte[]> page = super.smallBytePage(clear);
+        if (!clear) {
+            Arrays.fill(page.v(), 0, page.v().length, (byte) random.nextInt(1 << 8));
+        }
+        return wrap(page);
+    }
+
+    @Override
+    public V<int[]> smallIntPage(boolean clear) {
+        final V<int[]> page = super.smallIntPage(clear);
+        if (!clear) {
+            Arrays.fill(page.v(), 0, page.v().length, random.nextInt());
+        }
+        return wrap(page);
+    }
+
+    @Override
+    public V<long[]> smallLongPage(boolean clear) {
+        final V<long[]> page = super.smallLongPage(clear);
+        if (!clear) {
+            Arrays.fill(page.v(), 0, page.v().length, random.nextLong());
+        }
+        return wrap(page);
+    }
+
+    @Override
+    public V<ByteBuffer> offHeapPage(boolean clear) {
+        final V<ByteBuffer> page = super.offHeapPage(clear);
+        if (!clear) {
+            for (int i = 0; i < page.v().capacity(); ++i) {
+                page.v().put(i, (byte) random.nextInt(1 << 8));
+            }
+        }
+        return wrap(page);
+    }
+
     @Override
     public V<Object[]> objectPage() {
         return wrap(super.objectPage());